@@ -14,7 +14,8 @@
 
 package tech.tablesaw.aggregate;
 
-import com.google.common.collect.TreeBasedTable;
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
 import tech.tablesaw.api.CategoricalColumn;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DoubleColumn;
@@ -22,6 +23,7 @@ import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.util.GroupIds;
 
 /** Utilities for creating frequency and proportion cross tabs */
 public final class CrossTab {
@@ -43,71 +45,7 @@ public final class CrossTab {
    */
   public static Table counts(
       Table table, CategoricalColumn<?> column1, CategoricalColumn<?> column2) {
-
-    Table t = Table.create("Crosstab Counts: " + column1.name() + " x " + column2.name());
-    t.addColumns(column1.type().create(LABEL_COLUMN_NAME));
-
-    Table temp = table.sortOn(column1.name(), column2.name());
-
-    int colIndex1 = table.columnIndex(column1.name());
-    int colIndex2 = table.columnIndex(column2.name());
-
-    com.google.common.collect.Table<String, String, Integer> gTable = TreeBasedTable.create();
-    String a;
-    String b;
-
-    for (int row = 0; row < table.rowCount(); row++) {
-      a = temp.column(colIndex1).getString(row);
-      b = temp.column(colIndex2).getString(row);
-      Integer cellValue = gTable.get(a, b);
-      int value;
-      if (cellValue != null) {
-        value = cellValue + 1;
-      } else {
-        value = 1;
-      }
-      gTable.put(a, b, value);
-    }
-
-    for (String colName : gTable.columnKeySet()) {
-      t.addColumns(IntColumn.create(colName));
-    }
-
-    t.addColumns(IntColumn.create("total"));
-
-    int[] columnTotals = new int[t.columnCount()];
-
-    for (String rowKey : gTable.rowKeySet()) {
-      t.column(0).appendCell(rowKey);
-
-      int rowSum = 0;
-
-      for (String colKey : gTable.columnKeySet()) {
-        Integer cellValue = gTable.get(rowKey, colKey);
-        if (cellValue != null) {
-          int colIdx = t.columnIndex(colKey);
-          t.intColumn(colIdx).append(cellValue);
-          rowSum += cellValue;
-          columnTotals[colIdx] = columnTotals[colIdx] + cellValue;
-
-        } else {
-          t.intColumn(colKey).append(0);
-        }
-      }
-      t.intColumn(t.columnCount() - 1).append(rowSum);
-    }
-    if (t.column(0).type().equals(ColumnType.STRING)) {
-      t.column(0).appendCell("Total");
-    } else {
-      t.column(0).appendCell("");
-    }
-    int grandTotal = 0;
-    for (int i = 1; i < t.columnCount() - 1; i++) {
-      t.intColumn(i).append(columnTotals[i]);
-      grandTotal = grandTotal + columnTotals[i];
-    }
-    t.intColumn(t.columnCount() - 1).append(grandTotal);
-    return t;
+    return new Counts(column1, column2).toTable();
   }
 
   /**
@@ -137,124 +75,14 @@ public final class CrossTab {
     return percentTable;
   }
 
-  private static Table rowPercents(Table xTabCounts) {
-
-    Table pctTable = Table.create("Crosstab Row Proportions: ");
-    StringColumn labels = StringColumn.create(LABEL_COLUMN_NAME);
-
-    pctTable.addColumns(labels);
-
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      labels.append(xTabCounts.column(0).getString(i));
-    }
-
-    // create the new cols
-    DoubleColumn[] newColumns = new DoubleColumn[xTabCounts.columnCount() - 1];
-
-    for (int i = 1; i < xTabCounts.columnCount(); i++) {
-      Column<?> column = xTabCounts.column(i);
-      newColumns[i - 1] = DoubleColumn.create(column.name());
-    }
-
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      double rowTotal = xTabCounts.numberColumn(xTabCounts.columnCount() - 1).getDouble(i);
-
-      for (int c = 0; c < newColumns.length; c++) {
-        if (rowTotal == 0) {
-          newColumns[c].append(Double.NaN);
-        } else {
-          newColumns[c].append(xTabCounts.numberColumn(c + 1).getDouble(i) / rowTotal);
-        }
-      }
-    }
-    pctTable.addColumns(newColumns);
-    return pctTable;
-  }
-
-  private static Table tablePercents(Table xTabCounts) {
-
-    Table pctTable = Table.create("Crosstab Table Proportions: ");
-    StringColumn labels = StringColumn.create(LABEL_COLUMN_NAME);
-
-    pctTable.addColumns(labels);
-
-    double grandTotal =
-        xTabCounts.numberColumn(xTabCounts.columnCount() - 1).getDouble(xTabCounts.rowCount() - 1);
-
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      labels.append(xTabCounts.column(0).getString(i));
-    }
-
-    // create the new cols
-    DoubleColumn[] newColumns = new DoubleColumn[xTabCounts.columnCount() - 1];
-
-    for (int i = 1; i < xTabCounts.columnCount(); i++) {
-      Column<?> column = xTabCounts.column(i);
-      newColumns[i - 1] = DoubleColumn.create(column.name());
-    }
-
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      for (int c = 0; c < newColumns.length; c++) {
-        if (grandTotal == 0) {
-          newColumns[c].append(Double.NaN);
-        } else {
-          newColumns[c].append(xTabCounts.numberColumn(c + 1).getDouble(i) / grandTotal);
-        }
-      }
-    }
-    pctTable.addColumns(newColumns);
-    return pctTable;
-  }
-
-  private static Table columnPercents(Table xTabCounts) {
-
-    Table pctTable = Table.create("Crosstab Column Proportions: ");
-    StringColumn labels = StringColumn.create(LABEL_COLUMN_NAME);
-
-    pctTable.addColumns(labels);
-
-    // setup the labels
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      labels.append(xTabCounts.column(0).getString(i));
-    }
-
-    // create the new cols
-    DoubleColumn[] newColumns = new DoubleColumn[xTabCounts.columnCount() - 1];
-
-    for (int i = 1; i < xTabCounts.columnCount(); i++) {
-      Column<?> column = xTabCounts.column(i);
-      newColumns[i - 1] = DoubleColumn.create(column.name());
-    }
-
-    // get the column totals
-    double[] columnTotals = new double[newColumns.length];
-    int totalRow = xTabCounts.rowCount() - 1;
-    for (int i = 1; i < xTabCounts.columnCount(); i++) {
-      columnTotals[i - 1] = xTabCounts.numberColumn(i).getDouble(totalRow);
-    }
-
-    // calculate the column pcts and update the new table
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      for (int c = 0; c < newColumns.length; c++) {
-        if (columnTotals[c] == 0) {
-          newColumns[c].append(Double.NaN);
-        } else {
-          newColumns[c].append(xTabCounts.numberColumn(c + 1).getDouble(i) / columnTotals[c]);
-        }
-      }
-    }
-    pctTable.addColumns(newColumns);
-    return pctTable;
-  }
-
   /**
    * Returns a table containing the column percents made from a source table, after first
    * calculating the counts cross-tabulated from the given columns
    */
   public static Table columnPercents(
       Table table, CategoricalColumn<?> column1, CategoricalColumn<?> column2) {
-    Table xTabs = counts(table, column1, column2);
-    return columnPercents(xTabs);
+    Counts counts = new Counts(column1, column2);
+    return counts.proportions("Crosstab Column Proportions: ", (c, r) -> counts.get(c, -1));
   }
 
   /**
@@ -272,8 +100,8 @@ public final class CrossTab {
    */
   public static Table rowPercents(
       Table table, CategoricalColumn<?> column1, CategoricalColumn<?> column2) {
-    Table xTabs = counts(table, column1, column2);
-    return rowPercents(xTabs);
+    Counts counts = new Counts(column1, column2);
+    return counts.proportions("Crosstab Row Proportions: ", (c, r) -> counts.get(-1, r));
   }
 
   /**
@@ -290,8 +118,8 @@ public final class CrossTab {
    */
   public static Table tablePercents(
       Table table, CategoricalColumn<?> column1, CategoricalColumn<?> column2) {
-    Table xTabs = counts(table, column1, column2);
-    return tablePercents(xTabs);
+    Counts counts = new Counts(column1, column2);
+    return counts.proportions("Crosstab Table Proportions: ", (c, r) -> counts.get(-1, -1));
   }
 
   /**
@@ -301,4 +129,132 @@ public final class CrossTab {
   public static Table tablePercents(Table table, String column1, String column2) {
     return tablePercents(table, table.categoricalColumn(column1), table.categoricalColumn(column2));
   }
+
+  /**
+   * Cross-tabulated counts of two columns, from which the count table and the proportion tables are
+   * all derived.
+   *
+   * <p>Each distinct value of the two columns is given a dense id with {@link GroupIds}, so the
+   * source rows are counted into a primitive matrix without sorting the table or converting each
+   * value to a string. Only the distinct values are converted to labels and sorted.
+   */
+  private static final class Counts {
+
+    private final CategoricalColumn<?> column1;
+    private final CategoricalColumn<?> column2;
+    private final String[] rowLabels;
+    private final String[] columnLabels;
+
+    /** The counts indexed by column label and then row label */
+    private final int[][] cells;
+
+    private final int[] rowTotals;
+    private final int[] columnTotals;
+    private int grandTotal;
+
+    Counts(CategoricalColumn<?> column1, CategoricalColumn<?> column2) {
+      this.column1 = column1;
+      this.column2 = column2;
+      GroupIds rowIds = GroupIds.of(column1);
+      GroupIds columnIds = GroupIds.of(column2);
+      this.rowLabels = sortedLabels(column1, rowIds);
+      this.columnLabels = sortedLabels(column2, columnIds);
+      int[] rowPositions = positions(column1, rowIds, rowLabels);
+      int[] columnPositions = positions(column2, columnIds, columnLabels);
+
+      this.cells = new int[columnLabels.length][rowLabels.length];
+      int[] rows = rowIds.ids();
+      int[] columns = columnIds.ids();
+      for (int i = 0; i < rows.length; i++) {
+        cells[columnPositions[columns[i]]][rowPositions[rows[i]]]++;
+      }
+
+      this.rowTotals = new int[rowLabels.length];
+      this.columnTotals = new int[columnLabels.length];
+      for (int c = 0; c < cells.length; c++) {
+        for (int r = 0; r < rowTotals.length; r++) {
+          rowTotals[r] += cells[c][r];
+          columnTotals[c] += cells[c][r];
+        }
+        grandTotal += columnTotals[c];
+      }
+    }
+
+    /** Returns the distinct labels of the column, in string order */
+    private static String[] sortedLabels(CategoricalColumn<?> column, GroupIds ids) {
+      String[] labels = new String[ids.groupCount()];
+      for (int id = 0; id < labels.length; id++) {
+        labels[id] = column.getString(ids.firstRow(id));
+      }
+      return Arrays.stream(labels).distinct().sorted().toArray(String[]::new);
+    }
+
+    /** Returns the position of each group's label in the sorted labels, indexed by group id */
+    private static int[] positions(CategoricalColumn<?> column, GroupIds ids, String[] labels) {
+      int[] positions = new int[ids.groupCount()];
+      for (int id = 0; id < positions.length; id++) {
+        positions[id] = Arrays.binarySearch(labels, column.getString(ids.firstRow(id)));
+      }
+      return positions;
+    }
+
+    /**
+     * Returns the count in the given column and row, where a column or row of -1 refers to the
+     * totals
+     */
+    int get(int column, int row) {
+      if (column == -1) {
+        return row == -1 ? grandTotal : rowTotals[row];
+      }
+      return row == -1 ? columnTotals[column] : cells[column][row];
+    }
+
+    private String totalLabel() {
+      return column1.type().equals(ColumnType.STRING) ? "Total" : "";
+    }
+
+    Table toTable() {
+      Table t = Table.create("Crosstab Counts: " + column1.name() + " x " + column2.name());
+      Column<?> labels = column1.type().create(LABEL_COLUMN_NAME);
+      for (String label : rowLabels) {
+        labels.appendCell(label);
+      }
+      labels.appendCell(totalLabel());
+      t.addColumns(labels);
+      for (int c = 0; c < cells.length; c++) {
+        t.addColumns(IntColumn.create(columnLabels[c], withTotal(cells[c], columnTotals[c])));
+      }
+      t.addColumns(IntColumn.create("total", withTotal(rowTotals, grandTotal)));
+      return t;
+    }
+
+    private static int[] withTotal(int[] counts, int total) {
+      int[] values = Arrays.copyOf(counts, counts.length + 1);
+      values[counts.length] = total;
+      return values;
+    }
+
+    /**
+     * Returns a table holding each count, including the totals, divided by the count the given
+     * function returns for its column and row
+     */
+    Table proportions(String name, IntBinaryOperator denominator) {
+      Table pctTable = Table.create(name);
+      StringColumn labels = StringColumn.create(LABEL_COLUMN_NAME, rowLabels);
+      labels.append(totalLabel());
+      pctTable.addColumns(labels);
+      for (int c = 0; c <= columnLabels.length; c++) {
+        int column = c == columnLabels.length ? -1 : c;
+        double[] values = new double[rowLabels.length + 1];
+        for (int r = 0; r <= rowLabels.length; r++) {
+          int row = r == rowLabels.length ? -1 : r;
+          double total = denominator.applyAsInt(column, row);
+          values[r] = total == 0 ? Double.NaN : get(column, row) / total;
+        }
+        pctTable.addColumns(
+            DoubleColumn.create(column == -1 ? "total" : columnLabels[column], values));
+      }
+      return pctTable;
+    }
+  }
 }
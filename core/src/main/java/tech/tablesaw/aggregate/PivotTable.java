@@ -1,15 +1,14 @@
 package tech.tablesaw.aggregate;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Comparator;
 import tech.tablesaw.api.CategoricalColumn;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.Table;
-import tech.tablesaw.table.TableSlice;
-import tech.tablesaw.table.TableSliceGroup;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
+import tech.tablesaw.util.GroupIds;
 
 /**
  * PivotTable is used to 'rotate' a source table such that it is summarized on the values of some
@@ -18,6 +17,11 @@ import tech.tablesaw.table.TableSliceGroup;
  * for which a subtotal is created; this produces n columns on each row of the result - one column
  * for each unique value - a numeric column that provides the values to be summarized - an
  * aggregation function that defines what operation is performed on the values in the subgroups
+ *
+ * <p>The pivot is computed in a single pass: every distinct value of the two categorical columns is
+ * assigned a dense id, and the values are accumulated into one primitive array per output column.
+ * Sums, means, minimums, maximums and counts are accumulated directly. Other functions are applied
+ * to the values of each cell, after the rows have been bucketed by cell.
  */
 public class PivotTable {
 
@@ -43,69 +47,178 @@ public class PivotTable {
       NumericColumn<?> values,
       AggregateFunction<?, ?> aggregateFunction) {
 
-    TableSliceGroup tsg = table.splitOn(column1);
+    GroupIds rowKeys = GroupIds.of(column1);
+    GroupIds columnKeys = GroupIds.of(column2);
+    int rowCount = rowKeys.groupCount();
+    int columnCount = columnKeys.groupCount();
 
-    Table pivotTable = Table.create("Pivot: " + column1.name() + " x " + column2.name());
-    pivotTable.addColumns(column1.type().create(column1.name()));
+    double[][] cells = new double[columnCount][rowCount];
+    if (!accumulate(aggregateFunction, rowKeys, columnKeys, values, cells)) {
+      summarizeEachCell(aggregateFunction, rowKeys, columnKeys, values, cells);
+    }
 
-    List<String> valueColumnNames = getValueColumnNames(table, column2);
+    Table pivotTable = Table.create("Pivot: " + column1.name() + " x " + column2.name());
+    pivotTable.addColumns(keyColumn(column1, rowKeys));
 
-    for (String colName : valueColumnNames) {
-      pivotTable.addColumns(DoubleColumn.create(colName));
+    String[] valueColumnNames = new String[columnCount];
+    Integer[] columnOrder = new Integer[columnCount];
+    for (int id = 0; id < columnCount; id++) {
+      valueColumnNames[id] = String.valueOf(column2.get(columnKeys.firstRow(id)));
+      columnOrder[id] = id;
     }
+    Arrays.sort(columnOrder, Comparator.comparing(id -> valueColumnNames[id]));
+    for (int id : columnOrder) {
+      pivotTable.addColumns(DoubleColumn.create(valueColumnNames[id], cells[id]));
+    }
+    return pivotTable;
+  }
 
-    int valueIndex = table.columnIndex(column2);
-    int keyIndex = table.columnIndex(column1);
+  /** Returns a column holding the distinct values of column1, in order of first appearance */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Column<?> keyColumn(CategoricalColumn<?> column1, GroupIds rowKeys) {
+    Column keyColumn = column1.type().create(column1.name());
+    for (int id = 0; id < rowKeys.groupCount(); id++) {
+      keyColumn.append((Column) column1, rowKeys.firstRow(id));
+    }
+    return keyColumn;
+  }
 
-    String key;
+  /**
+   * Accumulates the values directly into the cells if the function is one that can be computed
+   * incrementally, and returns false otherwise. Cells with no rows are left missing.
+   */
+  private static boolean accumulate(
+      AggregateFunction<?, ?> function,
+      GroupIds rowKeys,
+      GroupIds columnKeys,
+      NumericColumn<?> values,
+      double[][] cells) {
+
+    boolean sum = function == AggregateFunctions.sum;
+    boolean mean = function == AggregateFunctions.mean;
+    boolean min = function == AggregateFunctions.min;
+    boolean max = function == AggregateFunctions.max;
+    boolean countNonMissing = function == AggregateFunctions.countNonMissing;
+    boolean countMissing = function == AggregateFunctions.countMissing;
+    boolean countWithMissing = function == AggregateFunctions.countWithMissing;
+    if (!(sum || mean || min || max || countNonMissing || countMissing || countWithMissing)) {
+      return false;
+    }
 
-    for (TableSlice slice : tsg.getSlices()) {
-      key = String.valueOf(slice.get(0, keyIndex));
-      pivotTable.column(0).appendCell(key);
+    int[] rowIds = rowKeys.ids();
+    int[] columnIds = columnKeys.ids();
+    int[][] rows = new int[cells.length][rowKeys.groupCount()];
+    int[][] nonMissing = new int[cells.length][rowKeys.groupCount()];
+    double initial = min ? Double.POSITIVE_INFINITY : max ? Double.NEGATIVE_INFINITY : 0;
+    for (double[] column : cells) {
+      Arrays.fill(column, initial);
+    }
 
-      Map<String, Double> valueMap =
-          getValueMap(column1, column2, values, valueIndex, slice, aggregateFunction);
+    for (int i = 0; i < rowIds.length; i++) {
+      int c = columnIds[i];
+      int r = rowIds[i];
+      rows[c][r]++;
+      double value = values.getDouble(i);
+      if (Double.isNaN(value)) {
+        continue;
+      }
+      nonMissing[c][r]++;
+      if (sum || mean) {
+        cells[c][r] += value;
+      } else if (min) {
+        cells[c][r] = Math.min(cells[c][r], value);
+      } else if (max) {
+        cells[c][r] = Math.max(cells[c][r], value);
+      }
+    }
 
-      for (String columnName : valueColumnNames) {
-        Double aDouble = valueMap.get(columnName);
-        NumericColumn<?> pivotValueColumn = pivotTable.numberColumn(columnName);
-        if (aDouble == null) {
-          pivotValueColumn.appendMissing();
-        } else {
-          pivotValueColumn.appendObj(aDouble);
+    double missing = DoubleColumnType.missingValueIndicator();
+    for (int c = 0; c < cells.length; c++) {
+      double[] column = cells[c];
+      for (int r = 0; r < column.length; r++) {
+        int n = nonMissing[c][r];
+        if (rows[c][r] == 0) {
+          column[r] = missing;
+        } else if (mean) {
+          column[r] = n == 0 ? missing : column[r] / n;
+        } else if (min || max) {
+          column[r] = n == 0 ? missing : column[r];
+        } else if (countNonMissing) {
+          column[r] = n;
+        } else if (countMissing) {
+          column[r] = rows[c][r] - n;
+        } else if (countWithMissing) {
+          column[r] = rows[c][r];
         }
       }
     }
-
-    return pivotTable;
+    return true;
   }
 
-  private static Map<String, Double> getValueMap(
-      CategoricalColumn<?> column1,
-      CategoricalColumn<?> column2,
+  /**
+   * Applies the function to the values of every non-empty cell. The rows are first bucketed by
+   * column key, and then by row key within each column key, with two counting sorts.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static void summarizeEachCell(
+      AggregateFunction function,
+      GroupIds rowKeys,
+      GroupIds columnKeys,
       NumericColumn<?> values,
-      int valueIndex,
-      TableSlice slice,
-      AggregateFunction<?, ?> function) {
-
-    Table temp = slice.asTable();
-    Table summary = temp.summarize(values.name(), function).by(column1.name(), column2.name());
-
-    Map<String, Double> valueMap = new HashMap<>();
-    NumericColumn<?> nc = summary.numberColumn(summary.columnCount() - 1);
-    for (int i = 0; i < summary.rowCount(); i++) {
-      valueMap.put(String.valueOf(summary.get(i, 1)), nc.getDouble(i));
+      double[][] cells) {
+
+    int[] rowIds = rowKeys.ids();
+    int[] byColumn = bucket(columnKeys.ids(), columnKeys.groupCount(), null, 0, rowIds.length);
+    int[] columnStarts = starts(columnKeys.counts());
+    for (int c = 0; c < cells.length; c++) {
+      double[] column = cells[c];
+      Arrays.fill(column, DoubleColumnType.missingValueIndicator());
+      int from = columnStarts[c];
+      int to = columnStarts[c + 1];
+      int[] rowCounts = new int[column.length];
+      for (int i = from; i < to; i++) {
+        rowCounts[rowIds[byColumn[i]]]++;
+      }
+      int[] byCell = bucket(rowIds, column.length, byColumn, from, to);
+      int[] rowStarts = starts(rowCounts);
+      for (int r = 0; r < column.length; r++) {
+        if (rowStarts[r + 1] > rowStarts[r]) {
+          int[] cellRows = Arrays.copyOfRange(byCell, rowStarts[r], rowStarts[r + 1]);
+          Object result = function.summarize(values.subset(cellRows));
+          if (result != null) {
+            column[r] = ((Number) result).doubleValue();
+          }
+        }
+      }
     }
-    return valueMap;
   }
 
-  private static List<String> getValueColumnNames(Table table, CategoricalColumn<?> column2) {
-    List<String> valueColumnNames = new ArrayList<>();
+  /**
+   * Stable counting sort of the rows in {@code source[from..to)} (or of the row numbers {@code
+   * from..to} if source is null) by their id
+   */
+  private static int[] bucket(int[] ids, int idCount, int[] source, int from, int to) {
+    int[] next = new int[idCount + 1];
+    for (int i = from; i < to; i++) {
+      next[ids[source == null ? i : source[i]] + 1]++;
+    }
+    for (int id = 0; id < idCount; id++) {
+      next[id + 1] += next[id];
+    }
+    int[] sorted = new int[to - from];
+    for (int i = from; i < to; i++) {
+      int row = source == null ? i : source[i];
+      sorted[next[ids[row]]++] = row;
+    }
+    return sorted;
+  }
 
-    for (Object colName : table.column(column2.name()).unique()) {
-      valueColumnNames.add(String.valueOf(colName));
+  /** Returns the offsets at which each bucket starts, followed by the total count */
+  private static int[] starts(int[] counts) {
+    int[] starts = new int[counts.length + 1];
+    for (int i = 0; i < counts.length; i++) {
+      starts[i + 1] = starts[i] + counts[i];
     }
-    valueColumnNames.sort(String::compareTo);
-    return valueColumnNames;
+    return starts;
   }
 }
@@ -1,6 +1,6 @@
 package tech.tablesaw.analytic;
 
-import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
 import tech.tablesaw.api.ColumnType;
@@ -25,9 +25,12 @@ import tech.tablesaw.columns.numbers.DoubleColumnType;
  * one explained above.
  *
  * <p>Sliding windows are windows where both sides of the window are following, preceding or current
- * row. Analytic aggregate algorithms for sliding windows are generally implemented with a {@link
- * java.util.Deque} so that elements can be added or removed from either side of the window as it
- * slides.
+ * row. Analytic aggregate algorithms for sliding windows are implemented with a queue so that
+ * elements can be added to the right side and removed from the left side of the window as it
+ * slides. Invertible functions like SUM keep a running total and subtract the values that leave the
+ * window. MIN and MAX keep a monotonic queue that only holds the values that can still become the
+ * extreme of some later window, so every row is added and removed at most once and each window is
+ * evaluated in O(1) amortized time regardless of the frame size.
  *
  * <p>This class creates two implementations per analytic aggregate function. One for append windows
  * and one for sliding windows.
@@ -135,13 +138,13 @@ enum AggregateFunctions implements FunctionMetaData {
     @Override
     AggregateFunction<T, Double> functionForSlidingWindows() {
       return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
-        private Double sum = 0.0;
+        private final DoubleQueue queue = new DoubleQueue();
+        private double sum = 0.0;
         private int missingCount = 0;
 
         @Override
         public void removeLeftMost() {
-          Double removed = queue.remove();
+          double removed = queue.remove();
           if (DoubleColumnType.valueIsMissing(removed)) {
             missingCount--;
           } else {
@@ -151,7 +154,7 @@ enum AggregateFunctions implements FunctionMetaData {
 
         @Override
         public void addRightMost(T newValue) {
-          Double doubleValue = newValue.doubleValue();
+          double doubleValue = newValue.doubleValue();
           this.sum += doubleValue;
           queue.add(doubleValue);
         }
@@ -202,32 +205,26 @@ enum AggregateFunctions implements FunctionMetaData {
     @Override
     AggregateFunction<T, Double> functionForSlidingWindows() {
       return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
+        private final MonotonicQueue queue = new MonotonicQueue(true);
 
         @Override
         public void removeLeftMost() {
-          queue.remove();
+          queue.removeLeftMost();
         }
 
         @Override
         public void addRightMost(T newValue) {
-          queue.add(newValue.doubleValue());
+          queue.addRightMost(newValue.doubleValue());
         }
 
         @Override
         public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
+          queue.addRightMostMissing();
         }
 
         @Override
         public Double getValue() {
-          // This could be faster, but probably does not matter in practice because sliding windows
-          // will be small.
-          return queue.stream()
-              .filter(d -> !DoubleColumnType.valueIsMissing(d))
-              .mapToDouble(Number::doubleValue)
-              .max()
-              .orElse(DoubleColumnType.missingValueIndicator());
+          return queue.getValue();
         }
       };
     }
@@ -261,32 +258,26 @@ enum AggregateFunctions implements FunctionMetaData {
     @Override
     AggregateFunction<T, Double> functionForSlidingWindows() {
       return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
+        private final MonotonicQueue queue = new MonotonicQueue(false);
 
         @Override
         public void removeLeftMost() {
-          queue.remove();
+          queue.removeLeftMost();
         }
 
         @Override
         public void addRightMost(T newValue) {
-          queue.add(newValue.doubleValue());
+          queue.addRightMost(newValue.doubleValue());
         }
 
         @Override
         public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
+          queue.addRightMostMissing();
         }
 
         @Override
         public Double getValue() {
-          // This could be faster, but probably does not matter in practice because sliding windows
-          // will be small.
-          return queue.stream()
-              .filter(d -> !DoubleColumnType.valueIsMissing(d))
-              .mapToDouble(Number::doubleValue)
-              .min()
-              .orElse(DoubleColumnType.missingValueIndicator());
+          return queue.getValue();
         }
       };
     }
@@ -325,13 +316,13 @@ enum AggregateFunctions implements FunctionMetaData {
     @Override
     AggregateFunction<T, Double> functionForSlidingWindows() {
       return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
-        private Double sum = 0.0;
+        private final DoubleQueue queue = new DoubleQueue();
+        private double sum = 0.0;
         private int missingCount = 0;
 
         @Override
         public void removeLeftMost() {
-          Double removed = queue.remove();
+          double removed = queue.remove();
           if (DoubleColumnType.valueIsMissing(removed)) {
             missingCount--;
           } else {
@@ -341,7 +332,7 @@ enum AggregateFunctions implements FunctionMetaData {
 
         @Override
         public void addRightMost(T newValue) {
-          Double doubleValue = newValue.doubleValue();
+          double doubleValue = newValue.doubleValue();
           this.sum += doubleValue;
           queue.add(doubleValue);
         }
@@ -388,27 +379,26 @@ enum AggregateFunctions implements FunctionMetaData {
     @Override
     AggregateFunction<T, Integer> functionForSlidingWindows() {
       return new AggregateFunction<T, Integer>() {
-        // Deque contains a boolean that when true indicates that the value in that position of the
-        // window is missing.
-        private final ArrayDeque<Boolean> queue = new ArrayDeque<>();
+        // Queue contains a 1 for each non-missing value and a 0 for each missing value in the
+        // window.
+        private final DoubleQueue queue = new DoubleQueue();
         private int missingCount = 0;
 
         @Override
         public void removeLeftMost() {
-          Boolean removedMissingValue = queue.remove();
-          if (removedMissingValue) {
+          if (queue.remove() == 0) {
             missingCount--;
           }
         }
 
         @Override
         public void addRightMost(T newValue) {
-          queue.add(false);
+          queue.add(1);
         }
 
         @Override
         public void addRightMostMissing() {
-          queue.add(true);
+          queue.add(0);
           missingCount++;
         }
 
@@ -419,4 +409,120 @@ enum AggregateFunctions implements FunctionMetaData {
       };
     }
   }
+
+  /** A FIFO queue of primitive doubles backed by a growable ring buffer. */
+  static final class DoubleQueue {
+    private double[] values = new double[16];
+    private int head = 0;
+    private int size = 0;
+
+    void add(double value) {
+      if (size == values.length) {
+        grow();
+      }
+      values[(head + size) % values.length] = value;
+      size++;
+    }
+
+    double remove() {
+      if (size == 0) {
+        throw new NoSuchElementException();
+      }
+      double value = values[head];
+      head = (head + 1) % values.length;
+      size--;
+      return value;
+    }
+
+    int size() {
+      return size;
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    private void grow() {
+      double[] grown = new double[values.length * 2];
+      for (int i = 0; i < size; i++) {
+        grown[i] = values[(head + i) % values.length];
+      }
+      values = grown;
+      head = 0;
+    }
+  }
+
+  /**
+   * Tracks the maximum (or minimum) of a sliding window.
+   *
+   * <p>The queue holds the positions and values of the elements that are larger (or smaller) than
+   * every element added after them. The head is therefore always the extreme of the current window.
+   * Adding an element discards the elements it dominates from the tail, and removing the left most
+   * element of the window only pops the head if that element is still in the queue.
+   */
+  static final class MonotonicQueue {
+    private final boolean max;
+    private int[] positions = new int[16];
+    private double[] values = new double[16];
+    private int head = 0;
+    private int size = 0;
+
+    /** The number of elements, including missing ones, that have been added to the window */
+    private int added = 0;
+
+    /** The number of elements, including missing ones, that have been removed from the window */
+    private int removed = 0;
+
+    MonotonicQueue(boolean max) {
+      this.max = max;
+    }
+
+    void addRightMost(double value) {
+      while (size > 0) {
+        double last = values[(head + size - 1) % values.length];
+        if (max ? last > value : last < value) {
+          break;
+        }
+        size--;
+      }
+      if (size == positions.length) {
+        grow();
+      }
+      int tail = (head + size) % values.length;
+      positions[tail] = added++;
+      values[tail] = value;
+      size++;
+    }
+
+    void addRightMostMissing() {
+      added++;
+    }
+
+    void removeLeftMost() {
+      if (removed == added) {
+        throw new NoSuchElementException();
+      }
+      if (size > 0 && positions[head] == removed) {
+        head = (head + 1) % values.length;
+        size--;
+      }
+      removed++;
+    }
+
+    double getValue() {
+      return size == 0 ? DoubleColumnType.missingValueIndicator() : values[head];
+    }
+
+    private void grow() {
+      int[] grownPositions = new int[positions.length * 2];
+      double[] grownValues = new double[values.length * 2];
+      for (int i = 0; i < size; i++) {
+        grownPositions[i] = positions[(head + i) % positions.length];
+        grownValues[i] = values[(head + i) % values.length];
+      }
+      positions = grownPositions;
+      values = grownValues;
+      head = 0;
+    }
+  }
 }
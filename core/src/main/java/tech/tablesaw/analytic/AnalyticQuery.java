@@ -5,6 +5,7 @@ import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import tech.tablesaw.analytic.AnalyticQuerySteps.AddAggregateFunctions;
 import tech.tablesaw.analytic.AnalyticQuerySteps.AddAggregateFunctionsWithExecute;
 import tech.tablesaw.analytic.AnalyticQuerySteps.AddNumberingFunction;
@@ -182,6 +183,22 @@ public final class AnalyticQuery {
     return AnalyticQueryEngine.create(this).execute();
   }
 
+  /**
+   * Executes the query adding all the calculated columns to a new table, processing partitions
+   * concurrently on the given pool. The result columns will have the same order as the from table.
+   *
+   * <p>Partitions are independent, so a query partitioned into many groups (e.g. one per customer)
+   * scales with the parallelism of the pool. A query without PARTITION BY has a single partition
+   * and gains nothing from this method.
+   *
+   * @param pool the pool used to process partitions, e.g. {@link ForkJoinPool#commonPool()} or a
+   *     pool created with the desired parallelism.
+   * @return a new table containing only the result columns.
+   */
+  public Table execute(ForkJoinPool pool) {
+    return AnalyticQueryEngine.create(this).execute(pool);
+  }
+
   /**
    * Executes the query and adds all the calculated columns directly to the source table.
    *
@@ -264,6 +281,11 @@ public final class AnalyticQuery {
       return this.build().execute();
     }
 
+    @Override
+    public Table execute(ForkJoinPool pool) {
+      return this.build().execute(pool);
+    }
+
     @Override
     public void executeInPlace() {
       this.build().executeInPlace();
@@ -324,7 +346,9 @@ public final class AnalyticQuery {
 
     @Override
     public DefineWindowFame orderBy(String... columnNames) {
-      windowSpecificationBuilder.setSort(Sort.create(this.table, columnNames));
+      if (columnNames.length > 0) {
+        windowSpecificationBuilder.setSort(Sort.create(this.table, columnNames));
+      }
       return this;
     }
 
@@ -402,6 +426,11 @@ public final class AnalyticQuery {
       return this.build().execute();
     }
 
+    @Override
+    public Table execute(ForkJoinPool pool) {
+      return this.build().execute(pool);
+    }
+
     @Override
     public void executeInPlace() {
       this.build().executeInPlace();
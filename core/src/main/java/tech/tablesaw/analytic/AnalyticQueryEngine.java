@@ -1,32 +1,42 @@
 package tech.tablesaw.analytic;
 
-import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import tech.tablesaw.analytic.ArgumentList.FunctionCall;
-import tech.tablesaw.api.Row;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.sorting.Sort;
 import tech.tablesaw.sorting.SortUtils;
 import tech.tablesaw.sorting.comparators.IntComparatorChain;
-import tech.tablesaw.table.TableSlice;
 
 /**
  * Executes analytic queries.
  *
+ * <p>The engine sorts the row numbers of the source table once by the partition columns and then
+ * the order by columns, so every partition becomes a contiguous range of the sorted rows. It then
+ * walks the partition boundaries in a single sweep and evaluates the window and numbering functions
+ * over each range.
+ *
  * <p>Makes no changes to the underlying table. The order of the rows in "result" Table will match
  * the order of the rows in underlying source table.
  */
 final class AnalyticQueryEngine {
   private final AnalyticQuery query;
-  private final Table destination;
+  private final Map<String, DestinationValues> destinationValues = new LinkedHashMap<>();
   private final IntComparatorChain rowComparator;
+  private final IntComparatorChain partitionComparator;
 
   private AnalyticQueryEngine(AnalyticQuery query) {
     this.query = query;
-    this.destination = Table.create("Analytic ~ " + query.getTable().name());
     Optional<Sort> sort = query.getSort();
     this.rowComparator = sort.isPresent() ? SortUtils.getChain(query.getTable(), sort.get()) : null;
+    this.partitionComparator = partitionComparator(query);
   }
 
   /** Returns a new AnalyticQueryEngine to execute the given query */
@@ -41,77 +51,213 @@ final class AnalyticQueryEngine {
    *     in the source table.
    */
   public Table execute() {
-    addColumns();
-    partition().forEach(this::processSlice);
-    return destination;
+    validate();
+    createDestinationValues();
+    int[] rows = sortedRows(ForkJoinPool.commonPool());
+    int[] bounds = partitionBounds(rows);
+    for (int i = 0; i < bounds.length - 1; i++) {
+      processPartition(rows, bounds[i], bounds[i + 1]);
+    }
+    return destination();
+  }
+
+  /**
+   * Execute the given analytic Query, processing partitions concurrently on the given pool.
+   *
+   * <p>Partitions are independent and every row of the source table belongs to exactly one of them,
+   * so each task writes to a disjoint set of rows in the destination values, which are allocated at
+   * their full size before any task starts. The result columns are built from them on the calling
+   * thread once every task has finished.
+   *
+   * @return a table with the result of the query. Rows in the result table match the order of rows
+   *     in the source table.
+   */
+  public Table execute(ForkJoinPool pool) {
+    validate();
+    createDestinationValues();
+    int[] rows = sortedRows(pool);
+    int[] bounds = partitionBounds(rows);
+    pool.invoke(new PartitionTask(rows, bounds, 0, bounds.length - 1));
+    return destination();
+  }
+
+  /** Processes a range of partitions, splitting the range in half until it is small enough. */
+  private final class PartitionTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    /** Number of rows below which a range of partitions is processed directly */
+    private static final int SEQUENTIAL_THRESHOLD = 10_000;
+
+    private final int[] rows;
+    private final int[] bounds;
+    private final int from;
+    private final int to;
+
+    private PartitionTask(int[] rows, int[] bounds, int from, int to) {
+      this.rows = rows;
+      this.bounds = bounds;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > 1 && bounds[to] - bounds[from] > SEQUENTIAL_THRESHOLD) {
+        int mid = (from + to) >>> 1;
+        invokeAll(
+            new PartitionTask(rows, bounds, from, mid), new PartitionTask(rows, bounds, mid, to));
+      } else {
+        for (int i = from; i < to; i++) {
+          processPartition(rows, bounds[i], bounds[i + 1]);
+        }
+      }
+    }
   }
 
-  private void processSlice(TableSlice slice) {
-    orderBy(slice);
-    processAggregateFunctions(slice);
-    processNumberingFunctions(slice);
+  /**
+   * Returns the row numbers of the source table sorted by the partition columns, then by the order
+   * by columns. Rows that compare equal keep their original relative order, so the rows of each
+   * partition are contiguous and ordered as the window specification requires. Large arrays are
+   * sorted in parallel on the given pool.
+   */
+  private int[] sortedRows(ForkJoinPool pool) {
+    Table table = query.getTable();
+    int[] rows = new int[table.rowCount()];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = i;
+    }
+    if (partitionComparator == null && rowComparator == null) {
+      return rows;
+    }
+    IntComparator comparator;
+    if (partitionComparator == null) {
+      comparator = rowComparator;
+    } else if (rowComparator == null) {
+      comparator = partitionComparator;
+    } else {
+      comparator = partitionComparator.thenComparing(rowComparator);
+    }
+    IntComparator order =
+        (r1, r2) -> {
+          int result = comparator.compare(r1, r2);
+          return result != 0 ? result : Integer.compare(r1, r2);
+        };
+    // The parallel sort forks its tasks on the pool of the thread that calls it, so calling it
+    // from a task of the given pool keeps it off the common pool.
+    pool.submit(() -> IntArrays.parallelQuickSort(rows, order)).join();
+    return rows;
   }
 
   /**
-   * Execute all aggregate functions for the given slice setting values in the appropriate
+   * Returns the start of each partition in the sorted rows, followed by the number of rows, so that
+   * partition {@code i} covers the rows from {@code bounds[i]} (inclusive) to {@code bounds[i + 1]}
+   * (exclusive).
+   */
+  private int[] partitionBounds(int[] rows) {
+    IntArrayList bounds = new IntArrayList();
+    bounds.add(0);
+    if (partitionComparator != null) {
+      for (int i = 1; i < rows.length; i++) {
+        if (partitionComparator.compare(rows[i - 1], rows[i]) != 0) {
+          bounds.add(i);
+        }
+      }
+    }
+    bounds.add(rows.length);
+    return bounds.toIntArray();
+  }
+
+  /** Returns a comparator that orders rows by the partition columns, or null if there are none */
+  private static IntComparatorChain partitionComparator(AnalyticQuery query) {
+    IntComparatorChain chain = null;
+    for (String columnName : query.getPartitionColumns()) {
+      IntComparator comparator =
+          SortUtils.rowComparator(query.getTable().column(columnName), Sort.Order.ASCEND);
+      if (chain == null) {
+        chain = new IntComparatorChain(comparator);
+      } else {
+        chain.addComparator(comparator);
+      }
+    }
+    return chain;
+  }
+
+  private void processPartition(int[] rows, int start, int end) {
+    processAggregateFunctions(rows, start, end);
+    processNumberingFunctions(rows, start, end);
+  }
+
+  /**
+   * Execute all aggregate functions for the given partition setting values in the appropriate
    * destination column.
    */
-  private void processAggregateFunctions(TableSlice slice) {
+  private void processAggregateFunctions(int[] rows, int start, int end) {
     for (String toColumn : query.getArgumentList().getAggregateFunctions().keySet()) {
       FunctionCall<AggregateFunctions> functionCall =
           query.getArgumentList().getAggregateFunctions().get(toColumn);
 
       AggregateFunctions aggregateFunction = functionCall.getFunction();
       Column<?> sourceColumn = query.getTable().column(functionCall.getSourceColumnName());
-      validateColumn(aggregateFunction, sourceColumn);
 
-      Column<?> destinationColumn = destination.column(functionCall.getDestinationColumnName());
+      DestinationValues destinationValues =
+          this.destinationValues.get(functionCall.getDestinationColumnName());
       new WindowSlider(
-              query.getWindowFrame(), aggregateFunction, slice, sourceColumn, destinationColumn)
+              query.getWindowFrame(),
+              aggregateFunction,
+              rows,
+              start,
+              end,
+              sourceColumn,
+              destinationValues)
           .execute();
     }
   }
 
   /**
-   * Execute all numbering functions for the given slice setting values in the appropriate
+   * Execute all numbering functions for the given partition setting values in the appropriate
    * destination column.
    */
-  @SuppressWarnings({"unchecked"})
-  private void processNumberingFunctions(TableSlice slice) {
+  private void processNumberingFunctions(int[] rows, int start, int end) {
     for (String toColumn : query.getArgumentList().getNumberingFunctions().keySet()) {
-      if (rowComparator == null) {
-        throw new IllegalArgumentException("Cannot use Numbering Function without OrderBy");
-      }
       FunctionCall<NumberingFunctions> functionCall =
           query.getArgumentList().getNumberingFunctions().get(toColumn);
       NumberingFunctions numberingFunctions = functionCall.getFunction();
       NumberingFunction function = numberingFunctions.getImplementation();
-      Column<Integer> destinationColumn =
-          (Column<Integer>) destination.column(functionCall.getDestinationColumnName());
+      DestinationValues destinationValues =
+          this.destinationValues.get(functionCall.getDestinationColumnName());
 
-      int prevRowNumber = -1;
-      // Slice has already been ordered.
-      for (Row row : slice) {
-        if (row.getRowNumber() == 0) {
+      // Rows have already been ordered.
+      for (int i = start; i < end; i++) {
+        if (i == start) {
           function.addNextRow();
-        } else {
+        } else if (rowComparator.compare(rows[i - 1], rows[i]) == 0) {
           // Consecutive rows are equal.
-          if (rowComparator.compare(
-                  slice.mappedRowNumber(prevRowNumber), slice.mappedRowNumber(row.getRowNumber()))
-              == 0) {
-            function.addEqualRow();
-          } else {
-            // Consecutive rows are not equal.
-            function.addNextRow();
-          }
+          function.addEqualRow();
+        } else {
+          // Consecutive rows are not equal.
+          function.addNextRow();
         }
-        prevRowNumber = row.getRowNumber();
-        // Set the row number in the destination that corresponds to the row in the view.
-        destinationColumn.set(slice.mappedRowNumber(row.getRowNumber()), function.getValue());
+        // Set the row number in the destination that corresponds to the row in the partition.
+        destinationValues.set(rows[i], function.getValue());
       }
     }
   }
 
+  /**
+   * Checks that the query can be executed before any partition is processed, so that errors are
+   * reported the same way whether partitions are processed serially or in parallel.
+   */
+  private void validate() {
+    for (FunctionCall<AggregateFunctions> functionCall :
+        query.getArgumentList().getAggregateFunctions().values()) {
+      validateColumn(
+          functionCall.getFunction(), query.getTable().column(functionCall.getSourceColumnName()));
+    }
+    if (!query.getArgumentList().getNumberingFunctions().isEmpty() && rowComparator == null) {
+      throw new IllegalArgumentException("Cannot use Numbering Function without OrderBy");
+    }
+  }
+
   /**
    * Checks to make sure the given aggregate function is compatible with the type of the source
    * column.
@@ -127,29 +273,22 @@ final class AnalyticQueryEngine {
   }
 
   /**
-   * Creates empty columns that will be filled in when the analytic aggregate or numbering functions
-   * are executed.
+   * Creates the arrays of missing values that will be filled in when the analytic aggregate or
+   * numbering functions are executed.
    */
-  private void addColumns() {
-    this.destination.addColumns(
-        query
-            .getArgumentList()
-            .createEmptyDestinationColumns(query.getTable().rowCount())
-            .toArray(new Column<?>[0]));
-  }
-
-  /**
-   * Partition the source table into a series of table slices. Does not modify the underlying table.
-   */
-  private Iterable<TableSlice> partition() {
-    if (query.getPartitionColumns().isEmpty()) {
-      return ImmutableList.of(new TableSlice(query.getTable()));
+  private void createDestinationValues() {
+    for (DestinationValues values :
+        query.getArgumentList().createDestinationValues(query.getTable().rowCount())) {
+      destinationValues.put(values.name(), values);
     }
-    return query.getTable().splitOn(query.getPartitionColumns().toArray(new String[0]));
   }
 
-  /** Order the tableSlice in place. Does not modify the underlying table. */
-  private void orderBy(TableSlice tableSlice) {
-    query.getSort().ifPresent(tableSlice::sortOn);
+  /** Returns the result table, with a column built from each of the destination values */
+  private Table destination() {
+    Table destination = Table.create("Analytic ~ " + query.getTable().name());
+    for (DestinationValues values : destinationValues.values()) {
+      destination.addColumns(values.toColumn());
+    }
+    return destination;
   }
 }
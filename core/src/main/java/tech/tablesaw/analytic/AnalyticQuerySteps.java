@@ -1,5 +1,6 @@
 package tech.tablesaw.analytic;
 
+import java.util.concurrent.ForkJoinPool;
 import tech.tablesaw.api.Table;
 
 public interface AnalyticQuerySteps {
@@ -290,6 +291,17 @@ public interface AnalyticQuerySteps {
      */
     Table execute();
 
+    /**
+     * Executes the query adding all the calculated columns to a new table, processing partitions
+     * concurrently on the given pool. The result columns will have the same order as the from
+     * table.
+     *
+     * @param pool the pool used to process partitions. Its parallelism bounds the number of
+     *     partitions processed at the same time.
+     * @return a new table containing only the result columns.
+     */
+    Table execute(ForkJoinPool pool);
+
     /**
      * Executes the query and adds all the calculated columns directly to the source table.
      *
@@ -12,7 +12,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 import tech.tablesaw.api.ColumnType;
-import tech.tablesaw.columns.Column;
 
 /** This class holds data on what aggregate and numbering functions to execute in the query. */
 final class ArgumentList {
@@ -74,8 +73,8 @@ final class ArgumentList {
   /**
    * @return an ordered list of new columns this analytic query will generate.
    */
-  List<Column<?>> createEmptyDestinationColumns(int rowCount) {
-    List<Column<?>> newColumns = new ArrayList<>();
+  List<DestinationValues> createDestinationValues(int rowCount) {
+    List<DestinationValues> newColumns = new ArrayList<>();
     for (String toColumn : newColumnNames) {
       FunctionCall<? extends FunctionMetaData> functionCall =
           Stream.of(aggregateFunctions.get(toColumn), numberingFunctions.get(toColumn))
@@ -83,12 +82,7 @@ final class ArgumentList {
               .findFirst()
               .get();
       ColumnType type = functionCall.function.returnType();
-      Column<?> resultColumn = type.create(toColumn);
-      newColumns.add(resultColumn);
-
-      for (int i = 0; i < rowCount; i++) {
-        resultColumn.appendMissing();
-      }
+      newColumns.add(new DestinationValues(toColumn, type, rowCount));
     }
     return newColumns;
   }
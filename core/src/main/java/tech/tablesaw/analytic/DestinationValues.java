@@ -0,0 +1,66 @@
+package tech.tablesaw.analytic;
+
+import java.util.Arrays;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
+import tech.tablesaw.columns.numbers.IntColumnType;
+
+/**
+ * The values of one new column of an analytic query, held in a primitive array by source row until
+ * every partition has been processed.
+ *
+ * <p>Partitions write disjoint rows of the array, so they can be processed concurrently. Setting
+ * values in a column instead would also update state the column shares across rows, like its
+ * missing value bitmap, which is not safe to do from several threads.
+ */
+final class DestinationValues {
+  private final String name;
+  private final double[] doubles;
+  private final int[] ints;
+
+  DestinationValues(String name, ColumnType type, int rowCount) {
+    this.name = name;
+    if (type.equals(ColumnType.DOUBLE)) {
+      this.doubles = new double[rowCount];
+      this.ints = null;
+      Arrays.fill(doubles, DoubleColumnType.missingValueIndicator());
+    } else if (type.equals(ColumnType.INTEGER)) {
+      this.doubles = null;
+      this.ints = new int[rowCount];
+      Arrays.fill(ints, IntColumnType.missingValueIndicator());
+    } else {
+      throw new IllegalArgumentException("Unsupported analytic column type: " + type);
+    }
+  }
+
+  /** Returns the name of the column */
+  String name() {
+    return name;
+  }
+
+  /** Sets the value for the given row of the source table */
+  void set(int row, Number value) {
+    if (doubles != null) {
+      doubles[row] = value.doubleValue();
+    } else {
+      ints[row] = value.intValue();
+    }
+  }
+
+  /** Sets the value for the given row of the source table */
+  void set(int row, int value) {
+    if (doubles != null) {
+      doubles[row] = value;
+    } else {
+      ints[row] = value;
+    }
+  }
+
+  /** Returns a new column holding the values */
+  Column<?> toColumn() {
+    return doubles != null ? DoubleColumn.create(name, doubles) : IntColumn.create(name, ints);
+  }
+}
@@ -1,12 +1,14 @@
 package tech.tablesaw.analytic;
 
-import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
 import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.table.TableSlice;
 
 /**
- * Execute the aggregate function once for every row in the slice.
+ * Execute the aggregate function once for every row in a partition.
+ *
+ * <p>The partition is a range of an array of row numbers that has already been sorted by the
+ * window's order by columns. Positions in the window are positions in that range.
  *
  * <p>Any window with a Fixed end (UNBOUNDED FOLLOWING) is converted ("mirrored") into the
  * equivalent UNBOUNDED PRECEDING widow so that it is an append window and a faster algorithm can be
@@ -21,20 +23,25 @@ class WindowSlider {
   @SuppressWarnings({"rawtypes"})
   private final AggregateFunction function;
 
-  private final TableSlice slice;
+  private final int[] rows;
+  private final int start;
+  private final int rowCount;
   private final Column<?> sourceColumn;
 
-  @SuppressWarnings({"rawtypes"})
-  private final Column destinationColumn;
+  private final DestinationValues destinationValues;
 
   WindowSlider(
       WindowFrame windowFrame,
       AggregateFunctions func,
-      TableSlice slice,
+      int[] rows,
+      int start,
+      int end,
       Column<?> sourceColumn,
-      Column<?> destinationColumn) {
-    this.slice = slice;
-    this.destinationColumn = destinationColumn;
+      DestinationValues destinationValues) {
+    this.rows = rows;
+    this.start = start;
+    this.rowCount = end - start;
+    this.destinationValues = destinationValues;
     this.sourceColumn = sourceColumn;
     this.function = func.getImplementation(windowFrame.windowGrowthType());
 
@@ -52,21 +59,26 @@ class WindowSlider {
     }
   }
 
-  /** Slide the window over the slice calculating an aggregate value for every row in the slice. */
+  /**
+   * Slide the window over the partition calculating an aggregate value for every row in the
+   * partition.
+   */
   @SuppressWarnings({"unchecked", "rawtypes"})
   void execute() {
     initWindow();
-    // Initial window bounds can be outside the current slice. This allows for windows like 20
+    // Initial window bounds can be outside the current partition. This allows for windows like 20
     // PRECEDING 10 PRECEDING
-    // to slide into the slice. Rows outside the slide will be ignored.
+    // to slide into the partition. Rows outside the partition will be ignored.
     int leftBound = getInitialLeftBound() - 1;
     int rightBound = getInitialRightBound();
-    for (int i = 0; i < slice.rowCount(); i++) {
+    IntUnaryOperator slideLeft = slideLeftStrategy();
+    IntUnaryOperator slideRight = slideRightStrategy();
+    for (int i = 0; i < rowCount; i++) {
       this.set(i, function.getValue());
 
       // Slide the left side of the window if applicable for the window definition.
-      int newLeftBound = slideLeftStrategy().apply(leftBound);
-      if (newLeftBound > leftBound && isRowNumberInSlice(newLeftBound)) {
+      int newLeftBound = slideLeft.applyAsInt(leftBound);
+      if (newLeftBound > leftBound && isRowNumberInPartition(newLeftBound)) {
         // If the left side of the window changed remove the left most value from the aggregate
         // function.
         function.removeLeftMost();
@@ -74,8 +86,8 @@ class WindowSlider {
       leftBound = newLeftBound;
 
       // Slide the right side of the window if applicable for the window definition.
-      int newRightBound = slideRightStrategy().apply(rightBound);
-      if (newRightBound > rightBound && isRowNumberInSlice(newRightBound)) {
+      int newRightBound = slideRight.applyAsInt(rightBound);
+      if (newRightBound > rightBound && isRowNumberInPartition(newRightBound)) {
         // If the right side of the window changed add the next value to the aggregate function.
         if (isMissing(newRightBound)) {
           function.addRightMostMissing();
@@ -93,19 +105,19 @@ class WindowSlider {
    */
   int mirror(int rowNumber) {
     if (this.mirrored) {
-      return slice.rowCount() - rowNumber - 1;
+      return rowCount - rowNumber - 1;
     }
     return rowNumber;
   }
 
   /**
    * Adds initial values to the aggregate function for the first window. E.G. ROWS BETWEEN CURRENT
-   * ROW AND 3 FOLLOWING would add the first four rows in the slice to the function.
+   * ROW AND 3 FOLLOWING would add the first four rows in the partition to the function.
    */
   @SuppressWarnings({"unchecked"})
   private void initWindow() {
     int leftBound = Math.max(getInitialLeftBound(), 0);
-    int rightBound = Math.min(getInitialRightBound(), slice.rowCount() - 1);
+    int rightBound = Math.min(getInitialRightBound(), rowCount - 1);
     for (int i = leftBound; i <= rightBound; i++) {
       if (isMissing(i)) {
         function.addRightMostMissing();
@@ -115,30 +127,34 @@ class WindowSlider {
     }
   }
 
-  /** Set the value in the destination column that corresponds to the row in the view. */
-  @SuppressWarnings({"unchecked"})
-  private void set(int rowNumberInSlice, Object value) {
-    destinationColumn.set(slice.mappedRowNumber(mirror(rowNumberInSlice)), value);
+  /** Returns the row number in the source table that corresponds to the row in the partition. */
+  private int mappedRowNumber(int rowNumberInPartition) {
+    return rows[start + mirror(rowNumberInPartition)];
+  }
+
+  /** Set the destination value that corresponds to the row in the view. */
+  private void set(int rowNumberInPartition, Object value) {
+    destinationValues.set(mappedRowNumber(rowNumberInPartition), (Number) value);
   }
 
   /** Get a value from the source column that corresponds to the row in the view. */
-  private Object get(int rowNumberInSlice) {
-    return sourceColumn.get(slice.mappedRowNumber(mirror(rowNumberInSlice)));
+  private Object get(int rowNumberInPartition) {
+    return sourceColumn.get(mappedRowNumber(rowNumberInPartition));
   }
 
   /**
    * Determine if the value in the source column that corresponds to the row in the view is missing.
    */
-  private boolean isMissing(int rowNumberInSlice) {
-    return sourceColumn.isMissing(slice.mappedRowNumber(mirror(rowNumberInSlice)));
+  private boolean isMissing(int rowNumberInPartition) {
+    return sourceColumn.isMissing(mappedRowNumber(rowNumberInPartition));
   }
 
-  /** Returns true of the rowNumber exists in the slice. */
-  private boolean isRowNumberInSlice(int rowNumber) {
-    return rowNumber >= 0 && rowNumber < slice.rowCount();
+  /** Returns true of the rowNumber exists in the partition. */
+  private boolean isRowNumberInPartition(int rowNumber) {
+    return rowNumber >= 0 && rowNumber < rowCount;
   }
 
-  private Function<Integer, Integer> slideLeftStrategy() {
+  private IntUnaryOperator slideLeftStrategy() {
     switch (this.windowGrowthType) {
       case FIXED:
       case FIXED_LEFT:
@@ -149,7 +165,7 @@ class WindowSlider {
     throw new IllegalArgumentException("Unexpected growthType: " + this.windowGrowthType);
   }
 
-  private Function<Integer, Integer> slideRightStrategy() {
+  private IntUnaryOperator slideRightStrategy() {
     switch (this.windowGrowthType) {
       case FIXED:
         return i -> i;
@@ -168,7 +184,7 @@ class WindowSlider {
   private int getInitialRightBound() {
     switch (this.windowGrowthType) {
       case FIXED:
-        return slice.rowCount() - 1;
+        return rowCount - 1;
       case FIXED_LEFT:
       case SLIDING:
         return this.initialRightBound;
@@ -703,6 +703,16 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
     return subset(selection.toArray());
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public BooleanColumn subset(int[] rows) {
+    BooleanColumn c = emptyCopy();
+    for (int row : rows) {
+      c.append(getByte(row));
+    }
+    return c;
+  }
+
   /** {@inheritDoc} */
   @Override
   public BooleanColumn removeMissing() {
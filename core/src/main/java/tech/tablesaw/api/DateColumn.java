@@ -15,6 +15,7 @@
 package tech.tablesaw.api;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static tech.tablesaw.util.Gather.gather;
 
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
@@ -37,6 +38,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
+import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
@@ -45,6 +47,7 @@ import tech.tablesaw.columns.dates.DateColumnType;
 import tech.tablesaw.columns.dates.DateFillers;
 import tech.tablesaw.columns.dates.DateFilters;
 import tech.tablesaw.columns.dates.DateMapFunctions;
+import tech.tablesaw.columns.dates.DateParser;
 import tech.tablesaw.columns.dates.PackedLocalDate;
 import tech.tablesaw.selection.Selection;
 
@@ -82,6 +85,22 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
     return new DateColumn(name, new IntArrayList(data));
   }
 
+  /**
+   * Creates a new DateColumn with the given name holding the dates of the given epoch days, as
+   * returned by {@link #asEpochDays()}. Values equal to DateColumnType.missingValueIndicator() are
+   * missing
+   */
+  public static DateColumn createFromEpochDays(String name, int[] epochDays) {
+    int[] packed = new int[epochDays.length];
+    for (int i = 0; i < epochDays.length; i++) {
+      packed[i] =
+          valueIsMissing(epochDays[i])
+              ? DateColumnType.missingValueIndicator()
+              : PackedLocalDate.ofEpochDay(epochDays[i]);
+    }
+    return new DateColumn(name, new IntArrayList(packed));
+  }
+
   /**
    * Creates a new DateColumn with the given name. The column contains {@code initialSize} missing
    * values.
@@ -137,20 +156,21 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   /** {@inheritDoc} */
   @Override
   public DateColumn subset(final int[] rows) {
-    final DateColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.appendInternal(getIntInternal(row));
-    }
+    DateColumn c =
+        new DateColumn(name(), IntArrayList.wrap(gather(data.elements(), data.size(), rows)));
+    c.printFormatter = printFormatter;
     return c;
   }
 
   public DateColumn appendInternal(int f) {
     data.add(f);
+    missingValueAppended(size() - 1);
     return this;
   }
 
   public DateColumn set(int index, int value) {
     data.set(index, value);
+    missingValueUpdated(index);
     return this;
   }
 
@@ -227,6 +247,7 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   @Override
   public void clear() {
     data.clear();
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -261,12 +282,14 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   @Override
   public void sortAscending() {
     data.sort(IntComparators.NATURAL_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(IntComparators.OPPOSITE_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -303,10 +326,32 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
         column.name(),
         column.type());
     DateColumn dateColumn = (DateColumn) column;
-    final int size = dateColumn.size();
-    for (int i = 0; i < size; i++) {
-      appendInternal(dateColumn.getPackedDate(i));
-    }
+    // copy the backing array in bulk rather than appending value by value
+    data.addElements(data.size(), dateColumn.data.elements(), 0, dateColumn.size());
+    missingValuesChanged();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DateColumn ensureCapacity(int capacity) {
+    data.ensureCapacity(capacity);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DateColumn appendRange(Column<LocalDate> column, int from, int to) {
+    Preconditions.checkArgument(
+        column.type() == this.type(),
+        "Column '%s' has type %s, but column '%s' has type %s.",
+        name(),
+        type(),
+        column.name(),
+        column.type());
+    Preconditions.checkPositionIndexes(from, to, column.size());
+    data.addElements(data.size(), ((DateColumn) column).data.elements(), from, to - from);
+    missingValuesChanged();
     return this;
   }
 
@@ -448,15 +493,27 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   /** {@inheritDoc} */
   @Override
   public DateColumn appendCell(String string) {
-    return appendInternal(PackedLocalDate.pack(parser().parse(string)));
+    return appendCell(string, parser());
   }
 
   /** {@inheritDoc} */
   @Override
   public DateColumn appendCell(String string, AbstractColumnParser<?> parser) {
+    if (parser instanceof DateParser) {
+      return appendInternal(((DateParser) parser).parsePacked(string));
+    }
     return appendObj(parser.parse(string));
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public DateColumn set(int row, String string, AbstractColumnParser<?> parser) {
+    if (parser instanceof DateParser) {
+      return set(row, ((DateParser) parser).parsePacked(string));
+    }
+    return set(row, (LocalDate) parser.parse(string));
+  }
+
   /** {@inheritDoc} */
   @Override
   public int getIntInternal(int index) {
@@ -503,13 +560,13 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
   /** Returns the count of missing values in this column */
   @Override
   public int countMissing() {
-    int count = 0;
-    for (int i = 0; i < size(); i++) {
-      if (getPackedDate(i) == DateColumnType.missingValueIndicator()) {
-        count++;
-      }
-    }
-    return count;
+    return missingRows().getCardinality();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RoaringBitmap missingBitmap() {
+    return missingRows().clone();
   }
 
   /**
@@ -605,6 +662,25 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
     return set(i, DateColumnType.missingValueIndicator());
   }
 
+  /**
+   * Returns the epoch day (the number of days since 1970-01-01) of each value, computed from the
+   * packed dates with integer arithmetic. Date arithmetic on the result is plain int arithmetic;
+   * {@link #createFromEpochDays(String, int[])} converts it back.
+   *
+   * <p>If a value is missing, DateColumnType.missingValueIndicator() is used
+   */
+  public int[] asEpochDays() {
+    int[] output = new int[data.size()];
+    for (int i = 0; i < output.length; i++) {
+      int packed = data.getInt(i);
+      output[i] =
+          valueIsMissing(packed)
+              ? DateColumnType.missingValueIndicator()
+              : (int) PackedLocalDate.toEpochDay(packed);
+    }
+    return output;
+  }
+
   public double[] asDoubleArray() {
     double[] doubles = new double[size()];
     for (int i = 0; i < size(); i++) {
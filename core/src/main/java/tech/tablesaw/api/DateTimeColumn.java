@@ -14,6 +14,8 @@
 
 package tech.tablesaw.api;
 
+import static tech.tablesaw.util.Gather.gather;
+
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntComparator;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
@@ -39,6 +41,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
@@ -46,6 +49,7 @@ import tech.tablesaw.columns.datetimes.DateTimeColumnFormatter;
 import tech.tablesaw.columns.datetimes.DateTimeColumnType;
 import tech.tablesaw.columns.datetimes.DateTimeFilters;
 import tech.tablesaw.columns.datetimes.DateTimeMapFunctions;
+import tech.tablesaw.columns.datetimes.DateTimeParser;
 import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
 import tech.tablesaw.columns.temporal.TemporalFillers;
 import tech.tablesaw.selection.Selection;
@@ -162,10 +166,9 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
   /** {@inheritDoc} */
   @Override
   public DateTimeColumn subset(final int[] rows) {
-    final DateTimeColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.appendInternal(getLongInternal(row));
-    }
+    DateTimeColumn c =
+        new DateTimeColumn(name(), LongArrayList.wrap(gather(data.elements(), data.size(), rows)));
+    c.printFormatter = printFormatter;
     return c;
   }
 
@@ -241,15 +244,27 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
   /** {@inheritDoc} */
   @Override
   public DateTimeColumn appendCell(String stringValue) {
-    return appendInternal(PackedLocalDateTime.pack(parser().parse(stringValue)));
+    return appendCell(stringValue, parser());
   }
 
   /** {@inheritDoc} */
   @Override
   public DateTimeColumn appendCell(String stringValue, AbstractColumnParser<?> parser) {
+    if (parser instanceof DateTimeParser) {
+      return appendInternal(((DateTimeParser) parser).parsePacked(stringValue));
+    }
     return appendObj(parser.parse(stringValue));
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public DateTimeColumn set(int row, String stringValue, AbstractColumnParser<?> parser) {
+    if (parser instanceof DateTimeParser) {
+      return set(row, ((DateTimeParser) parser).parsePacked(stringValue));
+    }
+    return set(row, (LocalDateTime) parser.parse(stringValue));
+  }
+
   /** {@inheritDoc} */
   @Override
   public DateTimeColumn append(LocalDateTime dateTime) {
@@ -289,6 +304,7 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
   @Override
   public DateTimeColumn appendInternal(long dateTime) {
     data.add(dateTime);
+    missingValueAppended(size() - 1);
     return this;
   }
 
@@ -333,18 +349,21 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
   @Override
   public void clear() {
     data.clear();
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -440,13 +459,13 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
   /** Returns the count of missing values in this column */
   @Override
   public int countMissing() {
-    int count = 0;
-    for (int i = 0; i < size(); i++) {
-      if (getPackedDateTime(i) == DateTimeColumnType.missingValueIndicator()) {
-        count++;
-      }
-    }
-    return count;
+    return missingRows().getCardinality();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RoaringBitmap missingBitmap() {
+    return missingRows().clone();
   }
 
   /**
@@ -466,12 +485,13 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
    */
   public long[] asEpochSecondArray(ZoneOffset offset) {
     long[] output = new long[data.size()];
+    long offsetSeconds = offset.getTotalSeconds();
     for (int i = 0; i < data.size(); i++) {
-      LocalDateTime dateTime = PackedLocalDateTime.asLocalDateTime(data.getLong(i));
-      if (dateTime == null) {
+      long packed = data.getLong(i);
+      if (valueIsMissing(packed)) {
         output[i] = DateTimeColumnType.missingValueIndicator();
       } else {
-        output[i] = dateTime.toEpochSecond(offset);
+        output[i] = Math.floorDiv(PackedLocalDateTime.toEpochMilli(packed), 1000L) - offsetSeconds;
       }
     }
     return output;
@@ -497,17 +517,36 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
    */
   public long[] asEpochMillisArray(ZoneOffset offset) {
     long[] output = new long[data.size()];
+    long offsetMillis = offset.getTotalSeconds() * 1000L;
     for (int i = 0; i < data.size(); i++) {
-      LocalDateTime dateTime = PackedLocalDateTime.asLocalDateTime(data.getLong(i));
-      if (dateTime == null) {
+      long packed = data.getLong(i);
+      if (valueIsMissing(packed)) {
         output[i] = DateTimeColumnType.missingValueIndicator();
       } else {
-        output[i] = dateTime.toInstant(offset).toEpochMilli();
+        output[i] = PackedLocalDateTime.toEpochMilli(packed) - offsetMillis;
       }
     }
     return output;
   }
 
+  /**
+   * Returns a column of the date-times at the given milliseconds from the epoch, as returned by
+   * {@link #asEpochMillisArray(ZoneOffset)}, in the given offset. Values equal to
+   * DateTimeColumnType.missingValueIndicator() are missing
+   */
+  public static DateTimeColumn createFromEpochMillis(
+      String name, long[] epochMillis, ZoneOffset offset) {
+    long offsetMillis = offset.getTotalSeconds() * 1000L;
+    long[] packed = new long[epochMillis.length];
+    for (int i = 0; i < epochMillis.length; i++) {
+      packed[i] =
+          valueIsMissing(epochMillis[i])
+              ? DateTimeColumnType.missingValueIndicator()
+              : PackedLocalDateTime.ofEpochMilli(epochMillis[i] + offsetMillis);
+    }
+    return new DateTimeColumn(name, new LongArrayList(packed));
+  }
+
   public InstantColumn asInstantColumn() {
     return asInstantColumn(ZoneOffset.UTC);
   }
@@ -536,10 +575,32 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
         column.name(),
         column.type());
     DateTimeColumn dateTimeColumn = (DateTimeColumn) column;
-    final int size = dateTimeColumn.size();
-    for (int i = 0; i < size; i++) {
-      append(dateTimeColumn.get(i));
-    }
+    // copy the backing array in bulk rather than appending value by value
+    data.addElements(data.size(), dateTimeColumn.data.elements(), 0, dateTimeColumn.size());
+    missingValuesChanged();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DateTimeColumn ensureCapacity(int capacity) {
+    data.ensureCapacity(capacity);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DateTimeColumn appendRange(Column<LocalDateTime> column, int from, int to) {
+    Preconditions.checkArgument(
+        column.type() == this.type(),
+        "Column '%s' has type %s, but column '%s' has type %s.",
+        name(),
+        type(),
+        column.name(),
+        column.type());
+    Preconditions.checkPositionIndexes(from, to, column.size());
+    data.addElements(data.size(), ((DateTimeColumn) column).data.elements(), from, to - from);
+    missingValuesChanged();
     return this;
   }
 
@@ -618,6 +679,7 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
 
   public DateTimeColumn set(int index, long value) {
     data.set(index, value);
+    missingValueUpdated(index);
     return this;
   }
 
@@ -1,6 +1,7 @@
 package tech.tablesaw.api;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static tech.tablesaw.util.Gather.gather;
 
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.doubles.*;
@@ -57,6 +58,7 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   @Override
   public void clear() {
     data.clear();
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -180,10 +182,10 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   /** {@inheritDoc} */
   @Override
   public DoubleColumn subset(int[] rows) {
-    final DoubleColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.append(getDouble(row));
-    }
+    DoubleColumn c =
+        new DoubleColumn(name(), DoubleArrayList.wrap(gather(data.elements(), data.size(), rows)));
+    c.setPrintFormatter(getPrintFormatter());
+    c.locale = locale;
     return c;
   }
 
@@ -259,17 +261,20 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   /** Adds the given float to this column */
   public DoubleColumn append(final float f) {
     data.add(f);
+    missingValueAppended(size() - 1);
     return this;
   }
 
   /** Adds the given double to this column */
   public DoubleColumn append(double d) {
     data.add(d);
+    missingValueAppended(size() - 1);
     return this;
   }
 
   public DoubleColumn append(int i) {
     data.add(i);
+    missingValueAppended(size() - 1);
     return this;
   }
 
@@ -352,6 +357,7 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
 
   public DoubleColumn set(int i, double val) {
     data.set(i, val);
+    missingValueUpdated(i);
     return this;
   }
 
@@ -385,10 +391,32 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
         column.name(),
         column.type());
     final DoubleColumn numberColumn = (DoubleColumn) column;
-    final int size = numberColumn.size();
-    for (int i = 0; i < size; i++) {
-      append(numberColumn.getDouble(i));
-    }
+    // copy the backing array in bulk rather than appending value by value
+    data.addElements(data.size(), numberColumn.data.elements(), 0, numberColumn.size());
+    missingValuesChanged();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DoubleColumn ensureCapacity(int capacity) {
+    data.ensureCapacity(capacity);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DoubleColumn appendRange(Column<Double> column, int from, int to) {
+    Preconditions.checkArgument(
+        column.type() == this.type(),
+        "Column '%s' has type %s, but column '%s' has type %s.",
+        name(),
+        type(),
+        column.name(),
+        column.type());
+    Preconditions.checkPositionIndexes(from, to, column.size());
+    data.addElements(data.size(), ((DoubleColumn) column).data.elements(), from, to - from);
+    missingValuesChanged();
     return this;
   }
 
@@ -475,12 +503,14 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   @Override
   public void sortAscending() {
     data.sort(DoubleComparators.NATURAL_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(DoubleComparators.OPPOSITE_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -1,7 +1,9 @@
 package tech.tablesaw.api;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static tech.tablesaw.util.Gather.gather;
 
+import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.floats.*;
 import java.nio.ByteBuffer;
 import java.util.HashSet;
@@ -101,10 +103,10 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   /** {@inheritDoc} */
   @Override
   public FloatColumn subset(int[] rows) {
-    final FloatColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.append(getFloat(row));
-    }
+    FloatColumn c =
+        new FloatColumn(name(), FloatArrayList.wrap(gather(data.elements(), data.size(), rows)));
+    c.setPrintFormatter(getPrintFormatter());
+    c.locale = locale;
     return c;
   }
 
@@ -136,6 +138,7 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   @Override
   public void clear() {
     data.clear();
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -211,6 +214,7 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
 
   public FloatColumn append(float i) {
     data.add(i);
+    missingValueAppended(size() - 1);
     return this;
   }
 
@@ -272,6 +276,7 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
 
   public FloatColumn set(int i, float val) {
     data.set(i, val);
+    missingValueUpdated(i);
     return this;
   }
 
@@ -292,10 +297,32 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
         column.name(),
         column.type());
     final FloatColumn numberColumn = (FloatColumn) column;
-    final int size = numberColumn.size();
-    for (int i = 0; i < size; i++) {
-      append(numberColumn.getFloat(i));
-    }
+    // copy the backing array in bulk rather than appending value by value
+    data.addElements(data.size(), numberColumn.data.elements(), 0, numberColumn.size());
+    missingValuesChanged();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public FloatColumn ensureCapacity(int capacity) {
+    data.ensureCapacity(capacity);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public FloatColumn appendRange(Column<Float> column, int from, int to) {
+    Preconditions.checkArgument(
+        column.type() == this.type(),
+        "Column '%s' has type %s, but column '%s' has type %s.",
+        name(),
+        type(),
+        column.name(),
+        column.type());
+    Preconditions.checkPositionIndexes(from, to, column.size());
+    data.addElements(data.size(), ((FloatColumn) column).data.elements(), from, to - from);
+    missingValuesChanged();
     return this;
   }
 
@@ -383,12 +410,14 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   @Override
   public void sortAscending() {
     data.sort(FloatComparators.NATURAL_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(FloatComparators.OPPOSITE_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
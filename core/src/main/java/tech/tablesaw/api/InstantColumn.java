@@ -16,6 +16,7 @@ package tech.tablesaw.api;
 
 import static tech.tablesaw.columns.temporal.TemporalPredicates.isMissing;
 import static tech.tablesaw.columns.temporal.TemporalPredicates.isNotMissing;
+import static tech.tablesaw.util.Gather.gather;
 
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntComparator;
@@ -41,12 +42,14 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.instant.InstantColumnFormatter;
 import tech.tablesaw.columns.instant.InstantColumnType;
 import tech.tablesaw.columns.instant.InstantMapFunctions;
+import tech.tablesaw.columns.instant.InstantParser;
 import tech.tablesaw.columns.instant.PackedInstant;
 import tech.tablesaw.columns.temporal.TemporalFillers;
 import tech.tablesaw.columns.temporal.TemporalFilters;
@@ -166,10 +169,9 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
   /** {@inheritDoc} */
   @Override
   public InstantColumn subset(final int[] rows) {
-    final InstantColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.appendInternal(getLongInternal(row));
-    }
+    InstantColumn c =
+        new InstantColumn(name(), LongArrayList.wrap(gather(data.elements(), data.size(), rows)));
+    c.printFormatter = printFormatter;
     return c;
   }
 
@@ -238,15 +240,27 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
   /** {@inheritDoc} */
   @Override
   public InstantColumn appendCell(String stringValue) {
-    return appendInternal(PackedInstant.pack(parser().parse(stringValue)));
+    return appendCell(stringValue, parser());
   }
 
   /** {@inheritDoc} */
   @Override
   public InstantColumn appendCell(String stringValue, AbstractColumnParser<?> parser) {
+    if (parser instanceof InstantParser) {
+      return appendInternal(((InstantParser) parser).parsePacked(stringValue));
+    }
     return appendObj(parser.parse(stringValue));
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public InstantColumn set(int row, String stringValue, AbstractColumnParser<?> parser) {
+    if (parser instanceof InstantParser) {
+      return set(row, ((InstantParser) parser).parsePacked(stringValue));
+    }
+    return set(row, (Instant) parser.parse(stringValue));
+  }
+
   /** {@inheritDoc} */
   @Override
   public InstantColumn append(Instant dateTime) {
@@ -286,6 +300,7 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
   @Override
   public InstantColumn appendInternal(long dateTime) {
     data.add(dateTime);
+    missingValueAppended(size() - 1);
     return this;
   }
 
@@ -330,18 +345,21 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
   @Override
   public void clear() {
     data.clear();
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortAscending() {
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -437,13 +455,13 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
   /** Returns the count of missing values in this column */
   @Override
   public int countMissing() {
-    int count = 0;
-    for (int i = 0; i < size(); i++) {
-      if (getPackedInstant(i) == InstantColumnType.missingValueIndicator()) {
-        count++;
-      }
-    }
-    return count;
+    return missingRows().getCardinality();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RoaringBitmap missingBitmap() {
+    return missingRows().clone();
   }
 
   /**
@@ -541,10 +559,32 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
         column.name(),
         column.type());
     InstantColumn dateTimeColumn = (InstantColumn) column;
-    final int size = dateTimeColumn.size();
-    for (int i = 0; i < size; i++) {
-      append(dateTimeColumn.get(i));
-    }
+    // copy the backing array in bulk rather than appending value by value
+    data.addElements(data.size(), dateTimeColumn.data.elements(), 0, dateTimeColumn.size());
+    missingValuesChanged();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public InstantColumn ensureCapacity(int capacity) {
+    data.ensureCapacity(capacity);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public InstantColumn appendRange(Column<Instant> column, int from, int to) {
+    Preconditions.checkArgument(
+        column.type() == this.type(),
+        "Column '%s' has type %s, but column '%s' has type %s.",
+        name(),
+        type(),
+        column.name(),
+        column.type());
+    Preconditions.checkPositionIndexes(from, to, column.size());
+    data.addElements(data.size(), ((InstantColumn) column).data.elements(), from, to - from);
+    missingValuesChanged();
     return this;
   }
 
@@ -622,6 +662,7 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
 
   public InstantColumn set(int index, long value) {
     data.set(index, value);
+    missingValueUpdated(index);
     return this;
   }
 
@@ -1,6 +1,7 @@
 package tech.tablesaw.api;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static tech.tablesaw.util.Gather.gather;
 
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.*;
@@ -108,6 +109,7 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   @Override
   public void clear() {
     data.clear();
+    missingValuesChanged();
   }
 
   public static boolean valueIsMissing(int value) {
@@ -128,10 +130,10 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   /** {@inheritDoc} */
   @Override
   public IntColumn subset(final int[] rows) {
-    final IntColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.append(getInt(row));
-    }
+    IntColumn c =
+        new IntColumn(name(), IntArrayList.wrap(gather(data.elements(), data.size(), rows)));
+    c.setPrintFormatter(getPrintFormatter());
+    c.locale = locale;
     return c;
   }
 
@@ -208,6 +210,7 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
 
   public IntColumn append(int i) {
     data.add(i);
+    missingValueAppended(size() - 1);
     return this;
   }
 
@@ -269,6 +272,7 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
 
   public IntColumn set(int i, int val) {
     data.set(i, val);
+    missingValueUpdated(i);
     return this;
   }
 
@@ -283,10 +287,32 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
         column.name(),
         column.type());
     final IntColumn numberColumn = (IntColumn) column;
-    final int size = numberColumn.size();
-    for (int i = 0; i < size; i++) {
-      append(numberColumn.getInt(i));
-    }
+    // copy the backing array in bulk rather than appending value by value
+    data.addElements(data.size(), numberColumn.data.elements(), 0, numberColumn.size());
+    missingValuesChanged();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public IntColumn ensureCapacity(int capacity) {
+    data.ensureCapacity(capacity);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public IntColumn appendRange(Column<Integer> column, int from, int to) {
+    Preconditions.checkArgument(
+        column.type() == this.type(),
+        "Column '%s' has type %s, but column '%s' has type %s.",
+        name(),
+        type(),
+        column.name(),
+        column.type());
+    Preconditions.checkPositionIndexes(from, to, column.size());
+    data.addElements(data.size(), ((IntColumn) column).data.elements(), from, to - from);
+    missingValuesChanged();
     return this;
   }
 
@@ -400,12 +426,14 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
   @Override
   public void sortAscending() {
     data.sort(IntComparators.NATURAL_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(IntComparators.OPPOSITE_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -1,11 +1,11 @@
 package tech.tablesaw.api;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static tech.tablesaw.util.Gather.gather;
 
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.longs.*;
 import java.nio.ByteBuffer;
-import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -112,6 +112,7 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
   @Override
   public void clear() {
     data.clear();
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -124,10 +125,10 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
   /** {@inheritDoc} */
   @Override
   public LongColumn subset(final int[] rows) {
-    final LongColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.append(getLong(row));
-    }
+    LongColumn c =
+        new LongColumn(name(), LongArrayList.wrap(gather(data.elements(), data.size(), rows)));
+    c.setPrintFormatter(getPrintFormatter());
+    c.locale = locale;
     return c;
   }
 
@@ -222,6 +223,7 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
 
   public LongColumn append(long i) {
     data.add(i);
+    missingValueAppended(size() - 1);
     return this;
   }
 
@@ -265,11 +267,7 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
    * @return A column of LocalDateTime values
    */
   public DateTimeColumn asDateTimes(ZoneOffset offset) {
-    DateTimeColumn column = DateTimeColumn.create(name() + ": date time");
-    for (int i = 0; i < size(); i++) {
-      column.append(Instant.ofEpochMilli(getLong(i)).atZone(offset).toLocalDateTime());
-    }
-    return column;
+    return DateTimeColumn.createFromEpochMillis(name() + ": date time", data.toLongArray(), offset);
   }
 
   /** {@inheritDoc} */
@@ -310,6 +308,7 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
 
   public LongColumn set(int i, long val) {
     data.set(i, val);
+    missingValueUpdated(i);
     return this;
   }
 
@@ -330,10 +329,32 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
         column.name(),
         column.type());
     final LongColumn numberColumn = (LongColumn) column;
-    final int size = numberColumn.size();
-    for (int i = 0; i < size; i++) {
-      append(numberColumn.getLong(i));
-    }
+    // copy the backing array in bulk rather than appending value by value
+    data.addElements(data.size(), numberColumn.data.elements(), 0, numberColumn.size());
+    missingValuesChanged();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LongColumn ensureCapacity(int capacity) {
+    data.ensureCapacity(capacity);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LongColumn appendRange(Column<Long> column, int from, int to) {
+    Preconditions.checkArgument(
+        column.type() == this.type(),
+        "Column '%s' has type %s, but column '%s' has type %s.",
+        name(),
+        type(),
+        column.name(),
+        column.type());
+    Preconditions.checkPositionIndexes(from, to, column.size());
+    data.addElements(data.size(), ((LongColumn) column).data.elements(), from, to - from);
+    missingValuesChanged();
     return this;
   }
 
@@ -448,12 +469,14 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
   @Override
   public void sortAscending() {
     data.sort(LongComparators.NATURAL_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(LongComparators.OPPOSITE_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
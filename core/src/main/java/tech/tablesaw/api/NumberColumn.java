@@ -4,6 +4,7 @@ import it.unimi.dsi.fastutil.ints.IntComparator;
 import java.text.NumberFormat;
 import java.util.Locale;
 import java.util.function.DoublePredicate;
+import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
@@ -147,12 +148,12 @@ public abstract class NumberColumn<C extends NumberColumn<C, T>, T extends Numbe
   /** Returns the count of missing values in this column */
   @Override
   public int countMissing() {
-    int count = 0;
-    for (int i = 0; i < size(); i++) {
-      if (isMissing(i)) {
-        count++;
-      }
-    }
-    return count;
+    return missingRows().getCardinality();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RoaringBitmap missingBitmap() {
+    return missingRows().clone();
   }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.api;
+
+import com.google.common.base.Preconditions;
+import java.util.Iterator;
+import java.util.Random;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Draws a uniform random sample of a fixed size from a sequence of tables, using Li's "Algorithm
+ * L". Instead of drawing a random number for every row, the sampler draws the number of rows to
+ * skip before the next one enters the sample, so the cost is proportional to the size of the sample
+ * rather than to the number of rows read, and batches that contribute no rows are not touched.
+ */
+final class ReservoirSampler {
+
+  private final int sampleSize;
+  private final Random random;
+
+  /** Li's W: the largest of the sampleSize random keys in the reservoir */
+  private double w;
+
+  /** The index, counting across all batches, of the next row to enter the full reservoir */
+  private long next;
+
+  ReservoirSampler(int sampleSize, Random random) {
+    Preconditions.checkArgument(sampleSize > 0, "The sample size must be greater than 0");
+    this.sampleSize = sampleSize;
+    this.random = random;
+    this.w = nextW(1);
+    this.next = sampleSize + skip();
+  }
+
+  /**
+   * Returns a sample of the rows of the given batches, which must all have the same columns. If
+   * there are fewer rows than the sample size, all of them are returned in order. The sample's
+   * columns grow as rows are added, so a sample size larger than the number of rows costs nothing.
+   * If there are no batches, an empty table with no columns is returned, as there are no columns to
+   * copy.
+   */
+  Table sample(Iterator<Table> batches) {
+    Table reservoir = null;
+    long seen = 0;
+    while (batches.hasNext()) {
+      Table batch = batches.next();
+      if (reservoir == null) {
+        reservoir = batch.emptyCopy();
+      }
+      int rowCount = batch.rowCount();
+      if (seen < sampleSize) {
+        int fill = (int) Math.min(rowCount, sampleSize - seen);
+        appendRange(reservoir, batch, fill);
+      }
+      while (next < seen + rowCount) {
+        replace(reservoir, random.nextInt(sampleSize), batch, (int) (next - seen));
+        w = nextW(w);
+        next += skip() + 1;
+      }
+      seen += rowCount;
+    }
+    return reservoir == null ? Table.create() : reservoir;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static void appendRange(Table reservoir, Table batch, int to) {
+    for (int c = 0; c < reservoir.columnCount(); c++) {
+      ((Column) reservoir.column(c)).appendRange(batch.column(c), 0, to);
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static void replace(Table reservoir, int slot, Table batch, int row) {
+    for (int c = 0; c < reservoir.columnCount(); c++) {
+      ((Column) reservoir.column(c)).set(slot, batch.column(c), row);
+    }
+  }
+
+  private double nextW(double w) {
+    return w * Math.exp(Math.log(uniform()) / sampleSize);
+  }
+
+  /** Returns the number of rows to pass over before the next one enters the reservoir */
+  private long skip() {
+    double skip = Math.floor(Math.log(uniform()) / Math.log(1 - w));
+    // once w is too small to represent, the next replacement is effectively never reached
+    return skip >= 0 && skip < Long.MAX_VALUE / 2 ? (long) skip : Long.MAX_VALUE / 2;
+  }
+
+  /** Returns a random number in (0, 1], so that its logarithm is finite */
+  private double uniform() {
+    return 1 - random.nextDouble();
+  }
+}
@@ -55,12 +55,7 @@ public class Row implements Iterator<Row> {
     private void throwWrongTypeError(String columnName) {
       for (int i = 0; i < columnNames.length; i++) {
         if (columnName.equals(columnNames[i])) {
-          String actualType = tableSlice.getTable().columns().get(i).type().name();
-          String proposedType = columnTypeName();
-          throw new IllegalArgumentException(
-              String.format(
-                  "Column %s is of type %s and cannot be cast to %s. Use the method for %s.",
-                  columnName, actualType, proposedType, actualType));
+          throw wrongTypeError(i, columnTypeName());
         }
       }
     }
@@ -81,6 +76,10 @@ public class Row implements Iterator<Row> {
 
   private final TableSlice tableSlice;
   private final String[] columnNames;
+
+  /** The columns of the backing table, indexed by column position */
+  private final Column<?>[] columns;
+
   private final ColumnMap<DateColumn> dateColumnMap = new ColumnMap<>();
   private final ColumnMap<DoubleColumn> doubleColumnMap = new ColumnMap<>(ColumnType.DOUBLE);
   private final ColumnMap<IntColumn> intColumnMap = new ColumnMap<>(ColumnType.INTEGER);
@@ -121,6 +120,7 @@ public class Row implements Iterator<Row> {
   public Row(TableSlice tableSlice, int rowNumber) {
     this.tableSlice = tableSlice;
     columnNames = tableSlice.columnNames().toArray(new String[0]);
+    columns = tableSlice.getTable().columns().toArray(new Column<?>[0]);
     this.rowNumber = rowNumber;
     for (Column<?> column : tableSlice.getTable().columns()) {
       if (column instanceof DoubleColumn) {
@@ -174,6 +174,23 @@ public class Row implements Iterator<Row> {
     this.rowNumber = rowNumber;
   }
 
+  /**
+   * Returns the index of the column with the given name. The index can be used with the methods
+   * that take a column index, which read and write the column directly instead of looking it up by
+   * name on every call, so resolving the name once is the fastest way to access a column in a loop
+   * over rows. An IllegalStateException is thrown if the column is not present in the Row
+   */
+  public int columnIndex(String columnName) {
+    for (int i = 0; i < columnNames.length; i++) {
+      if (columnNames[i].equalsIgnoreCase(columnName)) {
+        return i;
+      }
+    }
+    throw new IllegalStateException(
+        String.format(
+            "Column %s is not present in table %s", columnName, tableSlice.getTable().name()));
+  }
+
   /** Returns the number of columns in this Row */
   public int columnCount() {
     return tableSlice.columnCount();
@@ -186,12 +203,14 @@ public class Row implements Iterator<Row> {
 
   /** Returns a Boolean value from this Row at the given column index. */
   public Boolean getBoolean(int columnIndex) {
-    return getBoolean(columnNames[columnIndex]);
+    return typedColumn(columnIndex, BooleanColumn.class, ColumnType.BOOLEAN)
+        .get(getIndex(rowNumber));
   }
 
   /** Returns an element from a Boolean column in its internal byte form, avoiding boxing */
   public byte getBooleanAsByte(int columnIndex) {
-    return getBooleanAsByte(columnNames[columnIndex]);
+    return typedColumn(columnIndex, BooleanColumn.class, ColumnType.BOOLEAN)
+        .getByte(getIndex(rowNumber));
   }
 
   /** Returns an element from a Boolean column in its internal byte form, avoiding boxing */
@@ -223,7 +242,8 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if the column has a different type
    */
   public LocalDate getDate(int columnIndex) {
-    return dateColumnMap.get(columnNames[columnIndex]).get(getIndex(rowNumber));
+    return typedColumn(columnIndex, DateColumn.class, ColumnType.LOCAL_DATE)
+        .get(getIndex(rowNumber));
   }
 
   /**
@@ -232,7 +252,8 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type
    */
   public LocalDateTime getDateTime(int columnIndex) {
-    return getDateTime(columnNames[columnIndex]);
+    return typedColumn(columnIndex, DateTimeColumn.class, ColumnType.LOCAL_DATE_TIME)
+        .get(getIndex(rowNumber));
   }
 
   /**
@@ -250,7 +271,8 @@ public class Row implements Iterator<Row> {
    * it has a different type
    */
   public Instant getInstant(int columnIndex) {
-    return getInstant(columnNames[columnIndex]);
+    return typedColumn(columnIndex, InstantColumn.class, ColumnType.INSTANT)
+        .get(getIndex(rowNumber));
   }
 
   /**
@@ -268,7 +290,8 @@ public class Row implements Iterator<Row> {
    * has a different type
    */
   public double getDouble(int columnIndex) {
-    return getDouble(columnNames[columnIndex]);
+    return typedColumn(columnIndex, DoubleColumn.class, ColumnType.DOUBLE)
+        .getDouble(getIndex(rowNumber));
   }
 
   /**
@@ -286,7 +309,8 @@ public class Row implements Iterator<Row> {
    * has a different type
    */
   public float getFloat(int columnIndex) {
-    return getFloat(columnNames[columnIndex]);
+    return typedColumn(columnIndex, FloatColumn.class, ColumnType.FLOAT)
+        .getFloat(getIndex(rowNumber));
   }
 
   /**
@@ -304,7 +328,8 @@ public class Row implements Iterator<Row> {
    * has a different type
    */
   public int getInt(int columnIndex) {
-    return getInt(columnNames[columnIndex]);
+    return typedColumn(columnIndex, IntColumn.class, ColumnType.INTEGER)
+        .getInt(getIndex(rowNumber));
   }
 
   /**
@@ -322,7 +347,7 @@ public class Row implements Iterator<Row> {
    * has a different type
    */
   public long getLong(int columnIndex) {
-    return getLong(columnNames[columnIndex]);
+    return typedColumn(columnIndex, LongColumn.class, ColumnType.LONG).getLong(getIndex(rowNumber));
   }
 
   /**
@@ -347,7 +372,7 @@ public class Row implements Iterator<Row> {
    * An IllegalStateException is thrown if the column is not present in the Row
    */
   public Object getObject(int columnIndex) {
-    return columnMap.get(columnNames[columnIndex]).get(getIndex(rowNumber));
+    return columns[columnIndex].get(getIndex(rowNumber));
   }
 
   /**
@@ -365,7 +390,8 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public int getPackedDate(int columnIndex) {
-    return dateColumnMap.get(columnNames[columnIndex]).getIntInternal(getIndex(rowNumber));
+    return typedColumn(columnIndex, DateColumn.class, ColumnType.LOCAL_DATE)
+        .getIntInternal(getIndex(rowNumber));
   }
 
   /**
@@ -374,7 +400,8 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public long getPackedInstant(int columnIndex) {
-    return instantColumnMap.get(columnNames[columnIndex]).getLongInternal(getIndex(rowNumber));
+    return typedColumn(columnIndex, InstantColumn.class, ColumnType.INSTANT)
+        .getLongInternal(getIndex(rowNumber));
   }
 
   /**
@@ -401,7 +428,8 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public long getPackedDateTime(int columnIndex) {
-    return dateTimeColumnMap.get(columnNames[columnIndex]).getLongInternal(getIndex(rowNumber));
+    return typedColumn(columnIndex, DateTimeColumn.class, ColumnType.LOCAL_DATE_TIME)
+        .getLongInternal(getIndex(rowNumber));
   }
 
   /**
@@ -419,7 +447,8 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public int getPackedTime(int columnIndex) {
-    return timeColumnMap.get(columnNames[columnIndex]).getIntInternal(getIndex(rowNumber));
+    return typedColumn(columnIndex, TimeColumn.class, ColumnType.LOCAL_TIME)
+        .getIntInternal(getIndex(rowNumber));
   }
 
   /**
@@ -428,7 +457,8 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public short getShort(int columnIndex) {
-    return getShort(columnNames[columnIndex]);
+    return typedColumn(columnIndex, ShortColumn.class, ColumnType.SHORT)
+        .getShort(getIndex(rowNumber));
   }
 
   /** Returns the zero-based index of the current position of this Row */
@@ -442,7 +472,7 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public String getString(int columnIndex) {
-    return getString(columnNames[columnIndex]);
+    return typedColumn(columnIndex, StringColumn.class, ColumnType.STRING).get(getIndex(rowNumber));
   }
 
   /**
@@ -469,7 +499,8 @@ public class Row implements Iterator<Row> {
    * IllegalArgumentException is thrown if it has a different type type
    */
   public LocalTime getTime(int columnIndex) {
-    return timeColumnMap.get(columnNames[columnIndex]).get(getIndex(rowNumber));
+    return typedColumn(columnIndex, TimeColumn.class, ColumnType.LOCAL_TIME)
+        .get(getIndex(rowNumber));
   }
 
   /**
@@ -488,6 +519,11 @@ public class Row implements Iterator<Row> {
     return x.isMissing(i);
   }
 
+  /** Returns true if the value in the column at the given index is missing, and false otherwise */
+  public boolean isMissing(int columnIndex) {
+    return columns[columnIndex].isMissing(getIndex(rowNumber));
+  }
+
   /** Returns true if there's at least one more row beyond the current one. */
   @Override
   public boolean hasNext() {
@@ -509,7 +545,7 @@ public class Row implements Iterator<Row> {
    * the column type.
    */
   public void setMissing(int columnIndex) {
-    setMissing(columnNames[columnIndex]);
+    columns[columnIndex].setMissing(getIndex(rowNumber));
   }
 
   /**
@@ -527,7 +563,8 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setBoolean(int columnIndex, boolean value) {
-    setBoolean(columnNames[columnIndex], value);
+    typedColumn(columnIndex, BooleanColumn.class, ColumnType.BOOLEAN)
+        .set(getIndex(rowNumber), value);
   }
 
   /**
@@ -547,11 +584,13 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setDate(int columnIndex, LocalDate value) {
-    setDate(columnNames[columnIndex], value);
+    typedColumn(columnIndex, DateColumn.class, ColumnType.LOCAL_DATE)
+        .set(getIndex(rowNumber), value);
   }
 
   public void setPackedDate(int columnIndex, int value) {
-    setPackedDate(columnNames[columnIndex], value);
+    typedColumn(columnIndex, DateColumn.class, ColumnType.LOCAL_DATE)
+        .set(getIndex(rowNumber), value);
   }
 
   /**
@@ -569,15 +608,18 @@ public class Row implements Iterator<Row> {
   }
 
   public void setPackedTime(int columnIndex, int value) {
-    setPackedTime(columnNames[columnIndex], value);
+    typedColumn(columnIndex, TimeColumn.class, ColumnType.LOCAL_TIME)
+        .set(getIndex(rowNumber), value);
   }
 
   public void setPackedDateTime(int columnIndex, long value) {
-    setPackedDateTime(columnNames[columnIndex], value);
+    typedColumn(columnIndex, DateTimeColumn.class, ColumnType.LOCAL_DATE_TIME)
+        .set(getIndex(rowNumber), value);
   }
 
   public void setPackedInstant(int columnIndex, long value) {
-    setPackedInstant(columnNames[columnIndex], value);
+    typedColumn(columnIndex, InstantColumn.class, ColumnType.INSTANT)
+        .set(getIndex(rowNumber), value);
   }
 
   public void setPackedTime(String columnName, int value) {
@@ -597,7 +639,8 @@ public class Row implements Iterator<Row> {
   }
 
   public void setBooleanAsByte(int columnIndex, byte value) {
-    setBooleanAsByte(columnNames[columnIndex], value);
+    typedColumn(columnIndex, BooleanColumn.class, ColumnType.BOOLEAN)
+        .set(getIndex(rowNumber), value);
   }
 
   /**
@@ -607,7 +650,8 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setDateTime(int columnIndex, LocalDateTime value) {
-    setDateTime(columnNames[columnIndex], value);
+    typedColumn(columnIndex, DateTimeColumn.class, ColumnType.LOCAL_DATE_TIME)
+        .set(getIndex(rowNumber), value);
   }
 
   /**
@@ -627,7 +671,8 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setInstant(int columnIndex, Instant value) {
-    setInstant(columnNames[columnIndex], value);
+    typedColumn(columnIndex, InstantColumn.class, ColumnType.INSTANT)
+        .set(getIndex(rowNumber), value);
   }
 
   /**
@@ -647,7 +692,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setDouble(int columnIndex, double value) {
-    setDouble(columnNames[columnIndex], value);
+    typedColumn(columnIndex, DoubleColumn.class, ColumnType.DOUBLE).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -667,7 +712,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setFloat(int columnIndex, float value) {
-    setFloat(columnNames[columnIndex], value);
+    typedColumn(columnIndex, FloatColumn.class, ColumnType.FLOAT).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -687,7 +732,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setInt(int columnIndex, int value) {
-    setInt(columnNames[columnIndex], value);
+    typedColumn(columnIndex, IntColumn.class, ColumnType.INTEGER).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -707,7 +752,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setLong(int columnIndex, long value) {
-    setLong(columnNames[columnIndex], value);
+    typedColumn(columnIndex, LongColumn.class, ColumnType.LONG).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -727,7 +772,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setShort(int columnIndex, short value) {
-    setShort(columnNames[columnIndex], value);
+    typedColumn(columnIndex, ShortColumn.class, ColumnType.SHORT).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -747,7 +792,7 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setString(int columnIndex, String value) {
-    setString(columnNames[columnIndex], value);
+    typedColumn(columnIndex, StringColumn.class, ColumnType.STRING).set(getIndex(rowNumber), value);
   }
 
   /**
@@ -767,7 +812,8 @@ public class Row implements Iterator<Row> {
    * signature
    */
   public void setTime(int columnIndex, LocalTime value) {
-    setTime(columnNames[columnIndex], value);
+    typedColumn(columnIndex, TimeColumn.class, ColumnType.LOCAL_TIME)
+        .set(getIndex(rowNumber), value);
   }
 
   /**
@@ -809,6 +855,32 @@ public class Row implements Iterator<Row> {
     return tableSlice.column(columnIndex);
   }
 
+  /** Returns the column of the backing table at the given index */
+  Column<?> backingColumn(int columnIndex) {
+    return columns[columnIndex];
+  }
+
+  /**
+   * Returns the column at the given index as the given class. An IllegalArgumentException is thrown
+   * if the column has a different type
+   */
+  private <T extends Column<?>> T typedColumn(
+      int columnIndex, Class<T> columnClass, ColumnType columnType) {
+    Column<?> column = columns[columnIndex];
+    if (!columnClass.isInstance(column)) {
+      throw wrongTypeError(columnIndex, columnType.name());
+    }
+    return columnClass.cast(column);
+  }
+
+  private IllegalArgumentException wrongTypeError(int columnIndex, String proposedType) {
+    String actualType = columns[columnIndex].type().name();
+    return new IllegalArgumentException(
+        String.format(
+            "Column %s is of type %s and cannot be cast to %s. Use the method for %s.",
+            columnNames[columnIndex], actualType, proposedType, actualType));
+  }
+
   /** Returns true if every value is equal to the corresponding value in the given row */
   @Override
   public boolean equals(Object obj) {
@@ -821,8 +893,10 @@ public class Row implements Iterator<Row> {
       return false;
     }
 
-    for (int columnIndex = 0; columnIndex < columnCount(); columnIndex++) {
-      if (!column(columnIndex).equals(getRowNumber(), other.getRowNumber())) {
+    int row1 = getIndex(getRowNumber());
+    int row2 = getIndex(other.getRowNumber());
+    for (Column<?> column : columns) {
+      if (!column.equals(row1, row2)) {
         return false;
       }
     }
@@ -832,14 +906,10 @@ public class Row implements Iterator<Row> {
   /** Returns a hash computed on the values in the backing table at this row */
   @Override
   public int hashCode() {
-    int[] values = new int[columnCount()];
-    for (int i = 0; i < columnCount(); i++) {
-      Column<?> column = tableSlice.column(i);
-      values[i] = column.valueHash(rowNumber);
-    }
+    int row = getIndex(rowNumber);
     int result = 1;
-    for (int hash : values) {
-      result = 31 * result + hash;
+    for (Column<?> column : columns) {
+      result = 31 * result + column.valueHash(row);
     }
     return result;
   }
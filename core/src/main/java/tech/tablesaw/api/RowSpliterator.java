@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.api;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A Spliterator over a range of rows in a table. Each split gets its own {@link Row} cursor, so the
+ * splits can be traversed on different threads. As with {@link Table#iterator()}, a single Row is
+ * moved from row to row within a split, and must not be retained after it has been consumed.
+ */
+final class RowSpliterator implements Spliterator<Row> {
+
+  /** Ranges smaller than this are not split further */
+  private static final int MIN_SPLIT_SIZE = 1024;
+
+  private final Table table;
+  private int current;
+  private final int end;
+  private Row row;
+
+  RowSpliterator(Table table, int start, int end) {
+    this.table = table;
+    this.current = start;
+    this.end = end;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Row> action) {
+    if (current >= end) {
+      return false;
+    }
+    Row cursor = cursor();
+    cursor.at(current++);
+    action.accept(cursor);
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super Row> action) {
+    if (current >= end) {
+      return;
+    }
+    Row cursor = cursor();
+    for (; current < end; current++) {
+      cursor.at(current);
+      action.accept(cursor);
+    }
+  }
+
+  @Override
+  public Spliterator<Row> trySplit() {
+    int size = end - current;
+    if (size < MIN_SPLIT_SIZE) {
+      return null;
+    }
+    int mid = current + size / 2;
+    RowSpliterator prefix = new RowSpliterator(table, current, mid);
+    current = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return end - current;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED | NONNULL;
+  }
+
+  /** Returns this split's Row, creating it on first use so that splits are cheap to make */
+  private Row cursor() {
+    if (row == null) {
+      row = new Row(table);
+    }
+    return row;
+  }
+}
@@ -1,5 +1,7 @@
 package tech.tablesaw.api;
 
+import static tech.tablesaw.util.Gather.gather;
+
 import com.google.common.base.Preconditions;
 import com.google.common.primitives.Shorts;
 import it.unimi.dsi.fastutil.ints.IntRBTreeSet;
@@ -103,10 +105,10 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
   /** {@inheritDoc} */
   @Override
   public ShortColumn subset(final int[] rows) {
-    final ShortColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.append(getShort(row));
-    }
+    ShortColumn c =
+        new ShortColumn(name(), ShortArrayList.wrap(gather(data.elements(), data.size(), rows)));
+    c.setPrintFormatter(getPrintFormatter());
+    c.locale = locale;
     return c;
   }
 
@@ -138,6 +140,7 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
   @Override
   public void clear() {
     data.clear();
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -214,6 +217,7 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
 
   public ShortColumn append(short i) {
     data.add(i);
+    missingValueAppended(size() - 1);
     return this;
   }
 
@@ -287,6 +291,7 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
 
   public ShortColumn set(int i, short val) {
     data.set(i, val);
+    missingValueUpdated(i);
     return this;
   }
 
@@ -307,10 +312,32 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
         column.name(),
         column.type());
     final ShortColumn numberColumn = (ShortColumn) column;
-    final int size = numberColumn.size();
-    for (int i = 0; i < size; i++) {
-      append(numberColumn.getShort(i));
-    }
+    // copy the backing array in bulk rather than appending value by value
+    data.addElements(data.size(), numberColumn.data.elements(), 0, numberColumn.size());
+    missingValuesChanged();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ShortColumn ensureCapacity(int capacity) {
+    data.ensureCapacity(capacity);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ShortColumn appendRange(Column<Short> column, int from, int to) {
+    Preconditions.checkArgument(
+        column.type() == this.type(),
+        "Column '%s' has type %s, but column '%s' has type %s.",
+        name(),
+        type(),
+        column.name(),
+        column.type());
+    Preconditions.checkPositionIndexes(from, to, column.size());
+    data.addElements(data.size(), ((ShortColumn) column).data.elements(), from, to - from);
+    missingValuesChanged();
     return this;
   }
 
@@ -425,12 +452,14 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
   @Override
   public void sortAscending() {
     data.sort(ShortComparators.NATURAL_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(ShortComparators.OPPOSITE_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -59,6 +59,7 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
   @Override
   public StringColumn appendMissing() {
     data.appendMissing();
+    valuesChanged();
     return this;
   }
 
@@ -178,12 +179,14 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
   @Override
   public void sortAscending() {
     data.sortAscending();
+    valuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sortDescending();
+    valuesChanged();
   }
 
   /**
@@ -259,6 +262,7 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
   @Override
   public void clear() {
     data.clear();
+    valuesChanged();
   }
 
   /** {@inheritDoc} */
@@ -330,6 +334,7 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
         throw new IllegalStateException(e);
       }
     }
+    valuesChanged();
     return this;
   }
 
@@ -447,6 +452,17 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
     return subset(selection.toArray());
   }
 
+  /**
+   * Returns a column of the values at the given rows. The keys of the rows are copied, along with
+   * the dictionary entries they use, so no strings are looked up or hashed.
+   */
+  @Override
+  public StringColumn subset(int[] rows) {
+    StringColumn c = createInternal(name(), data.subset(rows));
+    c.setPrintFormatter(getPrintFormatter());
+    return c;
+  }
+
   /** {@inheritDoc} */
   @Override
   public StringColumn copy() {
@@ -470,6 +486,25 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
         type(),
         column.name(),
         column.type());
+    if (column instanceof StringColumn) {
+      DictionaryMap source = ((StringColumn) column).data;
+      if (!(source instanceof NullDictionaryMap)) {
+        // merge the dictionaries, promoting this column until it has enough keys
+        while (true) {
+          try {
+            data.append(source);
+            valuesChanged();
+            return this;
+          } catch (NoKeysAvailableException ex) {
+            DictionaryMap promoted = data.promoteYourself();
+            if (promoted == data) {
+              throw new IllegalStateException(ex);
+            }
+            data = promoted;
+          }
+        }
+      }
+    }
     final int size = column.size();
     for (int i = 0; i < size; i++) {
       append(column.getString(i));
@@ -533,6 +568,7 @@ public class StringColumn extends AbstractColumn<StringColumn, String>
         throw new IllegalStateException(e);
       }
     }
+    valuesChanged();
     return this;
   }
 
@@ -27,7 +27,6 @@ import com.google.common.primitives.Ints;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntArrays;
 import it.unimi.dsi.fastutil.ints.IntComparator;
@@ -38,16 +37,23 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.aggregate.CrossTab;
 import tech.tablesaw.aggregate.PivotTable;
 import tech.tablesaw.aggregate.Summarizer;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.index.BitmapIndex;
+import tech.tablesaw.index.Index;
+import tech.tablesaw.index.TableIndexes;
 import tech.tablesaw.io.DataFrameReader;
 import tech.tablesaw.io.DataFrameWriter;
 import tech.tablesaw.io.DataReader;
@@ -59,11 +65,14 @@ import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 import tech.tablesaw.sorting.Sort;
 import tech.tablesaw.sorting.SortUtils;
+import tech.tablesaw.sorting.TopN;
 import tech.tablesaw.sorting.comparators.IntComparatorChain;
+import tech.tablesaw.table.MeltedView;
 import tech.tablesaw.table.Relation;
 import tech.tablesaw.table.StandardTableSliceGroup;
 import tech.tablesaw.table.TableSlice;
 import tech.tablesaw.table.TableSliceGroup;
+import tech.tablesaw.util.GroupIds;
 
 /**
  * A table of data, consisting of some number of columns, each of which has the same number of rows.
@@ -87,10 +96,19 @@ public class Table extends Relation implements Iterable<Row> {
   /** The name of the table */
   private String name;
 
+  /** The indexes on this table's columns, which filters passed to where() use when they can */
+  private final TableIndexes indexes = new TableIndexes();
+
   // standard column names for melt and cast operations
   public static final String MELT_VARIABLE_COLUMN_NAME = "variable";
   public static final String MELT_VALUE_COLUMN_NAME = "value";
 
+  /** The number of rows above which the columns of a table are copied in parallel */
+  private static final int PARALLEL_GATHER_ROWS = 100_000;
+
+  /** The number of rows above which the strata of a stratified sample are drawn in parallel */
+  private static final int PARALLEL_SAMPLE_ROWS = 100_000;
+
   /** Returns a new table */
   private Table() {}
 
@@ -542,6 +560,18 @@ public class Table extends Relation implements Iterable<Row> {
     }
   }
 
+  /**
+   * Returns a new table of the given rows, in the order given. Each column copies its values with
+   * {@link Column#subset(int[])}, which gathers primitive values and dictionary keys in bulk. The
+   * columns of large tables are copied in parallel.
+   */
+  private Table gather(int[] rows) {
+    Stream<Column<?>> columns =
+        rows.length >= PARALLEL_GATHER_ROWS ? columnList.parallelStream() : columnList.stream();
+    List<Column<?>> gathered = columns.map(column -> column.subset(rows)).collect(toList());
+    return new Table(name, gathered);
+  }
+
   /**
    * Returns {@code true} if the row {@code rowNumber} in {@code table1} holds the same values than
    * the row at {@code rowNumber} in {@code table2}. Returns {@code false} if the number of columns
@@ -596,22 +626,76 @@ public class Table extends Relation implements Iterable<Row> {
    *     parameter, and the second table having the balance of the rows
    */
   public Table[] stratifiedSampleSplit(CategoricalColumn<?> column, double table1Proportion) {
+    return stratifiedSampleSplit(column, table1Proportion, new Random());
+  }
+
+  /**
+   * Splits the table into two stratified samples, like {@link
+   * #stratifiedSampleSplit(CategoricalColumn, double)}, using the given source of randomness. A
+   * seed is drawn from it for each stratum in turn, so the split is the same for the same seed
+   * whether or not the strata are sampled in parallel.
+   *
+   * @param column the column to be used for the stratified sampling
+   * @param table1Proportion The proportion to go in the first table
+   * @param random The source of randomness
+   * @return An array two tables, with the first table having the proportion specified in the method
+   *     parameter, and the second table having the balance of the rows
+   */
+  public Table[] stratifiedSampleSplit(
+      CategoricalColumn<?> column, double table1Proportion, Random random) {
     Preconditions.checkArgument(
         containsColumn(column),
         "The categorical column must be part of the table, you can create a string column and add it to this table before sampling.");
-    final Table first = emptyCopy();
-    final Table second = emptyCopy();
-
-    splitOn(column)
-        .asTableList()
-        .forEach(
-            tab -> {
-              Table[] splits = tab.sampleSplit(table1Proportion);
-              first.append(splits[0]);
-              second.append(splits[1]);
-            });
+    Preconditions.checkArgument(
+        table1Proportion <= 1 && table1Proportion >= 0,
+        "The sample proportion must be between 0 and 1");
+
+    // Hash the strata once, then bucket the rows of each stratum together with a counting sort
+    GroupIds strata = GroupIds.of(column);
+    int[] ids = strata.ids();
+    int[] counts = strata.counts();
+    int[] starts = new int[counts.length + 1];
+    for (int id = 0; id < counts.length; id++) {
+      starts[id + 1] = starts[id] + counts[id];
+    }
+    int[] rows = new int[ids.length];
+    int[] next = Arrays.copyOf(starts, counts.length);
+    for (int row = 0; row < ids.length; row++) {
+      rows[next[ids[row]]++] = row;
+    }
 
-    return new Table[] {first, second};
+    // Each stratum draws its share with a partial Fisher-Yates shuffle of its own rows, using its
+    // own seed. The strata are disjoint, so large tables can sample them in parallel
+    long[] seeds = new long[counts.length];
+    for (int id = 0; id < seeds.length; id++) {
+      seeds[id] = random.nextLong();
+    }
+    boolean[] inFirst = new boolean[ids.length];
+    IntStream strataIds = IntStream.range(0, counts.length);
+    if (ids.length >= PARALLEL_SAMPLE_ROWS) {
+      strataIds = strataIds.parallel();
+    }
+    strataIds.forEach(
+        id -> {
+          SplittableRandom stratumRandom = new SplittableRandom(seeds[id]);
+          int from = starts[id];
+          int size = counts[id];
+          int sampleSize = (int) Math.round(size * table1Proportion);
+          for (int i = 0; i < sampleSize; i++) {
+            int j = from + i + stratumRandom.nextInt(size - i);
+            int row = rows[j];
+            rows[j] = rows[from + i];
+            rows[from + i] = row;
+            inFirst[row] = true;
+          }
+        });
+
+    Selection first = new BitmapBackedSelection();
+    Selection second = new BitmapBackedSelection();
+    for (int row = 0; row < inFirst.length; row++) {
+      (inFirst[row] ? first : second).add(row);
+    }
+    return new Table[] {where(first), where(second)};
   }
 
   /**
@@ -640,6 +724,66 @@ public class Table extends Relation implements Iterable<Row> {
     return where(selectNRowsAtRandom(nRows, rowCount()));
   }
 
+  /**
+   * Returns a sample made of whole blocks of consecutive rows, chosen at random. The table is
+   * divided into blocks of {@code blockSize} rows (the last may be shorter), and the given
+   * proportion of the blocks is kept, in their original order. Each block is copied into the result
+   * as a single range, which is much cheaper than gathering rows one at a time, and keeps rows that
+   * are close together, such as the readings of a time series, together in the sample.
+   *
+   * @param blockSize The number of consecutive rows in each block
+   * @param proportion The proportion of the blocks to go in the sample
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Table sampleBlocks(int blockSize, double proportion) {
+    Preconditions.checkArgument(blockSize > 0, "The block size must be greater than 0");
+    Preconditions.checkArgument(
+        proportion <= 1 && proportion >= 0, "The sample proportion must be between 0 and 1");
+
+    int rowCount = rowCount();
+    int blockCount = (int) ((rowCount + (long) blockSize - 1) / blockSize);
+    int sampleSize = (int) Math.round(blockCount * proportion);
+    Table sample = emptyCopy();
+    if (sampleSize == 0) {
+      return sample;
+    }
+    int[] blocks = selectNRowsAtRandom(sampleSize, blockCount).toArray();
+    Arrays.sort(blocks);
+    for (int c = 0; c < columnCount(); c++) {
+      Column column = sample.column(c);
+      Column source = column(c);
+      column.ensureCapacity(Math.min(rowCount, sampleSize * blockSize));
+      for (int block : blocks) {
+        int from = block * blockSize;
+        column.appendRange(source, from, Math.min(rowCount, from + blockSize));
+      }
+    }
+    return sample;
+  }
+
+  /**
+   * Returns a table of {@code sampleSize} rows chosen uniformly at random from the given batches,
+   * which must all have the same columns, such as the batches of a large file or query result. Each
+   * batch is read once and only the sample is kept, so the batches may hold many more rows than fit
+   * in memory. If there are fewer rows than the sample size, all of them are returned. If there are
+   * no batches, an empty table with no name and no columns is returned, as there is no table whose
+   * columns could be copied.
+   *
+   * @param batches The tables to sample from
+   * @param sampleSize The number of rows to go in the sample
+   */
+  public static Table reservoirSample(Iterator<Table> batches, int sampleSize) {
+    return reservoirSample(batches, sampleSize, new Random());
+  }
+
+  /**
+   * Returns a table of {@code sampleSize} rows chosen uniformly at random from the given batches,
+   * using the given source of randomness. See {@link #reservoirSample(Iterator, int)}
+   */
+  public static Table reservoirSample(Iterator<Table> batches, int sampleSize, Random random) {
+    return new ReservoirSampler(sampleSize, random).sample(batches);
+  }
+
   /** Clears all the data from this table */
   @Override
   public void clear() {
@@ -721,24 +865,16 @@ public class Table extends Relation implements Iterable<Row> {
    * thread, as is required for using Comparator<Row>
    */
   private Table sortOn(IntComparator rowComparator) {
-    Table newTable = emptyCopy(rowCount());
-
     int[] newRows = rows();
     IntArrays.mergeSort(newRows, rowComparator);
-
-    copyRowsToTable(newRows, newTable);
-    return newTable;
+    return gather(newRows);
   }
 
   /** Returns a copy of this table sorted in parallel using the given comparator */
   private Table parallelSortOn(IntComparator rowComparator) {
-    Table newTable = emptyCopy(rowCount());
-
     int[] newRows = rows();
     IntArrays.parallelQuickSort(newRows, rowComparator);
-
-    copyRowsToTable(newRows, newTable);
-    return newTable;
+    return gather(newRows);
   }
 
   /** Returns a copy of this table sorted using the given comparator */
@@ -754,6 +890,47 @@ public class Table extends Relation implements Iterable<Row> {
             });
   }
 
+  /**
+   * Returns a new table of the first n rows of this table in the order of the given key, as {@code
+   * sortOn(key).first(n)} would, but without sorting the other rows or copying them. Rows that
+   * compare equal are kept in the order they have in this table.
+   */
+  public Table topN(int n, Sort key) {
+    Preconditions.checkArgument(!key.isEmpty());
+    IntComparator comparator = TopN.comparator(this, key);
+    return gather(TopN.first(IntStream.range(0, rowCount()).iterator(), n, comparator));
+  }
+
+  /**
+   * Returns a new table of the n rows of this table that come last in the order of the given key,
+   * last first. It is {@code topN(n, key)} with the key reversed, so among rows that compare equal
+   * those earlier in this table are taken and listed first. The other rows are neither sorted nor
+   * copied.
+   */
+  public Table bottomN(int n, Sort key) {
+    Preconditions.checkArgument(!key.isEmpty());
+    IntComparator comparator = TopN.comparator(this, key);
+    return gather(TopN.last(IntStream.range(0, rowCount()).iterator(), n, comparator));
+  }
+
+  /**
+   * Returns a new table of the n rows with the largest values in the given columns, largest first,
+   * as {@code sortDescendingOn(columnNames).first(n)} would, but without sorting the whole table
+   */
+  public Table topN(int n, String... columnNames) {
+    return topN(n, getSort(columnNames));
+  }
+
+  /**
+   * Returns a new table of the n rows with the smallest values in the given columns, smallest
+   * first, as {@code sortAscendingOn(columnNames).first(n)} would, but without sorting the whole
+   * table. Like {@link #topN(int, String...)}, it orders the columns descending, so it is {@link
+   * #bottomN(int, Sort)} with a descending key on the columns.
+   */
+  public Table bottomN(int n, String... columnNames) {
+    return bottomN(n, getSort(columnNames));
+  }
+
   /** Returns an array of ints of the same number of rows as the table */
   private int[] rows() {
     int[] rowIndexes = new int[rowCount()];
@@ -835,18 +1012,74 @@ public class Table extends Relation implements Iterable<Row> {
     return where(Selection.withoutRange(0, rowCount(), rowStart, rowEnd));
   }
 
+  /**
+   * Returns a lazy view of this table. Filtering, sorting and taking ranges of the view produce
+   * other views of this table's rows without copying any columns, until the result is {@link
+   * TableSlice#materialize() materialized}. For example, {@code
+   * table.view().where(filter).inRange(0, 10).materialize()} copies only ten rows.
+   *
+   * <p>The view is only good until the structure of this table changes.
+   */
+  public TableSlice view() {
+    return new TableSlice(this);
+  }
+
   /** Returns a table containing the rows contained in the given Selection */
   public Table where(Selection selection) {
-    Table newTable = this.emptyCopy(selection.size());
-    copyRowsToTable(selection, newTable);
-    return newTable;
+    return gather(selection.toArray());
   }
 
-  /** Returns a new Table made by applying the given function to this table */
+  /**
+   * Returns a new Table made by applying the given function to this table. The equality and range
+   * filters built with {@link QuerySupport} use the {@link #createIndex(String) indexes} on their
+   * columns when they select few enough rows.
+   */
   public Table where(Function<Table, Selection> selection) {
     return where(selection.apply(this));
   }
 
+  /**
+   * Builds an index on the named number, date or string column, and returns this table. Equality
+   * and range filters on the column, given to {@link #where(Function)}, look their rows up in the
+   * index instead of scanning the column when few enough rows match. The index is rebuilt when it's
+   * next needed after the column changes.
+   *
+   * @throws IllegalArgumentException if the column has some other type
+   */
+  public Table createIndex(String columnName) {
+    indexes.create(column(columnName));
+    return this;
+  }
+
+  /**
+   * Builds a {@link BitmapIndex} on the named categorical column, and returns this table. It suits
+   * columns with few distinct values: equality filters on a string column read their rows from it,
+   * and {@link #countBy(String...)} on the column counts its rows from the bitmaps. The index is
+   * rebuilt when it's next needed after the column changes.
+   *
+   * @throws ClassCastException if the column is not categorical
+   */
+  public Table createBitmapIndex(String columnName) {
+    indexes.createBitmap(categoricalColumn(columnName));
+    return this;
+  }
+
+  /** Discards the index on the named column, if it has one, and returns this table */
+  public Table dropIndex(String columnName) {
+    indexes.remove(column(columnName));
+    return this;
+  }
+
+  /** Returns true if the named column has an index */
+  public boolean hasIndex(String columnName) {
+    return indexes.contains(column(columnName));
+  }
+
+  /** Returns the indexes on this table's columns */
+  public TableIndexes indexes() {
+    return indexes;
+  }
+
   /**
    * Returns a new Table made by EXCLUDING any rows returned when the given function is applied to
    * this table
@@ -860,9 +1093,7 @@ public class Table extends Relation implements Iterable<Row> {
     Selection opposite = new BitmapBackedSelection();
     opposite.addRange(0, rowCount());
     opposite.andNot(selection);
-    Table newTable = this.emptyCopy(opposite.size());
-    copyRowsToTable(opposite, newTable);
-    return newTable;
+    return gather(opposite.toArray());
   }
 
   /**
@@ -950,9 +1181,9 @@ public class Table extends Relation implements Iterable<Row> {
     // the hashmap contains the hash, make sure the actual row values match
     IntArrayList matchingKeys = uniqueHashes.get(hash);
 
+    int rowNumber = row.getBackingRowNumber();
     for (int key : matchingKeys) {
-      Row oldRow = this.row(key);
-      if (row.equals(oldRow)) {
+      if (rowValuesEqual(rowNumber, key)) {
         return true;
       }
     }
@@ -960,40 +1191,50 @@ public class Table extends Relation implements Iterable<Row> {
     return false;
   }
 
+  /** Returns true if every column holds equal values at the two given rows */
+  private boolean rowValuesEqual(int row1, int row2) {
+    for (Column<?> column : columnList) {
+      if (!column.equals(row1, row2)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Returns the unique records in this table, such that any record that appears more than once in
    * this table, appears only once in the returned table.
    */
   public Table dropDuplicateRows() {
-    Table temp = emptyCopy();
-    Int2ObjectMap<IntArrayList> uniqueHashes = new Int2ObjectOpenHashMap<>();
-    for (Row row : this) {
-      if (!isDuplicate(row, uniqueHashes)) {
-        temp.append(row);
-      }
+    return distinctOn(columnList.toArray(new Column<?>[0]));
+  }
+
+  /**
+   * Returns a table containing the first row for each distinct combination of values in the named
+   * columns. The rows keep their order, and all the columns of this table are included. Missing
+   * values are treated as equal to each other.
+   */
+  public Table distinctOn(String... columnNames) {
+    Preconditions.checkArgument(columnNames.length > 0, "At least one column must be provided");
+    return distinctOn(columns(columnNames).toArray(new Column<?>[0]));
+  }
+
+  private Table distinctOn(Column<?>[] columns) {
+    if (columns.length == 0 || rowCount() == 0) {
+      return emptyCopy();
     }
-    return temp;
+    return where(Selection.with(GroupIds.of(columns).firstRows()));
   }
 
   /** Returns only those records in this table that have no columns with missing values */
   public Table dropRowsWithMissingValues() {
-
-    Selection missing = new BitmapBackedSelection();
-
-    for (int row = 0; row < rowCount(); row++) {
-      for (int col = 0; col < columnCount(); col++) {
-        Column<?> c = column(col);
-        if (c.isMissing(row)) {
-          missing.add(row);
-          break;
-        }
-      }
+    RoaringBitmap missing = new RoaringBitmap();
+    for (Column<?> column : columnList) {
+      missing.or(column.missingBitmap());
     }
     Selection notMissing = Selection.withRange(0, rowCount());
-    notMissing.andNot(missing);
-    Table temp = emptyCopy(notMissing.size());
-    copyRowsToTable(notMissing, temp);
-    return temp;
+    notMissing.andNot(Selection.fromBitmap(missing));
+    return where(notMissing);
   }
 
   /**
@@ -1094,6 +1335,7 @@ public class Table extends Relation implements Iterable<Row> {
   @Override
   public Table removeColumns(Column<?>... columns) {
     columnList.removeAll(Arrays.asList(columns));
+    Arrays.stream(columns).forEach(indexes::remove);
     return this;
   }
 
@@ -1111,6 +1353,7 @@ public class Table extends Relation implements Iterable<Row> {
     List<Column<?>> retained = Arrays.asList(columns);
     columnList.clear();
     columnList.addAll(retained);
+    indexes.retain(retained);
     return this;
   }
 
@@ -1122,6 +1365,7 @@ public class Table extends Relation implements Iterable<Row> {
     List<Column<?>> retained = columns(columnIndexes);
     columnList.clear();
     columnList.addAll(retained);
+    indexes.retain(retained);
     return this;
   }
 
@@ -1133,6 +1377,7 @@ public class Table extends Relation implements Iterable<Row> {
     List<Column<?>> retained = columns(columnNames);
     columnList.clear();
     columnList.addAll(retained);
+    indexes.retain(retained);
     return this;
   }
 
@@ -1146,14 +1391,55 @@ public class Table extends Relation implements Iterable<Row> {
     return this;
   }
 
+  /**
+   * Returns this table after adding the data from each of the arguments, in order. The storage of
+   * each column is grown once to hold all the rows, and the values are then copied in bulk, column
+   * by column
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public Table appendAll(List<? extends Relation> tablesToAppend) {
+    int rowCount = rowCount();
+    for (Relation tableToAppend : tablesToAppend) {
+      rowCount += tableToAppend.rowCount();
+    }
+    for (final Column column : columnList) {
+      column.ensureCapacity(rowCount);
+      for (Relation tableToAppend : tablesToAppend) {
+        column.append(tableToAppend.column(column.name()));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns a new table holding the rows of all the given tables, one after the other. The result
+   * has the name and columns of the first table, and the other tables must have columns with the
+   * same names and types. Unlike {@link #concat(Table)}, which adds the columns of one table to
+   * another, this stacks tables with the same columns
+   *
+   * @param tables one or more tables
+   */
+  public static Table concatAll(List<Table> tables) {
+    Preconditions.checkArgument(!tables.isEmpty(), "At least one table must be provided");
+    return tables.get(0).emptyCopy().appendAll(tables);
+  }
+
   /**
    * Appends the given row to this table and returns the table.
    *
-   * <p>Note: The table is modified in-place TODO: Performance
+   * <p>Note: The table is modified in-place
    */
+  @SuppressWarnings({"rawtypes", "unchecked"})
   public Table append(Row row) {
+    int sourceRow = row.getBackingRowNumber();
     for (int i = 0; i < row.columnCount(); i++) {
-      column(i).appendObj(row.getObject(i));
+      Column source = row.backingColumn(i);
+      Column target = column(i);
+      if (target.type() == source.type()) {
+        target.append(source, sourceRow);
+      } else {
+        target.appendObj(source.get(sourceRow));
+      }
     }
     return this;
   }
@@ -1396,12 +1682,38 @@ public class Table extends Relation implements Iterable<Row> {
    *     does not * implement categorical
    */
   public Table countBy(String... categoricalColumnNames) {
+    if (categoricalColumnNames.length == 1) {
+      Index index = indexes.get(column(categoricalColumnNames[0]));
+      if (index instanceof BitmapIndex) {
+        return countByBitmaps((BitmapIndex<?>) index);
+      }
+    }
     Table t = summarize(column(0).name(), count).by(categoricalColumnNames);
     t.column(t.columnCount() - 1).setName("Count");
     t.replaceColumn("Count", (t.doubleColumn("Count").asIntColumn()));
     return t;
   }
 
+  /**
+   * Returns the counts of {@link #countBy(String...)} from the bitmaps of the grouping column's
+   * index. Like the summary, they count the values in the first column that aren't missing.
+   */
+  private Table countByBitmaps(BitmapIndex<?> index) {
+    Column<?> counted = column(0);
+    Index countedIndex = indexes.get(counted);
+    Selection present;
+    if (countedIndex == index) {
+      present = null;
+    } else if (countedIndex instanceof BitmapIndex) {
+      present = ((BitmapIndex<?>) countedIndex).isMissing().flip(0, rowCount());
+    } else {
+      present = counted.isNotMissing();
+    }
+    Table t = index.countBy(present);
+    t.setName(name() + " summary");
+    return t;
+  }
+
   /**
    * Returns a new DataFrameJoiner initialized with multiple {@code columnNames}
    *
@@ -1499,9 +1811,33 @@ public class Table extends Relation implements Iterable<Row> {
     };
   }
 
-  /** Returns the rows in this table as a Stream */
+  /**
+   * Returns the rows in this table as a Stream. The stream can be made parallel, in which case each
+   * thread traverses its own range of rows with its own {@link Row}. Within a range a single Row is
+   * moved from row to row, so it must not be retained after it has been consumed.
+   */
   public Stream<Row> stream() {
-    return Streams.stream(iterator());
+    return StreamSupport.stream(new RowSpliterator(this, 0, rowCount()), false);
+  }
+
+  /**
+   * Returns a Stream of TableSlices, each holding {@code batchSize} consecutive rows, except for
+   * the last which holds the remaining rows. The stream can be made parallel to process the batches
+   * on multiple threads.
+   *
+   * @param batchSize the maximum number of rows in each slice
+   */
+  public Stream<TableSlice> batchStream(int batchSize) {
+    Preconditions.checkArgument(batchSize > 0, "The batch size must be positive");
+    int rowCount = rowCount();
+    int batchCount = (int) (((long) rowCount + batchSize - 1) / batchSize);
+    return IntStream.range(0, batchCount)
+        .mapToObj(
+            batch -> {
+              int start = batch * batchSize;
+              int end = (int) Math.min((long) start + batchSize, rowCount);
+              return new TableSlice(this, Selection.withRange(start, end));
+            });
   }
 
   /**
@@ -1614,6 +1950,9 @@ public class Table extends Relation implements Iterable<Row> {
       IntFunction<String> columnNameExtractor,
       int startingColumn) {
 
+    if (transposeNumbers(transposed, resultColumnType, columnNameExtractor, startingColumn)) {
+      return transposed;
+    }
     for (int row = 0; row < this.rowCount(); row++) {
       String columnName = columnNameExtractor.apply(row);
       Column column = resultColumnType.create(columnName);
@@ -1626,6 +1965,95 @@ public class Table extends Relation implements Iterable<Row> {
     return transposed;
   }
 
+  /**
+   * Transposes numeric columns by copying their values directly into one primitive array per result
+   * column, and returns false if the columns are not numeric. The copy proceeds in blocks of rows,
+   * so the arrays being written stay in cache while each source column is read in order.
+   */
+  private boolean transposeNumbers(
+      Table transposed,
+      ColumnType resultColumnType,
+      IntFunction<String> columnNameExtractor,
+      int startingColumn) {
+    final int blockSize = 64;
+    int rows = rowCount();
+    int cols = columnCount() - startingColumn;
+    if (resultColumnType.equals(ColumnType.DOUBLE)) {
+      double[][] values = new double[rows][cols];
+      for (int from = 0; from < rows; from += blockSize) {
+        int to = Math.min(rows, from + blockSize);
+        for (int col = 0; col < cols; col++) {
+          DoubleColumn source = (DoubleColumn) column(col + startingColumn);
+          for (int row = from; row < to; row++) {
+            values[row][col] = source.getDouble(row);
+          }
+        }
+      }
+      for (int row = 0; row < rows; row++) {
+        transposed.addColumns(DoubleColumn.create(columnNameExtractor.apply(row), values[row]));
+      }
+    } else if (resultColumnType.equals(ColumnType.FLOAT)) {
+      float[][] values = new float[rows][cols];
+      for (int from = 0; from < rows; from += blockSize) {
+        int to = Math.min(rows, from + blockSize);
+        for (int col = 0; col < cols; col++) {
+          FloatColumn source = (FloatColumn) column(col + startingColumn);
+          for (int row = from; row < to; row++) {
+            values[row][col] = source.getFloat(row);
+          }
+        }
+      }
+      for (int row = 0; row < rows; row++) {
+        transposed.addColumns(FloatColumn.create(columnNameExtractor.apply(row), values[row]));
+      }
+    } else if (resultColumnType.equals(ColumnType.INTEGER)) {
+      int[][] values = new int[rows][cols];
+      for (int from = 0; from < rows; from += blockSize) {
+        int to = Math.min(rows, from + blockSize);
+        for (int col = 0; col < cols; col++) {
+          IntColumn source = (IntColumn) column(col + startingColumn);
+          for (int row = from; row < to; row++) {
+            values[row][col] = source.getInt(row);
+          }
+        }
+      }
+      for (int row = 0; row < rows; row++) {
+        transposed.addColumns(IntColumn.create(columnNameExtractor.apply(row), values[row]));
+      }
+    } else if (resultColumnType.equals(ColumnType.LONG)) {
+      long[][] values = new long[rows][cols];
+      for (int from = 0; from < rows; from += blockSize) {
+        int to = Math.min(rows, from + blockSize);
+        for (int col = 0; col < cols; col++) {
+          LongColumn source = (LongColumn) column(col + startingColumn);
+          for (int row = from; row < to; row++) {
+            values[row][col] = source.getLong(row);
+          }
+        }
+      }
+      for (int row = 0; row < rows; row++) {
+        transposed.addColumns(LongColumn.create(columnNameExtractor.apply(row), values[row]));
+      }
+    } else if (resultColumnType.equals(ColumnType.SHORT)) {
+      short[][] values = new short[rows][cols];
+      for (int from = 0; from < rows; from += blockSize) {
+        int to = Math.min(rows, from + blockSize);
+        for (int col = 0; col < cols; col++) {
+          ShortColumn source = (ShortColumn) column(col + startingColumn);
+          for (int row = from; row < to; row++) {
+            values[row][col] = source.getShort(row);
+          }
+        }
+      }
+      for (int row = 0; row < rows; row++) {
+        transposed.addColumns(ShortColumn.create(columnNameExtractor.apply(row), values[row]));
+      }
+    } else {
+      return false;
+    }
+    return true;
+  }
+
   /**
    * Melt implements the 'tidy' melt operation as described in these papers by Hadley Wickham.
    *
@@ -1664,77 +2092,21 @@ public class Table extends Relation implements Iterable<Row> {
    */
   public Table melt(
       List<String> idVariables, List<NumericColumn<?>> measuredVariables, boolean dropMissing) {
-
-    Table result = Table.create(name);
-    for (String idColName : idVariables) {
-      result.addColumns(column(idColName).type().create(idColName));
-    }
-    result.addColumns(
-        StringColumn.create(MELT_VARIABLE_COLUMN_NAME),
-        DoubleColumn.create(MELT_VALUE_COLUMN_NAME));
-
-    List<String> measureColumnNames =
-        measuredVariables.stream().map(Column::name).collect(Collectors.toList());
-
-    TableSliceGroup slices = splitOn(idVariables.toArray(new String[0]));
-    for (TableSlice slice : slices) {
-      for (Row row : slice) {
-        for (String colName : measureColumnNames) {
-          if (!dropMissing || !row.isMissing(colName)) {
-            writeIdVariables(idVariables, result, row);
-            result.stringColumn(MELT_VARIABLE_COLUMN_NAME).append(colName);
-            double value = row.getNumber(colName);
-            result.doubleColumn(MELT_VALUE_COLUMN_NAME).append(value);
-          }
-        }
-      }
-    }
-
-    return result;
+    return meltView(idVariables, measuredVariables, dropMissing).asTable();
   }
 
-  /** Writes one row of id variables into the result table */
-  private void writeIdVariables(List<String> idVariables, Table result, Row row) {
-    for (String id : idVariables) {
-      Column<?> resultColumn = result.column(id);
-      final ColumnType columnType = resultColumn.type();
-      if (columnType.equals(ColumnType.STRING)) {
-        StringColumn sc = (StringColumn) resultColumn;
-        sc.append(row.getString(resultColumn.name()));
-      } else if (columnType.equals(ColumnType.INTEGER)) {
-        IntColumn ic = (IntColumn) resultColumn;
-        ic.append(row.getInt(resultColumn.name()));
-      } else if (columnType.equals(ColumnType.LONG)) {
-        LongColumn ic = (LongColumn) resultColumn;
-        ic.append(row.getLong(resultColumn.name()));
-      } else if (columnType.equals(ColumnType.SHORT)) {
-        ShortColumn ic = (ShortColumn) resultColumn;
-        ic.append(row.getShort(resultColumn.name()));
-      } else if (columnType.equals(ColumnType.LOCAL_DATE)) {
-        DateColumn ic = (DateColumn) resultColumn;
-        ic.appendInternal(row.getPackedDate(resultColumn.name()));
-      } else if (columnType.equals(ColumnType.LOCAL_DATE_TIME)) {
-        DateTimeColumn ic = (DateTimeColumn) resultColumn;
-        ic.appendInternal(row.getPackedDateTime(resultColumn.name()));
-      } else if (columnType.equals(ColumnType.LOCAL_TIME)) {
-        TimeColumn ic = (TimeColumn) resultColumn;
-        ic.appendInternal(row.getPackedTime(resultColumn.name()));
-      } else if (columnType.equals(ColumnType.INSTANT)) {
-        InstantColumn ic = (InstantColumn) resultColumn;
-        ic.appendInternal(row.getPackedInstant(resultColumn.name()));
-      } else if (columnType.equals(ColumnType.BOOLEAN)) {
-        BooleanColumn ic = (BooleanColumn) resultColumn;
-        ic.append(row.getBooleanAsByte(resultColumn.name()));
-      } else if (columnType.equals(ColumnType.DOUBLE)) {
-        DoubleColumn ic = (DoubleColumn) resultColumn;
-        ic.append(row.getDouble(resultColumn.name()));
-      } else if (columnType.equals(ColumnType.FLOAT)) {
-        FloatColumn ic = (FloatColumn) resultColumn;
-        ic.append(row.getFloat(resultColumn.name()));
-      } else {
-        throw new IllegalArgumentException("melt() does not support column type " + columnType);
-      }
-    }
+  /**
+   * Returns a view of this table in the format produced by {@link #melt(List, List, boolean)},
+   * whose rows are computed on demand from this table instead of being copied. Use {@link
+   * MeltedView#asTable()} to materialize it.
+   *
+   * @param idVariables A list of column names intended to be used as identifiers
+   * @param measuredVariables A list of columns intended to be used as measured variables
+   * @param dropMissing drop any row where the value is missing
+   */
+  public MeltedView meltView(
+      List<String> idVariables, List<NumericColumn<?>> measuredVariables, boolean dropMissing) {
+    return new MeltedView(this, idVariables, measuredVariables, dropMissing);
   }
 
   /**
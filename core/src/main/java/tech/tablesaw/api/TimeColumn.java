@@ -16,6 +16,7 @@ package tech.tablesaw.api;
 
 import static tech.tablesaw.columns.DateAndTimePredicates.isMissing;
 import static tech.tablesaw.columns.DateAndTimePredicates.isNotMissing;
+import static tech.tablesaw.util.Gather.gather;
 
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
@@ -33,6 +34,7 @@ import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.columns.AbstractColumn;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.Column;
@@ -42,6 +44,7 @@ import tech.tablesaw.columns.times.TimeColumnType;
 import tech.tablesaw.columns.times.TimeFillers;
 import tech.tablesaw.columns.times.TimeFilters;
 import tech.tablesaw.columns.times.TimeMapFunctions;
+import tech.tablesaw.columns.times.TimeParser;
 import tech.tablesaw.selection.Selection;
 
 /** A column that contains int-encoded local time values */
@@ -142,10 +145,9 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
   /** {@inheritDoc} */
   @Override
   public TimeColumn subset(int[] rows) {
-    final TimeColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.appendInternal(getIntInternal(row));
-    }
+    TimeColumn c =
+        new TimeColumn(name(), IntArrayList.wrap(gather(data.elements(), data.size(), rows)));
+    c.printFormatter = printFormatter;
     return c;
   }
 
@@ -183,6 +185,7 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
 
   public TimeColumn appendInternal(int f) {
     data.add(f);
+    missingValueAppended(size() - 1);
     return this;
   }
 
@@ -282,6 +285,7 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
   @Override
   public void clear() {
     data.clear();
+    missingValuesChanged();
   }
 
   /** Returns the entire contents of this column as a list */
@@ -298,12 +302,14 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
   @Override
   public void sortAscending() {
     data.sort(IntComparators.NATURAL_COMPARATOR);
+    missingValuesChanged();
   }
 
   /** {@inheritDoc} */
   @Override
   public void sortDescending() {
     data.sort(IntComparators.OPPOSITE_COMPARATOR);
+    missingValuesChanged();
   }
 
   public LocalTime max() {
@@ -372,13 +378,13 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
   /** Returns the count of missing values in this column */
   @Override
   public int countMissing() {
-    int count = 0;
-    for (int i = 0; i < size(); i++) {
-      if (getIntInternal(i) == TimeColumnType.missingValueIndicator()) {
-        count++;
-      }
-    }
-    return count;
+    return missingRows().getCardinality();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RoaringBitmap missingBitmap() {
+    return missingRows().clone();
   }
 
   /** {@inheritDoc} */
@@ -407,16 +413,27 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
   /** {@inheritDoc} */
   @Override
   public TimeColumn appendCell(String object) {
-    appendInternal(PackedLocalTime.pack(parser().parse(object)));
-    return this;
+    return appendCell(object, parser());
   }
 
   /** {@inheritDoc} */
   @Override
   public TimeColumn appendCell(String object, AbstractColumnParser<?> parser) {
+    if (parser instanceof TimeParser) {
+      return appendInternal(((TimeParser) parser).parsePacked(object));
+    }
     return appendObj(parser.parse(object));
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public TimeColumn set(int row, String object, AbstractColumnParser<?> parser) {
+    if (parser instanceof TimeParser) {
+      return set(row, ((TimeParser) parser).parsePacked(object));
+    }
+    return set(row, (LocalTime) parser.parse(object));
+  }
+
   /** {@inheritDoc} */
   @Override
   public int getIntInternal(int index) {
@@ -472,10 +489,32 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
         column.name(),
         column.type());
     TimeColumn timeCol = (TimeColumn) column;
-    final int size = timeCol.size();
-    for (int i = 0; i < size; i++) {
-      appendInternal(timeCol.getIntInternal(i));
-    }
+    // copy the backing array in bulk rather than appending value by value
+    data.addElements(data.size(), timeCol.data.elements(), 0, timeCol.size());
+    missingValuesChanged();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TimeColumn ensureCapacity(int capacity) {
+    data.ensureCapacity(capacity);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TimeColumn appendRange(Column<LocalTime> column, int from, int to) {
+    Preconditions.checkArgument(
+        column.type() == this.type(),
+        "Column '%s' has type %s, but column '%s' has type %s.",
+        name(),
+        type(),
+        column.name(),
+        column.type());
+    Preconditions.checkPositionIndexes(from, to, column.size());
+    data.addElements(data.size(), ((TimeColumn) column).data.elements(), from, to - from);
+    missingValuesChanged();
     return this;
   }
 
@@ -549,6 +588,7 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
 
   public TimeColumn set(int index, int value) {
     data.set(index, value);
+    missingValueUpdated(index);
     return this;
   }
 
@@ -592,6 +632,7 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
   @Override
   public TimeColumn setMissing(int i) {
     data.set(i, TimeColumnType.missingValueIndicator());
+    missingValueUpdated(i);
     return this;
   }
 
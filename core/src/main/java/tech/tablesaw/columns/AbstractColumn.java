@@ -19,6 +19,8 @@ import java.util.Comparator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
+import javax.annotation.Nullable;
+import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.selection.Selection;
@@ -34,6 +36,15 @@ public abstract class AbstractColumn<C extends Column<T>, T> implements Column<T
 
   private AbstractColumnParser<T> parser;
 
+  /**
+   * The rows holding missing values, for column types that keep it up to date. It is built the
+   * first time it is needed, and is null until then or after a change it cannot follow.
+   */
+  @Nullable private volatile RoaringBitmap missingRows;
+
+  /** The number of changes made to the values, for column types that report them */
+  private int modificationCount;
+
   /**
    * Constructs a column with the given {@link ColumnType}, name, and {@link AbstractColumnParser}
    */
@@ -78,6 +89,62 @@ public abstract class AbstractColumn<C extends Column<T>, T> implements Column<T
     return type;
   }
 
+  /**
+   * Returns the bitmap of missing rows, building it if necessary. It is only valid for column types
+   * that call {@link #missingValueUpdated(int)}, {@link #missingValueAppended(int)} and {@link
+   * #missingValuesChanged()} whenever their values change, and must not be modified by the caller.
+   */
+  protected RoaringBitmap missingRows() {
+    if (missingRows == null) {
+      missingRows = Column.super.missingBitmap();
+    }
+    return missingRows;
+  }
+
+  /**
+   * Returns a number that changes whenever the column's values do, so that structures derived from
+   * them, like indexes, can tell that they are out of date. It is only meaningful for column types
+   * that report every change through {@link #valuesChanged()}, {@link #missingValueUpdated(int)},
+   * {@link #missingValueAppended(int)} or {@link #missingValuesChanged()}.
+   */
+  public int modificationCount() {
+    return modificationCount;
+  }
+
+  /** Records a change to the column's values */
+  protected void valuesChanged() {
+    modificationCount++;
+  }
+
+  /** Updates the bitmap of missing rows after the value at the given row was set */
+  protected void missingValueUpdated(int row) {
+    valuesChanged();
+    if (missingRows != null) {
+      if (isMissing(row)) {
+        missingRows.add(row);
+      } else {
+        missingRows.remove(row);
+      }
+    }
+  }
+
+  /**
+   * Updates the bitmap of missing rows after a value was appended at the given row, which can't
+   * already be in the bitmap, so it is only touched if the value is missing
+   */
+  protected void missingValueAppended(int row) {
+    valuesChanged();
+    if (missingRows != null && isMissing(row)) {
+      missingRows.add(row);
+    }
+  }
+
+  /** Discards the bitmap of missing rows after a change that may have moved values between rows */
+  protected void missingValuesChanged() {
+    valuesChanged();
+    missingRows = null;
+  }
+
   /** {@inheritDoc} */
   @Override
   public abstract Column<T> emptyCopy();
@@ -22,6 +22,7 @@ import java.util.*;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import org.roaringbitmap.RoaringBitmap;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
@@ -54,6 +55,20 @@ public interface Column<T> extends Iterable<T>, Comparator<T> {
    */
   int countMissing();
 
+  /**
+   * Returns a bitmap holding the index of every missing value in this column. The bitmap is a copy,
+   * so changing it does not affect the column.
+   */
+  default RoaringBitmap missingBitmap() {
+    RoaringBitmap missing = new RoaringBitmap();
+    for (int row = 0; row < size(); row++) {
+      if (isMissing(row)) {
+        missing.add(row);
+      }
+    }
+    return missing;
+  }
+
   /**
    * Returns the count of unique values in this column.
    *
@@ -488,6 +503,17 @@ public interface Column<T> extends Iterable<T>, Comparator<T> {
    */
   Column<T> emptyCopy(int rowSize);
 
+  /**
+   * Grows the internal storage of this column, if necessary, so that it can hold at least the given
+   * number of values without further allocation. Does nothing for columns that cannot be pre-sized.
+   *
+   * @param capacity the number of values the column should be able to hold
+   * @return this column
+   */
+  default Column<T> ensureCapacity(int capacity) {
+    return this;
+  }
+
   /**
    * Maps the function across all rows, appending the results to a new Column of the same type
    *
@@ -632,6 +658,17 @@ public interface Column<T> extends Iterable<T>, Comparator<T> {
    */
   Column<T> append(Column<T> column, int row);
 
+  /**
+   * Appends the values in the rows from {@code from} (inclusive) to {@code to} (exclusive) of the
+   * given column to the bottom of this column and returns this column
+   */
+  default Column<T> appendRange(Column<T> column, int from, int to) {
+    for (int row = from; row < to; row++) {
+      append(column, row);
+    }
+    return this;
+  }
+
   /** Appends the given value to the bottom of this column and return this column */
   Column<T> appendObj(Object value);
 
@@ -31,6 +31,7 @@ import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
 import tech.tablesaw.columns.numbers.NumberColumnFormatter;
+import tech.tablesaw.columns.times.PackedLocalTime;
 
 /** An interface for mapping operations unique to Date columns */
 public interface DateMapFunctions extends Column<LocalDate> {
@@ -250,6 +251,20 @@ public interface DateMapFunctions extends Column<LocalDate> {
 
     IntColumn newColumn = IntColumn.create(name() + " - " + end.name() + "[" + unit.name() + "]");
 
+    if (unit == ChronoUnit.DAYS || unit == ChronoUnit.WEEKS) {
+      int[] startDays = ((DateColumn) this).asEpochDays();
+      int[] endDays = end.asEpochDays();
+      int unitDays = unit == ChronoUnit.DAYS ? 1 : 7;
+      for (int r = 0; r < size(); r++) {
+        if (valueIsMissing(startDays[r]) || valueIsMissing(endDays[r])) {
+          newColumn.appendMissing();
+        } else {
+          newColumn.append((endDays[r] - startDays[r]) / unitDays);
+        }
+      }
+      return newColumn;
+    }
+
     for (int r = 0; r < size(); r++) {
       int c1 = getIntInternal(r);
       int c2 = end.getIntInternal(r);
@@ -336,6 +351,19 @@ public interface DateMapFunctions extends Column<LocalDate> {
     String newColumnName = "" + n + " " + unit.toString() + " window [" + name() + "]";
     int packedStartDate = PackedLocalDate.pack(start);
     IntColumn numberColumn = IntColumn.create(newColumnName, size());
+    if (unit == ChronoUnit.DAYS || unit == ChronoUnit.WEEKS) {
+      int[] epochDays = ((DateColumn) this).asEpochDays();
+      int startDay = (int) PackedLocalDate.toEpochDay(packedStartDate);
+      for (int i = 0; i < epochDays.length; i++) {
+        if (!valueIsMissing(epochDays[i])) {
+          // whole units between the dates, truncated toward zero, then divided into windows
+          int days = epochDays[i] - startDay;
+          numberColumn.set(i, unit == ChronoUnit.DAYS ? days / n : days / 7 / n);
+        }
+      }
+      numberColumn.setPrintFormatter(NumberColumnFormatter.ints());
+      return numberColumn;
+    }
     for (int i = 0; i < size(); i++) {
       int packedDate = getIntInternal(i);
       int result;
@@ -391,29 +419,46 @@ public interface DateMapFunctions extends Column<LocalDate> {
   }
 
   default DateTimeColumn atStartOfDay() {
-    return mapInto(
-        d -> d.atStartOfDay(), DateTimeColumn.create(this.name() + " start", this.size()));
+    return atPackedTime(PackedLocalTime.of(0, 0), this.name() + " start");
   }
 
   /**
-   * Returns a DateTime column where each value consists of the dates from this column combined with
-   * the corresponding times from the other column
+   * Returns a column with each date of this column truncated to the start of the given unit: the
+   * Monday of its week, or the first day of its month or year
    */
-  default DateTimeColumn atTime(LocalTime time) {
-    Preconditions.checkNotNull(time);
-    DateTimeColumn newColumn = DateTimeColumn.create(this.name() + " " + time.toString());
+  default DateColumn truncatedTo(ChronoUnit unit) {
+    DateColumn newColumn = DateColumn.create(name() + " truncated to " + unit, size());
+    for (int r = 0; r < size(); r++) {
+      int c1 = getIntInternal(r);
+      if (!valueIsMissing(c1)) {
+        newColumn.set(r, PackedLocalDate.truncatedTo(unit, c1));
+      }
+    }
+    return newColumn;
+  }
+
+  private DateTimeColumn atPackedTime(int packedTime, String name) {
+    DateTimeColumn newColumn = DateTimeColumn.create(name);
     for (int r = 0; r < this.size(); r++) {
       int c1 = this.getIntInternal(r);
       if (valueIsMissing(c1)) {
         newColumn.appendMissing();
       } else {
-        LocalDate value1 = PackedLocalDate.asLocalDate(c1);
-        newColumn.appendInternal(PackedLocalDateTime.pack(value1, time));
+        newColumn.appendInternal(PackedLocalDateTime.create(c1, packedTime));
       }
     }
     return newColumn;
   }
 
+  /**
+   * Returns a DateTime column where each value consists of the dates from this column combined with
+   * the corresponding times from the other column
+   */
+  default DateTimeColumn atTime(LocalTime time) {
+    Preconditions.checkNotNull(time);
+    return atPackedTime(PackedLocalTime.pack(time), this.name() + " " + time.toString());
+  }
+
   /**
    * Returns a DateTime column where each value consists of the dates from this column combined with
    * the corresponding times from the other column
@@ -9,6 +9,7 @@ import java.util.Locale;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.datetimes.DateTimeParser;
+import tech.tablesaw.columns.temporal.FastTemporalParser;
 import tech.tablesaw.io.ReadOptions;
 
 public class DateParser extends AbstractColumnParser<LocalDate> {
@@ -72,11 +73,15 @@ public class DateParser extends AbstractColumnParser<LocalDate> {
   private Locale locale = Locale.getDefault();
   private DateTimeFormatter formatter = DEFAULT_FORMATTER;
 
+  /** Parses the numeric layouts of the default formatter; null if a custom formatter is used */
+  private FastTemporalParser fastParser = new FastTemporalParser(FastTemporalParser.Kind.DATE);
+
   public DateParser(ColumnType type, ReadOptions readOptions) {
     super(type);
     DateTimeFormatter readCsvFormatter = readOptions.dateFormatter();
     if (readCsvFormatter != null) {
       formatter = readCsvFormatter;
+      fastParser = null;
     }
     if (readOptions.locale() != null) {
       locale = readOptions.locale();
@@ -95,6 +100,14 @@ public class DateParser extends AbstractColumnParser<LocalDate> {
     if (isMissing(s)) {
       return true;
     }
+    if (fastParser != null) {
+      if (fastParser.parse(s) != FastTemporalParser.NOT_PARSED) {
+        return true;
+      }
+      if (!FastTemporalParser.mayNeedFormatter(s)) {
+        return false;
+      }
+    }
     try {
       LocalDate.parse(s, formatter.withLocale(locale));
       return true;
@@ -106,6 +119,7 @@ public class DateParser extends AbstractColumnParser<LocalDate> {
 
   public void setCustomFormatter(DateTimeFormatter f) {
     formatter = f;
+    fastParser = null;
   }
 
   public void setLocale(Locale locale) {
@@ -117,6 +131,30 @@ public class DateParser extends AbstractColumnParser<LocalDate> {
     if (isMissing(s)) {
       return null;
     }
+    if (fastParser != null) {
+      long packed = fastParser.parse(s);
+      if (packed != FastTemporalParser.NOT_PARSED) {
+        return PackedLocalDate.asLocalDate((int) packed);
+      }
+    }
     return LocalDate.parse(s, formatter);
   }
+
+  /**
+   * Returns the given string as a packed date (see {@link PackedLocalDate}), or the missing value
+   * indicator if it is missing. Dates in the common numeric layouts are packed directly from their
+   * digits, without creating a LocalDate
+   */
+  public int parsePacked(String s) {
+    if (isMissing(s)) {
+      return DateColumnType.missingValueIndicator();
+    }
+    if (fastParser != null) {
+      long packed = fastParser.parse(s);
+      if (packed != FastTemporalParser.NOT_PARSED) {
+        return (int) packed;
+      }
+    }
+    return PackedLocalDate.pack(LocalDate.parse(s, formatter));
+  }
 }
@@ -48,6 +48,8 @@ import java.time.Month;
 import java.time.chrono.IsoChronology;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
 import java.time.temporal.WeekFields;
 import java.util.Locale;
 import tech.tablesaw.columns.numbers.IntColumnType;
@@ -466,7 +468,8 @@ public class PackedLocalDate {
     return date.get(woy);
   }
 
-  private static int ofEpochDay(long epochDay) {
+  /** Returns the packed date of the given epoch day; the inverse of {@link #toEpochDay(int)} */
+  public static int ofEpochDay(long epochDay) {
     EPOCH_DAY.checkValidValue(epochDay);
     long zeroDay = epochDay + DAYS_0000_TO_1970;
     // find the march-based year
@@ -514,6 +517,29 @@ public class PackedLocalDate {
     }
   }
 
+  /**
+   * Returns the given date truncated to the start of the given unit: the Monday of its week, the
+   * first day of its month, or the first day of its year. A date truncated to days is unchanged
+   */
+  public static int truncatedTo(TemporalUnit unit, int packedDate) {
+    if (unit == ChronoUnit.DAYS) {
+      return packedDate;
+    }
+    if (unit == ChronoUnit.WEEKS) {
+      long epochDay = toEpochDay(packedDate);
+      // 1970-01-01 was a Thursday, so the days since the last Monday are (epochDay + 3) mod 7
+      return ofEpochDay(epochDay - Math.floorMod(epochDay + 3, 7));
+    }
+    if (unit == ChronoUnit.MONTHS) {
+      return pack(getYear(packedDate), getMonthValue(packedDate), (byte) 1);
+    }
+    if (unit == ChronoUnit.YEARS) {
+      return pack(getYear(packedDate), (byte) 1, (byte) 1);
+    }
+    throw new UnsupportedTemporalTypeException(
+        "The ChronoUnit " + unit + " is not supported for truncating dates");
+  }
+
   public static int minus(int valueToAdd, ChronoUnit unit, int packedDate) {
     return plus(-valueToAdd, unit, packedDate);
   }
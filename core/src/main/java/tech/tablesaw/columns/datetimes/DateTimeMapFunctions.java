@@ -304,6 +304,23 @@ public interface DateTimeMapFunctions extends TemporalMapFunctions<LocalDateTime
     return newColumn;
   }
 
+  /**
+   * Returns a column with each value of this column truncated to the given unit. Units up to a day
+   * truncate the time; weeks, months and years move the value to midnight on the Monday of its
+   * week, or the first day of its month or year
+   */
+  default DateTimeColumn truncatedTo(ChronoUnit unit) {
+    DateTimeColumn newColumn = DateTimeColumn.create(name() + " truncated to " + unit);
+    for (int r = 0; r < size(); r++) {
+      if (isMissing(r)) {
+        newColumn.appendMissing();
+      } else {
+        newColumn.appendInternal(PackedLocalDateTime.truncatedTo(unit, getLongInternal(r)));
+      }
+    }
+    return newColumn;
+  }
+
   /** Returns a DateColumn containing the date portion of each dateTime in this DateTimeColumn */
   default DateColumn date() {
     DateColumn newColumn = DateColumn.create(this.name() + " date");
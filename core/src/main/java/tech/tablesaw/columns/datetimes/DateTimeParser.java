@@ -9,6 +9,7 @@ import java.time.format.DateTimeParseException;
 import java.util.Locale;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.temporal.FastTemporalParser;
 import tech.tablesaw.io.ReadOptions;
 
 public class DateTimeParser extends AbstractColumnParser<LocalDateTime> {
@@ -71,6 +72,9 @@ public class DateTimeParser extends AbstractColumnParser<LocalDateTime> {
   private Locale locale = Locale.getDefault();
   private DateTimeFormatter formatter = DEFAULT_FORMATTER;
 
+  /** Parses the numeric layouts of the default formatter; null if a custom formatter is used */
+  private FastTemporalParser fastParser = new FastTemporalParser(FastTemporalParser.Kind.DATE_TIME);
+
   public DateTimeParser(ColumnType columnType) {
     super(columnType);
   }
@@ -80,6 +84,7 @@ public class DateTimeParser extends AbstractColumnParser<LocalDateTime> {
     DateTimeFormatter readCsvFormatter = readOptions.dateTimeFormatter();
     if (readCsvFormatter != null) {
       formatter = readCsvFormatter;
+      fastParser = null;
     }
     if (readOptions.locale() != null) {
       locale = readOptions.locale();
@@ -94,6 +99,14 @@ public class DateTimeParser extends AbstractColumnParser<LocalDateTime> {
     if (isMissing(s)) {
       return true;
     }
+    if (fastParser != null) {
+      if (fastParser.parse(s) != FastTemporalParser.NOT_PARSED) {
+        return true;
+      }
+      if (!FastTemporalParser.mayNeedFormatter(s)) {
+        return false;
+      }
+    }
     try {
       LocalDateTime.parse(s, formatter.withLocale(locale));
       return true;
@@ -111,4 +124,23 @@ public class DateTimeParser extends AbstractColumnParser<LocalDateTime> {
     String paddedValue = Strings.padStart(value, 4, '0');
     return LocalDateTime.parse(paddedValue, formatter);
   }
+
+  /**
+   * Returns the given string as a packed date-time (see {@link PackedLocalDateTime}), or the
+   * missing value indicator if it is missing. Values in the common numeric layouts are packed
+   * directly from their digits, without creating a LocalDateTime
+   */
+  public long parsePacked(String value) {
+    if (isMissing(value)) {
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    if (fastParser != null) {
+      long packed = fastParser.parse(value);
+      if (packed != FastTemporalParser.NOT_PARSED) {
+        return packed;
+      }
+    }
+    return PackedLocalDateTime.pack(
+        LocalDateTime.parse(Strings.padStart(value, 4, '0'), formatter));
+  }
 }
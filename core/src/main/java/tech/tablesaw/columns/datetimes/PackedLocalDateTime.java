@@ -24,8 +24,9 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
 import java.time.chrono.IsoChronology;
-import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
 import java.time.temporal.WeekFields;
 import java.util.Locale;
 import tech.tablesaw.columns.dates.PackedLocalDate;
@@ -54,6 +55,8 @@ import tech.tablesaw.columns.times.PackedLocalTime;
  */
 public class PackedLocalDateTime extends PackedInstant {
 
+  private static final int MIDNIGHT = PackedLocalTime.of(0, 0);
+
   private PackedLocalDateTime() {}
 
   public static byte getDayOfMonth(long date) {
@@ -388,15 +391,52 @@ public class PackedLocalDateTime extends PackedInstant {
   }
 
   public static long getMillisecondOfDay(long packedLocalDateTime) {
-    LocalDateTime localDateTime = PackedLocalDateTime.asLocalDateTime(packedLocalDateTime);
-    if (localDateTime == null) {
+    if (packedLocalDateTime == missingValueIndicator()) {
       throw new IllegalArgumentException("Cannot get millisecond of day for missing value");
     }
-    long total = (long) localDateTime.get(ChronoField.MILLI_OF_SECOND);
-    total += localDateTime.getSecond() * 1000;
-    total += localDateTime.getMinute() * 60 * 1000;
-    total += localDateTime.getHour() * 60 * 60 * 1000;
-    return total;
+    return PackedLocalTime.getMillisecondOfDay(time(packedLocalDateTime));
+  }
+
+  /**
+   * Returns the given packedDateTime with amountToAdd of temporal units added, as {@link
+   * LocalDateTime#plus(long, TemporalUnit)} would. Weeks, months and years are added to the date
+   * and leave the time unchanged; smaller units are added to the epoch millisecond
+   */
+  public static long plus(long packedDateTime, long amountToAdd, TemporalUnit unit) {
+    if (packedDateTime != missingValueIndicator() && unit instanceof ChronoUnit) {
+      int date = date(packedDateTime);
+      switch ((ChronoUnit) unit) {
+        case WEEKS:
+          return create(
+              PackedLocalDate.ofEpochDay(
+                  Math.addExact(
+                      PackedLocalDate.toEpochDay(date), Math.multiplyExact(amountToAdd, 7))),
+              time(packedDateTime));
+        case MONTHS:
+          return create(
+              PackedLocalDate.plusMonths(Math.toIntExact(amountToAdd), date), time(packedDateTime));
+        case YEARS:
+          return create(
+              PackedLocalDate.plusYears(Math.toIntExact(amountToAdd), date), time(packedDateTime));
+        default:
+          break;
+      }
+    }
+    return PackedInstant.plus(packedDateTime, amountToAdd, unit);
+  }
+
+  /**
+   * Returns the given packedDateTime truncated to the given unit. Units up to a day truncate the
+   * time, as {@link LocalDateTime#truncatedTo(TemporalUnit)} does; weeks, months and years truncate
+   * the date as {@link PackedLocalDate#truncatedTo(TemporalUnit, int)} does, and set the time to
+   * midnight
+   */
+  public static long truncatedTo(TemporalUnit unit, long packedDateTime) {
+    int date = date(packedDateTime);
+    if (unit == ChronoUnit.WEEKS || unit == ChronoUnit.MONTHS || unit == ChronoUnit.YEARS) {
+      return create(PackedLocalDate.truncatedTo(unit, date), MIDNIGHT);
+    }
+    return create(date, PackedLocalTime.truncatedTo(unit, time(packedDateTime)));
   }
 
   public static int lengthOfYear(long packedDateTime) {
@@ -3,9 +3,14 @@ package tech.tablesaw.columns.instant;
 import java.time.Instant;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.temporal.FastTemporalParser;
 
 public class InstantParser extends AbstractColumnParser<Instant> {
 
+  /** Parses instants in UTC, the usual layout, without creating an Instant */
+  private final FastTemporalParser fastParser =
+      new FastTemporalParser(FastTemporalParser.Kind.INSTANT);
+
   public InstantParser(ColumnType columnType) {
     super(columnType);
   }
@@ -15,8 +20,14 @@ public class InstantParser extends AbstractColumnParser<Instant> {
     if (isMissing(s)) {
       return true;
     }
+    if (fastParser.parse(s) != FastTemporalParser.NOT_PARSED) {
+      return true;
+    }
+    if (!FastTemporalParser.mayNeedFormatter(s)) {
+      return false;
+    }
     try {
-      parse(s);
+      Instant.parse(s);
       return true;
     } catch (RuntimeException e) {
       return false;
@@ -27,4 +38,16 @@ public class InstantParser extends AbstractColumnParser<Instant> {
   public Instant parse(String value) {
     return Instant.parse(value);
   }
+
+  /**
+   * Returns the given string as a packed instant (see {@link PackedInstant}). Instants in UTC are
+   * packed directly from their digits, without creating an Instant
+   */
+  public long parsePacked(String value) {
+    long packed = fastParser.parse(value);
+    if (packed != FastTemporalParser.NOT_PARSED) {
+      return packed;
+    }
+    return PackedInstant.pack(Instant.parse(value));
+  }
 }
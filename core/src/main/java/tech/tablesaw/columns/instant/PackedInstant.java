@@ -50,6 +50,8 @@ import tech.tablesaw.columns.times.PackedLocalTime;
  */
 public class PackedInstant {
 
+  private static final long MILLIS_PER_DAY = 86_400_000L;
+
   protected PackedInstant() {}
 
   public static Instant asInstant(long dateTime) {
@@ -118,12 +120,31 @@ public class PackedInstant {
   }
 
   /**
-   * Returns the given packedDateTime with amtToAdd of temporal units added
-   *
-   * <p>TODO(lwhite): Replace with a native implementation that doesn't convert everything to
-   * Instant
+   * Returns the number of milliseconds from 1970-01-01T00:00:00Z to the given packed value,
+   * computed from its fields without creating an Instant
+   */
+  public static long toEpochMilli(long packedDateTime) {
+    return PackedLocalDate.toEpochDay(date(packedDateTime)) * MILLIS_PER_DAY
+        + PackedLocalTime.getMillisecondOfDay(time(packedDateTime));
+  }
+
+  /** Returns the packed value of the given epoch millisecond; the inverse of toEpochMilli */
+  public static long ofEpochMilli(long epochMilli) {
+    return create(
+        PackedLocalDate.ofEpochDay(Math.floorDiv(epochMilli, MILLIS_PER_DAY)),
+        PackedLocalTime.ofMillisecondOfDay((int) Math.floorMod(epochMilli, MILLIS_PER_DAY)));
+  }
+
+  /**
+   * Returns the given packedDateTime with amtToAdd of temporal units added. Units from milliseconds
+   * to days are added to the epoch millisecond; others are added by way of an Instant
    */
   public static long plus(long packedDateTime, long amountToAdd, TemporalUnit unit) {
+    long unitMillis = unitMillis(unit);
+    if (unitMillis > 0 && packedDateTime != missingValueIndicator()) {
+      return ofEpochMilli(
+          Math.addExact(toEpochMilli(packedDateTime), Math.multiplyExact(amountToAdd, unitMillis)));
+    }
     Instant dateTime = asInstant(packedDateTime);
     if (dateTime == null) {
       throw new IllegalArgumentException("Cannot do addition on missing value");
@@ -131,6 +152,27 @@ public class PackedInstant {
     return pack(dateTime.plus(amountToAdd, unit));
   }
 
+  /**
+   * Returns the length in milliseconds of the given unit if it is a ChronoUnit from milliseconds to
+   * days, and 0 otherwise
+   */
+  protected static long unitMillis(TemporalUnit unit) {
+    if (!(unit instanceof ChronoUnit)) {
+      return 0;
+    }
+    switch ((ChronoUnit) unit) {
+      case MILLIS:
+      case SECONDS:
+      case MINUTES:
+      case HOURS:
+      case HALF_DAYS:
+      case DAYS:
+        return unit.getDuration().toMillis();
+      default:
+        return 0;
+    }
+  }
+
   public static boolean isAfter(long packedDateTime, long value) {
     return (packedDateTime != missingValueIndicator()) && packedDateTime > value;
   }
@@ -143,13 +185,12 @@ public class PackedInstant {
     return (((long) date) << 32) | (time & 0xffffffffL);
   }
 
-  // TODO: packed support for minutesUntil and hoursUnit. These implementations are inefficient
   public static long minutesUntil(long packedDateTimeEnd, long packedDateTimeStart) {
-    return ChronoUnit.MINUTES.between(asInstant(packedDateTimeStart), asInstant(packedDateTimeEnd));
+    return (toEpochMilli(packedDateTimeEnd) - toEpochMilli(packedDateTimeStart)) / 60_000;
   }
 
   public static long hoursUntil(long packedDateTimeEnd, long packedDateTimeStart) {
-    return ChronoUnit.HOURS.between(asInstant(packedDateTimeStart), asInstant(packedDateTimeEnd));
+    return (toEpochMilli(packedDateTimeEnd) - toEpochMilli(packedDateTimeStart)) / 3_600_000;
   }
 
   public static int daysUntil(long packedDateTimeEnd, long packedDateTimeStart) {
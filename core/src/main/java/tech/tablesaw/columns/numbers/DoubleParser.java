@@ -25,6 +25,13 @@ public class DoubleParser extends AbstractColumnParser<Double> {
     if (isMissing(s)) {
       return true;
     }
+    long scanned = FastNumberParser.scanDouble(s, ',', true);
+    if (scanned == FastNumberParser.INVALID) {
+      return false;
+    }
+    if (scanned != FastNumberParser.UNKNOWN) {
+      return true;
+    }
     try {
       if (isPercent(AbstractColumnParser.remove(s, ','))) {
         s = AbstractColumnParser.remove(s, ',');
@@ -49,6 +56,10 @@ public class DoubleParser extends AbstractColumnParser<Double> {
     if (isMissing(s)) {
       return DoubleColumnType.missingValueIndicator();
     }
+    double value = FastNumberParser.parseDouble(s, ',', true);
+    if (!Double.isNaN(value)) {
+      return value;
+    }
     if (isPercent(AbstractColumnParser.remove(s, ','))) {
       s = AbstractColumnParser.remove(s, ',').substring(0, s.length() - 1);
       return Double.parseDouble(s) / 100.0;
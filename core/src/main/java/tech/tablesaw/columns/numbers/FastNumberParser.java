@@ -0,0 +1,309 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.numbers;
+
+/**
+ * Validates and parses numbers in a single scan of their characters, without creating intermediate
+ * strings or throwing exceptions.
+ *
+ * <p>Grouping separators are skipped wherever they appear, and (for doubles) a trailing percent
+ * sign divides the value by 100, as the number parsers do after removing the separators. Results
+ * are exactly those of {@link Long#parseLong}, {@link Double#parseDouble} and {@link
+ * Float#parseFloat}. Each method either returns the value, reports that the string is definitely
+ * not a number, or, when the value can't be computed exactly here (a double with too many
+ * significant digits, say, or an integer written with non-ASCII digits), reports that it must be
+ * left to the JDK method. Decimals are scanned into a long, from which the value is then computed,
+ * so that the caller can tell these three outcomes apart from one scan.
+ */
+final class FastNumberParser {
+
+  /** Returned when the string is definitely not a number of the requested kind */
+  static final long INVALID = Long.MIN_VALUE;
+
+  /** Returned when the string must be left to the JDK parse method */
+  static final long UNKNOWN = Long.MIN_VALUE + 1;
+
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private static final float[] FLOAT_POWERS_OF_TEN = {
+    1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+  };
+
+  // A scanned decimal is packed into a long: the mantissa in the low 53 bits, then the power of
+  // ten (offset by 32), and flags for the sign and a percent sign
+  private static final int EXPONENT_SHIFT = 53;
+  private static final long MANTISSA_MASK = (1L << EXPONENT_SHIFT) - 1;
+  private static final long NEGATIVE = 1L << 59;
+  private static final long PERCENT = 1L << 60;
+
+  private FastNumberParser() {}
+
+  /**
+   * Returns the value of the string as an integer between {@code min} and {@code max}, {@link
+   * #INVALID} if it isn't one, or {@link #UNKNOWN} if it contains non-ASCII characters, which
+   * {@link Long#parseLong} may read as digits, or its value is {@link #INVALID} or {@link #UNKNOWN}
+   *
+   * @param grouping the grouping separator, which is ignored wherever it appears
+   * @param ignoreZeroDecimal whether to ignore a decimal point followed only by zeros at the end
+   */
+  static long parseLong(String s, long min, long max, char grouping, boolean ignoreZeroDecimal) {
+    int end = s.length();
+    if (ignoreZeroDecimal) {
+      int i = end;
+      while (i > 0 && s.charAt(i - 1) == '0') {
+        i--;
+      }
+      if (i < end && i > 0 && s.charAt(i - 1) == '.') {
+        end = i - 1;
+      }
+    }
+    int i = skip(s, 0, end, grouping);
+    boolean negative = false;
+    if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+      negative = s.charAt(i) == '-';
+      i++;
+    }
+    // accumulate negatively, like Long.parseLong, so that Long.MIN_VALUE doesn't overflow
+    long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    long value = 0;
+    int digits = 0;
+    boolean overflow = false;
+    for (; i < end; i++) {
+      char c = s.charAt(i);
+      if (c == grouping) {
+        continue;
+      }
+      if (c < '0' || c > '9') {
+        return c > 127 ? UNKNOWN : INVALID;
+      }
+      int digit = c - '0';
+      if (value < limit / 10 || value * 10 < limit + digit) {
+        overflow = true;
+      } else {
+        value = value * 10 - digit;
+      }
+      digits++;
+    }
+    if (digits == 0 || overflow) {
+      return INVALID;
+    }
+    value = negative ? value : -value;
+    if (value < min || value > max) {
+      return INVALID;
+    }
+    return value == INVALID || value == UNKNOWN ? UNKNOWN : value;
+  }
+
+  /**
+   * Returns the value of the string as a double, or NaN if it is invalid or must be left to {@link
+   * Double#parseDouble} (which also returns NaN, given "NaN"). If {@code percent}, a trailing
+   * percent sign divides the value by 100.
+   */
+  static double parseDouble(String s, char grouping, boolean percent) {
+    long bits = scanDouble(s, grouping, percent);
+    return bits == INVALID || bits == UNKNOWN ? Double.NaN : toDouble(bits);
+  }
+
+  /** Like {@link #parseDouble}, but returns the float that {@link Float#parseFloat} would */
+  static float parseFloat(String s, char grouping) {
+    long bits = scanFloat(s, grouping);
+    return bits == INVALID || bits == UNKNOWN ? Float.NaN : toFloat(bits);
+  }
+
+  /**
+   * Scans the string as a double, returning {@link #INVALID} if it is definitely not a number,
+   * {@link #UNKNOWN} if it must be left to {@link Double#parseDouble}, and otherwise a scanned
+   * decimal whose value {@link #toDouble} returns
+   */
+  static long scanDouble(String s, char grouping, boolean percent) {
+    return scanDecimal(s, grouping, percent, 1L << 53, POWERS_OF_TEN.length - 1);
+  }
+
+  /** Like {@link #scanDouble}, but for a float, whose value {@link #toFloat} returns */
+  static long scanFloat(String s, char grouping) {
+    return scanDecimal(s, grouping, false, 1L << 24, FLOAT_POWERS_OF_TEN.length - 1);
+  }
+
+  /** Returns the value of a decimal returned by {@link #scanDouble} */
+  static double toDouble(long bits) {
+    long mantissa = bits & MANTISSA_MASK;
+    int exponent = exponent(bits);
+    // The mantissa and the power of ten are both exact doubles, so a single multiplication or
+    // division is correctly rounded
+    double value =
+        exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+    if ((bits & PERCENT) != 0) {
+      value = value / 100.0;
+    }
+    return (bits & NEGATIVE) != 0 ? -value : value;
+  }
+
+  /** Returns the value of a decimal returned by {@link #scanFloat} */
+  static float toFloat(long bits) {
+    long mantissa = bits & MANTISSA_MASK;
+    int exponent = exponent(bits);
+    float value =
+        exponent >= 0
+            ? mantissa * FLOAT_POWERS_OF_TEN[exponent]
+            : mantissa / FLOAT_POWERS_OF_TEN[-exponent];
+    return (bits & NEGATIVE) != 0 ? -value : value;
+  }
+
+  /**
+   * Scans [+-]digits[.digits][(e|E)[+-]digits][%], skipping grouping separators, and returns the
+   * packed mantissa, power of ten, sign and percent flag. Returns {@link #UNKNOWN} if the value has
+   * a mantissa of {@code maxMantissa} or more or a power of ten beyond {@code maxPower}, and
+   * otherwise the result of {@link #rest} if the string has some other form
+   */
+  private static long scanDecimal(
+      String s, char grouping, boolean percent, long maxMantissa, int maxPower) {
+    int end = s.length();
+    int i = skip(s, 0, end, grouping);
+    boolean negative = false;
+    if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+      negative = s.charAt(i) == '-';
+      i++;
+    }
+    long mantissa = 0;
+    boolean inexact = false;
+    int digits = 0;
+    int exponent = 0;
+    boolean point = false;
+    for (; i < end; i++) {
+      char c = s.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digits++;
+        if (!inexact) {
+          mantissa = mantissa * 10 + (c - '0');
+          inexact = mantissa >= maxMantissa;
+        }
+        if (point) {
+          exponent--;
+        }
+      } else if (c == '.' && !point) {
+        point = true;
+      } else if (c != grouping) {
+        break;
+      }
+    }
+    if (digits == 0) {
+      return rest(s, grouping, percent);
+    }
+    if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+      i = skip(s, i + 1, end, grouping);
+      boolean negativePower = false;
+      if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+        negativePower = s.charAt(i) == '-';
+        i++;
+      }
+      int power = 0;
+      int powerDigits = 0;
+      for (; i < end; i++) {
+        char c = s.charAt(i);
+        if (c >= '0' && c <= '9') {
+          powerDigits++;
+          power = Math.min(power * 10 + (c - '0'), 100_000);
+        } else if (c != grouping) {
+          break;
+        }
+      }
+      if (powerDigits == 0) {
+        return rest(s, grouping, percent);
+      }
+      exponent += negativePower ? -power : power;
+    }
+    boolean isPercent = false;
+    if (percent && i < end && s.charAt(i) == '%') {
+      isPercent = true;
+      i = skip(s, i + 1, end, grouping);
+    }
+    if (i != end) {
+      return rest(s, grouping, percent);
+    }
+    if (mantissa == 0 && !inexact) {
+      exponent = 0;
+    }
+    if (inexact || Math.abs(exponent) > maxPower) {
+      return UNKNOWN;
+    }
+    return mantissa
+        | ((long) (exponent + 32) << EXPONENT_SHIFT)
+        | (negative ? NEGATIVE : 0)
+        | (isPercent ? PERCENT : 0);
+  }
+
+  /**
+   * Returns {@link #UNKNOWN} if the string, which doesn't have the simple form, might still be
+   * accepted by the JDK: if it is "NaN" or "Infinity", is in hexadecimal, or has only characters
+   * that can appear in a decimal, including surrounding whitespace and a type suffix. Returns
+   * {@link #INVALID} otherwise
+   */
+  private static long rest(String s, char grouping, boolean percent) {
+    int from = 0;
+    int to = s.length();
+    while (from < to && s.charAt(from) <= ' ') {
+      from++;
+    }
+    while (to > from && s.charAt(to - 1) <= ' ') {
+      to--;
+    }
+    if (from < to && (s.charAt(from) == '-' || s.charAt(from) == '+')) {
+      from++;
+    }
+    if (from == to) {
+      return INVALID;
+    }
+    if ((to - from == 3 && s.regionMatches(from, "NaN", 0, 3))
+        || (to - from == 8 && s.regionMatches(from, "Infinity", 0, 8))) {
+      return UNKNOWN;
+    }
+    for (int i = from; i < to; i++) {
+      char c = s.charAt(i);
+      if (c == 'x' || c == 'X') {
+        return UNKNOWN;
+      }
+      if (!((c >= '0' && c <= '9')
+          || c <= ' '
+          || c == grouping
+          || c == '.'
+          || c == '-'
+          || c == '+'
+          || c == 'e'
+          || c == 'E'
+          || c == 'd'
+          || c == 'D'
+          || c == 'f'
+          || c == 'F'
+          || (percent && c == '%'))) {
+        return INVALID;
+      }
+    }
+    return UNKNOWN;
+  }
+
+  private static int exponent(long bits) {
+    return (int) ((bits >>> EXPONENT_SHIFT) & 0x3f) - 32;
+  }
+
+  private static int skip(String s, int from, int end, char grouping) {
+    while (from < end && s.charAt(from) == grouping) {
+      from++;
+    }
+    return from;
+  }
+}
@@ -23,6 +23,13 @@ public class FloatParser extends AbstractColumnParser<Float> {
     if (isMissing(s)) {
       return true;
     }
+    long scanned = FastNumberParser.scanFloat(s, ',');
+    if (scanned == FastNumberParser.INVALID) {
+      return false;
+    }
+    if (scanned != FastNumberParser.UNKNOWN) {
+      return true;
+    }
     try {
       Float.parseFloat(AbstractColumnParser.remove(s, ','));
       return true;
@@ -42,6 +49,10 @@ public class FloatParser extends AbstractColumnParser<Float> {
     if (isMissing(s)) {
       return FloatColumnType.missingValueIndicator();
     }
+    float value = FastNumberParser.parseFloat(s, ',');
+    if (!Float.isNaN(value)) {
+      return value;
+    }
     return Float.parseFloat(AbstractColumnParser.remove(s, ','));
   }
 }
@@ -28,6 +28,10 @@ public class IntParser extends AbstractColumnParser<Integer> {
     if (isMissing(str)) {
       return true;
     }
+    long value = fastParse(str);
+    if (value != FastNumberParser.UNKNOWN) {
+      return value != FastNumberParser.INVALID;
+    }
     String s = str;
     try {
       if (ignoreZeroDecimal) {
@@ -56,10 +60,21 @@ public class IntParser extends AbstractColumnParser<Integer> {
     if (isMissing(str)) {
       return IntColumnType.missingValueIndicator();
     }
+    long value = fastParse(str);
+    if (value != FastNumberParser.UNKNOWN && value != FastNumberParser.INVALID) {
+      return (int) value;
+    }
+    // let the JDK read unusual digits, or report the error
     String s = str;
     if (ignoreZeroDecimal) {
       s = StringUtils.removeZeroDecimal(s);
     }
     return Integer.parseInt(AbstractColumnParser.remove(s, ','));
   }
+
+  /** Returns the value of the string, or one of the FastNumberParser codes if it has none */
+  private long fastParse(String s) {
+    return FastNumberParser.parseLong(
+        s, Integer.MIN_VALUE, Integer.MAX_VALUE, ',', ignoreZeroDecimal);
+  }
 }
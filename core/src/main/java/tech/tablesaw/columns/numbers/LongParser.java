@@ -28,6 +28,10 @@ public class LongParser extends AbstractColumnParser<Long> {
     if (isMissing(str)) {
       return true;
     }
+    long value = fastParse(str);
+    if (value != FastNumberParser.UNKNOWN) {
+      return value != FastNumberParser.INVALID;
+    }
     String s = str;
     try {
       if (ignoreZeroDecimal) {
@@ -56,10 +60,20 @@ public class LongParser extends AbstractColumnParser<Long> {
     if (isMissing(str)) {
       return LongColumnType.missingValueIndicator();
     }
+    long value = fastParse(str);
+    if (value != FastNumberParser.UNKNOWN && value != FastNumberParser.INVALID) {
+      return value;
+    }
+    // let the JDK read unusual digits, or report the error
     String s = str;
     if (ignoreZeroDecimal) {
       s = StringUtils.removeZeroDecimal(s);
     }
     return Long.parseLong(AbstractColumnParser.remove(s, ','));
   }
+
+  /** Returns the value of the string, or one of the FastNumberParser codes if it has none */
+  private long fastParse(String s) {
+    return FastNumberParser.parseLong(s, Long.MIN_VALUE, Long.MAX_VALUE, ',', ignoreZeroDecimal);
+  }
 }
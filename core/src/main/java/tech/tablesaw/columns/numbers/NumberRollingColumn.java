@@ -1,17 +1,36 @@
 package tech.tablesaw.columns.numbers;
 
+import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.aggregate.AggregateFunctions;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.columns.Column;
 import tech.tablesaw.table.RollingColumn;
 
-/** Does a calculation on a rolling basis (e.g. mean for last 20 days) */
+/**
+ * Does a calculation on a rolling basis (e.g. mean for last 20 days)
+ *
+ * <p>Sums, means, variances, standard deviations, minimums, maximums, medians, counts and
+ * first/last/change calculations are computed in a single incremental pass over the column. Other
+ * functions fall back to applying the function to each window in turn.
+ */
 public class NumberRollingColumn extends RollingColumn {
 
   public NumberRollingColumn(NumericColumn<?> column, int window) {
     super(column, window);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public <INCOL extends Column<?>, OUT> Column<?> calc(AggregateFunction<INCOL, OUT> function) {
+    RollingKernels.Kernel kernel = RollingKernels.forFunction(function);
+    if (kernel == null || window < 1) {
+      return super.calc(function);
+    }
+    double[] values = ((NumericColumn<?>) column).asDoubleArray();
+    return DoubleColumn.create(generateNewColumnName(function), kernel.apply(values, window));
+  }
+
   public DoubleColumn mean() {
     return (DoubleColumn) calc(AggregateFunctions.mean);
   }
@@ -0,0 +1,300 @@
+package tech.tablesaw.columns.numbers;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.aggregate.AggregateFunctions;
+
+/**
+ * One-pass implementations of the common rolling-window calculations.
+ *
+ * <p>Each kernel slides a window of fixed size over an array of doubles, adding the value that
+ * enters the window and removing the one that leaves it, so the work per row is independent of the
+ * window size (or logarithmic/linear in it for the median). Missing values (NaN) are skipped, the
+ * same way the corresponding {@link AggregateFunctions} skip them when applied to a subset.
+ *
+ * <p>The output has the same layout as {@link tech.tablesaw.table.RollingColumn#calc}: the first
+ * {@code window - 1} entries are missing and entry {@code i} holds the value for the window ending
+ * at row {@code i}.
+ */
+final class RollingKernels {
+
+  /** Computes a rolling calculation over the given values */
+  @FunctionalInterface
+  interface Kernel {
+    double[] apply(double[] values, int window);
+  }
+
+  private static final Map<AggregateFunction<?, ?>, Kernel> KERNELS = new IdentityHashMap<>();
+
+  static {
+    KERNELS.put(AggregateFunctions.sum, RollingKernels::sum);
+    KERNELS.put(AggregateFunctions.mean, RollingKernels::mean);
+    KERNELS.put(AggregateFunctions.variance, RollingKernels::variance);
+    KERNELS.put(AggregateFunctions.stdDev, RollingKernels::stdDev);
+    KERNELS.put(AggregateFunctions.min, RollingKernels::min);
+    KERNELS.put(AggregateFunctions.max, RollingKernels::max);
+    KERNELS.put(AggregateFunctions.median, RollingKernels::median);
+    KERNELS.put(AggregateFunctions.countMissing, RollingKernels::countMissing);
+    KERNELS.put(AggregateFunctions.countNonMissing, RollingKernels::countNonMissing);
+    KERNELS.put(AggregateFunctions.first, RollingKernels::first);
+    KERNELS.put(AggregateFunctions.last, RollingKernels::last);
+    KERNELS.put(AggregateFunctions.change, RollingKernels::change);
+    KERNELS.put(AggregateFunctions.pctChange, RollingKernels::pctChange);
+  }
+
+  private RollingKernels() {}
+
+  /**
+   * Returns the kernel that computes the given function incrementally, or {@code null} if the
+   * function has no incremental implementation
+   */
+  static Kernel forFunction(AggregateFunction<?, ?> function) {
+    return KERNELS.get(function);
+  }
+
+  /** Returns an output array of the right size with every entry missing */
+  private static double[] newResult(double[] values, int window) {
+    double[] result = new double[Math.max(values.length, window - 1)];
+    Arrays.fill(result, DoubleColumnType.missingValueIndicator());
+    return result;
+  }
+
+  static double[] sum(double[] values, int window) {
+    return sumOrMean(values, window, false);
+  }
+
+  static double[] mean(double[] values, int window) {
+    return sumOrMean(values, window, true);
+  }
+
+  /** Running sum using Neumaier compensation so that removals do not accumulate rounding error */
+  private static double[] sumOrMean(double[] values, int window, boolean mean) {
+    double[] result = newResult(values, window);
+    double sum = 0;
+    double compensation = 0;
+    int count = 0;
+    for (int i = 0; i < values.length; i++) {
+      double in = values[i];
+      if (!Double.isNaN(in)) {
+        double t = sum + in;
+        compensation += Math.abs(sum) >= Math.abs(in) ? (sum - t) + in : (in - t) + sum;
+        sum = t;
+        count++;
+      }
+      if (i >= window) {
+        double out = -values[i - window];
+        if (!Double.isNaN(out)) {
+          double t = sum + out;
+          compensation += Math.abs(sum) >= Math.abs(out) ? (sum - t) + out : (out - t) + sum;
+          sum = t;
+          count--;
+          if (count == 0) {
+            sum = 0;
+            compensation = 0;
+          }
+        }
+      }
+      if (i >= window - 1) {
+        // like StatUtils, the sum of no values is zero and their mean is undefined
+        if (!mean) {
+          result[i] = sum + compensation;
+        } else if (count > 0) {
+          result[i] = (sum + compensation) / count;
+        }
+      }
+    }
+    return result;
+  }
+
+  static double[] variance(double[] values, int window) {
+    return varianceOrStdDev(values, window, false);
+  }
+
+  static double[] stdDev(double[] values, int window) {
+    return varianceOrStdDev(values, window, true);
+  }
+
+  /** Sample variance maintained with Welford's update and its inverse for removals */
+  private static double[] varianceOrStdDev(double[] values, int window, boolean stdDev) {
+    double[] result = newResult(values, window);
+    int count = 0;
+    double mean = 0;
+    double m2 = 0;
+    for (int i = 0; i < values.length; i++) {
+      double in = values[i];
+      if (!Double.isNaN(in)) {
+        count++;
+        double delta = in - mean;
+        mean += delta / count;
+        m2 += delta * (in - mean);
+      }
+      if (i >= window) {
+        double out = values[i - window];
+        if (!Double.isNaN(out)) {
+          count--;
+          if (count == 0) {
+            mean = 0;
+            m2 = 0;
+          } else {
+            double delta = out - mean;
+            mean -= delta / count;
+            m2 -= delta * (out - mean);
+          }
+        }
+      }
+      if (i >= window - 1 && count > 0) {
+        double variance = count == 1 ? 0 : Math.max(m2, 0) / (count - 1);
+        result[i] = stdDev ? Math.sqrt(variance) : variance;
+      }
+    }
+    return result;
+  }
+
+  static double[] min(double[] values, int window) {
+    return extreme(values, window, true);
+  }
+
+  static double[] max(double[] values, int window) {
+    return extreme(values, window, false);
+  }
+
+  /**
+   * Min or max using a monotonic deque of row indexes: the head is always the extreme of the
+   * current window, and every row enters and leaves the deque at most once
+   */
+  private static double[] extreme(double[] values, int window, boolean min) {
+    double[] result = newResult(values, window);
+    int[] deque = new int[Math.min(window, values.length) + 1];
+    int capacity = deque.length;
+    int head = 0;
+    int size = 0;
+    for (int i = 0; i < values.length; i++) {
+      if (size > 0 && deque[head] <= i - window) {
+        head = (head + 1) % capacity;
+        size--;
+      }
+      double in = values[i];
+      if (!Double.isNaN(in)) {
+        while (size > 0) {
+          double last = values[deque[(head + size - 1) % capacity]];
+          if (min ? last < in : last > in) {
+            break;
+          }
+          size--;
+        }
+        deque[(head + size) % capacity] = i;
+        size++;
+      }
+      if (i >= window - 1 && size > 0) {
+        result[i] = values[deque[head]];
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Median maintained over a sorted buffer of the non-missing values in the window. Insertion and
+   * removal locate their position by binary search and shift with a single array copy.
+   */
+  static double[] median(double[] values, int window) {
+    double[] result = newResult(values, window);
+    double[] sorted = new double[Math.min(window, values.length) + 1];
+    int size = 0;
+    for (int i = 0; i < values.length; i++) {
+      double in = values[i];
+      if (!Double.isNaN(in)) {
+        int pos = Arrays.binarySearch(sorted, 0, size, in);
+        if (pos < 0) {
+          pos = -pos - 1;
+        }
+        System.arraycopy(sorted, pos, sorted, pos + 1, size - pos);
+        sorted[pos] = in;
+        size++;
+      }
+      if (i >= window) {
+        double out = values[i - window];
+        if (!Double.isNaN(out)) {
+          int pos = Arrays.binarySearch(sorted, 0, size, out);
+          System.arraycopy(sorted, pos + 1, sorted, pos, size - pos - 1);
+          size--;
+        }
+      }
+      if (i >= window - 1 && size > 0) {
+        if (size % 2 == 1) {
+          result[i] = sorted[size / 2];
+        } else {
+          double lower = sorted[size / 2 - 1];
+          double upper = sorted[size / 2];
+          result[i] = lower + 0.5 * (upper - lower);
+        }
+      }
+    }
+    return result;
+  }
+
+  static double[] countMissing(double[] values, int window) {
+    return count(values, window, true);
+  }
+
+  static double[] countNonMissing(double[] values, int window) {
+    return count(values, window, false);
+  }
+
+  private static double[] count(double[] values, int window, boolean missing) {
+    double[] result = newResult(values, window);
+    int count = 0;
+    for (int i = 0; i < values.length; i++) {
+      if (Double.isNaN(values[i]) == missing) {
+        count++;
+      }
+      if (i >= window && Double.isNaN(values[i - window]) == missing) {
+        count--;
+      }
+      if (i >= window - 1) {
+        result[i] = count;
+      }
+    }
+    return result;
+  }
+
+  static double[] first(double[] values, int window) {
+    double[] result = newResult(values, window);
+    for (int i = window - 1; i < values.length; i++) {
+      result[i] = values[i - window + 1];
+    }
+    return result;
+  }
+
+  static double[] last(double[] values, int window) {
+    double[] result = newResult(values, window);
+    for (int i = window - 1; i < values.length; i++) {
+      result[i] = values[i];
+    }
+    return result;
+  }
+
+  static double[] change(double[] values, int window) {
+    double[] result = newResult(values, window);
+    if (window < 2) {
+      return result;
+    }
+    for (int i = window - 1; i < values.length; i++) {
+      result[i] = values[i] - values[i - window + 1];
+    }
+    return result;
+  }
+
+  static double[] pctChange(double[] values, int window) {
+    double[] result = newResult(values, window);
+    if (window < 2) {
+      return result;
+    }
+    for (int i = window - 1; i < values.length; i++) {
+      double first = values[i - window + 1];
+      result[i] = (values[i] - first) / first;
+    }
+    return result;
+  }
+}
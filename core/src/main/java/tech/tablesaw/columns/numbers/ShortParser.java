@@ -27,6 +27,10 @@ public class ShortParser extends AbstractColumnParser<Short> {
     if (isMissing(str)) {
       return true;
     }
+    long value = fastParse(str);
+    if (value != FastNumberParser.UNKNOWN) {
+      return value != FastNumberParser.INVALID;
+    }
     String s = str;
     try {
       if (ignoreZeroDecimal) {
@@ -55,10 +59,20 @@ public class ShortParser extends AbstractColumnParser<Short> {
     if (isMissing(str)) {
       return ShortColumnType.missingValueIndicator();
     }
+    long value = fastParse(str);
+    if (value != FastNumberParser.UNKNOWN && value != FastNumberParser.INVALID) {
+      return (short) value;
+    }
+    // let the JDK read unusual digits, or report the error
     String s = str;
     if (ignoreZeroDecimal) {
       s = StringUtils.removeZeroDecimal(s);
     }
     return Short.parseShort(AbstractColumnParser.remove(s, ','));
   }
+
+  /** Returns the value of the string, or one of the FastNumberParser codes if it has none */
+  private long fastParse(String s) {
+    return FastNumberParser.parseLong(s, Short.MIN_VALUE, Short.MAX_VALUE, ',', ignoreZeroDecimal);
+  }
 }
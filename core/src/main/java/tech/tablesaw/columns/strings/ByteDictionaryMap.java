@@ -1,5 +1,7 @@
 package tech.tablesaw.columns.strings;
 
+import static tech.tablesaw.util.Gather.gather;
+
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.bytes.Byte2IntMap;
@@ -11,6 +13,9 @@ import it.unimi.dsi.fastutil.bytes.ByteArrays;
 import it.unimi.dsi.fastutil.bytes.ByteComparator;
 import it.unimi.dsi.fastutil.bytes.ByteListIterator;
 import it.unimi.dsi.fastutil.bytes.ByteOpenHashSet;
+import it.unimi.dsi.fastutil.ints.Int2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2ByteOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectSet;
 import java.nio.ByteBuffer;
@@ -265,6 +270,87 @@ public class ByteDictionaryMap implements DictionaryMap {
     keyToCount.addTo(key, 1);
   }
 
+  /**
+   * Appends all the values of another dictionary encoded map. Each distinct key of the other map is
+   * translated to a key of this map once, and the keys of its rows are then copied through that
+   * translation, so no strings are hashed per row. If this map does not have enough free keys for
+   * the new values, nothing is appended and a NoKeysAvailableException is thrown.
+   */
+  @Override
+  public void append(DictionaryMap other) throws NoKeysAvailableException {
+    int size = other.size();
+    // the number of rows with each key of the other map, in order of first appearance
+    Int2IntLinkedOpenHashMap keyCounts = new Int2IntLinkedOpenHashMap();
+    for (int i = 0; i < size; i++) {
+      keyCounts.addTo(other.getKeyForIndex(i), 1);
+    }
+    Int2ByteOpenHashMap translation = new Int2ByteOpenHashMap(keyCounts.size());
+    int newKeys = 0;
+    for (int key : keyCounts.keySet()) {
+      String value = other.getValueForKey(key);
+      byte target =
+          StringColumnType.missingValueIndicator().equals(value)
+              ? MISSING_VALUE
+              : getKeyForValue(value);
+      if (target == DEFAULT_RETURN_VALUE) {
+        newKeys++;
+      }
+      translation.put(key, target);
+    }
+    if ((long) nextIndex.get() + newKeys >= Byte.MAX_VALUE) {
+      throw new NoKeysAvailableException(
+          String.format(
+              "String column can only contain %d unique values. Column has more.", MAX_UNIQUE));
+    }
+    for (Int2IntMap.Entry entry : keyCounts.int2IntEntrySet()) {
+      int key = entry.getIntKey();
+      byte target = translation.get(key);
+      if (target == DEFAULT_RETURN_VALUE) {
+        target = getValueId();
+        put(target, other.getValueForKey(key));
+        translation.put(key, target);
+      } else if (target == MISSING_VALUE) {
+        put(MISSING_VALUE, StringColumnType.missingValueIndicator());
+      }
+      keyToCount.addTo(target, entry.getIntValue());
+    }
+    values.ensureCapacity(values.size() + size);
+    for (int i = 0; i < size; i++) {
+      values.add(translation.get(other.getKeyForIndex(i)));
+    }
+  }
+
+  /**
+   * Returns a map of the values at the given rows. It copies their keys and the dictionary entries
+   * of those keys, and keeps this map's next key, so the keys mean the same in both maps.
+   */
+  @Override
+  public ByteDictionaryMap subset(int[] rows) {
+    byte[] keys = gather(values.elements(), values.size(), rows);
+    Byte2IntOpenHashMap counts = new Byte2IntOpenHashMap();
+    for (byte key : keys) {
+      counts.addTo(key, 1);
+    }
+    Byte2ObjectMap<String> subsetKeyToValue = new Byte2ObjectOpenHashMap<>(counts.size());
+    Object2ByteOpenHashMap<String> subsetValueToKey = new Object2ByteOpenHashMap<>(counts.size());
+    subsetValueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    for (byte key : counts.keySet()) {
+      String value = keyToValue.get(key);
+      subsetKeyToValue.put(key, value);
+      subsetValueToKey.put(value, key);
+    }
+    ByteDictionaryMap subset =
+        new ByteDictionaryBuilder()
+            .setNextIndex(nextIndex.get())
+            .setKeyToValue(subsetKeyToValue)
+            .setValueToKey(subsetValueToKey)
+            .setKeyToCount(counts)
+            .setValues(keys)
+            .build();
+    subset.canPromoteToText = canPromoteToText;
+    return subset;
+  }
+
   private byte getValueId() throws NoKeysAvailableException {
     int nextValue = nextIndex.incrementAndGet();
     if (nextValue >= Byte.MAX_VALUE) {
@@ -76,6 +76,20 @@ public interface DictionaryMap extends StringReduceUtils, StringFilters {
 
   void append(String value) throws NoKeysAvailableException;
 
+  /**
+   * Appends all the values of the other map. The dictionary encoded maps translate the keys of
+   * another dictionary encoded map in bulk, and append nothing if they do not have enough free keys
+   * for its values.
+   */
+  default void append(DictionaryMap other) throws NoKeysAvailableException {
+    for (int i = 0; i < other.size(); i++) {
+      append(other.getValueForIndex(i));
+    }
+  }
+
+  /** Returns a map of the same kind holding the values at the given rows, in the order given */
+  DictionaryMap subset(int[] rows);
+
   void set(int rowIndex, String stringValue) throws NoKeysAvailableException;
 
   void clear();
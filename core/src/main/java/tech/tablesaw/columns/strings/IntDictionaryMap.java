@@ -1,7 +1,10 @@
 package tech.tablesaw.columns.strings;
 
+import static tech.tablesaw.util.Gather.gather;
+
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.ints.Int2IntLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
@@ -262,6 +265,86 @@ public class IntDictionaryMap implements DictionaryMap {
     keyToCount.addTo(key, 1);
   }
 
+  /**
+   * Appends all the values of another dictionary encoded map. Each distinct key of the other map is
+   * translated to a key of this map once, and the keys of its rows are then copied through that
+   * translation, so no strings are hashed per row. If this map does not have enough free keys for
+   * the new values, nothing is appended and a NoKeysAvailableException is thrown.
+   */
+  @Override
+  public void append(DictionaryMap other) throws NoKeysAvailableException {
+    int size = other.size();
+    // the number of rows with each key of the other map, in order of first appearance
+    Int2IntLinkedOpenHashMap keyCounts = new Int2IntLinkedOpenHashMap();
+    for (int i = 0; i < size; i++) {
+      keyCounts.addTo(other.getKeyForIndex(i), 1);
+    }
+    Int2IntOpenHashMap translation = new Int2IntOpenHashMap(keyCounts.size());
+    int newKeys = 0;
+    for (int key : keyCounts.keySet()) {
+      String value = other.getValueForKey(key);
+      int target =
+          StringColumnType.missingValueIndicator().equals(value)
+              ? MISSING_VALUE
+              : getKeyForValue(value);
+      if (target == DEFAULT_RETURN_VALUE) {
+        newKeys++;
+      }
+      translation.put(key, target);
+    }
+    if ((long) nextIndex.get() + newKeys >= Integer.MAX_VALUE) {
+      throw new NoKeysAvailableException(
+          String.format(
+              "String column can only contain %d unique values. Column has more.", MAX_UNIQUE));
+    }
+    for (Int2IntMap.Entry entry : keyCounts.int2IntEntrySet()) {
+      int key = entry.getIntKey();
+      int target = translation.get(key);
+      if (target == DEFAULT_RETURN_VALUE) {
+        target = getValueId();
+        put(target, other.getValueForKey(key));
+        translation.put(key, target);
+      } else if (target == MISSING_VALUE) {
+        put(MISSING_VALUE, StringColumnType.missingValueIndicator());
+      }
+      keyToCount.addTo(target, entry.getIntValue());
+    }
+    values.ensureCapacity(values.size() + size);
+    for (int i = 0; i < size; i++) {
+      values.add(translation.get(other.getKeyForIndex(i)));
+    }
+  }
+
+  /**
+   * Returns a map of the values at the given rows. It copies their keys and the dictionary entries
+   * of those keys, and keeps this map's next key, so the keys mean the same in both maps.
+   */
+  @Override
+  public IntDictionaryMap subset(int[] rows) {
+    int[] keys = gather(values.elements(), values.size(), rows);
+    Int2IntOpenHashMap counts = new Int2IntOpenHashMap();
+    for (int key : keys) {
+      counts.addTo(key, 1);
+    }
+    Int2ObjectMap<String> subsetKeyToValue = new Int2ObjectOpenHashMap<>(counts.size());
+    Object2IntOpenHashMap<String> subsetValueToKey = new Object2IntOpenHashMap<>(counts.size());
+    subsetValueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    for (int key : counts.keySet()) {
+      String value = keyToValue.get(key);
+      subsetKeyToValue.put(key, value);
+      subsetValueToKey.put(value, key);
+    }
+    IntDictionaryMap subset =
+        new IntDictionaryBuilder()
+            .setNextIndex(nextIndex.get())
+            .setKeyToValue(subsetKeyToValue)
+            .setValueToKey(subsetValueToKey)
+            .setKeyToCount(counts)
+            .setValues(keys)
+            .build();
+    return subset;
+  }
+
   private int getValueId() throws NoKeysAvailableException {
     int nextValue = nextIndex.incrementAndGet();
     if (nextValue >= Integer.MAX_VALUE) {
@@ -24,6 +24,15 @@ public class NullDictionaryMap implements DictionaryMap {
     }
   }
 
+  private NullDictionaryMap(TextualStringData data) {
+    this.data = data;
+  }
+
+  @Override
+  public NullDictionaryMap subset(int[] rows) {
+    return new NullDictionaryMap((TextualStringData) data.subset(rows));
+  }
+
   @Override
   public void sortDescending() {
     data.sortDescending();
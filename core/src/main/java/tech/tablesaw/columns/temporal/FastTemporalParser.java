@@ -0,0 +1,386 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.temporal;
+
+import java.time.Month;
+import java.time.Year;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.times.PackedLocalTime;
+
+/**
+ * Parses the common all-numeric date and time layouts straight from their characters into the
+ * packed representations used by the temporal columns, without creating any objects or throwing
+ * exceptions.
+ *
+ * <p>The layouts of each {@link Kind} are the numeric layouts of the default formatter of the
+ * corresponding column parser, and values are resolved the way that formatter resolves them: in a
+ * date, days past the end of the month are moved back to its last day, and a time of 24:00 is
+ * midnight at the start of the following day. The layout that matched the last value is tried first
+ * for the next one, so a column whose values share a layout is matched at the first attempt. That
+ * layout is only a hint, so an instance may be shared between threads.
+ *
+ * <p>Values in other layouts, such as those with month names or AM/PM markers, are left to a {@link
+ * java.time.format.DateTimeFormatter}. {@link #mayNeedFormatter(String)} tells whether a string
+ * that couldn't be parsed here might still be accepted by one.
+ */
+public final class FastTemporalParser {
+
+  /** Returned by {@link #parse(String)} when the string doesn't have any of the layouts */
+  public static final long NOT_PARSED = Long.MIN_VALUE;
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final long NANOS_PER_DAY = 86_400 * NANOS_PER_SECOND;
+
+  /** The kinds of value that can be parsed, with the layouts recognized for each */
+  public enum Kind {
+    /** yyyyMMdd, yyyy-MM-dd, yyyy/MM/dd, MM-dd-yyyy, MM.dd.yyyy, M/d/yyyy and M/d/yy */
+    DATE(7),
+    /** ISO local times, HH:mm[:ss[.SSS]], with at most three digits of fraction */
+    TIME(1),
+    /** The TIME layouts, and HHmm */
+    TIME_OR_HHMM(2),
+    /** yyyy-MM-dd HH:mm:ss[.S], ISO local date-times, and M/d/yy H:mm */
+    DATE_TIME(3),
+    /** ISO instants in UTC, yyyy-MM-ddTHH:mm:ss[.SSSSSSSSS]Z */
+    INSTANT(1);
+
+    private final int layoutCount;
+
+    Kind(int layoutCount) {
+      this.layoutCount = layoutCount;
+    }
+  }
+
+  private final Kind kind;
+  private int layout;
+
+  public FastTemporalParser(Kind kind) {
+    this.kind = kind;
+  }
+
+  /**
+   * Returns the packed date, time, date-time or instant (depending on the kind) that the string
+   * represents, or {@link #NOT_PARSED} if it doesn't have any of the layouts of this kind
+   */
+  public long parse(String s) {
+    int last = layout;
+    long value = parse(s, last);
+    if (value == NOT_PARSED) {
+      for (int i = 0; i < kind.layoutCount; i++) {
+        if (i != last && (value = parse(s, i)) != NOT_PARSED) {
+          layout = i;
+          break;
+        }
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Returns true if the given string, which {@link #parse(String)} couldn't parse, might still be
+   * accepted by the default formatter of its column type. That's only possible if the string
+   * contains a digit, which every layout requires, and a character that is not found in any of the
+   * numeric layouts, such as a letter.
+   *
+   * <p>Years of more than four digits need no special case: the default formatters print and read
+   * them with a leading sign, as in "+10000-01-01", and the sign is such a character. Without it,
+   * as in "10000-01-01" or "1/5/20200", the formatters reject them just as the layouts here do.
+   */
+  public static boolean mayNeedFormatter(String s) {
+    boolean digit = false;
+    boolean other = false;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digit = true;
+      } else if (c != '-' && c != '/' && c != '.' && c != ':' && c != ' ') {
+        other = true;
+      }
+    }
+    return digit && other;
+  }
+
+  private long parse(String s, int layout) {
+    switch (kind) {
+      case DATE:
+        return date(s, layout);
+      case TIME:
+      case TIME_OR_HHMM:
+        return time(s, layout);
+      case DATE_TIME:
+        return dateTime(s, layout);
+      default:
+        return instant(s);
+    }
+  }
+
+  private static long date(String s, int layout) {
+    int length = s.length();
+    switch (layout) {
+      case 0: // yyyyMMdd
+        return length == 8
+            ? packDate(digits(s, 0, 4), digits(s, 4, 2), digits(s, 6, 2), 1, true)
+            : NOT_PARSED;
+      case 1: // yyyy-MM-dd
+        return length == 10 ? yearMonthDay(s, '-', 1, true) : NOT_PARSED;
+      case 2: // yyyy/MM/dd
+        return length == 10 ? yearMonthDay(s, '/', 1, true) : NOT_PARSED;
+      case 3: // MM-dd-yyyy
+        return length == 10 ? monthDayYear(s, '-') : NOT_PARSED;
+      case 4: // MM.dd.yyyy
+        return length == 10 ? monthDayYear(s, '.') : NOT_PARSED;
+      case 5: // M/d/yyyy
+        return slashedDate(s, length, 4);
+      default: // M/d/yy
+        // The formatter tries yyyy/MM/dd first, and rejects invalid dates in that shape rather
+        // than reading them as M/d/yy
+        return length == 10 && s.charAt(4) == '/' ? NOT_PARSED : slashedDate(s, length, 2);
+    }
+  }
+
+  private static long time(String s, int layout) {
+    int length = s.length();
+    if (layout == 0) {
+      return length >= 5 ? packTime(isoTime(s, 0, 3)) : NOT_PARSED;
+    }
+    // HHmm
+    return length == 4 ? packTime(nanoOfDay(digits(s, 0, 2), digits(s, 2, 2), 0, 0)) : NOT_PARSED;
+  }
+
+  private static long dateTime(String s, int layout) {
+    int length = s.length();
+    switch (layout) {
+      case 0: // yyyy-MM-dd HH:mm:ss[.S]
+        if ((length != 19 && length != 21) || s.charAt(10) != ' ') {
+          return NOT_PARSED;
+        }
+        long time = NOT_PARSED;
+        if (s.charAt(13) == ':' && s.charAt(16) == ':') {
+          int fraction = 0;
+          if (length == 21) {
+            fraction = s.charAt(19) == '.' ? digits(s, 20, 1) : -1;
+          }
+          time =
+              fraction < 0
+                  ? NOT_PARSED
+                  : nanoOfDay(
+                      digits(s, 11, 2),
+                      digits(s, 14, 2),
+                      digits(s, 17, 2),
+                      fraction * 100_000_000L);
+        }
+        return packDateTime(yearMonthDay(s, '-', 1, true), time);
+      case 1: // yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]
+        if (length < 16 || (s.charAt(10) != 'T' && s.charAt(10) != 't')) {
+          return NOT_PARSED;
+        }
+        return packDateTime(yearMonthDay(s, '-', 0, true), isoTime(s, 11, 9));
+      default: // M/d/yy H:mm
+        int space = s.indexOf(' ');
+        int colon = s.indexOf(':', space + 1);
+        if (space < 0 || colon < 0 || colon - space - 1 > 9 || length != colon + 3) {
+          return NOT_PARSED;
+        }
+        long nanos =
+            nanoOfDay(digits(s, space + 1, colon - space - 1), digits(s, colon + 1, 2), 0, 0);
+        return packDateTime(slashedDate(s, space, 2), nanos);
+    }
+  }
+
+  /**
+   * Parses yyyy-MM-ddTHH:mm:ss[.SSSSSSSSS]Z. Unlike the other layouts, the date must be valid as
+   * written, and times of 24:00 and leap seconds are left to {@link java.time.Instant#parse}.
+   */
+  private static long instant(String s) {
+    int length = s.length();
+    if (length < 20
+        || (s.charAt(10) != 'T' && s.charAt(10) != 't')
+        || (s.charAt(length - 1) != 'Z' && s.charAt(length - 1) != 'z')
+        || s.charAt(13) != ':'
+        || s.charAt(16) != ':') {
+      return NOT_PARSED;
+    }
+    long date = yearMonthDay(s, '-', 0, false);
+    int hour = digits(s, 11, 2);
+    int second = digits(s, 17, 2);
+    long fraction = length == 20 ? 0 : fraction(s, 19, length - 1, 9);
+    if (date == NOT_PARSED || hour > 23 || second > 59 || fraction < 0) {
+      return NOT_PARSED;
+    }
+    long nanos = nanoOfDay(hour, digits(s, 14, 2), second, fraction);
+    return nanos < 0 ? NOT_PARSED : PackedInstant.create((int) date, packedTime(nanos));
+  }
+
+  /** Parses a date at the start of the string with a four digit year, followed by month and day */
+  private static long yearMonthDay(String s, char separator, int minYear, boolean smart) {
+    if (s.charAt(4) != separator || s.charAt(7) != separator) {
+      return NOT_PARSED;
+    }
+    return packDate(digits(s, 0, 4), digits(s, 5, 2), digits(s, 8, 2), minYear, smart);
+  }
+
+  /** Parses a date with a two digit month and day, followed by a four digit year */
+  private static long monthDayYear(String s, char separator) {
+    if (s.charAt(2) != separator || s.charAt(5) != separator) {
+      return NOT_PARSED;
+    }
+    return packDate(digits(s, 6, 4), digits(s, 0, 2), digits(s, 3, 2), 1, true);
+  }
+
+  /**
+   * Parses M/d/yyyy or M/d/yy at the start of the string, ending at {@code end}. Like the
+   * formatter, the month and day may have any number of digits; two digit years are in the 2000s
+   */
+  private static long slashedDate(String s, int end, int yearDigits) {
+    int first = s.indexOf('/');
+    int second = first < 0 ? -1 : s.indexOf('/', first + 1);
+    if (first < 1 || first > 9 || second < 0 || second - first - 1 > 9) {
+      return NOT_PARSED;
+    }
+    if (end - second - 1 != yearDigits) {
+      return NOT_PARSED;
+    }
+    int year = digits(s, second + 1, yearDigits);
+    if (year >= 0 && yearDigits == 2) {
+      year += 2000;
+    }
+    return packDate(year, digits(s, 0, first), digits(s, first + 1, second - first - 1), 1, true);
+  }
+
+  /**
+   * Parses HH:mm[:ss[.fraction]] starting at {@code from} and running to the end of the string, and
+   * returns the nanosecond of the day, or -1
+   */
+  private static long isoTime(String s, int from, int maxFractionDigits) {
+    int length = s.length();
+    if (s.charAt(from + 2) != ':') {
+      return -1;
+    }
+    int hour = digits(s, from, 2);
+    int minute = digits(s, from + 3, 2);
+    if (length == from + 5) {
+      return nanoOfDay(hour, minute, 0, 0);
+    }
+    if (length < from + 8 || s.charAt(from + 5) != ':') {
+      return -1;
+    }
+    int second = digits(s, from + 6, 2);
+    long fraction = 0;
+    if (length > from + 8) {
+      fraction = fraction(s, from + 8, length, maxFractionDigits);
+    }
+    return fraction < 0 ? -1 : nanoOfDay(hour, minute, second, fraction);
+  }
+
+  /**
+   * Parses a decimal point followed by up to {@code maxDigits} digits, running from {@code from} to
+   * {@code end}, and returns the value in nanoseconds, or -1
+   */
+  private static long fraction(String s, int from, int end, int maxDigits) {
+    int digitCount = end - from - 1;
+    if (s.charAt(from) != '.' || digitCount > maxDigits) {
+      return -1;
+    }
+    long nanos = 0;
+    for (int i = 0; i < 9; i++) {
+      int digit = i < digitCount ? s.charAt(from + 1 + i) - '0' : 0;
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      nanos = nanos * 10 + digit;
+    }
+    return nanos;
+  }
+
+  /**
+   * Returns the nanosecond of the day, or -1 if the fields are invalid. Like the default resolver,
+   * a time of 24:00 is accepted and returned as a full day
+   */
+  private static long nanoOfDay(int hour, int minute, int second, long nanos) {
+    if (hour < 0 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+      return -1;
+    }
+    if (hour == 24 && minute == 0 && second == 0 && nanos == 0) {
+      return NANOS_PER_DAY;
+    }
+    if (hour > 23) {
+      return -1;
+    }
+    return ((hour * 60L + minute) * 60 + second) * NANOS_PER_SECOND + nanos;
+  }
+
+  /**
+   * Returns the packed date, or {@link #NOT_PARSED} if the fields are invalid. If {@code smart},
+   * days past the end of the month are moved back to its last day, as the default resolver does
+   */
+  private static long packDate(int year, int month, int day, int minYear, boolean smart) {
+    if (year < minYear || month < 1 || month > 12 || day < 1 || day > 31) {
+      return NOT_PARSED;
+    }
+    if (day > 28) {
+      int lengthOfMonth = Month.of(month).length(Year.isLeap(year));
+      if (day > lengthOfMonth) {
+        if (!smart) {
+          return NOT_PARSED;
+        }
+        day = lengthOfMonth;
+      }
+    }
+    return PackedLocalDate.pack(year, month, day);
+  }
+
+  private static long packTime(long nanoOfDay) {
+    if (nanoOfDay < 0) {
+      return NOT_PARSED;
+    }
+    return packedTime(nanoOfDay == NANOS_PER_DAY ? 0 : nanoOfDay);
+  }
+
+  private static long packDateTime(long date, long nanoOfDay) {
+    if (date == NOT_PARSED || nanoOfDay < 0) {
+      return NOT_PARSED;
+    }
+    int packedDate = (int) date;
+    if (nanoOfDay == NANOS_PER_DAY) {
+      packedDate = PackedLocalDate.plusDays(1, packedDate);
+      nanoOfDay = 0;
+    }
+    return PackedLocalDateTime.create(packedDate, packedTime(nanoOfDay));
+  }
+
+  private static int packedTime(long nanoOfDay) {
+    int secondOfDay = (int) (nanoOfDay / NANOS_PER_SECOND);
+    int millis = (int) (nanoOfDay % NANOS_PER_SECOND / 1_000_000);
+    return PackedLocalTime.of(secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, millis);
+  }
+
+  /** Returns the value of the given number of digits, or -1 if any of the characters isn't one */
+  private static int digits(String s, int from, int count) {
+    if (count < 1) {
+      return -1;
+    }
+    int value = 0;
+    for (int i = from; i < from + count; i++) {
+      int digit = s.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+}
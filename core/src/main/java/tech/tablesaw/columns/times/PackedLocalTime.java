@@ -347,7 +347,18 @@ public class PackedLocalTime {
   }
 
   public static int getMillisecondOfDay(int packedLocalTime) {
-    return (int) (toNanoOfDay(packedLocalTime) / 1000_000);
+    return getHour(packedLocalTime) * SECONDS_PER_HOUR * 1000
+        + getMinute(packedLocalTime) * SECONDS_PER_MINUTE * 1000
+        + getMillisecondOfMinute(packedLocalTime);
+  }
+
+  /** Returns the packed time of the given millisecond of the day, which must be in range */
+  public static int ofMillisecondOfDay(int millisecondOfDay) {
+    int minuteOfDay = millisecondOfDay / (SECONDS_PER_MINUTE * 1000);
+    return create(
+        (byte) (minuteOfDay / MINUTES_PER_HOUR),
+        (byte) (minuteOfDay % MINUTES_PER_HOUR),
+        (char) (millisecondOfDay % (SECONDS_PER_MINUTE * 1000)));
   }
 
   public static String toShortTimeString(int time) {
@@ -10,6 +10,7 @@ import java.util.Locale;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.columns.datetimes.DateTimeParser;
+import tech.tablesaw.columns.temporal.FastTemporalParser;
 import tech.tablesaw.io.ReadOptions;
 
 public class TimeParser extends AbstractColumnParser<LocalTime> {
@@ -62,6 +63,15 @@ public class TimeParser extends AbstractColumnParser<LocalTime> {
   private DateTimeFormatter formatter = DEFAULT_FORMATTER;
   private DateTimeFormatter parserFormatter = TIME_CONVERSION_FORMATTER;
 
+  /**
+   * Parse the numeric layouts of the default detection and conversion formatters; null if a custom
+   * formatter is used
+   */
+  private FastTemporalParser fastDetector = new FastTemporalParser(FastTemporalParser.Kind.TIME);
+
+  private FastTemporalParser fastParser =
+      new FastTemporalParser(FastTemporalParser.Kind.TIME_OR_HHMM);
+
   public TimeParser(ColumnType columnType) {
     super(columnType);
   }
@@ -72,6 +82,8 @@ public class TimeParser extends AbstractColumnParser<LocalTime> {
     if (readCsvFormatter != null) {
       formatter = readCsvFormatter;
       parserFormatter = readCsvFormatter;
+      fastDetector = null;
+      fastParser = null;
     }
     if (readOptions.locale() != null) {
       locale = readOptions.locale();
@@ -86,6 +98,14 @@ public class TimeParser extends AbstractColumnParser<LocalTime> {
     if (isMissing(s)) {
       return true;
     }
+    if (fastDetector != null) {
+      if (fastDetector.parse(s) != FastTemporalParser.NOT_PARSED) {
+        return true;
+      }
+      if (!FastTemporalParser.mayNeedFormatter(s)) {
+        return false;
+      }
+    }
     try {
       LocalTime.parse(s, formatter.withLocale(locale));
       return true;
@@ -103,4 +123,22 @@ public class TimeParser extends AbstractColumnParser<LocalTime> {
     String paddedValue = Strings.padStart(value, 4, '0');
     return LocalTime.parse(paddedValue, parserFormatter);
   }
+
+  /**
+   * Returns the given string as a packed time (see {@link PackedLocalTime}), or the missing value
+   * indicator if it is missing. Times in the common numeric layouts are packed directly from their
+   * digits, without creating a LocalTime
+   */
+  public int parsePacked(String value) {
+    if (isMissing(value)) {
+      return TimeColumnType.missingValueIndicator();
+    }
+    if (fastParser != null) {
+      long packed = fastParser.parse(value);
+      if (packed != FastTemporalParser.NOT_PARSED) {
+        return (int) packed;
+      }
+    }
+    return PackedLocalTime.pack(LocalTime.parse(Strings.padStart(value, 4, '0'), parserFormatter));
+  }
 }
@@ -1,5 +1,7 @@
 package tech.tablesaw.filtering;
 
+import static tech.tablesaw.columns.dates.PackedLocalDate.pack;
+
 import com.google.common.annotations.Beta;
 import java.time.LocalDate;
 import java.util.function.Function;
@@ -148,37 +150,47 @@ public class DeferredDateColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isAfter(LocalDate value) {
-    return table -> table.dateColumn(name()).isAfter(value);
+    return range(pack(value), false, Integer.MAX_VALUE, true, column -> column.isAfter(value));
   }
 
   @Override
   public Function<Table, Selection> isBetweenExcluding(LocalDate lowValue, LocalDate highValue) {
-    return table -> table.dateColumn(name()).isBetweenExcluding(lowValue, highValue);
+    return range(
+        pack(lowValue),
+        false,
+        pack(highValue),
+        false,
+        column -> column.isBetweenExcluding(lowValue, highValue));
   }
 
   @Override
   public Function<Table, Selection> isBetweenIncluding(LocalDate lowValue, LocalDate highValue) {
-    return table -> table.dateColumn(name()).isBetweenIncluding(lowValue, highValue);
+    return range(
+        pack(lowValue),
+        true,
+        pack(highValue),
+        true,
+        column -> column.isBetweenIncluding(lowValue, highValue));
   }
 
   @Override
   public Function<Table, Selection> isBefore(LocalDate value) {
-    return table -> table.dateColumn(name()).isBefore(value);
+    return range(Integer.MIN_VALUE, true, pack(value), false, column -> column.isBefore(value));
   }
 
   @Override
   public Function<Table, Selection> isOnOrBefore(LocalDate value) {
-    return table -> table.dateColumn(name()).isOnOrBefore(value);
+    return range(Integer.MIN_VALUE, true, pack(value), true, column -> column.isOnOrBefore(value));
   }
 
   @Override
   public Function<Table, Selection> isOnOrAfter(LocalDate value) {
-    return table -> table.dateColumn(name()).isOnOrAfter(value);
+    return range(pack(value), true, Integer.MAX_VALUE, true, column -> column.isOnOrAfter(value));
   }
 
   @Override
   public Function<Table, Selection> isEqualTo(LocalDate value) {
-    return table -> table.dateColumn(name()).isEqualTo(value);
+    return range(pack(value), true, pack(value), true, column -> column.isEqualTo(value));
   }
 
   @Override
@@ -215,4 +227,22 @@ public class DeferredDateColumn extends DeferredColumn
   public Function<Table, Selection> isBefore(DateColumn column) {
     return table -> table.dateColumn(name()).isBefore(column);
   }
+
+  /**
+   * Returns a filter for the packed dates between {@code low} and {@code high}, which uses the
+   * table's index on the column if it has one, and otherwise the given scan
+   */
+  private Function<Table, Selection> range(
+      int low,
+      boolean lowInclusive,
+      int high,
+      boolean highInclusive,
+      Function<DateColumn, Selection> scan) {
+    return table -> {
+      DateColumn column = table.dateColumn(name());
+      return table
+          .indexes()
+          .range(column, low, lowInclusive, high, highInclusive, () -> scan.apply(column));
+    };
+  }
 }
@@ -17,37 +17,38 @@ public class DeferredNumberColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isEqualTo(double other) {
-    return table -> table.numberColumn(name()).isEqualTo(other);
+    return range(other, true, other, true, column -> column.isEqualTo(other));
   }
 
   @Override
   public Function<Table, Selection> isBetweenExclusive(double start, double end) {
-    return table -> table.numberColumn(name()).isBetweenExclusive(start, end);
+    return range(start, false, end, false, column -> column.isBetweenExclusive(start, end));
   }
 
   @Override
   public Function<Table, Selection> isBetweenInclusive(double start, double end) {
-    return table -> table.numberColumn(name()).isBetweenInclusive(start, end);
+    return range(start, true, end, true, column -> column.isBetweenInclusive(start, end));
   }
 
   @Override
   public Function<Table, Selection> isGreaterThan(double f) {
-    return table -> table.numberColumn(name()).isGreaterThan(f);
+    return range(f, false, Double.POSITIVE_INFINITY, true, column -> column.isGreaterThan(f));
   }
 
   @Override
   public Function<Table, Selection> isGreaterThanOrEqualTo(double f) {
-    return table -> table.numberColumn(name()).isGreaterThanOrEqualTo(f);
+    return range(
+        f, true, Double.POSITIVE_INFINITY, true, column -> column.isGreaterThanOrEqualTo(f));
   }
 
   @Override
   public Function<Table, Selection> isLessThan(double f) {
-    return table -> table.numberColumn(name()).isLessThan(f);
+    return range(Double.NEGATIVE_INFINITY, true, f, false, column -> column.isLessThan(f));
   }
 
   @Override
   public Function<Table, Selection> isLessThanOrEqualTo(double f) {
-    return table -> table.numberColumn(name()).isLessThanOrEqualTo(f);
+    return range(Double.NEGATIVE_INFINITY, true, f, true, column -> column.isLessThanOrEqualTo(f));
   }
 
   @Override
@@ -114,4 +115,22 @@ public class DeferredNumberColumn extends DeferredColumn
   public Function<Table, Selection> isLessThanOrEqualTo(NumericColumn<?> d) {
     return table -> table.numberColumn(name()).isLessThanOrEqualTo(d);
   }
+
+  /**
+   * Returns a filter for the values between {@code low} and {@code high}, which uses the table's
+   * index on the column if it has one, and otherwise the given scan
+   */
+  private Function<Table, Selection> range(
+      double low,
+      boolean lowInclusive,
+      double high,
+      boolean highInclusive,
+      Function<NumericColumn<?>, Selection> scan) {
+    return table -> {
+      NumericColumn<?> column = table.numberColumn(name());
+      return table
+          .indexes()
+          .range(column, low, lowInclusive, high, highInclusive, () -> scan.apply(column));
+    };
+  }
 }
@@ -3,6 +3,7 @@ package tech.tablesaw.filtering;
 import com.google.common.annotations.Beta;
 import java.util.Collection;
 import java.util.function.Function;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.selection.Selection;
@@ -122,7 +123,10 @@ public class DeferredStringColumn extends DeferredColumn
 
   @Override
   public Function<Table, Selection> isEqualTo(String string) {
-    return table -> table.stringColumn(name()).isEqualTo(string);
+    return table -> {
+      StringColumn column = table.stringColumn(name());
+      return table.indexes().equalTo(column, string, () -> column.isEqualTo(string));
+    };
   }
 
   @Override
@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import org.roaringbitmap.RoaringBitmap;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * A bit-sliced index for integer columns, which answers range queries and sums with bitmap
+ * operations alone.
+ *
+ * <p>Each value is stored as its distance from the column's minimum, and slice k is the bitmap of
+ * the rows where bit k of that distance is set. A comparison with a constant visits the slices from
+ * the highest bit down, narrowing the rows still equal to the constant so far, so it costs one
+ * bitmap operation per slice whatever the number of distinct values.
+ *
+ * <p>Missing values are in no slice and match no query, as in the number filters.
+ */
+public class BitSlicedIndex implements Index {
+
+  /** The rows that hold a value */
+  private final RoaringBitmap existence = new RoaringBitmap();
+
+  private final RoaringBitmap[] slices;
+
+  /** The smallest value in the column, which the slices hold the distance from */
+  private final long min;
+
+  /** Constructs an index for the given column */
+  public BitSlicedIndex(IntColumn column) {
+    this(column.size(), column::isMissing, column::getInt);
+  }
+
+  /** Constructs an index for the given column */
+  public BitSlicedIndex(ShortColumn column) {
+    this(column.size(), column::isMissing, column::getShort);
+  }
+
+  private BitSlicedIndex(int size, IntPredicate isMissing, IntToLongFunction get) {
+    long low = Long.MAX_VALUE;
+    long high = Long.MIN_VALUE;
+    for (int row = 0; row < size; row++) {
+      if (!isMissing.test(row)) {
+        long value = get.applyAsLong(row);
+        low = Math.min(low, value);
+        high = Math.max(high, value);
+        existence.add(row);
+      }
+    }
+    min = existence.isEmpty() ? 0 : low;
+    int bits = existence.isEmpty() ? 0 : 64 - Long.numberOfLeadingZeros(high - low);
+    slices = new RoaringBitmap[bits];
+    for (int k = 0; k < bits; k++) {
+      slices[k] = new RoaringBitmap();
+    }
+    for (int row = 0; row < size; row++) {
+      if (!isMissing.test(row)) {
+        long offset = get.applyAsLong(row) - min;
+        while (offset != 0) {
+          int k = Long.numberOfTrailingZeros(offset);
+          slices[k].add(row);
+          offset &= offset - 1;
+        }
+      }
+    }
+    for (RoaringBitmap slice : slices) {
+      slice.runOptimize();
+    }
+    existence.runOptimize();
+  }
+
+  /** Returns a {@link Selection} of the rows holding the given value */
+  public Selection get(long value) {
+    return new BitmapBackedSelection(compare(value, false, true, false));
+  }
+
+  /** Returns a {@link Selection} of the rows holding values at least as large as the given value */
+  public Selection atLeast(long value) {
+    return new BitmapBackedSelection(compare(value, false, true, true));
+  }
+
+  /** Returns a {@link Selection} of the rows holding values greater than the given value */
+  public Selection greaterThan(long value) {
+    return new BitmapBackedSelection(compare(value, false, false, true));
+  }
+
+  /** Returns a {@link Selection} of the rows holding values at most as large as the given value */
+  public Selection atMost(long value) {
+    return new BitmapBackedSelection(compare(value, true, true, false));
+  }
+
+  /** Returns a {@link Selection} of the rows holding values less than the given value */
+  public Selection lessThan(long value) {
+    return new BitmapBackedSelection(compare(value, true, false, false));
+  }
+
+  /** Returns a {@link Selection} of the rows holding values from {@code low} to {@code high} */
+  public Selection between(long low, long high) {
+    RoaringBitmap rows = compare(low, false, true, true);
+    rows.and(compare(high, true, true, false));
+    return new BitmapBackedSelection(rows);
+  }
+
+  /** Returns the number of rows in the given selection that hold a value */
+  public int count(Selection selection) {
+    return RoaringBitmap.andCardinality(existence, BitmapIndex.bitmap(selection));
+  }
+
+  /** Returns the sum of the values in the given selection, ignoring missing values */
+  public long sum(Selection selection) {
+    RoaringBitmap selected = BitmapIndex.bitmap(selection);
+    long sum = min * RoaringBitmap.andCardinality(existence, selected);
+    for (int k = 0; k < slices.length; k++) {
+      sum += RoaringBitmap.andCardinality(slices[k], selected) << k;
+    }
+    return sum;
+  }
+
+  /**
+   * Returns the rows whose values are less than, equal to, or greater than the given value, as
+   * chosen by the flags
+   */
+  private RoaringBitmap compare(long value, boolean less, boolean equal, boolean greater) {
+    if (value < min) {
+      return greater ? existence.clone() : new RoaringBitmap();
+    }
+    long offset = value - min;
+    if (offset >>> slices.length != 0) {
+      return less ? existence.clone() : new RoaringBitmap();
+    }
+    RoaringBitmap lessRows = new RoaringBitmap();
+    RoaringBitmap greaterRows = new RoaringBitmap();
+    RoaringBitmap equalRows = existence.clone();
+    for (int k = slices.length - 1; k >= 0; k--) {
+      if ((offset >>> k & 1) != 0) {
+        if (less) {
+          lessRows.or(RoaringBitmap.andNot(equalRows, slices[k]));
+        }
+        equalRows.and(slices[k]);
+      } else {
+        if (greater) {
+          greaterRows.or(RoaringBitmap.and(equalRows, slices[k]));
+        }
+        equalRows.andNot(slices[k]);
+      }
+    }
+    RoaringBitmap result = equal ? equalRows : new RoaringBitmap();
+    result.or(lessRows);
+    result.or(greaterRows);
+    return result;
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import tech.tablesaw.api.CategoricalColumn;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * An index for low-cardinality columns, like string, boolean and small-range integer columns of
+ * categories, that holds a compressed bitmap of rows for each distinct value. Filters on several
+ * such indexes combine with bitmap AND and OR operations, and values are counted from the bitmaps
+ * alone, without reading the column.
+ *
+ * <p>Missing values have a bitmap of their own, returned by {@link #isMissing()}, and are not
+ * matched by the other methods.
+ *
+ * @param <T> the type of the column's values
+ */
+public class BitmapIndex<T> implements Index {
+
+  private final String name;
+  private final ColumnType type;
+
+  /** The rows holding each distinct value, in the order the values first appear */
+  private final Map<T, RoaringBitmap> bitmaps = new LinkedHashMap<>();
+
+  private final RoaringBitmap missing = new RoaringBitmap();
+
+  /** Constructs an index for the given column */
+  public BitmapIndex(CategoricalColumn<T> column) {
+    name = column.name();
+    type = column.type();
+    for (int row = 0; row < column.size(); row++) {
+      if (column.isMissing(row)) {
+        missing.add(row);
+      } else {
+        bitmaps.computeIfAbsent(column.get(row), k -> new RoaringBitmap()).add(row);
+      }
+    }
+    bitmaps.values().forEach(RoaringBitmap::runOptimize);
+    missing.runOptimize();
+  }
+
+  /** Returns the distinct values in the column, other than missing values */
+  public Set<T> keys() {
+    return Collections.unmodifiableSet(bitmaps.keySet());
+  }
+
+  /** Returns a {@link Selection} of the rows holding the given value */
+  public Selection get(T value) {
+    RoaringBitmap bitmap = bitmaps.get(value);
+    return new BitmapBackedSelection(bitmap == null ? new RoaringBitmap() : bitmap.clone());
+  }
+
+  /** Returns a {@link Selection} of the rows holding any of the given values */
+  public Selection isIn(Collection<T> values) {
+    return new BitmapBackedSelection(FastAggregation.or(bitmaps(values).iterator()));
+  }
+
+  /**
+   * Returns a {@link Selection} of the rows holding none of the given values, nor missing values
+   */
+  public Selection isNotIn(Collection<T> values) {
+    Set<T> excluded = new HashSet<>(values);
+    List<RoaringBitmap> others = new ArrayList<>();
+    bitmaps.forEach(
+        (value, bitmap) -> {
+          if (!excluded.contains(value)) {
+            others.add(bitmap);
+          }
+        });
+    return new BitmapBackedSelection(FastAggregation.or(others.iterator()));
+  }
+
+  /** Returns a {@link Selection} of the rows holding missing values */
+  public Selection isMissing() {
+    return new BitmapBackedSelection(missing.clone());
+  }
+
+  /** Returns the number of rows holding the given value */
+  public int count(T value) {
+    RoaringBitmap bitmap = bitmaps.get(value);
+    return bitmap == null ? 0 : bitmap.getCardinality();
+  }
+
+  /** Returns the number of rows in the given selection that hold the given value */
+  public int count(T value, Selection selection) {
+    RoaringBitmap bitmap = bitmaps.get(value);
+    return bitmap == null ? 0 : RoaringBitmap.andCardinality(bitmap, bitmap(selection));
+  }
+
+  /**
+   * Returns a table of the number of rows holding each value, in the layout of {@link
+   * CategoricalColumn#countByCategory()}
+   */
+  public Table countByCategory() {
+    return counts(null);
+  }
+
+  /**
+   * Returns a table of the number of rows in the given selection holding each value, in the layout
+   * of {@link CategoricalColumn#countByCategory()}. Values none of the selected rows hold are left
+   * out.
+   */
+  public Table countByCategory(Selection selection) {
+    return counts(bitmap(selection));
+  }
+
+  /**
+   * Returns a table of the number of rows in the given selection holding each value, in the layout
+   * of {@link Table#countBy(String...)}: a column of the values, missing values included, named
+   * after the indexed column and in the order they first appear, and a column named "Count". Every
+   * value is listed, even if none of the selected rows hold it. If the selection is null, the rows
+   * holding a value are counted, and missing values have a count of zero.
+   */
+  public Table countBy(@Nullable Selection selection) {
+    RoaringBitmap selected = selection == null ? null : bitmap(selection);
+    List<Map.Entry<T, RoaringBitmap>> groups = new ArrayList<>(bitmaps.entrySet());
+    if (!missing.isEmpty()) {
+      groups.add(new AbstractMap.SimpleEntry<>(null, missing));
+    }
+    groups.sort(Comparator.comparingInt(group -> group.getValue().first()));
+    Column<?> categories = type.create(name);
+    IntColumn counts = IntColumn.create("Count");
+    for (Map.Entry<T, RoaringBitmap> group : groups) {
+      if (group.getValue() == missing) {
+        categories.appendMissing();
+        counts.append(selected == null ? 0 : count(missing, selected));
+      } else {
+        categories.appendObj(group.getKey());
+        counts.append(count(group.getValue(), selected));
+      }
+    }
+    return Table.create("Column: " + name, categories, counts);
+  }
+
+  private Table counts(@Nullable RoaringBitmap selected) {
+    Column<?> categories = type.create("Category");
+    IntColumn counts = IntColumn.create("Count");
+    for (Map.Entry<T, RoaringBitmap> entry : bitmaps.entrySet()) {
+      int count = count(entry.getValue(), selected);
+      if (count > 0) {
+        categories.appendObj(entry.getKey());
+        counts.append(count);
+      }
+    }
+    int missingCount = count(missing, selected);
+    if (missingCount > 0) {
+      categories.appendMissing();
+      counts.append(missingCount);
+    }
+    return Table.create("Column: " + name, categories, counts);
+  }
+
+  private List<RoaringBitmap> bitmaps(Collection<T> values) {
+    List<RoaringBitmap> found = new ArrayList<>();
+    for (T value : values) {
+      RoaringBitmap bitmap = bitmaps.get(value);
+      if (bitmap != null) {
+        found.add(bitmap);
+      }
+    }
+    return found;
+  }
+
+  private static int count(RoaringBitmap bitmap, @Nullable RoaringBitmap selected) {
+    return selected == null
+        ? bitmap.getCardinality()
+        : RoaringBitmap.andCardinality(bitmap, selected);
+  }
+
+  /**
+   * Returns the rows of the selection as a bitmap, which is the selection's own bitmap if it has
+   * one, and must not be modified
+   */
+  static RoaringBitmap bitmap(Selection selection) {
+    return BitmapBackedSelection.readOnlyBitmap(selection);
+  }
+}
@@ -15,10 +15,7 @@
 package tech.tablesaw.index;
 
 import com.google.common.base.Preconditions;
-import it.unimi.dsi.fastutil.bytes.Byte2ObjectAVLTreeMap;
-import it.unimi.dsi.fastutil.bytes.Byte2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.bytes.Byte2ObjectSortedMap;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.Arrays;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.selection.BitmapBackedSelection;
@@ -27,33 +24,41 @@ import tech.tablesaw.selection.Selection;
 /** An index for byte columns (BooleanColumn) */
 public class ByteIndex implements Index {
 
-  private final Byte2ObjectAVLTreeMap<IntArrayList> index;
+  /** The distinct values of the column, in ascending order */
+  private final byte[] keys;
+
+  private final Postings postings;
 
   /** Constructs an index for the given column */
   public ByteIndex(BooleanColumn column) {
-    Preconditions.checkArgument(
-        column.type().equals(ColumnType.BOOLEAN), "Byte indexing only allowed on BOOLEAN columns");
-    int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-    Byte2ObjectOpenHashMap<IntArrayList> tempMap = new Byte2ObjectOpenHashMap<>(sizeEstimate);
-    for (int i = 0; i < column.size(); i++) {
-      byte value = column.getByte(i);
-      IntArrayList recordIds = tempMap.get(value);
-      if (recordIds == null) {
-        recordIds = new IntArrayList();
-        recordIds.add(i);
-        tempMap.trim();
-        tempMap.put(value, recordIds);
-      } else {
-        recordIds.add(i);
+    this(values(column));
+  }
+
+  private ByteIndex(byte[] values) {
+    byte[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int count = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (count == 0 || sorted[i] != sorted[count - 1]) {
+        sorted[count++] = sorted[i];
       }
     }
-    index = new Byte2ObjectAVLTreeMap<>(tempMap);
+    keys = Arrays.copyOf(sorted, count);
+    int[] ranks = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      ranks[i] = Arrays.binarySearch(keys, values[i]);
+    }
+    postings = new Postings(ranks, count);
   }
 
-  private static void addAllToSelection(IntArrayList tableKeys, Selection selection) {
-    for (int i : tableKeys) {
-      selection.add(i);
+  private static byte[] values(BooleanColumn column) {
+    Preconditions.checkArgument(
+        column.type().equals(ColumnType.BOOLEAN), "Byte indexing only allowed on BOOLEAN columns");
+    byte[] values = new byte[column.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = column.getByte(i);
     }
+    return values;
   }
 
   /**
@@ -63,53 +68,27 @@ public class ByteIndex implements Index {
    *     standpoint of the column
    */
   public Selection get(byte value) {
-    Selection selection = new BitmapBackedSelection();
-    IntArrayList list = index.get(value);
-    if (list != null) {
-      addAllToSelection(list, selection);
-    }
-    return selection;
+    int position = Arrays.binarySearch(keys, value);
+    return position >= 0 ? postings.rows(position, position + 1) : new BitmapBackedSelection();
   }
 
   /** Returns a {@link Selection} of all values at least as large as the given value */
   public Selection atLeast(byte value) {
-    Selection selection = new BitmapBackedSelection();
-    Byte2ObjectSortedMap<IntArrayList> tail = index.tailMap(value);
-    for (IntArrayList keys : tail.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(Postings.ceiling(Arrays.binarySearch(keys, value)), keys.length);
   }
 
   /** Returns a {@link Selection} of all values greater than the given value */
   public Selection greaterThan(byte value) {
-    Selection selection = new BitmapBackedSelection();
-    Byte2ObjectSortedMap<IntArrayList> tail = index.tailMap((byte) (value + 1));
-    for (IntArrayList keys : tail.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(Postings.higher(Arrays.binarySearch(keys, value)), keys.length);
   }
 
   /** Returns a {@link Selection} of all values at most as large as the given value */
   public Selection atMost(byte value) {
-    Selection selection = new BitmapBackedSelection();
-    Byte2ObjectSortedMap<IntArrayList> head =
-        index.headMap((byte) (value + 1)); // we add 1 to get values equal to the arg
-    for (IntArrayList keys : head.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(0, Postings.higher(Arrays.binarySearch(keys, value)));
   }
 
   /** Returns a {@link Selection} of all values less than the given value */
   public Selection lessThan(byte value) {
-    Selection selection = new BitmapBackedSelection();
-    Byte2ObjectSortedMap<IntArrayList> head =
-        index.headMap(value); // we add 1 to get values equal to the arg
-    for (IntArrayList keys : head.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(0, Postings.ceiling(Arrays.binarySearch(keys, value)));
   }
 }
@@ -14,10 +14,7 @@
 
 package tech.tablesaw.index;
 
-import it.unimi.dsi.fastutil.doubles.Double2ObjectAVLTreeMap;
-import it.unimi.dsi.fastutil.doubles.Double2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.doubles.Double2ObjectSortedMap;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.Arrays;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
@@ -25,31 +22,31 @@ import tech.tablesaw.selection.Selection;
 /** An index for double-precision 64-bit IEEE 754 floating point columns. */
 public class DoubleIndex implements Index {
 
-  private final Double2ObjectAVLTreeMap<IntArrayList> index;
+  /** The distinct values of the column, in ascending order */
+  private final double[] keys;
+
+  private final Postings postings;
 
   /** Constructs an index for the given column */
   public DoubleIndex(DoubleColumn column) {
-    int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-    Double2ObjectOpenHashMap<IntArrayList> tempMap = new Double2ObjectOpenHashMap<>(sizeEstimate);
-    for (int i = 0; i < column.size(); i++) {
-      double value = column.getDouble(i);
-      IntArrayList recordIds = tempMap.get(value);
-      if (recordIds == null) {
-        recordIds = new IntArrayList();
-        recordIds.add(i);
-        tempMap.trim();
-        tempMap.put(value, recordIds);
-      } else {
-        recordIds.add(i);
-      }
-    }
-    index = new Double2ObjectAVLTreeMap<>(tempMap);
+    this(column.asDoubleArray());
   }
 
-  private static void addAllToSelection(IntArrayList tableKeys, Selection selection) {
-    for (int i : tableKeys) {
-      selection.add(i);
+  private DoubleIndex(double[] values) {
+    double[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int count = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (count == 0 || Double.compare(sorted[i], sorted[count - 1]) != 0) {
+        sorted[count++] = sorted[i];
+      }
+    }
+    keys = Arrays.copyOf(sorted, count);
+    int[] ranks = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      ranks[i] = Arrays.binarySearch(keys, values[i]);
     }
+    postings = new Postings(ranks, count);
   }
 
   /**
@@ -59,53 +56,32 @@ public class DoubleIndex implements Index {
    *     standpoint of the column
    */
   public Selection get(double value) {
-    Selection selection = new BitmapBackedSelection();
-    IntArrayList list = index.get(value);
-    if (list != null) {
-      addAllToSelection(list, selection);
-    }
-    return selection;
+    int position = Arrays.binarySearch(keys, value);
+    return position >= 0 ? postings.rows(position, position + 1) : new BitmapBackedSelection();
   }
 
   /** Returns a {@link Selection} of all values at least as large as the given value */
   public Selection atLeast(double value) {
-    Selection selection = new BitmapBackedSelection();
-    Double2ObjectSortedMap<IntArrayList> tail = index.tailMap(value);
-    for (IntArrayList keys : tail.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(Postings.ceiling(Arrays.binarySearch(keys, value)), keys.length);
   }
 
   /** Returns a {@link Selection} of all values greater than the given value */
   public Selection greaterThan(double value) {
-    Selection selection = new BitmapBackedSelection();
-    Double2ObjectSortedMap<IntArrayList> tail = index.tailMap(value + 0.000001);
-    for (IntArrayList keys : tail.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(Postings.higher(Arrays.binarySearch(keys, value)), keys.length);
   }
 
   /** Returns a {@link Selection} of all values at most as large as the given value */
   public Selection atMost(double value) {
-    Selection selection = new BitmapBackedSelection();
-    Double2ObjectSortedMap<IntArrayList> head =
-        index.headMap(value + 0.000001); // we add 1 to get values equal
-    // to the arg
-    for (IntArrayList keys : head.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(0, Postings.higher(Arrays.binarySearch(keys, value)));
   }
 
   /** Returns a {@link Selection} of all values less than the given value */
   public Selection lessThan(double value) {
-    Selection selection = new BitmapBackedSelection();
-    Double2ObjectSortedMap<IntArrayList> head = index.headMap(value);
-    for (IntArrayList keys : head.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(0, Postings.ceiling(Arrays.binarySearch(keys, value)));
+  }
+
+  /** Returns the keys as the number filters compare them, with missing values left out */
+  NumericKeys numericKeys() {
+    return new NumericKeys(keys.length, p -> keys[p], postings);
   }
 }
@@ -15,12 +15,10 @@
 package tech.tablesaw.index;
 
 import com.google.common.base.Preconditions;
-import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectSortedMap;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.IntColumn;
@@ -33,72 +31,56 @@ import tech.tablesaw.selection.Selection;
 /** An index for four-byte integer and integer backed columns (date, String, time) */
 public class IntIndex implements Index {
 
-  private final Int2ObjectAVLTreeMap<IntArrayList> index;
+  /** The distinct values of the column, in ascending order */
+  private final int[] keys;
+
+  private final Postings postings;
 
   /** Constructs an index for the given column */
   public IntIndex(DateColumn column) {
-    int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-    Int2ObjectOpenHashMap<IntArrayList> tempMap = new Int2ObjectOpenHashMap<>(sizeEstimate);
-    for (int i = 0; i < column.size(); i++) {
-      int value = column.getIntInternal(i);
-      IntArrayList recordIds = tempMap.get(value);
-      if (recordIds == null) {
-        recordIds = new IntArrayList();
-        recordIds.add(i);
-        tempMap.trim();
-        tempMap.put(value, recordIds);
-      } else {
-        recordIds.add(i);
-      }
-    }
-    index = new Int2ObjectAVLTreeMap<>(tempMap);
+    this(values(column.size(), column::getIntInternal));
   }
 
   /** Constructs an index for the given column */
   public IntIndex(IntColumn column) {
-    Preconditions.checkArgument(
-        column.type().equals(ColumnType.INTEGER),
-        "Int indexing only allowed on INTEGER numeric columns");
-    int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-    Int2ObjectOpenHashMap<IntArrayList> tempMap = new Int2ObjectOpenHashMap<>(sizeEstimate);
-    for (int i = 0; i < column.size(); i++) {
-      int value = column.getInt(i);
-      IntArrayList recordIds = tempMap.get(value);
-      if (recordIds == null) {
-        recordIds = new IntArrayList();
-        recordIds.add(i);
-        tempMap.trim();
-        tempMap.put(value, recordIds);
-      } else {
-        recordIds.add(i);
-      }
-    }
-    index = new Int2ObjectAVLTreeMap<>(tempMap);
+    this(checkType(column).asIntArray());
   }
 
   /** Constructs an index for the given column */
   public IntIndex(TimeColumn column) {
-    int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-    Int2ObjectOpenHashMap<IntArrayList> tempMap = new Int2ObjectOpenHashMap<>(sizeEstimate);
-    for (int i = 0; i < column.size(); i++) {
-      int value = column.getIntInternal(i);
-      IntArrayList recordIds = tempMap.get(value);
-      if (recordIds == null) {
-        recordIds = new IntArrayList();
-        recordIds.add(i);
-        tempMap.trim();
-        tempMap.put(value, recordIds);
-      } else {
-        recordIds.add(i);
+    this(values(column.size(), column::getIntInternal));
+  }
+
+  private IntIndex(int[] values) {
+    int[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int count = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (count == 0 || sorted[i] != sorted[count - 1]) {
+        sorted[count++] = sorted[i];
       }
     }
-    index = new Int2ObjectAVLTreeMap<>(tempMap);
+    keys = Arrays.copyOf(sorted, count);
+    int[] ranks = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      ranks[i] = Arrays.binarySearch(keys, values[i]);
+    }
+    postings = new Postings(ranks, count);
   }
 
-  private static void addAllToSelection(IntArrayList tableKeys, Selection selection) {
-    for (int i : tableKeys) {
-      selection.add(i);
+  private static int[] values(int size, IntUnaryOperator value) {
+    int[] values = new int[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = value.applyAsInt(i);
     }
+    return values;
+  }
+
+  private static IntColumn checkType(IntColumn column) {
+    Preconditions.checkArgument(
+        column.type().equals(ColumnType.INTEGER),
+        "Int indexing only allowed on INTEGER numeric columns");
+    return column;
   }
 
   /**
@@ -108,12 +90,8 @@ public class IntIndex implements Index {
    *     standpoint of the column
    */
   public Selection get(int value) {
-    Selection selection = new BitmapBackedSelection();
-    IntArrayList list = index.get(value);
-    if (list != null) {
-      addAllToSelection(list, selection);
-    }
-    return selection;
+    int position = Arrays.binarySearch(keys, value);
+    return position >= 0 ? postings.rows(position, position + 1) : new BitmapBackedSelection();
   }
 
   /** Returns the {@link Selection} of all values exactly equal to the given value */
@@ -128,12 +106,7 @@ public class IntIndex implements Index {
 
   /** Returns a {@link Selection} of all values at least as large as the given value */
   public Selection atLeast(int value) {
-    Selection selection = new BitmapBackedSelection();
-    Int2ObjectSortedMap<IntArrayList> tail = index.tailMap(value);
-    for (IntArrayList keys : tail.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(Postings.ceiling(Arrays.binarySearch(keys, value)), keys.length);
   }
 
   /** Returns a {@link Selection} of all values at least as large as the given value */
@@ -148,12 +121,7 @@ public class IntIndex implements Index {
 
   /** Returns a {@link Selection} of all values greater than the given value */
   public Selection greaterThan(int value) {
-    Selection selection = new BitmapBackedSelection();
-    Int2ObjectSortedMap<IntArrayList> tail = index.tailMap(value + 1);
-    for (IntArrayList keys : tail.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(Postings.higher(Arrays.binarySearch(keys, value)), keys.length);
   }
 
   /** Returns a {@link Selection} of all values greater than the given value */
@@ -168,13 +136,7 @@ public class IntIndex implements Index {
 
   /** Returns a {@link Selection} of all values at most as large as the given value */
   public Selection atMost(int value) {
-    Selection selection = new BitmapBackedSelection();
-    Int2ObjectSortedMap<IntArrayList> head =
-        index.headMap(value + 1); // we add 1 to get values equal to the arg
-    for (IntArrayList keys : head.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(0, Postings.higher(Arrays.binarySearch(keys, value)));
   }
 
   /** Returns a {@link Selection} of all values at most as large as the given value */
@@ -189,13 +151,7 @@ public class IntIndex implements Index {
 
   /** Returns a {@link Selection} of all values less than the given value */
   public Selection lessThan(int value) {
-    Selection selection = new BitmapBackedSelection();
-    Int2ObjectSortedMap<IntArrayList> head =
-        index.headMap(value); // we add 1 to get values equal to the arg
-    for (IntArrayList keys : head.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(0, Postings.ceiling(Arrays.binarySearch(keys, value)));
   }
 
   /** Returns a {@link Selection} of all values less than the given value */
@@ -207,4 +163,18 @@ public class IntIndex implements Index {
   public Selection lessThan(LocalDate value) {
     return lessThan(PackedLocalDate.pack(value));
   }
+
+  /** Returns the keys as the number filters compare them, with missing values left out */
+  NumericKeys numericKeys() {
+    return new NumericKeys(
+        keys.length, p -> keys[p] == Integer.MIN_VALUE ? Double.NaN : keys[p], postings);
+  }
+
+  /**
+   * Returns the keys as the date and time filters compare them: as packed values, where missing
+   * values are smaller than all others
+   */
+  NumericKeys packedKeys() {
+    return new NumericKeys(keys.length, p -> keys[p], postings);
+  }
 }
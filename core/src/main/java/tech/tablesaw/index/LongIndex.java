@@ -14,12 +14,9 @@
 
 package tech.tablesaw.index;
 
-import it.unimi.dsi.fastutil.ints.IntArrayList;
-import it.unimi.dsi.fastutil.longs.Long2ObjectAVLTreeMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectSortedMap;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import tech.tablesaw.api.LongColumn;
 import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
 import tech.tablesaw.columns.instant.PackedInstant;
@@ -30,50 +27,44 @@ import tech.tablesaw.selection.Selection;
 /** An index for eight-byte long and long backed columns (datetime) */
 public class LongIndex implements Index {
 
-  private final Long2ObjectAVLTreeMap<IntArrayList> index;
+  /** The distinct values of the column, in ascending order */
+  private final long[] keys;
+
+  private final Postings postings;
 
   /** Constructs an index for the given column */
   public LongIndex(TemporalColumn<?> column) {
-    int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-    Long2ObjectOpenHashMap<IntArrayList> tempMap = new Long2ObjectOpenHashMap<>(sizeEstimate);
-    for (int i = 0; i < column.size(); i++) {
-      long value = column.getLongInternal(i);
-      IntArrayList recordIds = tempMap.get(value);
-      if (recordIds == null) {
-        recordIds = new IntArrayList();
-        recordIds.add(i);
-        tempMap.trim();
-        tempMap.put(value, recordIds);
-      } else {
-        recordIds.add(i);
-      }
-    }
-    index = new Long2ObjectAVLTreeMap<>(tempMap);
+    this(values(column));
   }
 
   /** Constructs an index for the given column */
   public LongIndex(LongColumn column) {
-    int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-    Long2ObjectOpenHashMap<IntArrayList> tempMap = new Long2ObjectOpenHashMap<>(sizeEstimate);
-    for (int i = 0; i < column.size(); i++) {
-      long value = column.getLong(i);
-      IntArrayList recordIds = tempMap.get(value);
-      if (recordIds == null) {
-        recordIds = new IntArrayList();
-        recordIds.add(i);
-        tempMap.trim();
-        tempMap.put(value, recordIds);
-      } else {
-        recordIds.add(i);
+    this(column.asLongArray());
+  }
+
+  private LongIndex(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int count = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (count == 0 || sorted[i] != sorted[count - 1]) {
+        sorted[count++] = sorted[i];
       }
     }
-    index = new Long2ObjectAVLTreeMap<>(tempMap);
+    keys = Arrays.copyOf(sorted, count);
+    int[] ranks = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      ranks[i] = Arrays.binarySearch(keys, values[i]);
+    }
+    postings = new Postings(ranks, count);
   }
 
-  private static void addAllToSelection(IntArrayList tableKeys, Selection selection) {
-    for (int i : tableKeys) {
-      selection.add(i);
+  private static long[] values(TemporalColumn<?> column) {
+    long[] values = new long[column.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = column.getLongInternal(i);
     }
+    return values;
   }
 
   /**
@@ -83,12 +74,8 @@ public class LongIndex implements Index {
    *     standpoint of the column
    */
   public Selection get(long value) {
-    Selection selection = new BitmapBackedSelection();
-    IntArrayList list = index.get(value);
-    if (list != null) {
-      addAllToSelection(list, selection);
-    }
-    return selection;
+    int position = Arrays.binarySearch(keys, value);
+    return position >= 0 ? postings.rows(position, position + 1) : new BitmapBackedSelection();
   }
 
   /** Returns the {@link Selection} of all values exactly equal to the given value */
@@ -103,12 +90,7 @@ public class LongIndex implements Index {
 
   /** Returns a {@link Selection} of all values at least as large as the given value */
   public Selection atLeast(long value) {
-    Selection selection = new BitmapBackedSelection();
-    Long2ObjectSortedMap<IntArrayList> tail = index.tailMap(value);
-    for (IntArrayList keys : tail.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(Postings.ceiling(Arrays.binarySearch(keys, value)), keys.length);
   }
 
   /** Returns a {@link Selection} of all values at least as large as the given value */
@@ -123,12 +105,7 @@ public class LongIndex implements Index {
 
   /** Returns a {@link Selection} of all values greater than the given value */
   public Selection greaterThan(long value) {
-    Selection selection = new BitmapBackedSelection();
-    Long2ObjectSortedMap<IntArrayList> tail = index.tailMap(value + 1);
-    for (IntArrayList keys : tail.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(Postings.higher(Arrays.binarySearch(keys, value)), keys.length);
   }
 
   /** Returns a {@link Selection} of all values greater than the given value */
@@ -143,13 +120,7 @@ public class LongIndex implements Index {
 
   /** Returns a {@link Selection} of all values at most as large as the given value */
   public Selection atMost(long value) {
-    Selection selection = new BitmapBackedSelection();
-    Long2ObjectSortedMap<IntArrayList> head =
-        index.headMap(value + 1); // we add 1 to get values equal to the arg
-    for (IntArrayList keys : head.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(0, Postings.higher(Arrays.binarySearch(keys, value)));
   }
 
   /** Returns a {@link Selection} of all values at most as large as the given value */
@@ -164,13 +135,7 @@ public class LongIndex implements Index {
 
   /** Returns a {@link Selection} of all values less than the given value */
   public Selection lessThan(long value) {
-    Selection selection = new BitmapBackedSelection();
-    Long2ObjectSortedMap<IntArrayList> head =
-        index.headMap(value); // we add 1 to get values equal to the arg
-    for (IntArrayList keys : head.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(0, Postings.ceiling(Arrays.binarySearch(keys, value)));
   }
 
   /** Returns a {@link Selection} of all values less than the given value */
@@ -182,4 +147,10 @@ public class LongIndex implements Index {
   public Selection lessThan(LocalDateTime value) {
     return lessThan(PackedLocalDateTime.pack(value));
   }
+
+  /** Returns the keys as the number filters compare them, with missing values left out */
+  NumericKeys numericKeys() {
+    return new NumericKeys(
+        keys.length, p -> keys[p] == Long.MIN_VALUE ? Double.NaN : keys[p], postings);
+  }
 }
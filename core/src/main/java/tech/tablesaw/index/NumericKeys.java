@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.function.IntToDoubleFunction;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * The sorted keys of an index, seen as the doubles that the number filters compare. Converting to
+ * double keeps the order of the keys, so the keys passing a comparison with a double are always
+ * contiguous, and are found by binary search. Keys that convert to NaN, as missing values do, fail
+ * every comparison and are left out.
+ */
+final class NumericKeys {
+
+  private final IntToDoubleFunction key;
+  private final Postings postings;
+
+  /** The positions of the first key that isn't NaN and of the one after the last */
+  private final int from;
+
+  private final int to;
+
+  /**
+   * @param keyCount the number of distinct keys
+   * @param key returns the key at a position as a double, or NaN if it is missing. Missing keys
+   *     must sort before or after all the others
+   */
+  NumericKeys(int keyCount, IntToDoubleFunction key, Postings postings) {
+    this.key = key;
+    this.postings = postings;
+    int first = 0;
+    while (first < keyCount && Double.isNaN(key.applyAsDouble(first))) {
+      first++;
+    }
+    int last = keyCount;
+    while (last > first && Double.isNaN(key.applyAsDouble(last - 1))) {
+      last--;
+    }
+    from = first;
+    to = last;
+  }
+
+  /** Returns the position of the first key at least as large as the value, or larger if strict */
+  int first(double value, boolean strict) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      double k = key.applyAsDouble(mid);
+      if (strict ? k > value : k >= value) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  /** Returns the position of the first key that isn't missing */
+  int start() {
+    return from;
+  }
+
+  /** Returns the position after the last key that isn't missing */
+  int end() {
+    return to;
+  }
+
+  /** Returns the number of rows whose keys are at positions {@code start} to {@code end} */
+  int count(int start, int end) {
+    return postings.count(start, end);
+  }
+
+  /** Returns the rows whose keys are at positions {@code start} (inclusive) to {@code end} */
+  Selection rows(int start, int end) {
+    return postings.rows(start, end);
+  }
+}
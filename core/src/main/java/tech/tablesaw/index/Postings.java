@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.Arrays;
+import org.roaringbitmap.RoaringBitmap;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * The row numbers of an index, grouped by key in compressed sparse row form: the rows holding the
+ * key at position k of the index's sorted array of distinct keys are {@code rows[offsets[k]]} up to
+ * {@code rows[offsets[k + 1]]}, in ascending order. Because the keys are sorted, the rows of any
+ * range of keys are also contiguous, so a range query copies one slice of {@code rows} into a
+ * bitmap, at a cost proportional to the number of rows it returns.
+ *
+ * <p>Two int arrays replace the map of per-key lists the indexes used to hold, which makes an index
+ * several times smaller.
+ */
+final class Postings {
+
+  private final int[] offsets;
+  private final int[] rows;
+
+  /**
+   * Groups the row numbers by key
+   *
+   * @param ranks the position of each row's key in the sorted array of distinct keys
+   * @param keyCount the number of distinct keys
+   */
+  Postings(int[] ranks, int keyCount) {
+    offsets = new int[keyCount + 1];
+    for (int rank : ranks) {
+      offsets[rank + 1]++;
+    }
+    for (int k = 0; k < keyCount; k++) {
+      offsets[k + 1] += offsets[k];
+    }
+    rows = new int[ranks.length];
+    int[] next = Arrays.copyOf(offsets, keyCount);
+    for (int row = 0; row < ranks.length; row++) {
+      rows[next[ranks[row]]++] = row;
+    }
+  }
+
+  /** Returns the rows whose keys are at positions {@code from} (inclusive) to {@code to} */
+  Selection rows(int from, int to) {
+    RoaringBitmap bitmap = new RoaringBitmap();
+    if (from < to) {
+      bitmap.addN(rows, offsets[from], offsets[to] - offsets[from]);
+    }
+    return new BitmapBackedSelection(bitmap);
+  }
+
+  /**
+   * Returns the number of rows whose keys are at positions {@code from} (inclusive) to {@code to}
+   */
+  int count(int from, int to) {
+    return from < to ? offsets[to] - offsets[from] : 0;
+  }
+
+  /**
+   * Returns the position of the first key at least as large as the searched one, given the result
+   * of a binary search of the distinct keys
+   */
+  static int ceiling(int searchResult) {
+    return searchResult >= 0 ? searchResult : -searchResult - 1;
+  }
+
+  /**
+   * Returns the position of the first key larger than the searched one, given the result of a
+   * binary search of the distinct keys
+   */
+  static int higher(int searchResult) {
+    return searchResult >= 0 ? searchResult + 1 : -searchResult - 1;
+  }
+}
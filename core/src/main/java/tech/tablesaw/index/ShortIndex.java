@@ -15,10 +15,7 @@
 package tech.tablesaw.index;
 
 import com.google.common.base.Preconditions;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
-import it.unimi.dsi.fastutil.shorts.Short2ObjectAVLTreeMap;
-import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.shorts.Short2ObjectSortedMap;
+import java.util.Arrays;
 import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.columns.numbers.ShortColumnType;
 import tech.tablesaw.selection.BitmapBackedSelection;
@@ -27,34 +24,38 @@ import tech.tablesaw.selection.Selection;
 /** An index for {@link ShortColumn} */
 public class ShortIndex implements Index {
 
-  private final Short2ObjectAVLTreeMap<IntArrayList> index;
+  /** The distinct values of the column, in ascending order */
+  private final short[] keys;
+
+  private final Postings postings;
 
   /** Constructs an index for the given column */
   public ShortIndex(ShortColumn column) {
-    Preconditions.checkArgument(
-        column.type().equals(ShortColumnType.instance()),
-        "Short indexing only allowed on SHORT numeric columns");
-    int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-    Short2ObjectOpenHashMap<IntArrayList> tempMap = new Short2ObjectOpenHashMap<>(sizeEstimate);
-    for (int i = 0; i < column.size(); i++) {
-      short value = column.getShort(i);
-      IntArrayList recordIds = tempMap.get(value);
-      if (recordIds == null) {
-        recordIds = new IntArrayList();
-        recordIds.add(i);
-        tempMap.trim();
-        tempMap.put(value, recordIds);
-      } else {
-        recordIds.add(i);
+    this(checkType(column).asShortArray());
+  }
+
+  private ShortIndex(short[] values) {
+    short[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int count = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (count == 0 || sorted[i] != sorted[count - 1]) {
+        sorted[count++] = sorted[i];
       }
     }
-    index = new Short2ObjectAVLTreeMap<>(tempMap);
+    keys = Arrays.copyOf(sorted, count);
+    int[] ranks = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      ranks[i] = Arrays.binarySearch(keys, values[i]);
+    }
+    postings = new Postings(ranks, count);
   }
 
-  private static void addAllToSelection(IntArrayList tableKeys, Selection selection) {
-    for (int i : tableKeys) {
-      selection.add(i);
-    }
+  private static ShortColumn checkType(ShortColumn column) {
+    Preconditions.checkArgument(
+        column.type().equals(ShortColumnType.instance()),
+        "Short indexing only allowed on SHORT numeric columns");
+    return column;
   }
 
   /**
@@ -64,53 +65,33 @@ public class ShortIndex implements Index {
    *     standpoint of the column
    */
   public Selection get(short value) {
-    Selection selection = new BitmapBackedSelection();
-    IntArrayList list = index.get(value);
-    if (list != null) {
-      addAllToSelection(list, selection);
-    }
-    return selection;
+    int position = Arrays.binarySearch(keys, value);
+    return position >= 0 ? postings.rows(position, position + 1) : new BitmapBackedSelection();
   }
 
   /** Returns a {@link Selection} of all values at least as large as the given value */
   public Selection atLeast(short value) {
-    Selection selection = new BitmapBackedSelection();
-    Short2ObjectSortedMap<IntArrayList> tail = index.tailMap(value);
-    for (IntArrayList keys : tail.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(Postings.ceiling(Arrays.binarySearch(keys, value)), keys.length);
   }
 
   /** Returns a {@link Selection} of all values greater than the given value */
   public Selection greaterThan(short value) {
-    Selection selection = new BitmapBackedSelection();
-    Short2ObjectSortedMap<IntArrayList> tail = index.tailMap((short) (value + 1));
-    for (IntArrayList keys : tail.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(Postings.higher(Arrays.binarySearch(keys, value)), keys.length);
   }
 
   /** Returns a {@link Selection} of all values at most as large as the given value */
   public Selection atMost(short value) {
-    Selection selection = new BitmapBackedSelection();
-    Short2ObjectSortedMap<IntArrayList> head =
-        index.headMap((short) (value + 1)); // we add 1 to get values equal to the arg
-    for (IntArrayList keys : head.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(0, Postings.higher(Arrays.binarySearch(keys, value)));
   }
 
   /** Returns a {@link Selection} of all values less than the given value */
   public Selection lessThan(short value) {
-    Selection selection = new BitmapBackedSelection();
-    Short2ObjectSortedMap<IntArrayList> head =
-        index.headMap(value); // we add 1 to get values equal to the arg
-    for (IntArrayList keys : head.values()) {
-      addAllToSelection(keys, selection);
-    }
-    return selection;
+    return postings.rows(0, Postings.ceiling(Arrays.binarySearch(keys, value)));
+  }
+
+  /** Returns the keys as the number filters compare them, with missing values left out */
+  NumericKeys numericKeys() {
+    return new NumericKeys(
+        keys.length, p -> keys[p] == Short.MIN_VALUE ? Double.NaN : keys[p], postings);
   }
 }
@@ -14,43 +14,39 @@
 
 package tech.tablesaw.index;
 
-import it.unimi.dsi.fastutil.ints.IntArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
-/**
- * TODO: Implement range query methods? See (e.g) ShortIndex for examples An index for String and
- * Text columns
- */
+/** An index for String and Text columns. Range queries use the natural order of strings */
 public class StringIndex implements Index {
 
-  private final Map<String, IntArrayList> index;
+  /** The distinct values of the column, in ascending order */
+  private final String[] keys;
+
+  private final Postings postings;
 
   /** Creates an index on the given AbstractStringColumn */
   public StringIndex(StringColumn column) {
-    int sizeEstimate = Integer.min(1_000_000, column.size() / 100);
-    Map<String, IntArrayList> tempMap = new HashMap<>(sizeEstimate);
-    for (int i = 0; i < column.size(); i++) {
-      String value = column.get(i);
-      IntArrayList recordIds = tempMap.get(value);
-      if (recordIds == null) {
-        recordIds = new IntArrayList();
-        recordIds.add(i);
-        tempMap.put(value, recordIds);
-      } else {
-        recordIds.add(i);
+    String[] values = new String[column.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = column.get(i);
+    }
+    String[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int count = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (count == 0 || !sorted[i].equals(sorted[count - 1])) {
+        sorted[count++] = sorted[i];
       }
     }
-    index = new HashMap<>(tempMap);
-  }
-
-  private static void addAllToSelection(IntArrayList tableKeys, Selection selection) {
-    for (int i : tableKeys) {
-      selection.add(i);
+    keys = Arrays.copyOf(sorted, count);
+    int[] ranks = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      ranks[i] = Arrays.binarySearch(keys, values[i]);
     }
+    postings = new Postings(ranks, count);
   }
 
   /**
@@ -60,11 +56,27 @@ public class StringIndex implements Index {
    *     standpoint of the column
    */
   public Selection get(String value) {
-    Selection selection = new BitmapBackedSelection();
-    IntArrayList list = index.get(value);
-    if (list != null) {
-      addAllToSelection(list, selection);
-    }
-    return selection;
+    int position = Arrays.binarySearch(keys, value);
+    return position >= 0 ? postings.rows(position, position + 1) : new BitmapBackedSelection();
+  }
+
+  /** Returns a {@link Selection} of all values at least as large as the given value */
+  public Selection atLeast(String value) {
+    return postings.rows(Postings.ceiling(Arrays.binarySearch(keys, value)), keys.length);
+  }
+
+  /** Returns a {@link Selection} of all values greater than the given value */
+  public Selection greaterThan(String value) {
+    return postings.rows(Postings.higher(Arrays.binarySearch(keys, value)), keys.length);
+  }
+
+  /** Returns a {@link Selection} of all values at most as large as the given value */
+  public Selection atMost(String value) {
+    return postings.rows(0, Postings.higher(Arrays.binarySearch(keys, value)));
+  }
+
+  /** Returns a {@link Selection} of all values less than the given value */
+  public Selection lessThan(String value) {
+    return postings.rows(0, Postings.ceiling(Arrays.binarySearch(keys, value)));
   }
 }
@@ -0,0 +1,206 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.index;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import tech.tablesaw.api.CategoricalColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.columns.AbstractColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.selection.Selection;
+
+/**
+ * The indexes a table keeps on some of its columns, which its equality and range filters use in
+ * place of a scan of the column.
+ *
+ * <p>Each index remembers the {@link AbstractColumn#modificationCount() modification count} of its
+ * column when it was built. Any change to the column's values makes it stale, and it is rebuilt the
+ * next time a filter needs it.
+ *
+ * <p>The choice between the index and a scan follows a simple rule. The index finds the keys that
+ * pass a filter by binary search, and knows how many rows hold them before gathering any. It is
+ * used if the filter matches a single key, or at most {@link #MAX_INDEXED_FRACTION} of the rows.
+ * Beyond that, the rows of many keys arrive out of order, and a sequential scan of the column
+ * builds the selection about as quickly.
+ *
+ * <p>Filters on a table may be evaluated from several threads at once, and any of them may rebuild
+ * a stale index, so the methods that read or change the set of indexes are synchronized. An index
+ * is not changed once it is built, so it is used outside the lock.
+ */
+public final class TableIndexes {
+
+  /** The largest fraction of a column's rows that a range filter gathers from an index */
+  public static final double MAX_INDEXED_FRACTION = 0.25;
+
+  private final Map<Column<?>, Entry> entries = new IdentityHashMap<>();
+
+  /** Builds an index on the given column, replacing any it has */
+  public synchronized void create(Column<?> column) {
+    entries.put(column, new Entry(build(column, false), modificationCount(column), false));
+  }
+
+  /**
+   * Builds a {@link BitmapIndex} on the given column, replacing any index it has. Equality filters
+   * on a string column and {@link tech.tablesaw.api.Table#countBy(String...) counts} by the column
+   * then read the bitmaps.
+   */
+  public synchronized void createBitmap(CategoricalColumn<?> column) {
+    entries.put(column, new Entry(build(column, true), modificationCount(column), true));
+  }
+
+  /** Discards the index on the given column, returning true if it had one */
+  public synchronized boolean remove(Column<?> column) {
+    return entries.remove(column) != null;
+  }
+
+  /** Discards the indexes on all columns except the given ones */
+  public synchronized void retain(Collection<Column<?>> columns) {
+    Map<Column<?>, Boolean> retained = new IdentityHashMap<>();
+    columns.forEach(column -> retained.put(column, true));
+    entries.keySet().removeIf(column -> !retained.containsKey(column));
+  }
+
+  /** Returns true if the given column is indexed */
+  public synchronized boolean contains(Column<?> column) {
+    return entries.containsKey(column);
+  }
+
+  /**
+   * Returns the index on the given column, rebuilding it first if the column has changed since it
+   * was built, or null if the column isn't indexed
+   */
+  @Nullable
+  public synchronized Index get(Column<?> column) {
+    Entry entry = entries.get(column);
+    if (entry == null) {
+      return null;
+    }
+    int count = modificationCount(column);
+    if (entry.modificationCount != count) {
+      entry = new Entry(build(column, entry.bitmap), count, entry.bitmap);
+      entries.put(column, entry);
+    }
+    return entry.index;
+  }
+
+  /**
+   * Returns the rows whose values in the given column lie between {@code low} and {@code high},
+   * using the column's index if it has one and the rule allows, and otherwise the given scan. The
+   * bounds are compared with the values as the column's own filters compare them: as doubles for
+   * number columns, where missing values fail every comparison, and as packed values for date
+   * columns.
+   */
+  public Selection range(
+      Column<?> column,
+      double low,
+      boolean lowInclusive,
+      double high,
+      boolean highInclusive,
+      Supplier<Selection> scan) {
+    NumericKeys keys = numericKeys(get(column), column);
+    if (keys == null) {
+      return scan.get();
+    }
+    if (Double.isNaN(low) || Double.isNaN(high)) {
+      return Selection.with();
+    }
+    int start = keys.first(low, !lowInclusive);
+    int end = keys.first(high, highInclusive);
+    if (end - start > 1 && keys.count(start, end) > column.size() * MAX_INDEXED_FRACTION) {
+      return scan.get();
+    }
+    return keys.rows(start, end);
+  }
+
+  /**
+   * Returns the rows holding the given value in the given string column, using the column's index
+   * if it has one, and otherwise the given scan
+   */
+  @SuppressWarnings("unchecked")
+  public Selection equalTo(StringColumn column, String value, Supplier<Selection> scan) {
+    Index index = get(column);
+    if (index instanceof StringIndex) {
+      return ((StringIndex) index).get(value);
+    } else if (index instanceof BitmapIndex) {
+      return ((BitmapIndex<String>) index).get(value);
+    }
+    return scan.get();
+  }
+
+  @Nullable
+  private static NumericKeys numericKeys(@Nullable Index index, Column<?> column) {
+    if (index instanceof IntIndex) {
+      IntIndex intIndex = (IntIndex) index;
+      return column instanceof DateColumn ? intIndex.packedKeys() : intIndex.numericKeys();
+    } else if (index instanceof LongIndex) {
+      return ((LongIndex) index).numericKeys();
+    } else if (index instanceof ShortIndex) {
+      return ((ShortIndex) index).numericKeys();
+    } else if (index instanceof DoubleIndex) {
+      return ((DoubleIndex) index).numericKeys();
+    } else if (index instanceof FloatIndex) {
+      return ((FloatIndex) index).numericKeys();
+    }
+    return null;
+  }
+
+  private static Index build(Column<?> column, boolean bitmap) {
+    if (bitmap) {
+      return new BitmapIndex<>((CategoricalColumn<?>) column);
+    } else if (column instanceof IntColumn) {
+      return new IntIndex((IntColumn) column);
+    } else if (column instanceof LongColumn) {
+      return new LongIndex((LongColumn) column);
+    } else if (column instanceof ShortColumn) {
+      return new ShortIndex((ShortColumn) column);
+    } else if (column instanceof DoubleColumn) {
+      return new DoubleIndex((DoubleColumn) column);
+    } else if (column instanceof FloatColumn) {
+      return new FloatIndex((FloatColumn) column);
+    } else if (column instanceof DateColumn) {
+      return new IntIndex((DateColumn) column);
+    } else if (column instanceof StringColumn) {
+      return new StringIndex((StringColumn) column);
+    }
+    throw new IllegalArgumentException(
+        "Can't index column " + column.name() + " of type " + column.type());
+  }
+
+  private static int modificationCount(Column<?> column) {
+    return ((AbstractColumn<?, ?>) column).modificationCount();
+  }
+
+  private static final class Entry {
+    private final Index index;
+    private final int modificationCount;
+    private final boolean bitmap;
+
+    private Entry(Index index, int modificationCount, boolean bitmap) {
+      this.index = index;
+      this.modificationCount = modificationCount;
+      this.bitmap = bitmap;
+    }
+  }
+}
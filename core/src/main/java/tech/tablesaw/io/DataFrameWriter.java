@@ -23,6 +23,8 @@ import java.io.Writer;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.io.csv.CsvWriteOptions;
 import tech.tablesaw.io.csv.CsvWriter;
+import tech.tablesaw.io.jdbc.SqlWriteOptions;
+import tech.tablesaw.io.jdbc.SqlWriter;
 
 public class DataFrameWriter {
 
@@ -64,6 +66,11 @@ public class DataFrameWriter {
     dataWriter.write(table, options);
   }
 
+  /** Inserts the rows of the table into the database table described by the given options */
+  public void db(SqlWriteOptions options) {
+    SqlWriter.write(table, options);
+  }
+
   public String toString(String extension) {
     StringWriter writer = new StringWriter();
     DataWriter<?> dataWriter = registry.getWriterForExtension(extension);
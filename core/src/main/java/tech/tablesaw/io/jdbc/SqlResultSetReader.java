@@ -21,7 +21,13 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DoubleColumn;
@@ -87,48 +93,226 @@ public class SqlResultSetReader {
    * @throws SQLException if there is a problem detected in the database
    */
   public static Table read(ResultSet resultSet) throws SQLException {
+    return read(resultSet, 0);
+  }
 
-    ResultSetMetaData metaData = resultSet.getMetaData();
-    Table table = Table.create();
+  /**
+   * Returns a new table constructed from the given result set, asking the driver to fetch {@code
+   * fetchSize} rows at a time from the database
+   *
+   * @param fetchSize the number of rows to fetch in each round trip, or 0 to use the driver default
+   * @throws SQLException if there is a problem detected in the database
+   */
+  public static Table read(ResultSet resultSet, int fetchSize) throws SQLException {
+    Preconditions.checkArgument(fetchSize >= 0, "The fetch size must not be negative");
+    if (fetchSize > 0) {
+      resultSet.setFetchSize(fetchSize);
+    }
+    Schema schema = new Schema(resultSet.getMetaData());
+    Table table = schema.createTable();
+    ColumnAppender[] appenders = schema.appenders(table);
+    while (resultSet.next()) {
+      appendRow(resultSet, appenders);
+    }
+    return table;
+  }
 
-    // Setup the columns and add to the table
-    for (int i = 1; i <= metaData.getColumnCount(); i++) {
-      ColumnType type =
-          getColumnType(metaData.getColumnType(i), metaData.getScale(i), metaData.getPrecision(i));
+  /**
+   * Returns a stream of tables holding at most {@code batchSize} consecutive rows each, read from
+   * the given result set as the stream is consumed. All the tables have the same columns. The
+   * driver is asked to fetch {@code batchSize} rows at a time, so only about one batch is held in
+   * memory when the previous tables are discarded.
+   *
+   * <p>The result set is read lazily and must stay open until the stream has been consumed. A
+   * {@link SQLException} raised while reading is rethrown wrapped in an {@link
+   * IllegalStateException}.
+   *
+   * @throws SQLException if there is a problem detected in the database
+   */
+  public static Stream<Table> stream(ResultSet resultSet, int batchSize) throws SQLException {
+    Preconditions.checkArgument(batchSize > 0, "The batch size must be positive");
+    resultSet.setFetchSize(batchSize);
+    Schema schema = new Schema(resultSet.getMetaData());
+    Iterator<Table> batches =
+        new Iterator<Table>() {
+          private Table next;
+          private boolean done;
+
+          @Override
+          public boolean hasNext() {
+            if (next == null && !done) {
+              next = readBatch();
+            }
+            return next != null;
+          }
 
-      Preconditions.checkState(
-          type != null,
-          "No column type found for %s as specified for column %s",
-          metaData.getColumnType(i),
-          metaData.getColumnName(i));
+          @Override
+          public Table next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Table batch = next;
+            next = null;
+            return batch;
+          }
+
+          private Table readBatch() {
+            Table table = schema.createTable();
+            ColumnAppender[] appenders = schema.appenders(table);
+            try {
+              for (int rows = 0; rows < batchSize; rows++) {
+                if (!resultSet.next()) {
+                  done = true;
+                  break;
+                }
+                appendRow(resultSet, appenders);
+              }
+            } catch (SQLException e) {
+              throw new IllegalStateException("Error reading from the result set", e);
+            }
+            return table.isEmpty() ? null : table;
+          }
+        };
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
 
-      Column<?> newColumn = type.create(metaData.getColumnLabel(i));
-      table.addColumns(newColumn);
+  private static void appendRow(ResultSet resultSet, ColumnAppender[] appenders)
+      throws SQLException {
+    for (int i = 0; i < appenders.length; i++) {
+      // add 1 because results sets originate at 1 not 0
+      appenders[i].append(resultSet, i + 1);
     }
+  }
 
-    // Add the rows
-    while (resultSet.next()) {
-      for (int i = 1; i <= metaData.getColumnCount(); i++) {
-        Column<?> column =
-            table.column(i - 1); // subtract 1 because results sets originate at 1 not 0
-        if (column instanceof ShortColumn) {
-          appendToColumn(column, resultSet, resultSet.getShort(i));
-        } else if (column instanceof IntColumn) {
-          appendToColumn(column, resultSet, resultSet.getInt(i));
-        } else if (column instanceof LongColumn) {
-          appendToColumn(column, resultSet, resultSet.getLong(i));
-        } else if (column instanceof FloatColumn) {
-          appendToColumn(column, resultSet, resultSet.getFloat(i));
-        } else if (column instanceof DoubleColumn) {
-          appendToColumn(column, resultSet, resultSet.getDouble(i));
-        } else if (column instanceof BooleanColumn) {
-          appendToColumn(column, resultSet, resultSet.getBoolean(i));
-        } else {
-          column.appendObj(resultSet.getObject(i));
-        }
+  /** Appends the value at the given index of the current row of a result set to a column */
+  @FunctionalInterface
+  private interface ColumnAppender {
+    void append(ResultSet resultSet, int index) throws SQLException;
+  }
+
+  /**
+   * The column types, names and nullability of a result set, resolved once from its metadata so
+   * that no per-cell type checks are needed while reading rows
+   */
+  private static final class Schema {
+    private final ColumnType[] types;
+    private final String[] names;
+    private final boolean[] nullable;
+
+    Schema(ResultSetMetaData metaData) throws SQLException {
+      int columnCount = metaData.getColumnCount();
+      types = new ColumnType[columnCount];
+      names = new String[columnCount];
+      nullable = new boolean[columnCount];
+      for (int i = 1; i <= columnCount; i++) {
+        ColumnType type =
+            getColumnType(
+                metaData.getColumnType(i), metaData.getScale(i), metaData.getPrecision(i));
+
+        Preconditions.checkState(
+            type != null,
+            "No column type found for %s as specified for column %s",
+            metaData.getColumnType(i),
+            metaData.getColumnName(i));
+
+        types[i - 1] = type;
+        names[i - 1] = metaData.getColumnLabel(i);
+        nullable[i - 1] = metaData.isNullable(i) != ResultSetMetaData.columnNoNulls;
       }
     }
-    return table;
+
+    Table createTable() {
+      Table table = Table.create();
+      for (int i = 0; i < types.length; i++) {
+        table.addColumns(types[i].create(names[i]));
+      }
+      return table;
+    }
+
+    /** Returns an appender for each column of the given table, which must have been created here */
+    ColumnAppender[] appenders(Table table) {
+      ColumnAppender[] appenders = new ColumnAppender[types.length];
+      for (int i = 0; i < appenders.length; i++) {
+        appenders[i] = appender(table.column(i), nullable[i]);
+      }
+      return appenders;
+    }
+
+    /**
+     * Returns an appender that reads primitive values into the numeric and boolean columns, and
+     * checks {@link ResultSet#wasNull()} only for columns that may hold nulls
+     */
+    private static ColumnAppender appender(Column<?> column, boolean nullable) {
+      if (column instanceof ShortColumn) {
+        ShortColumn shorts = (ShortColumn) column;
+        return (rs, i) -> {
+          short value = rs.getShort(i);
+          if (nullable && rs.wasNull()) {
+            shorts.appendMissing();
+          } else {
+            shorts.append(value);
+          }
+        };
+      }
+      if (column instanceof IntColumn) {
+        IntColumn ints = (IntColumn) column;
+        return (rs, i) -> {
+          int value = rs.getInt(i);
+          if (nullable && rs.wasNull()) {
+            ints.appendMissing();
+          } else {
+            ints.append(value);
+          }
+        };
+      }
+      if (column instanceof LongColumn) {
+        LongColumn longs = (LongColumn) column;
+        return (rs, i) -> {
+          long value = rs.getLong(i);
+          if (nullable && rs.wasNull()) {
+            longs.appendMissing();
+          } else {
+            longs.append(value);
+          }
+        };
+      }
+      if (column instanceof FloatColumn) {
+        FloatColumn floats = (FloatColumn) column;
+        return (rs, i) -> {
+          float value = rs.getFloat(i);
+          if (nullable && rs.wasNull()) {
+            floats.appendMissing();
+          } else {
+            floats.append(value);
+          }
+        };
+      }
+      if (column instanceof DoubleColumn) {
+        DoubleColumn doubles = (DoubleColumn) column;
+        return (rs, i) -> {
+          double value = rs.getDouble(i);
+          if (nullable && rs.wasNull()) {
+            doubles.appendMissing();
+          } else {
+            doubles.append(value);
+          }
+        };
+      }
+      if (column instanceof BooleanColumn) {
+        BooleanColumn booleans = (BooleanColumn) column;
+        return (rs, i) -> {
+          boolean value = rs.getBoolean(i);
+          if (nullable && rs.wasNull()) {
+            booleans.appendMissing();
+          } else {
+            booleans.append(value);
+          }
+        };
+      }
+      return (rs, i) -> column.appendObj(rs.getObject(i));
+    }
   }
 
   protected static void appendToColumn(Column<?> column, ResultSet resultSet, Object value)
@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.jdbc;
+
+import com.google.common.base.Preconditions;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Options for writing a table to a database table with {@link SqlWriter}. As a database is not a
+ * stream destination, these are not {@link tech.tablesaw.io.WriteOptions}; the table is written
+ * with {@link tech.tablesaw.io.DataFrameWriter#db(SqlWriteOptions)}
+ */
+public class SqlWriteOptions {
+
+  /** Opens a new connection to the database */
+  @FunctionalInterface
+  public interface ConnectionFactory {
+    Connection connect() throws SQLException;
+  }
+
+  private final Connection connection;
+  private final ConnectionFactory connectionFactory;
+  private final String tableName;
+  private final boolean createTable;
+  private final int batchSize;
+  private final int commitSize;
+  private final int parallelism;
+
+  private SqlWriteOptions(Builder builder) {
+    this.connection = builder.connection;
+    this.connectionFactory = builder.connectionFactory;
+    this.tableName = builder.tableName;
+    this.createTable = builder.createTable;
+    this.batchSize = builder.batchSize;
+    this.commitSize = builder.commitSize;
+    this.parallelism = builder.parallelism;
+  }
+
+  /**
+   * Returns a builder for writing to the named table over the given connection. The connection is
+   * not closed by the writer
+   */
+  public static Builder builder(Connection connection, String tableName) {
+    return new Builder(connection, null, tableName);
+  }
+
+  /**
+   * Returns a builder for writing to the named table over connections opened by the given factory,
+   * which are closed once the table has been written. Several connections are used when {@link
+   * Builder#parallelism(int)} is greater than one
+   */
+  public static Builder builder(ConnectionFactory connectionFactory, String tableName) {
+    return new Builder(null, connectionFactory, tableName);
+  }
+
+  /** Returns the connection to write with, or null if connections are opened by a factory */
+  public Connection connection() {
+    return connection;
+  }
+
+  /** Returns the factory that opens connections, or null if a single connection was given */
+  public ConnectionFactory connectionFactory() {
+    return connectionFactory;
+  }
+
+  public String tableName() {
+    return tableName;
+  }
+
+  public boolean createTable() {
+    return createTable;
+  }
+
+  public int batchSize() {
+    return batchSize;
+  }
+
+  public int commitSize() {
+    return commitSize;
+  }
+
+  public int parallelism() {
+    return parallelism;
+  }
+
+  public static class Builder {
+
+    private final Connection connection;
+    private final ConnectionFactory connectionFactory;
+    private final String tableName;
+    private boolean createTable = false;
+    private int batchSize = 1000;
+    private int commitSize = 0;
+    private int parallelism = 1;
+
+    protected Builder(
+        Connection connection, ConnectionFactory connectionFactory, String tableName) {
+      Preconditions.checkArgument(
+          connection != null || connectionFactory != null, "A connection must be provided");
+      Preconditions.checkArgument(tableName != null, "A table name must be provided");
+      this.connection = connection;
+      this.connectionFactory = connectionFactory;
+      this.tableName = tableName;
+    }
+
+    /**
+     * Creates the database table before writing, with a column of the mapped SQL type for each
+     * column of the table. The default is false, in which case the table must already exist
+     */
+    public Builder createTable(boolean createTable) {
+      this.createTable = createTable;
+      return this;
+    }
+
+    /** Sets the number of rows sent to the database in each batch. The default is 1000 */
+    public Builder batchSize(int batchSize) {
+      Preconditions.checkArgument(batchSize > 0, "The batch size must be positive");
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * Commits a transaction after every {@code commitSize} rows, rounded up to a whole number of
+     * batches, and rolls back the current transaction if writing fails. The default is 0, in which
+     * case the auto-commit mode of the connection is left alone
+     */
+    public Builder commitSize(int commitSize) {
+      Preconditions.checkArgument(commitSize >= 0, "The commit size must not be negative");
+      this.commitSize = commitSize;
+      return this;
+    }
+
+    /**
+     * Splits the rows into the given number of consecutive ranges, and writes each range over its
+     * own connection on its own thread. Requires a {@link ConnectionFactory}. The default is 1
+     */
+    public Builder parallelism(int parallelism) {
+      Preconditions.checkArgument(parallelism > 0, "The parallelism must be positive");
+      Preconditions.checkArgument(
+          parallelism == 1 || connectionFactory != null,
+          "Writing in parallel requires a connection factory");
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    public SqlWriteOptions build() {
+      return new SqlWriteOptions(this);
+    }
+  }
+}
@@ -0,0 +1,396 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.jdbc;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.booleans.BooleanColumnType;
+
+/**
+ * Writes tables to a database table, inserting the rows with batches of prepared statements. The
+ * values of the numeric and boolean columns are bound as primitives, and missing values as SQL
+ * nulls of the column's mapped type.
+ *
+ * <p>A database is not a stream destination, so this is not a {@link tech.tablesaw.io.DataWriter}
+ * registered for file extensions or write options. Tables are written with {@link
+ * tech.tablesaw.io.DataFrameWriter#db(SqlWriteOptions)}, or with {@link #write(Table,
+ * SqlWriteOptions)}.
+ *
+ * <p>The table and column names are quoted with the database's identifier quote string, so they may
+ * contain spaces or be reserved words, and are matched exactly, including their case.
+ */
+public final class SqlWriter {
+
+  // Maps from Tablesaw column types to the SQL types they are written as
+  private static final Map<ColumnType, Integer> TABLESAW_TYPE_TO_SQL_TYPE = initializeMap();
+
+  private static Map<ColumnType, Integer> initializeMap() {
+    return new HashMap<>(
+        new ImmutableMap.Builder<ColumnType, Integer>()
+            .put(ColumnType.BOOLEAN, Types.BOOLEAN)
+            .put(ColumnType.SHORT, Types.SMALLINT)
+            .put(ColumnType.INTEGER, Types.INTEGER)
+            .put(ColumnType.LONG, Types.BIGINT)
+            .put(ColumnType.FLOAT, Types.REAL)
+            .put(ColumnType.DOUBLE, Types.DOUBLE)
+            .put(ColumnType.STRING, Types.VARCHAR)
+            .put(ColumnType.LOCAL_DATE, Types.DATE)
+            .put(ColumnType.LOCAL_TIME, Types.TIME)
+            .put(ColumnType.LOCAL_DATE_TIME, Types.TIMESTAMP)
+            .put(ColumnType.INSTANT, Types.TIMESTAMP)
+            .build());
+  }
+
+  /**
+   * Change or add a mapping between the given column type and Jdbc type. When writing to a
+   * database, columns of the given type are written as values of the associated Jdbc type
+   *
+   * @param columnType a tablesaw column type
+   * @param jdbc an int representing a legal value from java.sql.types;
+   */
+  public static void mapColumnTypeToJdbcType(ColumnType columnType, Integer jdbc) {
+    TABLESAW_TYPE_TO_SQL_TYPE.put(columnType, jdbc);
+  }
+
+  /** Returns the Jdbc type that columns of the given type are written as */
+  public static int getSqlType(ColumnType columnType) {
+    Integer sqlType = TABLESAW_TYPE_TO_SQL_TYPE.get(columnType);
+    Preconditions.checkState(sqlType != null, "No SQL type found for column type %s", columnType);
+    return sqlType;
+  }
+
+  private SqlWriter() {}
+
+  /**
+   * Inserts the rows of the table into the database table named in the options. Any {@link
+   * SQLException} is rethrown wrapped in an {@link IllegalStateException}
+   */
+  public static void write(Table table, SqlWriteOptions options) {
+    try {
+      if (options.createTable()) {
+        runWithConnection(options, connection -> createTable(connection, table, options));
+      }
+      int threads = Math.min(options.parallelism(), table.rowCount());
+      if (threads <= 1) {
+        runWithConnection(
+            options, connection -> writeRows(connection, table, 0, table.rowCount(), options));
+      } else {
+        writeInParallel(table, options, threads);
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException(
+          "Error writing table " + table.name() + " to " + options.tableName(), e);
+    }
+  }
+
+  /**
+   * Returns the statement that inserts one row of the table into the named database table, quoting
+   * identifiers with the given quote string
+   */
+  static String insertStatement(Table table, String tableName, String quote) {
+    return "INSERT INTO "
+        + quoteIdentifier(tableName, quote)
+        + " ("
+        + table.columnNames().stream()
+            .map(name -> quoteIdentifier(name, quote))
+            .collect(Collectors.joining(", "))
+        + ") VALUES ("
+        + table.columns().stream().map(c -> "?").collect(Collectors.joining(", "))
+        + ")";
+  }
+
+  /**
+   * Returns the statement that creates a database table with the columns of the table, quoting
+   * identifiers with the given quote string
+   */
+  static String createStatement(Table table, String tableName, String quote) {
+    return "CREATE TABLE "
+        + quoteIdentifier(tableName, quote)
+        + " ("
+        + table.columns().stream()
+            .map(
+                c ->
+                    quoteIdentifier(c.name(), quote)
+                        + " "
+                        + JDBCType.valueOf(getSqlType(c.type())).getName())
+            .collect(Collectors.joining(", "))
+        + ")";
+  }
+
+  /**
+   * Returns the identifier between quotes, with any quotes in it doubled. A blank quote string,
+   * which a database returns if it doesn't support quoted identifiers, leaves it unchanged
+   */
+  static String quoteIdentifier(String identifier, String quote) {
+    if (quote == null || quote.trim().isEmpty()) {
+      return identifier;
+    }
+    return quote + identifier.replace(quote, quote + quote) + quote;
+  }
+
+  /** Returns the string the database quotes identifiers with */
+  private static String identifierQuote(Connection connection) throws SQLException {
+    return connection.getMetaData().getIdentifierQuoteString();
+  }
+
+  @FunctionalInterface
+  private interface ConnectionTask {
+    void run(Connection connection) throws SQLException;
+  }
+
+  /** Runs the task with the given connection, or with a new one that is then closed */
+  private static void runWithConnection(SqlWriteOptions options, ConnectionTask task)
+      throws SQLException {
+    if (options.connection() != null) {
+      task.run(options.connection());
+    } else {
+      try (Connection connection = options.connectionFactory().connect()) {
+        task.run(connection);
+      }
+    }
+  }
+
+  private static void createTable(Connection connection, Table table, SqlWriteOptions options)
+      throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(createStatement(table, options.tableName(), identifierQuote(connection)));
+    }
+  }
+
+  /** Writes consecutive ranges of rows over separate connections, one thread per range */
+  private static void writeInParallel(Table table, SqlWriteOptions options, int threads)
+      throws SQLException {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>(threads);
+      for (int t = 0; t < threads; t++) {
+        int from = (int) ((long) table.rowCount() * t / threads);
+        int to = (int) ((long) table.rowCount() * (t + 1) / threads);
+        futures.add(
+            executor.submit(
+                () -> {
+                  try (Connection connection = options.connectionFactory().connect()) {
+                    writeRows(connection, table, from, to, options);
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof SQLException) {
+        throw (SQLException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Inserts the rows in {@code [from, to)} in batches, committing after every chunk of rows if a
+   * commit size is set
+   */
+  private static void writeRows(
+      Connection connection, Table table, int from, int to, SqlWriteOptions options)
+      throws SQLException {
+    ValueBinder[] binders = new ValueBinder[table.columnCount()];
+    for (int c = 0; c < binders.length; c++) {
+      binders[c] = binder(table.column(c));
+    }
+    int batchSize = options.batchSize();
+    int commitSize = options.commitSize();
+    boolean transactional = commitSize > 0;
+    boolean autoCommit = connection.getAutoCommit();
+    if (transactional) {
+      connection.setAutoCommit(false);
+    }
+    try (PreparedStatement statement =
+        connection.prepareStatement(
+            insertStatement(table, options.tableName(), identifierQuote(connection)))) {
+      int batched = 0;
+      int uncommitted = 0;
+      for (int row = from; row < to; row++) {
+        for (int c = 0; c < binders.length; c++) {
+          // add 1 because statement parameters originate at 1 not 0
+          binders[c].bind(statement, c + 1, row);
+        }
+        statement.addBatch();
+        if (++batched == batchSize) {
+          statement.executeBatch();
+          uncommitted += batched;
+          batched = 0;
+          if (transactional && uncommitted >= commitSize) {
+            connection.commit();
+            uncommitted = 0;
+          }
+        }
+      }
+      if (batched > 0) {
+        statement.executeBatch();
+      }
+      if (transactional) {
+        connection.commit();
+      }
+    } catch (SQLException e) {
+      if (transactional) {
+        try {
+          connection.rollback();
+        } catch (SQLException rollbackError) {
+          e.addSuppressed(rollbackError);
+        }
+      }
+      throw e;
+    } finally {
+      if (transactional) {
+        connection.setAutoCommit(autoCommit);
+      }
+    }
+  }
+
+  /** Sets the value of a row of a column as the parameter at the given index of a statement */
+  @FunctionalInterface
+  private interface ValueBinder {
+    void bind(PreparedStatement statement, int index, int row) throws SQLException;
+  }
+
+  /**
+   * Returns a binder that reads the primitive values of the numeric and boolean columns, and binds
+   * missing values as nulls of the column's SQL type
+   */
+  private static ValueBinder binder(Column<?> column) {
+    int sqlType = getSqlType(column.type());
+    if (column instanceof ShortColumn) {
+      ShortColumn shorts = (ShortColumn) column;
+      return (s, i, row) -> {
+        if (shorts.isMissing(row)) {
+          s.setNull(i, sqlType);
+        } else {
+          s.setShort(i, shorts.getShort(row));
+        }
+      };
+    }
+    if (column instanceof IntColumn) {
+      IntColumn ints = (IntColumn) column;
+      return (s, i, row) -> {
+        if (ints.isMissing(row)) {
+          s.setNull(i, sqlType);
+        } else {
+          s.setInt(i, ints.getInt(row));
+        }
+      };
+    }
+    if (column instanceof LongColumn) {
+      LongColumn longs = (LongColumn) column;
+      return (s, i, row) -> {
+        if (longs.isMissing(row)) {
+          s.setNull(i, sqlType);
+        } else {
+          s.setLong(i, longs.getLong(row));
+        }
+      };
+    }
+    if (column instanceof FloatColumn) {
+      FloatColumn floats = (FloatColumn) column;
+      return (s, i, row) -> {
+        if (floats.isMissing(row)) {
+          s.setNull(i, sqlType);
+        } else {
+          s.setFloat(i, floats.getFloat(row));
+        }
+      };
+    }
+    if (column instanceof DoubleColumn) {
+      DoubleColumn doubles = (DoubleColumn) column;
+      return (s, i, row) -> {
+        if (doubles.isMissing(row)) {
+          s.setNull(i, sqlType);
+        } else {
+          s.setDouble(i, doubles.getDouble(row));
+        }
+      };
+    }
+    if (column instanceof BooleanColumn) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      return (s, i, row) -> {
+        byte value = booleans.getByte(row);
+        if (value == BooleanColumnType.MISSING_VALUE) {
+          s.setNull(i, sqlType);
+        } else {
+          s.setBoolean(i, value == BooleanColumnType.BYTE_TRUE);
+        }
+      };
+    }
+    if (column instanceof StringColumn) {
+      StringColumn strings = (StringColumn) column;
+      return (s, i, row) -> {
+        if (strings.isMissing(row)) {
+          s.setNull(i, sqlType);
+        } else {
+          s.setString(i, strings.getString(row));
+        }
+      };
+    }
+    if (column instanceof InstantColumn) {
+      // Instants are not among the java.time types supported by setObject
+      InstantColumn instants = (InstantColumn) column;
+      return (s, i, row) -> {
+        if (instants.isMissing(row)) {
+          s.setNull(i, sqlType);
+        } else {
+          s.setTimestamp(i, Timestamp.from(instants.get(row)));
+        }
+      };
+    }
+    return (s, i, row) -> {
+      if (column.isMissing(row)) {
+        s.setNull(i, sqlType);
+      } else {
+        s.setObject(i, column.get(row), sqlType);
+      }
+    };
+  }
+}
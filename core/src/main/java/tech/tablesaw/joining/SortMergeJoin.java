@@ -237,6 +237,7 @@ class SortMergeJoin implements JoinStrategy {
 
     Row leftRow = left.row(0);
     Row rightRow = right.row(0);
+    Row destRow = new Row(destination);
 
     // Marks the position of the first record in right table that matches a specific join value
     int mark = -1;
@@ -249,7 +250,7 @@ class SortMergeJoin implements JoinStrategy {
         mark = rightRow.getRowNumber();
       }
       if (comparator.compare(leftRow, rightRow) == 0 && (leftRow.hasNext() || rightRow.hasNext())) {
-        addValues(destination, leftRow, rightRow);
+        addValues(destination, destRow, leftRow, rightRow);
         if (rightRow.hasNext()) {
           rightRow.next();
         } else {
@@ -274,7 +275,7 @@ class SortMergeJoin implements JoinStrategy {
     }
     // add the last value if you end on a match
     if (comparator.compare(leftRow, rightRow) == 0) {
-      addValues(destination, leftRow, rightRow);
+      addValues(destination, destRow, leftRow, rightRow);
     }
   }
 
@@ -322,8 +323,9 @@ class SortMergeJoin implements JoinStrategy {
   }
 
   private void addLeftOnlyValues(Table destination, Table left, Selection unmatched) {
+    Row destRow = new Row(destination);
     for (Row leftRow : left.where(unmatched)) {
-      Row destRow = destination.appendRow();
+      appendRow(destination, destRow);
       for (int c = 0; c < leftRow.columnCount() - 1; c++) {
         updateDestinationRow(destRow, leftRow, c, c);
       }
@@ -334,8 +336,9 @@ class SortMergeJoin implements JoinStrategy {
 
   private void addRightOnlyValues(Table destination, Table left, Table right, Selection unmatched) {
     int leftColumnCount = left.columnCount();
+    Row destRow = new Row(destination);
     for (Row rightRow : right.where(unmatched)) {
-      Row destRow = destination.appendRow();
+      appendRow(destination, destRow);
       for (int c = 0; c < rightRow.columnCount() - 1; c++) {
         updateDestinationRow(destRow, rightRow, c + leftColumnCount - 1, c);
       }
@@ -394,9 +397,21 @@ class SortMergeJoin implements JoinStrategy {
     }
   }
 
-  private void addValues(Table destination, Row leftRow, Row rightRow) {
+  /**
+   * Appends an empty row to the destination and moves the given Row, which must be over the
+   * destination, to it. Reusing one Row for every appended row avoids resolving the destination
+   * columns each time.
+   */
+  private static void appendRow(Table destination, Row destRow) {
+    for (Column<?> column : destination.columns()) {
+      column.appendMissing();
+    }
+    destRow.at(destination.rowCount() - 1);
+  }
+
+  private void addValues(Table destination, Row destRow, Row leftRow, Row rightRow) {
 
-    Row destRow = destination.appendRow();
+    appendRow(destination, destRow);
 
     // update positionally, but take into account the RECORD_ID COLUMNS at the end of the dest table
     int leftColumnCount = leftRow.columnCount();
@@ -0,0 +1,294 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.selection;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * A selection that starts out in a compact form, like a range or a short sorted array, which holds
+ * some sets of rows far more cheaply than a bitmap. Each operation keeps the compact form if its
+ * result still fits it. Otherwise the selection switches to a RoaringBitmap, and from then on
+ * behaves like a {@link BitmapBackedSelection}, until it is cleared.
+ */
+abstract class AdaptiveSelection implements Selection {
+
+  /** The rows, once the selection has left its compact form, and null before */
+  @Nullable private RoaringBitmap bitmap;
+
+  /**
+   * Returns a selection of the given rows, in the form that suits their density: a range if they
+   * are contiguous, a sorted array if there are few of them, and a bitmap otherwise
+   */
+  static Selection of(int[] rows) {
+    int[] sorted = rows.clone();
+    Arrays.sort(sorted);
+    int count = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (count == 0 || sorted[i] != sorted[count - 1]) {
+        sorted[count++] = sorted[i];
+      }
+    }
+    if (count > 0 && sorted[count - 1] - sorted[0] == count - 1) {
+      return new RangeSelection(sorted[0], sorted[count - 1] + 1);
+    }
+    if (count <= SortedArraySelection.MAX_SIZE) {
+      return new SortedArraySelection(sorted, count);
+    }
+    RoaringBitmap bitmap = new RoaringBitmap();
+    bitmap.addN(sorted, 0, count);
+    return new BitmapBackedSelection(bitmap);
+  }
+
+  /** Returns the number of rows in the compact form */
+  abstract int compactSize();
+
+  /** Returns the ith row of the compact form */
+  abstract int compactGet(int i);
+
+  abstract boolean compactContains(int row);
+
+  abstract int[] compactToArray();
+
+  abstract IntIterator compactIterator();
+
+  /** Adds the rows of the compact form to the given bitmap */
+  abstract void addCompactTo(RoaringBitmap bitmap);
+
+  /** Empties the compact form, releasing its memory */
+  abstract void compactClear();
+
+  /**
+   * Intersects the compact form with the given selection and returns true, or returns false if the
+   * result wouldn't fit the compact form. The methods below work the same way.
+   */
+  abstract boolean compactAnd(Selection other);
+
+  abstract boolean compactOr(Selection other);
+
+  abstract boolean compactAndNot(Selection other);
+
+  abstract boolean compactAdd(int[] rows);
+
+  abstract boolean compactAddRange(int start, int end);
+
+  abstract boolean compactRemoveRange(long start, long end);
+
+  /** Returns true if the selection still has its compact form */
+  boolean isCompact() {
+    return bitmap == null;
+  }
+
+  /** Returns the rows as a bitmap, which the caller must not modify */
+  RoaringBitmap asBitmap() {
+    if (bitmap != null) {
+      return bitmap;
+    }
+    RoaringBitmap rows = new RoaringBitmap();
+    addCompactTo(rows);
+    return rows;
+  }
+
+  /** Switches the selection to a bitmap, if it hasn't already, and returns the bitmap */
+  private RoaringBitmap inflate() {
+    if (bitmap == null) {
+      bitmap = asBitmap();
+      compactClear();
+    }
+    return bitmap;
+  }
+
+  /** Returns the rows of the given selection as a bitmap, which the caller must not modify */
+  static RoaringBitmap asBitmap(Selection selection) {
+    if (selection instanceof BitmapBackedSelection) {
+      return ((BitmapBackedSelection) selection).bitmap();
+    }
+    if (selection instanceof AdaptiveSelection) {
+      return ((AdaptiveSelection) selection).asBitmap();
+    }
+    RoaringBitmap rows = new RoaringBitmap();
+    for (int row : selection) {
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int[] toArray() {
+    return bitmap == null ? compactToArray() : bitmap.toArray();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection add(int... ints) {
+    if (bitmap != null || !compactAdd(ints)) {
+      inflate().add(ints);
+    }
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection addRange(int start, int end) {
+    if (bitmap != null || !compactAddRange(start, end)) {
+      inflate().add((long) start, end);
+    }
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection removeRange(long start, long end) {
+    if (bitmap != null || !compactRemoveRange(start, end)) {
+      inflate().remove(start, end);
+    }
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return bitmap == null ? compactSize() : bitmap.getCardinality();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection and(Selection otherSelection) {
+    if (bitmap != null || !compactAnd(otherSelection)) {
+      inflate().and(asBitmap(otherSelection));
+    }
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection or(Selection otherSelection) {
+    if (bitmap != null || !compactOr(otherSelection)) {
+      inflate().or(asBitmap(otherSelection));
+    }
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection andNot(Selection otherSelection) {
+    if (bitmap != null || !compactAndNot(otherSelection)) {
+      inflate().andNot(asBitmap(otherSelection));
+    }
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection clear() {
+    bitmap = null;
+    compactClear();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean contains(int i) {
+    return bitmap == null ? compactContains(i) : bitmap.contains(i);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int get(int i) {
+    return bitmap == null ? compactGet(i) : bitmap.select(i);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Selection flip(int rangeStart, int rangeEnd) {
+    inflate().flip((long) rangeStart, rangeEnd);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public IntIterator iterator() {
+    if (bitmap == null) {
+      return compactIterator();
+    }
+    return new IntIterator() {
+
+      private final org.roaringbitmap.IntIterator iterator = bitmap.getIntIterator();
+
+      @Override
+      public int nextInt() {
+        return iterator.next();
+      }
+
+      @Override
+      public int skip(int k) {
+        throw new UnsupportedOperationException("Views do not support skipping in the iterator");
+      }
+
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    return "Selection of size: " + size();
+  }
+
+  /** Selections are equal to bitmap backed and adaptive selections of the same rows */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof AdaptiveSelection || o instanceof BitmapBackedSelection)) return false;
+
+    Selection other = (Selection) o;
+    if (size() != other.size()) {
+      return false;
+    }
+    IntIterator rows = iterator();
+    IntIterator otherRows = other.iterator();
+    while (rows.hasNext()) {
+      if (rows.nextInt() != otherRows.nextInt()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int size = size();
+    return size == 0 ? 0 : hash(size, get(0), get(size - 1));
+  }
+
+  /**
+   * Returns the hash code of a selection, computed from its size and first and last rows so that it
+   * is the same whatever the selection's form
+   */
+  static int hash(int size, int first, int last) {
+    return (31 * size + first) * 31 + last;
+  }
+}
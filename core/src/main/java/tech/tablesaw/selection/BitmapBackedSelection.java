@@ -91,10 +91,27 @@ public class BitmapBackedSelection implements Selection {
     return bitmap.toArray();
   }
 
+  /** Returns the bitmap holding the selected rows */
+  RoaringBitmap bitmap() {
+    return bitmap;
+  }
+
+  /**
+   * Returns the rows of the given selection as a bitmap, without copying the bitmap of a selection
+   * that already holds one. The caller must not modify it.
+   */
+  public static RoaringBitmap readOnlyBitmap(Selection selection) {
+    return AdaptiveSelection.asBitmap(selection);
+  }
+
   private RoaringBitmap toBitmap(Selection otherSelection) {
     if (otherSelection instanceof BitmapBackedSelection) {
       return ((BitmapBackedSelection) otherSelection).bitmap.clone();
     }
+    if (otherSelection instanceof AdaptiveSelection) {
+      AdaptiveSelection adaptive = (AdaptiveSelection) otherSelection;
+      return adaptive.isCompact() ? adaptive.asBitmap() : adaptive.asBitmap().clone();
+    }
     RoaringBitmap bits = new RoaringBitmap();
     for (int i : otherSelection) {
       bits.add(i);
@@ -160,9 +177,11 @@ public class BitmapBackedSelection implements Selection {
     return bitmap.select(i);
   }
 
+  /** Selections are equal to bitmap backed and adaptive selections of the same rows */
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
+    if (o instanceof AdaptiveSelection) return o.equals(this);
     if (o == null || getClass() != o.getClass()) return false;
 
     BitmapBackedSelection integers = (BitmapBackedSelection) o;
@@ -172,7 +191,9 @@ public class BitmapBackedSelection implements Selection {
 
   @Override
   public int hashCode() {
-    return bitmap.hashCode();
+    return bitmap.isEmpty()
+        ? 0
+        : AdaptiveSelection.hash(bitmap.getCardinality(), bitmap.first(), bitmap.last());
   }
 
   /** Returns a fastUtil intIterator that wraps a bitmap intIterator */
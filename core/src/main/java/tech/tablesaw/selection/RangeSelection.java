@@ -0,0 +1,190 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.selection;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * A Selection of a contiguous range of rows, held as its two ends. Iterating over it is a plain
+ * loop, and finding the ith row is an addition. Intersections, unions and removals that leave a
+ * single range keep this form; others switch it to a bitmap.
+ */
+public class RangeSelection extends AdaptiveSelection {
+
+  private int start;
+  private int end;
+
+  /** Constructs a selection of the rows from start (inclusive) to end (exclusive) */
+  public RangeSelection(int start, int end) {
+    this.start = start;
+    this.end = Math.max(start, end);
+  }
+
+  @Override
+  int compactSize() {
+    return end - start;
+  }
+
+  @Override
+  int compactGet(int i) {
+    if (i < 0 || i >= end - start) {
+      throw new IndexOutOfBoundsException("The requested index is larger than the selection");
+    }
+    return start + i;
+  }
+
+  @Override
+  boolean compactContains(int row) {
+    return row >= start && row < end;
+  }
+
+  @Override
+  int[] compactToArray() {
+    int[] rows = new int[end - start];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = start + i;
+    }
+    return rows;
+  }
+
+  @Override
+  IntIterator compactIterator() {
+    return new IntIterator() {
+
+      private int next = start;
+      private final int last = end;
+
+      @Override
+      public int nextInt() {
+        return next++;
+      }
+
+      @Override
+      public int skip(int k) {
+        throw new UnsupportedOperationException("Views do not support skipping in the iterator");
+      }
+
+      @Override
+      public boolean hasNext() {
+        return next < last;
+      }
+    };
+  }
+
+  @Override
+  void addCompactTo(RoaringBitmap bitmap) {
+    bitmap.add((long) start, end);
+  }
+
+  @Override
+  void compactClear() {
+    start = 0;
+    end = 0;
+  }
+
+  /** Returns the other selection's range, if it is a range, or null */
+  private static RangeSelection range(Selection other) {
+    if (other instanceof RangeSelection && ((RangeSelection) other).isCompact()) {
+      return (RangeSelection) other;
+    }
+    return null;
+  }
+
+  private void set(int newStart, int newEnd) {
+    if (newStart >= newEnd) {
+      compactClear();
+    } else {
+      start = newStart;
+      end = newEnd;
+    }
+  }
+
+  @Override
+  boolean compactAnd(Selection other) {
+    RangeSelection range = range(other);
+    if (range != null) {
+      set(Math.max(start, range.start), Math.min(end, range.end));
+      return true;
+    }
+    return start == end;
+  }
+
+  @Override
+  boolean compactOr(Selection other) {
+    RangeSelection range = range(other);
+    if (range != null) {
+      return compactAddRange(range.start, range.end);
+    }
+    return other.isEmpty();
+  }
+
+  @Override
+  boolean compactAndNot(Selection other) {
+    RangeSelection range = range(other);
+    if (range != null) {
+      return compactRemoveRange(range.start, range.end);
+    }
+    return start == end || other.isEmpty();
+  }
+
+  @Override
+  boolean compactAdd(int[] rows) {
+    for (int row : rows) {
+      if (start == end) {
+        set(row, row + 1);
+      } else if (row == end) {
+        end++;
+      } else if (row == start - 1) {
+        start--;
+      } else if (!compactContains(row)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  boolean compactAddRange(int rangeStart, int rangeEnd) {
+    if (rangeStart >= rangeEnd) {
+      return true;
+    }
+    if (start == end) {
+      set(rangeStart, rangeEnd);
+      return true;
+    }
+    if (rangeStart <= end && start <= rangeEnd) {
+      set(Math.min(start, rangeStart), Math.max(end, rangeEnd));
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  boolean compactRemoveRange(long rangeStart, long rangeEnd) {
+    if (rangeStart >= rangeEnd || rangeEnd <= start || rangeStart >= end) {
+      return true;
+    }
+    if (rangeStart <= start) {
+      set((int) Math.min(rangeEnd, end), end);
+      return true;
+    }
+    if (rangeEnd >= end) {
+      set(start, (int) rangeStart);
+      return true;
+    }
+    return false;
+  }
+}
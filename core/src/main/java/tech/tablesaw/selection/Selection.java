@@ -94,9 +94,12 @@ public interface Selection extends IntIterable {
     return BitmapBackedSelection.selectNRowsAtRandom(n, max);
   }
 
-  /** Returns a Selection containing all indexes in the array */
+  /**
+   * Returns a Selection containing all indexes in the array. The selection holds them as a range if
+   * they are contiguous, as a sorted array if there are few of them, and as a bitmap otherwise
+   */
   static Selection with(int... rows) {
-    return BitmapBackedSelection.with(rows);
+    return AdaptiveSelection.of(rows);
   }
 
   /** */
@@ -108,7 +111,7 @@ public interface Selection extends IntIterable {
    * Returns a Selection containing all indexes in the range start (inclusive) to end (exclusive),
    */
   static Selection withRange(int start, int end) {
-    return BitmapBackedSelection.withRange(start, end);
+    return new RangeSelection(start, end);
   }
 
   /**
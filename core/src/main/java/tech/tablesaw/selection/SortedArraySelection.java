@@ -0,0 +1,232 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.selection;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import java.util.Arrays;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * A Selection of a few rows, held in a sorted array. It avoids the containers of a bitmap for
+ * sparse selections, and finds the ith row by indexing the array. Intersections and removals always
+ * keep this form, and additions and unions keep it while the selection has at most {@link
+ * #MAX_SIZE} rows.
+ */
+public class SortedArraySelection extends AdaptiveSelection {
+
+  /**
+   * The most rows a selection holds in an array before it switches to a bitmap. It is the size at
+   * which RoaringBitmap itself stores a block of rows as a bitmap rather than an array.
+   */
+  public static final int MAX_SIZE = 4096;
+
+  private static final int[] EMPTY = new int[0];
+
+  private int[] rows;
+  private int size;
+
+  /** Constructs a selection of the given rows, in any order */
+  public SortedArraySelection(int... rows) {
+    this.rows = rows.clone();
+    Arrays.sort(this.rows);
+    for (int row : this.rows) {
+      if (size == 0 || row != this.rows[size - 1]) {
+        this.rows[size++] = row;
+      }
+    }
+  }
+
+  /** Constructs a selection of the first {@code size} rows, distinct and in ascending order */
+  SortedArraySelection(int[] sortedRows, int size) {
+    this.rows = sortedRows;
+    this.size = size;
+  }
+
+  @Override
+  int compactSize() {
+    return size;
+  }
+
+  @Override
+  int compactGet(int i) {
+    if (i < 0 || i >= size) {
+      throw new IndexOutOfBoundsException("The requested index is larger than the selection");
+    }
+    return rows[i];
+  }
+
+  @Override
+  boolean compactContains(int row) {
+    return Arrays.binarySearch(rows, 0, size, row) >= 0;
+  }
+
+  @Override
+  int[] compactToArray() {
+    return Arrays.copyOf(rows, size);
+  }
+
+  @Override
+  IntIterator compactIterator() {
+    return new IntIterator() {
+
+      private final int[] values = rows;
+      private final int count = size;
+      private int next = 0;
+
+      @Override
+      public int nextInt() {
+        return values[next++];
+      }
+
+      @Override
+      public int skip(int k) {
+        throw new UnsupportedOperationException("Views do not support skipping in the iterator");
+      }
+
+      @Override
+      public boolean hasNext() {
+        return next < count;
+      }
+    };
+  }
+
+  @Override
+  void addCompactTo(RoaringBitmap bitmap) {
+    bitmap.addN(rows, 0, size);
+  }
+
+  @Override
+  void compactClear() {
+    rows = EMPTY;
+    size = 0;
+  }
+
+  /** Keeps the rows that are, or if not {@code keep} aren't, in the other selection */
+  private void retain(Selection other, boolean keep) {
+    int[] kept = new int[size];
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (other.contains(rows[i]) == keep) {
+        kept[count++] = rows[i];
+      }
+    }
+    rows = kept;
+    size = count;
+  }
+
+  @Override
+  boolean compactAnd(Selection other) {
+    retain(other, true);
+    return true;
+  }
+
+  @Override
+  boolean compactAndNot(Selection other) {
+    retain(other, false);
+    return true;
+  }
+
+  @Override
+  boolean compactOr(Selection other) {
+    if (size + other.size() > MAX_SIZE) {
+      return false;
+    }
+    int[] others = other.toArray();
+    merge(others, others.length);
+    return true;
+  }
+
+  @Override
+  boolean compactAdd(int[] added) {
+    if (added.length == 1 && (size == 0 || added[0] > rows[size - 1])) {
+      if (size == MAX_SIZE) {
+        return false;
+      }
+      if (size == rows.length) {
+        rows = Arrays.copyOf(rows, Math.min(MAX_SIZE, Math.max(8, size * 2)));
+      }
+      rows[size++] = added[0];
+      return true;
+    }
+    if (size + added.length > MAX_SIZE) {
+      return false;
+    }
+    int[] sorted = added.clone();
+    Arrays.sort(sorted);
+    merge(sorted, sorted.length);
+    return true;
+  }
+
+  @Override
+  boolean compactAddRange(int start, int end) {
+    if (start >= end) {
+      return true;
+    }
+    if ((long) size + end - start > MAX_SIZE) {
+      return false;
+    }
+    int[] range = new int[end - start];
+    for (int i = 0; i < range.length; i++) {
+      range[i] = start + i;
+    }
+    merge(range, range.length);
+    return true;
+  }
+
+  @Override
+  boolean compactRemoveRange(long start, long end) {
+    int from = lowerBound(start);
+    int to = lowerBound(end);
+    if (from < to) {
+      // a new array, like merge and retain, leaves any open iterator over the old rows unchanged
+      int[] remaining = new int[size - (to - from)];
+      System.arraycopy(rows, 0, remaining, 0, from);
+      System.arraycopy(rows, to, remaining, from, size - to);
+      rows = remaining;
+      size = remaining.length;
+    }
+    return true;
+  }
+
+  /** Returns the position of the first row at least as large as the given value */
+  private int lowerBound(long value) {
+    if (value > Integer.MAX_VALUE) {
+      return size;
+    }
+    int position = Arrays.binarySearch(rows, 0, size, (int) Math.max(value, Integer.MIN_VALUE));
+    return position >= 0 ? position : -position - 1;
+  }
+
+  /** Merges the given sorted rows, which may repeat, into this selection */
+  private void merge(int[] other, int otherSize) {
+    int[] merged = new int[size + otherSize];
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < size || j < otherSize) {
+      int next;
+      if (j == otherSize || (i < size && rows[i] <= other[j])) {
+        next = rows[i++];
+      } else {
+        next = other[j++];
+      }
+      if (count == 0 || merged[count - 1] != next) {
+        merged[count++] = next;
+      }
+    }
+    rows = merged;
+    size = count;
+  }
+}
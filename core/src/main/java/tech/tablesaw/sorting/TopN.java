@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.sorting;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import tech.tablesaw.api.Table;
+
+/**
+ * Selects the first n rows in the order of a row comparator without sorting the others.
+ *
+ * <p>The rows kept so far are held in a binary heap of at most n row numbers, with the last of them
+ * at the root. Each further row is compared with the root and, if it comes first, replaces it. This
+ * takes O(rows * log n) comparisons and memory for n rows, so picking the top hundred of millions
+ * of rows costs little more than a scan. Rows that compare equal are ordered by row number, so the
+ * result doesn't depend on the order in which the rows are visited.
+ */
+public final class TopN {
+
+  private TopN() {}
+
+  /**
+   * Returns the first n of the given rows in the order of the comparator, in that order. If there
+   * are n rows or fewer, all of them are returned, sorted.
+   */
+  public static int[] first(PrimitiveIterator.OfInt rows, int n, IntComparator comparator) {
+    return select(rows, n, totalOrder(comparator));
+  }
+
+  /**
+   * Returns the last n of the given rows in the order of the comparator, last first, as {@link
+   * #first} returns them for the reversed comparator. Rows that compare equal are still ordered by
+   * row number. If there are n rows or fewer, all of them are returned, sorted in reverse.
+   */
+  public static int[] last(PrimitiveIterator.OfInt rows, int n, IntComparator comparator) {
+    return first(rows, n, (a, b) -> comparator.compare(b, a));
+  }
+
+  /** Returns the comparator's order, with rows that compare equal ordered by row number */
+  private static IntComparator totalOrder(IntComparator comparator) {
+    return (a, b) -> {
+      int result = comparator.compare(a, b);
+      return result != 0 ? result : Integer.compare(a, b);
+    };
+  }
+
+  /** Returns the first n of the given rows in the given total order, in that order */
+  private static int[] select(PrimitiveIterator.OfInt rows, int n, IntComparator order) {
+    int[] heap = new int[Math.max(0, Math.min(n, 1024))];
+    int size = 0;
+    while (rows.hasNext() && n > 0) {
+      int row = rows.nextInt();
+      if (size < n) {
+        if (size == heap.length) {
+          heap = Arrays.copyOf(heap, (int) Math.min(n, heap.length * 2L));
+        }
+        heap[size] = row;
+        siftUp(heap, size++, order);
+      } else if (order.compare(row, heap[0]) < 0) {
+        heap[0] = row;
+        siftDown(heap, size, order);
+      }
+    }
+    int[] result = Arrays.copyOf(heap, size);
+    IntArrays.quickSort(result, order);
+    return result;
+  }
+
+  /**
+   * Returns a comparator of the rows of the table in the order of the given key, which may sort on
+   * one column or several
+   */
+  public static IntComparator comparator(Table table, Sort key) {
+    if (key.size() == 1) {
+      return SortUtils.getComparator(table, key);
+    }
+    return SortUtils.getChain(table, key);
+  }
+
+  /** Moves the row at position i up until its parent comes after it */
+  private static void siftUp(int[] heap, int i, IntComparator order) {
+    int row = heap[i];
+    while (i > 0) {
+      int parent = (i - 1) >>> 1;
+      if (order.compare(heap[parent], row) >= 0) {
+        break;
+      }
+      heap[i] = heap[parent];
+      i = parent;
+    }
+    heap[i] = row;
+  }
+
+  /** Moves the row at the root down until both its children come before it */
+  private static void siftDown(int[] heap, int size, IntComparator order) {
+    int row = heap[0];
+    int i = 0;
+    while (true) {
+      int child = 2 * i + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && order.compare(heap[child + 1], heap[child]) > 0) {
+        child++;
+      }
+      if (order.compare(heap[child], row) <= 0) {
+        break;
+      }
+      heap[i] = heap[child];
+      i = child;
+    }
+    heap[i] = row;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+
+/**
+ * A read-only view of a table in the 'molten' format produced by {@link Table#melt(List, List,
+ * boolean)}, computed on demand from the underlying table rather than copied into a new one.
+ *
+ * <p>Each row of the view pairs one row of the underlying table with one measured variable. The
+ * rows are ordered by the groups of id variables, and within each source row by measured variable.
+ * Values are read directly from the underlying columns; only the order of the source rows (and, if
+ * missing values are dropped, the surviving row and variable of each view row) is stored.
+ *
+ * <p>A MeltedView is only good until the underlying table changes.
+ */
+public class MeltedView {
+
+  private final Table table;
+  private final List<Column<?>> idColumns;
+  private final NumericColumn<?>[] measuredColumns;
+
+  /** The rows of the table in the order they appear in the view */
+  private final int[] sourceRows;
+
+  /**
+   * If missing values are dropped, the position in {@code sourceRows} and the measured column of
+   * each view row; otherwise null, and both are computed from the row number
+   */
+  private final int[] rowPositions;
+
+  private final int[] variables;
+
+  /**
+   * Returns a melted view of the given table
+   *
+   * @param table the table to view
+   * @param idVariables the names of the columns used as identifiers
+   * @param measuredVariables the columns used as measured variables
+   * @param dropMissing whether to leave out the rows where the measured value is missing
+   */
+  public MeltedView(
+      Table table,
+      List<String> idVariables,
+      List<NumericColumn<?>> measuredVariables,
+      boolean dropMissing) {
+    this.table = table;
+    this.idColumns = table.columns(idVariables.toArray(new String[0]));
+    this.measuredColumns = measuredVariables.toArray(new NumericColumn<?>[0]);
+    this.sourceRows = groupedRows(table, idVariables);
+
+    if (dropMissing) {
+      int count = 0;
+      for (int sourceRow : sourceRows) {
+        for (NumericColumn<?> column : measuredColumns) {
+          if (!column.isMissing(sourceRow)) {
+            count++;
+          }
+        }
+      }
+      rowPositions = new int[count];
+      variables = new int[count];
+      int row = 0;
+      for (int position = 0; position < sourceRows.length; position++) {
+        for (int variable = 0; variable < measuredColumns.length; variable++) {
+          if (!measuredColumns[variable].isMissing(sourceRows[position])) {
+            rowPositions[row] = position;
+            variables[row] = variable;
+            row++;
+          }
+        }
+      }
+    } else {
+      rowPositions = null;
+      variables = null;
+    }
+  }
+
+  /** Returns the rows of the table, grouped by the id variables in the order used by splitOn */
+  private static int[] groupedRows(Table table, List<String> idVariables) {
+    int[] rows = new int[table.rowCount()];
+    int i = 0;
+    for (TableSlice slice : table.splitOn(idVariables.toArray(new String[0]))) {
+      for (int r = 0; r < slice.rowCount(); r++) {
+        rows[i++] = slice.mappedRowNumber(r);
+      }
+    }
+    return i == rows.length ? rows : Arrays.copyOf(rows, i);
+  }
+
+  /** Returns the number of rows in the view */
+  public int rowCount() {
+    return rowPositions == null ? sourceRows.length * measuredColumns.length : rowPositions.length;
+  }
+
+  /** Returns the row of the underlying table that the given view row was taken from */
+  public int sourceRowNumber(int row) {
+    return sourceRows[rowPositions == null ? row / measuredColumns.length : rowPositions[row]];
+  }
+
+  /** Returns the measured column that the given view row holds a value of */
+  public NumericColumn<?> measuredColumn(int row) {
+    return measuredColumns[variables == null ? row % measuredColumns.length : variables[row]];
+  }
+
+  /** Returns the name of the measured variable in the given row */
+  public String variable(int row) {
+    return measuredColumn(row).name();
+  }
+
+  /** Returns the measured value in the given row, as a double */
+  public double value(int row) {
+    return measuredColumn(row).getDouble(sourceRowNumber(row));
+  }
+
+  /** Returns the value of the named id variable in the given row */
+  public Object idValue(int row, String idVariable) {
+    return table.column(idVariable).get(sourceRowNumber(row));
+  }
+
+  /**
+   * Returns a new table holding the rows of this view, with the id columns followed by a "variable"
+   * and a "value" column. The id columns are gathered from the underlying table by row, and the
+   * measured values are read as primitive doubles, one measured column at a time.
+   */
+  public Table asTable() {
+    int rowCount = rowCount();
+    int[] rows = new int[rowCount];
+    for (int row = 0; row < rowCount; row++) {
+      rows[row] = sourceRowNumber(row);
+    }
+
+    List<Column<?>> columns = new ArrayList<>(idColumns.size() + 2);
+    for (Column<?> idColumn : idColumns) {
+      columns.add(idColumn.subset(rows));
+    }
+
+    StringColumn variableColumn = StringColumn.create(Table.MELT_VARIABLE_COLUMN_NAME);
+    double[] values = new double[rowCount];
+    if (variables == null) {
+      int stride = measuredColumns.length;
+      for (int variable = 0; variable < stride; variable++) {
+        double[] measured = measuredColumns[variable].asDoubleArray();
+        for (int position = 0; position < sourceRows.length; position++) {
+          values[position * stride + variable] = measured[sourceRows[position]];
+        }
+      }
+      for (int row = 0; row < rowCount; row++) {
+        variableColumn.append(measuredColumns[row % stride].name());
+      }
+    } else {
+      double[][] measured = new double[measuredColumns.length][];
+      for (int variable = 0; variable < measuredColumns.length; variable++) {
+        measured[variable] = measuredColumns[variable].asDoubleArray();
+      }
+      for (int row = 0; row < rowCount; row++) {
+        values[row] = measured[variables[row]][rows[row]];
+        variableColumn.append(measuredColumns[variables[row]].name());
+      }
+    }
+    columns.add(variableColumn);
+    columns.add(DoubleColumn.create(Table.MELT_VALUE_COLUMN_NAME, values));
+    return Table.create(table.name(), columns);
+  }
+}
@@ -3,8 +3,6 @@ package tech.tablesaw.table;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.selection.BitmapBackedSelection;
-import tech.tablesaw.selection.Selection;
 
 /** Does a calculation on a rolling basis (e.g. mean for last 20 days) */
 public class RollingColumn {
@@ -40,10 +38,12 @@ public class RollingColumn {
     for (int i = 0; i < window - 1; i++) {
       result.appendMissing();
     }
+    int[] rows = new int[Math.max(window, 0)];
     for (int origColIndex = 0; origColIndex < column.size() - window + 1; origColIndex++) {
-      Selection selection = new BitmapBackedSelection();
-      selection.addRange(origColIndex, origColIndex + window);
-      INCOL subsetCol = (INCOL) column.subset(selection.toArray());
+      for (int i = 0; i < rows.length; i++) {
+        rows[i] = origColIndex + i;
+      }
+      INCOL subsetCol = (INCOL) column.subset(rows);
       OUT answer = function.summarize(subsetCol);
       if (answer instanceof Number) {
         Number number = (Number) answer;
@@ -17,7 +17,6 @@ package tech.tablesaw.table;
 import java.util.ArrayList;
 import java.util.List;
 import tech.tablesaw.api.Table;
-import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A group of tables formed by performing splitting operations on an original table */
@@ -42,9 +41,7 @@ public class SelectionTableSliceGroup extends TableSliceGroup {
     super(original);
     List<Selection> selections = new ArrayList<>();
     for (int i = 0; i < original.rowCount() - step; i += step) {
-      Selection selection = new BitmapBackedSelection();
-      selection.addRange(i, i + step);
-      selections.add(selection);
+      selections.add(Selection.withRange(i, i + step));
     }
     splitOnSelection(subTableNameTemplate, selections);
   }
@@ -25,7 +25,6 @@ import java.util.Map.Entry;
 import tech.tablesaw.api.CategoricalColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A group of tables formed by performing splitting operations on an original table */
@@ -91,9 +90,7 @@ public class StandardTableSliceGroup extends TableSliceGroup {
         }
         // Add to the matching selection.
         ByteArray byteArray = new ByteArray(byteArrayList.toByteArray());
-        Selection selection = selectionMap.getOrDefault(byteArray, new BitmapBackedSelection());
-        selection.add(i);
-        selectionMap.put(byteArray, selection);
+        selectionMap.computeIfAbsent(byteArray, k -> Selection.with()).add(i);
         sliceNameMap.put(byteArray, stringKey.toString());
       }
     } else { // handle the case where split is on non-text-columns
@@ -113,9 +110,7 @@ public class StandardTableSliceGroup extends TableSliceGroup {
         }
         // Add to the matching selection.
         ByteArray byteArray = new ByteArray(byteBuffer.array());
-        Selection selection = selectionMap.getOrDefault(byteArray, new BitmapBackedSelection());
-        selection.add(i);
-        selectionMap.put(byteArray, selection);
+        selectionMap.computeIfAbsent(byteArray, k -> Selection.with()).add(i);
         sliceNameMap.put(byteArray, stringKey.toString());
       }
     }
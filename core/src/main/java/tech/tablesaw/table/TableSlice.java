@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.PrimitiveIterator;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 import javax.annotation.Nullable;
 import tech.tablesaw.aggregate.NumericAggregateFunction;
@@ -38,6 +39,11 @@ import tech.tablesaw.sorting.comparators.IntComparatorChain;
  * A TableSlice is a facade around a Relation that acts as a filter. Requests for data are forwarded
  * to the underlying table. A TableSlice can be sorted independently of the underlying table.
  *
+ * <p>Slices also serve as lazy views: {@link #where(Selection)}, {@link #where(Function)} and
+ * {@link #inRange(int, int)} return new slices that map their rows onto the same table, so a
+ * pipeline of filters, sorts and ranges copies no column data until {@link #materialize()} or
+ * {@link #first(int)} is called. Columns fetched from a slice are copies of the rows it contains.
+ *
  * <p>A TableSlice is only good until the structure of the underlying table changes.
  */
 public class TableSlice extends Relation {
@@ -74,6 +80,14 @@ public class TableSlice extends Relation {
     this.table = table;
   }
 
+  /** Returns a new slice of the given rows, with the given presentation order */
+  private TableSlice(Table table, String name, Selection selection, @Nullable int[] sortOrder) {
+    this.name = name;
+    this.selection = selection;
+    this.sortOrder = sortOrder;
+    this.table = table;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Column<?> column(int columnIndex) {
@@ -180,18 +194,107 @@ public class TableSlice extends Relation {
         "Class TableSlice does not support the removeColumns operation");
   }
 
-  /** {@inheritDoc} */
+  /** Returns a new table holding the first {@code nRows} rows of this slice, in order */
   @Override
   public Table first(int nRows) {
-    int count = 0;
-    PrimitiveIterator.OfInt it = sourceRowNumberIterator();
-    Table copy = table.emptyCopy();
-    while (it.hasNext() && count < nRows) {
-      int row = it.nextInt();
-      copy.append(table.row(row));
-      count++;
+    return inRange(0, Math.min(nRows, rowCount())).materialize();
+  }
+
+  /**
+   * Returns a new slice of the rows of this slice included in the given selection, whose row
+   * numbers are positions in this slice. The order of this slice is kept. The selection is copied,
+   * so changing it afterwards doesn't change the new slice.
+   *
+   * @throws IllegalArgumentException if the selection includes a row outside this slice
+   */
+  public TableSlice where(Selection rows) {
+    int[] positions = rows.toArray();
+    int rowCount = rowCount();
+    for (int row : positions) {
+      Preconditions.checkArgument(
+          row >= 0 && row < rowCount, "Row %s is not in a slice of %s rows", row, rowCount);
     }
-    return copy;
+    if (isSorted()) {
+      int[] order = new int[positions.length];
+      for (int i = 0; i < positions.length; i++) {
+        order[i] = sortOrder[positions[i]];
+      }
+      return new TableSlice(table, name, Selection.with(order), order);
+    }
+    if (!hasSelection()) {
+      return new TableSlice(table, name, Selection.with(positions), null);
+    }
+    int[] selected = selection.toArray();
+    int[] sourceRows = new int[positions.length];
+    for (int i = 0; i < positions.length; i++) {
+      sourceRows[i] = selected[positions[i]];
+    }
+    return new TableSlice(table, name, Selection.with(sourceRows), null);
+  }
+
+  /**
+   * Returns a new slice of the rows of this slice that pass the given filter. The filter is applied
+   * to the underlying table, so it can use the table's indexes, and the order of this slice is
+   * kept. The selection the filter returns is copied, so changing it afterwards doesn't change the
+   * new slice.
+   *
+   * @throws IllegalArgumentException if the filter selects a row outside the underlying table
+   */
+  public TableSlice where(Function<Table, Selection> filter) {
+    int[] rows = filter.apply(table).toArray();
+    int tableRowCount = table.rowCount();
+    for (int row : rows) {
+      Preconditions.checkArgument(
+          row >= 0 && row < tableRowCount,
+          "Row %s is not in a table of %s rows",
+          row,
+          tableRowCount);
+    }
+    Selection passing = Selection.with(rows);
+    if (isSorted()) {
+      int[] order = Arrays.stream(sortOrder).filter(passing::contains).toArray();
+      return new TableSlice(table, name, Selection.with(order), order);
+    }
+    if (hasSelection()) {
+      passing.and(selection);
+    }
+    return new TableSlice(table, name, passing, null);
+  }
+
+  /** Returns a new slice of the rows of this slice from rowStart inclusive to rowEnd exclusive */
+  public TableSlice inRange(int rowStart, int rowEnd) {
+    Preconditions.checkArgument(rowStart >= 0 && rowStart <= rowEnd && rowEnd <= rowCount());
+    if (isSorted()) {
+      int[] order = Arrays.copyOfRange(sortOrder, rowStart, rowEnd);
+      return new TableSlice(table, name, Selection.with(order), order);
+    }
+    if (!hasSelection()) {
+      return new TableSlice(table, name, Selection.withRange(rowStart, rowEnd), null);
+    }
+    return where(Selection.withRange(rowStart, rowEnd));
+  }
+
+  /**
+   * Returns a new table holding the rows of this slice, in order. This is the only point where a
+   * view's data is copied.
+   */
+  public Table materialize() {
+    int[] rows = sourceRows();
+    Table result = Table.create(name);
+    for (Column<?> column : table.columns()) {
+      result.addColumns(column.subset(rows));
+    }
+    return result;
+  }
+
+  /** Returns the rows of the underlying table in this slice, in presentation order */
+  private int[] sourceRows() {
+    if (isSorted()) {
+      return sortOrder;
+    } else if (hasSelection()) {
+      return selection.toArray();
+    }
+    return IntStream.range(0, table.rowCount()).toArray();
   }
 
   /** {@inheritDoc} */
@@ -203,11 +306,7 @@ public class TableSlice extends Relation {
 
   /** Returns the data in this slice as a new Table */
   public Table asTable() {
-    Table table = Table.create(this.name());
-    for (Column<?> column : this.columns()) {
-      table.addColumns(column);
-    }
-    return table;
+    return materialize();
   }
 
   /**
@@ -14,20 +14,26 @@
 
 package tech.tablesaw.table;
 
+import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntComparator;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.sorting.Sort;
+import tech.tablesaw.sorting.TopN;
 
 /**
  * A group of virtual tables (table slices) formed by performing splitting operations on an original
@@ -191,6 +197,42 @@ public abstract class TableSliceGroup implements Iterable<TableSlice> {
     return splitGroupingColumn(groupTable);
   }
 
+  /**
+   * Returns a table of the first n rows of each slice in the order of the given key, as {@link
+   * Table#topN(int, Sort)} picks them, with the rows of each slice together and the slices in
+   * order. Only the selected rows are copied.
+   */
+  public Table topN(int n, Sort key) {
+    return gather(n, key, true);
+  }
+
+  /**
+   * Returns a table of the last n rows of each slice in the order of the given key, last first, as
+   * {@link Table#bottomN(int, Sort)} picks them, with the rows of each slice together and the
+   * slices in order. Only the selected rows are copied.
+   */
+  public Table bottomN(int n, Sort key) {
+    return gather(n, key, false);
+  }
+
+  private Table gather(int n, Sort key, boolean first) {
+    Preconditions.checkArgument(!key.isEmpty());
+    IntComparator comparator = TopN.comparator(sourceTable, key);
+    IntArrayList rows = new IntArrayList();
+    for (TableSlice slice : getSlices()) {
+      PrimitiveIterator.OfInt sliceRows = slice.sourceRowNumberIterator();
+      rows.addElements(
+          rows.size(),
+          first ? TopN.first(sliceRows, n, comparator) : TopN.last(sliceRows, n, comparator));
+    }
+    int[] selected = rows.toIntArray();
+    Table result = Table.create(sourceTable.name());
+    for (Column<?> column : sourceTable.columns()) {
+      result.addColumns(column.subset(selected));
+    }
+    return result;
+  }
+
   /** Returns the name of a summary table made by aggregating on the slices in this group */
   public static Table summaryTableName(Table source) {
     return Table.create(source.name() + " summary");
@@ -0,0 +1,179 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.util;
+
+import java.util.Objects;
+
+/**
+ * Copies the values at a list of rows out of a primitive array into a new array, which the columns
+ * use to build their subsets.
+ *
+ * <p>Runs of consecutive rows, which selections of ranges and of clustered rows are made of, are
+ * copied with {@link System#arraycopy}; other rows are copied one at a time.
+ *
+ * <p>The arrays are the backing arrays of the columns' lists, which may be longer than the lists,
+ * so each row is checked against the number of values in use. A run is checked at its ends.
+ */
+public final class Gather {
+
+  private Gather() {}
+
+  /** Returns the length of the run of consecutive rows starting at position i */
+  private static int runLength(int[] rows, int i) {
+    int j = i + 1;
+    while (j < rows.length && rows[j] == rows[j - 1] + 1) {
+      j++;
+    }
+    return j - i;
+  }
+
+  /**
+   * Returns an array of the values at the given rows, in the order of the rows
+   *
+   * @param size the number of values in use at the start of the array
+   * @throws IndexOutOfBoundsException if a row is negative or not less than {@code size}
+   */
+  public static int[] gather(int[] values, int size, int[] rows) {
+    int[] result = new int[rows.length];
+    int i = 0;
+    while (i < rows.length) {
+      int run = runLength(rows, i);
+      Objects.checkIndex(rows[i], size);
+      if (run == 1) {
+        result[i] = values[rows[i]];
+      } else {
+        Objects.checkIndex(rows[i + run - 1], size);
+        System.arraycopy(values, rows[i], result, i, run);
+      }
+      i += run;
+    }
+    return result;
+  }
+
+  /**
+   * Returns an array of the values at the given rows, in the order of the rows
+   *
+   * @param size the number of values in use at the start of the array
+   * @throws IndexOutOfBoundsException if a row is negative or not less than {@code size}
+   */
+  public static long[] gather(long[] values, int size, int[] rows) {
+    long[] result = new long[rows.length];
+    int i = 0;
+    while (i < rows.length) {
+      int run = runLength(rows, i);
+      Objects.checkIndex(rows[i], size);
+      if (run == 1) {
+        result[i] = values[rows[i]];
+      } else {
+        Objects.checkIndex(rows[i + run - 1], size);
+        System.arraycopy(values, rows[i], result, i, run);
+      }
+      i += run;
+    }
+    return result;
+  }
+
+  /**
+   * Returns an array of the values at the given rows, in the order of the rows
+   *
+   * @param size the number of values in use at the start of the array
+   * @throws IndexOutOfBoundsException if a row is negative or not less than {@code size}
+   */
+  public static short[] gather(short[] values, int size, int[] rows) {
+    short[] result = new short[rows.length];
+    int i = 0;
+    while (i < rows.length) {
+      int run = runLength(rows, i);
+      Objects.checkIndex(rows[i], size);
+      if (run == 1) {
+        result[i] = values[rows[i]];
+      } else {
+        Objects.checkIndex(rows[i + run - 1], size);
+        System.arraycopy(values, rows[i], result, i, run);
+      }
+      i += run;
+    }
+    return result;
+  }
+
+  /**
+   * Returns an array of the values at the given rows, in the order of the rows
+   *
+   * @param size the number of values in use at the start of the array
+   * @throws IndexOutOfBoundsException if a row is negative or not less than {@code size}
+   */
+  public static byte[] gather(byte[] values, int size, int[] rows) {
+    byte[] result = new byte[rows.length];
+    int i = 0;
+    while (i < rows.length) {
+      int run = runLength(rows, i);
+      Objects.checkIndex(rows[i], size);
+      if (run == 1) {
+        result[i] = values[rows[i]];
+      } else {
+        Objects.checkIndex(rows[i + run - 1], size);
+        System.arraycopy(values, rows[i], result, i, run);
+      }
+      i += run;
+    }
+    return result;
+  }
+
+  /**
+   * Returns an array of the values at the given rows, in the order of the rows
+   *
+   * @param size the number of values in use at the start of the array
+   * @throws IndexOutOfBoundsException if a row is negative or not less than {@code size}
+   */
+  public static float[] gather(float[] values, int size, int[] rows) {
+    float[] result = new float[rows.length];
+    int i = 0;
+    while (i < rows.length) {
+      int run = runLength(rows, i);
+      Objects.checkIndex(rows[i], size);
+      if (run == 1) {
+        result[i] = values[rows[i]];
+      } else {
+        Objects.checkIndex(rows[i + run - 1], size);
+        System.arraycopy(values, rows[i], result, i, run);
+      }
+      i += run;
+    }
+    return result;
+  }
+
+  /**
+   * Returns an array of the values at the given rows, in the order of the rows
+   *
+   * @param size the number of values in use at the start of the array
+   * @throws IndexOutOfBoundsException if a row is negative or not less than {@code size}
+   */
+  public static double[] gather(double[] values, int size, int[] rows) {
+    double[] result = new double[rows.length];
+    int i = 0;
+    while (i < rows.length) {
+      int run = runLength(rows, i);
+      Objects.checkIndex(rows[i], size);
+      if (run == 1) {
+        result[i] = values[rows[i]];
+      } else {
+        Objects.checkIndex(rows[i + run - 1], size);
+        System.arraycopy(values, rows[i], result, i, run);
+      }
+      i += run;
+    }
+    return result;
+  }
+}
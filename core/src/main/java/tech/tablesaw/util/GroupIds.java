@@ -0,0 +1,241 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.util;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.Arrays;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Assigns a dense integer id to every distinct combination of values in one or more columns.
+ *
+ * <p>Ids are numbered from zero in order of first appearance. A 64-bit hash is first computed for
+ * every row, one column at a time, reading the primitive values of the common column types
+ * directly. Rows with the same hash are then compared with {@link Column#equals(int, int)}, so
+ * values are never boxed or converted to strings. Missing values are equal to each other and form a
+ * group of their own.
+ */
+public final class GroupIds {
+
+  private final int[] ids;
+  private final int[] firstRows;
+
+  private GroupIds(int[] ids, int[] firstRows) {
+    this.ids = ids;
+    this.firstRows = firstRows;
+  }
+
+  /** Returns the group ids of the rows of the given columns, which must all be the same size */
+  public static GroupIds of(Column<?>... columns) {
+    Preconditions.checkArgument(columns.length > 0, "At least one column must be provided");
+    int rowCount = columns[0].size();
+    for (Column<?> column : columns) {
+      Preconditions.checkArgument(
+          column.size() == rowCount, "All columns must have the same number of rows");
+    }
+
+    long[] hashes = rowHashes(columns, rowCount);
+    int[] ids = new int[rowCount];
+    IntArrayList firstRows = new IntArrayList();
+    // Open addressing table holding the id of the group stored in each slot, or -1 if the slot is
+    // empty.
+    int capacity = HashCommon.arraySize(Math.min(rowCount, 1 << 16), 0.5f);
+    int[] slots = newSlots(capacity);
+    int mask = capacity - 1;
+
+    for (int row = 0; row < rowCount; row++) {
+      long hash = hashes[row];
+      int slot = (int) hash & mask;
+      int id;
+      while ((id = slots[slot]) != -1) {
+        int firstRow = firstRows.getInt(id);
+        if (hashes[firstRow] == hash && equal(columns, row, firstRow)) {
+          break;
+        }
+        slot = (slot + 1) & mask;
+      }
+      if (id == -1) {
+        id = firstRows.size();
+        firstRows.add(row);
+        slots[slot] = id;
+        if (firstRows.size() * 2 > capacity) {
+          capacity *= 2;
+          mask = capacity - 1;
+          slots = rehash(hashes, firstRows, capacity);
+        }
+      }
+      ids[row] = id;
+    }
+    return new GroupIds(ids, firstRows.toIntArray());
+  }
+
+  /** Returns the group id of every row, indexed by row number */
+  public int[] ids() {
+    return ids;
+  }
+
+  /** Returns the group id of the given row */
+  public int id(int row) {
+    return ids[row];
+  }
+
+  /** Returns the number of distinct groups */
+  public int groupCount() {
+    return firstRows.length;
+  }
+
+  /** Returns the first row of the given group, which can be used to read the group's values */
+  public int firstRow(int id) {
+    return firstRows[id];
+  }
+
+  /** Returns the first row of every group, indexed by group id. The rows are in ascending order */
+  public int[] firstRows() {
+    return firstRows;
+  }
+
+  /** Returns the number of rows in each group, indexed by group id */
+  public int[] counts() {
+    int[] counts = new int[firstRows.length];
+    for (int id : ids) {
+      counts[id]++;
+    }
+    return counts;
+  }
+
+  private static int[] newSlots(int capacity) {
+    int[] slots = new int[capacity];
+    Arrays.fill(slots, -1);
+    return slots;
+  }
+
+  private static int[] rehash(long[] hashes, IntArrayList firstRows, int capacity) {
+    int[] slots = newSlots(capacity);
+    int mask = capacity - 1;
+    for (int id = 0; id < firstRows.size(); id++) {
+      int slot = (int) hashes[firstRows.getInt(id)] & mask;
+      while (slots[slot] != -1) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = id;
+    }
+    return slots;
+  }
+
+  /**
+   * Returns a hash of the values in each row of the given columns. Rows whose values are all equal,
+   * or missing in the same columns, have the same hash.
+   */
+  private static long[] rowHashes(Column<?>[] columns, int rowCount) {
+    long[] hashes = new long[rowCount];
+    for (Column<?> column : columns) {
+      hashColumn(column, hashes);
+    }
+    for (int row = 0; row < rowCount; row++) {
+      hashes[row] = HashCommon.mix(hashes[row]);
+    }
+    return hashes;
+  }
+
+  /** Combines the hash of each value in the column into the hash of its row */
+  private static void hashColumn(Column<?> column, long[] hashes) {
+    int rowCount = hashes.length;
+    if (column instanceof IntColumn) {
+      IntColumn ints = (IntColumn) column;
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = combine(hashes[row], ints.getInt(row));
+      }
+    } else if (column instanceof LongColumn) {
+      LongColumn longs = (LongColumn) column;
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = combine(hashes[row], longs.getLong(row));
+      }
+    } else if (column instanceof ShortColumn) {
+      ShortColumn shorts = (ShortColumn) column;
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = combine(hashes[row], shorts.getShort(row));
+      }
+    } else if (column instanceof DoubleColumn) {
+      DoubleColumn doubles = (DoubleColumn) column;
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = combine(hashes[row], bits(doubles.getDouble(row)));
+      }
+    } else if (column instanceof FloatColumn) {
+      FloatColumn floats = (FloatColumn) column;
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = combine(hashes[row], bits(floats.getFloat(row)));
+      }
+    } else if (column instanceof DateColumn) {
+      DateColumn dates = (DateColumn) column;
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = combine(hashes[row], dates.getIntInternal(row));
+      }
+    } else if (column instanceof TimeColumn) {
+      TimeColumn times = (TimeColumn) column;
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = combine(hashes[row], times.getIntInternal(row));
+      }
+    } else if (column instanceof DateTimeColumn) {
+      DateTimeColumn dateTimes = (DateTimeColumn) column;
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = combine(hashes[row], dateTimes.getLongInternal(row));
+      }
+    } else if (column instanceof InstantColumn) {
+      InstantColumn instants = (InstantColumn) column;
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = combine(hashes[row], instants.getLongInternal(row));
+      }
+    } else if (column instanceof BooleanColumn) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = combine(hashes[row], booleans.getByte(row));
+      }
+    } else {
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = combine(hashes[row], column.isMissing(row) ? 0 : column.valueHash(row));
+      }
+    }
+  }
+
+  private static long combine(long hash, long value) {
+    return (hash + value) * 0x9E3779B97F4A7C15L;
+  }
+
+  /** Returns the bits of the value, treating positive and negative zero, which are equal, alike */
+  private static long bits(double value) {
+    return value == 0 ? 0 : Double.doubleToLongBits(value);
+  }
+
+  private static boolean equal(Column<?>[] columns, int row1, int row2) {
+    for (Column<?> column : columns) {
+      if (!column.equals(row1, row2) && !(column.isMissing(row1) && column.isMissing(row2))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
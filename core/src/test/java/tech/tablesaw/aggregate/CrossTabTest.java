@@ -1,5 +1,6 @@
 package tech.tablesaw.aggregate;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.Row;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 
 public class CrossTabTest {
@@ -79,4 +81,26 @@ public class CrossTabTest {
     assertEquals(
         1.0, xtab.doubleColumn(xtab.columnCount() - 1).getDouble(xtab.rowCount() - 1), 0.00001);
   }
+
+  @Test
+  public void testCountsOrderedByLabel() {
+    Table table =
+        Table.create(
+            "t",
+            StringColumn.create("a", "y", "x", "y", "x", "y"),
+            IntColumn.create("b", 10, 2, 2, 10, 2));
+    Table counts = table.xTabCounts("a", "b");
+    assertEquals("[[labels], 10, 2, total]", counts.columnNames().toString());
+    assertEquals("[x, y, Total]", counts.stringColumn("[labels]").asList().toString());
+    assertArrayEquals(new int[] {1, 1, 2}, counts.intColumn("10").asIntArray());
+    assertArrayEquals(new int[] {1, 2, 3}, counts.intColumn("2").asIntArray());
+    assertArrayEquals(new int[] {2, 3, 5}, counts.intColumn("total").asIntArray());
+
+    Table rowPercents = CrossTab.rowPercents(table, "a", "b");
+    assertEquals(2.0 / 3, rowPercents.doubleColumn("2").getDouble(1), 0.00001);
+    Table columnPercents = CrossTab.columnPercents(table, "a", "b");
+    assertEquals(0.4, columnPercents.doubleColumn("total").getDouble(0), 0.00001);
+    Table tablePercents = CrossTab.tablePercents(table, "a", "b");
+    assertEquals(0.6, tablePercents.doubleColumn("2").getDouble(2), 0.00001);
+  }
 }
@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.io.csv.CsvReadOptions;
 
@@ -30,4 +33,56 @@ public class PivotTableTest {
     assertTrue(pivot.columnNames().contains("2004"));
     assertEquals(6, pivot.rowCount());
   }
+
+  @Test
+  public void pivotValues() {
+    Table t =
+        Table.create(
+            "sales",
+            StringColumn.create("region", "east", "west", "east", "east", "west", "north"),
+            IntColumn.create("year", 2020, 2020, 2021, 2020, 2021, 2021),
+            DoubleColumn.create("amount", 1, 2, 3, 4, Double.NaN, 6));
+
+    for (AggregateFunction<?, ?> function :
+        new AggregateFunction<?, ?>[] {
+          AggregateFunctions.sum,
+          AggregateFunctions.mean,
+          AggregateFunctions.max,
+          AggregateFunctions.count,
+          AggregateFunctions.median
+        }) {
+      Table pivot =
+          PivotTable.pivot(
+              t,
+              t.categoricalColumn("region"),
+              t.categoricalColumn("year"),
+              t.numberColumn("amount"),
+              function);
+      assertEquals("[region, 2020, 2021]", pivot.columnNames().toString());
+      assertEquals("[east, west, north]", pivot.stringColumn("region").asList().toString());
+      assertTrue(pivot.doubleColumn("2020").isMissing(2), function.functionName());
+    }
+
+    Table sums =
+        PivotTable.pivot(
+            t,
+            t.categoricalColumn("region"),
+            t.categoricalColumn("year"),
+            t.numberColumn("amount"),
+            AggregateFunctions.sum);
+    assertEquals(5, sums.doubleColumn("2020").getDouble(0));
+    assertEquals(3, sums.doubleColumn("2021").getDouble(0));
+    assertEquals(0, sums.doubleColumn("2021").getDouble(1));
+
+    Table medians =
+        PivotTable.pivot(
+            t,
+            t.categoricalColumn("region"),
+            t.categoricalColumn("year"),
+            t.numberColumn("amount"),
+            AggregateFunctions.median);
+    assertEquals(2.5, medians.doubleColumn("2020").getDouble(0));
+    assertTrue(medians.doubleColumn("2021").isMissing(1));
+    assertEquals(6, medians.doubleColumn("2021").getDouble(2));
+  }
 }
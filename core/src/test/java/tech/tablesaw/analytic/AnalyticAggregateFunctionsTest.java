@@ -3,8 +3,11 @@ package tech.tablesaw.analytic;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.google.common.collect.ImmutableList;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.analytic.AggregateFunctions.Count;
 import tech.tablesaw.analytic.AggregateFunctions.Max;
+import tech.tablesaw.analytic.AggregateFunctions.Min;
 import tech.tablesaw.analytic.AggregateFunctions.Sum;
 
 class AnalyticAggregateFunctionsTest {
@@ -40,4 +43,58 @@ class AnalyticAggregateFunctionsTest {
     function.addRightMost(3);
     assertEquals(10, function.getValue());
   }
+
+  @Test
+  public void testMinSlidingWithMissing() {
+    AggregateFunction<Integer, Double> function = new Min<Integer>().functionForSlidingWindows();
+    function.addRightMost(1);
+    function.addRightMostMissing();
+    function.addRightMost(5);
+    assertEquals(1, function.getValue());
+    function.removeLeftMost();
+    assertEquals(5, function.getValue());
+    function.removeLeftMost();
+    function.removeLeftMost();
+    assertTrue(Double.isNaN(function.getValue()));
+  }
+
+  @Test
+  public void testCountSliding() {
+    AggregateFunction<Integer, Integer> function = new Count<Integer>().functionForSlidingWindows();
+    function.addRightMost(1);
+    function.addRightMostMissing();
+    function.addRightMost(5);
+    assertEquals(2, function.getValue());
+    function.removeLeftMost();
+    function.removeLeftMost();
+    assertEquals(1, function.getValue());
+  }
+
+  @Test
+  public void testMinMaxSlidingMatchRescan() {
+    Random random = new Random(7);
+    int window = 13;
+    int[] values = new int[1000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextInt(100);
+    }
+    AggregateFunction<Integer, Double> min = new Min<Integer>().functionForSlidingWindows();
+    AggregateFunction<Integer, Double> max = new Max<Integer>().functionForSlidingWindows();
+    for (int i = 0; i < values.length; i++) {
+      min.addRightMost(values[i]);
+      max.addRightMost(values[i]);
+      if (i >= window) {
+        min.removeLeftMost();
+        max.removeLeftMost();
+      }
+      int expectedMin = Integer.MAX_VALUE;
+      int expectedMax = Integer.MIN_VALUE;
+      for (int j = Math.max(0, i - window + 1); j <= i; j++) {
+        expectedMin = Math.min(expectedMin, values[j]);
+        expectedMax = Math.max(expectedMax, values[j]);
+      }
+      assertEquals(expectedMin, min.getValue());
+      assertEquals(expectedMax, max.getValue());
+    }
+  }
 }
@@ -6,9 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 
@@ -719,4 +722,154 @@ class AnalyticQueryEngineTest {
 
     assertEquals(ImmutableList.of("rowNumber", "rank", "denseRank"), result.columnNames());
   }
+
+  @Test
+  public void parallelExecutionMatchesSerial() {
+    Random random = new Random(3);
+    int rows = 50_000;
+    IntColumn customer = IntColumn.create("customer");
+    IntColumn day = IntColumn.create("day");
+    DoubleColumn amount = DoubleColumn.create("amount");
+    for (int i = 0; i < rows; i++) {
+      customer.append(random.nextInt(500));
+      day.append(random.nextInt(100));
+      if (random.nextInt(20) == 0) {
+        amount.appendMissing();
+      } else {
+        amount.append(random.nextInt(1000));
+      }
+    }
+    Table table = Table.create("orders", customer, day, amount);
+
+    AnalyticQuery aggregates =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy("customer")
+            .orderBy("day")
+            .rowsBetween()
+            .preceding(5)
+            .andFollowing(2)
+            .sum("amount")
+            .as("sum")
+            .max("amount")
+            .as("max")
+            .count("amount")
+            .as("count")
+            .build();
+    AnalyticQuery numbering =
+        AnalyticQuery.numberingQuery()
+            .from(table)
+            .partitionBy("customer")
+            .orderBy("day")
+            .rank()
+            .as("rank")
+            .build();
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Table serial = aggregates.execute();
+      Table parallel = aggregates.execute(pool);
+      for (String name : serial.columnNames()) {
+        assertArrayEquals(
+            serial.numberColumn(name).asDoubleArray(), parallel.numberColumn(name).asDoubleArray());
+      }
+      assertArrayEquals(
+          numbering.execute().intColumn("rank").asDoubleArray(),
+          numbering.execute(pool).intColumn("rank").asDoubleArray());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void parallelExecutionMatchesExpectedValues() {
+    // Three interleaved partitions of 10,000 rows each, large enough to be split across tasks.
+    // Row i belongs to partition i % 3, on day i / 3, with an amount that identifies both
+    int rows = 30_000;
+    int days = rows / 3;
+    IntColumn customer = IntColumn.create("customer");
+    IntColumn day = IntColumn.create("day");
+    DoubleColumn amount = DoubleColumn.create("amount");
+    for (int i = 0; i < rows; i++) {
+      customer.append(i % 3);
+      day.append(i / 3);
+      amount.append((i % 3) * 100_000 + i / 3);
+    }
+    Table table = Table.create("orders", customer, day, amount);
+
+    AnalyticQuery aggregates =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy("customer")
+            .orderBy("day")
+            .rowsBetween()
+            .preceding(1)
+            .andFollowing(1)
+            .sum("amount")
+            .as("sum")
+            .count("amount")
+            .as("count")
+            .build();
+    AnalyticQuery numbering =
+        AnalyticQuery.numberingQuery()
+            .from(table)
+            .partitionBy("customer")
+            .orderBy("day")
+            .rowNumber()
+            .as("rowNumber")
+            .build();
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Table result = aggregates.execute(pool);
+      Table numbers = numbering.execute(pool);
+      for (int i = 0; i < rows; i++) {
+        double value = (i % 3) * 100_000 + i / 3;
+        int d = i / 3;
+        double expectedSum;
+        int expectedCount;
+        if (d == 0) {
+          expectedSum = value + (value + 1);
+          expectedCount = 2;
+        } else if (d == days - 1) {
+          expectedSum = (value - 1) + value;
+          expectedCount = 2;
+        } else {
+          expectedSum = 3 * value;
+          expectedCount = 3;
+        }
+        assertEquals(expectedSum, result.doubleColumn("sum").getDouble(i), "sum at row " + i);
+        assertEquals(expectedCount, result.intColumn("count").getInt(i), "count at row " + i);
+        assertEquals(d + 1, numbers.intColumn("rowNumber").getInt(i), "row number at row " + i);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void partitionWithoutOrderByKeepsSourceOrder() {
+    Table table =
+        Table.create(
+            "table",
+            StringColumn.create("group", new String[] {"B", "A", "B", "A", "B"}),
+            DoubleColumn.create("value", new double[] {1, 2, 3, 4, 5}));
+
+    AnalyticQuery query =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy("group")
+            .orderBy()
+            .rowsBetween()
+            .unboundedPreceding()
+            .andCurrentRow()
+            .sum("value")
+            .as("runningSum")
+            .build();
+
+    Table result = AnalyticQueryEngine.create(query).execute();
+
+    assertArrayEquals(
+        new double[] {1, 2, 4, 6, 9}, result.doubleColumn("runningSum").asDoubleArray());
+  }
 }
@@ -200,4 +200,14 @@ public class DateColumnTest {
 
     assertEquals(3, column1.countUnique());
   }
+
+  @Test
+  void missingBitmap() {
+    DateColumn column = DateColumn.create("d", LocalDate.of(2020, 1, 1), null);
+    assertEquals(1, column.countMissing());
+    column.set(1, LocalDate.of(2020, 1, 2));
+    column.appendMissing();
+    assertEquals(1, column.countMissing());
+    assertEquals(2, column.missingBitmap().first());
+  }
 }
@@ -38,4 +38,26 @@ class IntColumnTest {
     intColumn.appendCell("5");
     assertFalse(intColumn.isMissing(intColumn.size() - 1));
   }
+
+  @Test
+  void missingBitmapFollowsChanges() {
+    IntColumn column = IntColumn.create("c", 1, 2, 3);
+    column.appendMissing();
+    assertEquals(1, column.countMissing());
+    assertArrayEquals(new int[] {3}, column.missingBitmap().toArray());
+
+    column.setMissing(0);
+    column.set(3, 4);
+    column.append(5).appendMissing();
+    assertEquals(2, column.countMissing());
+    assertArrayEquals(new int[] {0, 5}, column.missingBitmap().toArray());
+
+    column.missingBitmap().add(1);
+    assertEquals(2, column.countMissing());
+
+    column.sortDescending();
+    assertArrayEquals(new int[] {4, 5}, column.missingBitmap().toArray());
+    column.clear();
+    assertEquals(0, column.countMissing());
+  }
 }
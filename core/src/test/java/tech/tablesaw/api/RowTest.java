@@ -536,4 +536,44 @@ public class RowTest {
     bush.row(0).setMissing("approval");
     assertTrue(bush.row(0).isMissing("approval"));
   }
+
+  @Test
+  public void columnIndexAccessors() {
+    Table table =
+        Table.create(
+            "myTable",
+            IntColumn.create("count", 1, 2, 3),
+            StringColumn.create("name", "a", "b", "c"));
+    Row row = new Row(table);
+    int count = row.columnIndex("Count");
+    int name = row.columnIndex("name");
+    assertEquals(0, count);
+    while (row.hasNext()) {
+      row.next();
+      row.setInt(count, row.getInt(count) * 10);
+    }
+    assertArrayEquals(new int[] {10, 20, 30}, table.intColumn("count").asIntArray());
+    row.at(1);
+    row.setMissing(count);
+    assertTrue(row.isMissing(count));
+    assertEquals("b", row.getString(name));
+
+    assertThrows(IllegalStateException.class, () -> row.columnIndex("other"));
+    Throwable thrown = assertThrows(IllegalArgumentException.class, () -> row.getDouble(name));
+    assertEquals(
+        "Column name is of type STRING and cannot be cast to DOUBLE. Use the method for STRING.",
+        thrown.getMessage());
+  }
+
+  @Test
+  public void appendRowFromSlice() {
+    Table table =
+        Table.create("t", IntColumn.create("a", 1, 2, 3), StringColumn.create("b", "x", "y", "z"));
+    Table copy = table.emptyCopy();
+    for (Row row : table.where(table.intColumn("a").isGreaterThan(1))) {
+      copy.append(row);
+    }
+    assertArrayEquals(new int[] {2, 3}, copy.intColumn("a").asIntArray());
+    assertEquals("z", copy.stringColumn("b").get(1));
+  }
 }
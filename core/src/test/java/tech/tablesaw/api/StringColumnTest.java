@@ -66,6 +66,38 @@ class StringColumnTest {
     assertArrayEquals(sc.asList().toArray(), sc.asObjectArray());
   }
 
+  @Test
+  void appendColumnMergesDictionaries() {
+    StringColumn first = StringColumn.create("first", "a", "b", null, "a");
+    StringColumn second = StringColumn.create("second", "c", null, "a", "c", "d");
+    first.append(second);
+    assertEquals(Arrays.asList("a", "b", "", "a", "c", "", "a", "c", "d"), first.asList());
+    assertEquals(2, first.countMissing());
+    assertEquals(5, first.countUnique());
+    assertEquals(3, first.countOccurrences("a"));
+    assertEquals(2, first.countOccurrences("c"));
+    assertEquals(Selection.with(4, 7), first.isEqualTo("c"));
+
+    first.append(first);
+    assertEquals(18, first.size());
+    assertEquals(6, first.countOccurrences("a"));
+  }
+
+  @Test
+  void appendColumnPromotesDictionary() {
+    StringColumn first = StringColumn.create("first");
+    StringColumn second = StringColumn.create("second");
+    for (int i = 0; i < 200; i++) {
+      first.append("x" + (i % 100));
+      second.append("y" + i);
+    }
+    first.append(second);
+    assertEquals(400, first.size());
+    assertEquals(300, first.countUnique());
+    assertEquals("x0", first.get(100));
+    assertEquals("y199", first.get(399));
+  }
+
   @Test
   void appendAsterisk() {
     final StringColumn sc = StringColumn.create("sc");
@@ -30,12 +30,14 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,6 +45,7 @@ import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.dates.PackedLocalDate;
 import tech.tablesaw.columns.numbers.IntColumnType;
 import tech.tablesaw.io.csv.CsvReadOptions;
+import tech.tablesaw.table.MeltedView;
 import tech.tablesaw.table.TableSlice;
 
 public class TableTest {
@@ -365,6 +368,62 @@ public class TableTest {
     assertEquals(3, t2.rowCount());
   }
 
+  @Test
+  void dropDuplicateRowsWithMissingDoubles() {
+    Table t1 =
+        Table.create(
+            "T1",
+            DoubleColumn.create("a", 1.0, Double.NaN, 0.0, Double.NaN, -0.0),
+            StringColumn.create("b", "x", "y", "z", "y", "z"));
+    Table t2 = t1.dropDuplicateRows();
+    assertEquals(3, t2.rowCount());
+    assertEquals("[x, y, z]", t2.stringColumn("b").asList().toString());
+  }
+
+  @Test
+  void distinctOn() {
+    Table t1 =
+        Table.create(
+            "T1",
+            IntColumn.create("Id", 0, 1, 2, 3, 4),
+            StringColumn.create("Name", "Joe", "Jay", "Joe", "Mike", "Jay"),
+            LongColumn.create("Group", 1, 2, 1, 1, 3));
+    Table t2 = t1.distinctOn("name", "group");
+    assertEquals(3, t2.columnCount());
+    assertArrayEquals(new int[] {0, 1, 3, 4}, t2.intColumn("Id").asIntArray());
+    assertArrayEquals(new int[] {0, 1, 3}, t1.distinctOn("Name").intColumn("Id").asIntArray());
+    assertEquals(0, t1.emptyCopy().distinctOn("Name").rowCount());
+  }
+
+  @Test
+  void concatAll() {
+    Table t1 =
+        Table.create(
+            "T1",
+            IntColumn.create("Id", 0, 1),
+            StringColumn.create("Name", "Joe", "Jay"),
+            DateColumn.create("Day", LocalDate.of(2020, 1, 1), null));
+    Table t2 =
+        Table.create(
+            "T2",
+            StringColumn.create("name", "Mike", "Joe", null),
+            IntColumn.create("id", 2, 3, IntColumnType.missingValueIndicator()),
+            DateColumn.create("day", null, LocalDate.of(2020, 1, 3), LocalDate.of(2020, 1, 4)));
+    Table result = Table.concatAll(Arrays.asList(t1, t2, t1));
+    assertEquals("T1", result.name());
+    assertEquals(t1.columnNames(), result.columnNames());
+    assertEquals(7, result.rowCount());
+    assertEquals(2, t1.rowCount());
+    assertEquals(
+        Arrays.asList(0, 1, 2, 3, null, 0, 1),
+        Arrays.asList(result.intColumn("Id").asObjectArray()));
+    assertEquals(
+        Arrays.asList("Joe", "Jay", "Mike", "Joe", "", "Joe", "Jay"),
+        result.stringColumn("Name").asList());
+    assertEquals(3, result.dateColumn("Day").countMissing());
+    assertEquals(4, result.intColumn("Id").missingBitmap().first());
+  }
+
   @Test
   void testMissingValueCounts() {
     StringColumn c1 = StringColumn.create("SC");
@@ -431,6 +490,99 @@ public class TableTest {
     assertEquals(.75, (double) stratifiedFoxCount / totalFoxCount, 0.0);
   }
 
+  @Test
+  void stratifiedSampleSplitKeepsRowOrder() {
+    Table t = Table.create("t", IntColumn.indexColumn("id", 1200, 0));
+    t.addColumns(t.intColumn("id").map(i -> i % 3).asStringColumn().setName("stratum"));
+    Table[] results = t.stratifiedSampleSplit(t.stringColumn("stratum"), .25);
+    assertEquals(300, results[0].rowCount());
+    assertEquals(900, results[1].rowCount());
+    for (Table result : results) {
+      IntColumn ids = result.intColumn("id");
+      for (int row = 1; row < ids.size(); row++) {
+        assertTrue(ids.getInt(row) > ids.getInt(row - 1));
+      }
+      assertEquals(3, result.stringColumn("stratum").countUnique());
+    }
+    assertEquals(
+        100, results[0].where(results[0].stringColumn("stratum").isEqualTo("1")).rowCount());
+    Table[] none = t.stratifiedSampleSplit(t.stringColumn("stratum"), 0);
+    assertEquals(0, none[0].rowCount());
+    assertEquals(1200, none[1].rowCount());
+  }
+
+  @Test
+  void stratifiedSampleSplitWithSeedIsReproducible() {
+    Table t = Table.create("t", IntColumn.indexColumn("id", 200_000, 0));
+    t.addColumns(t.intColumn("id").map(i -> i % 7).asStringColumn().setName("stratum"));
+    Table[] first = t.stratifiedSampleSplit(t.stringColumn("stratum"), .3, new Random(11));
+    Table[] second = t.stratifiedSampleSplit(t.stringColumn("stratum"), .3, new Random(11));
+    assertEquals(first[0].intColumn("id").asList(), second[0].intColumn("id").asList());
+    assertEquals(first[1].intColumn("id").asList(), second[1].intColumn("id").asList());
+
+    Table small = t.inRange(0, 700);
+    assertEquals(
+        small
+            .stratifiedSampleSplit(small.stringColumn("stratum"), .5, new Random(5))[0]
+            .intColumn("id")
+            .asList(),
+        small
+            .stratifiedSampleSplit(small.stringColumn("stratum"), .5, new Random(5))[0]
+            .intColumn("id")
+            .asList());
+  }
+
+  @Test
+  void sampleBlocks() {
+    Table t = Table.create("t", IntColumn.indexColumn("id", 103, 0));
+    Table sample = t.sampleBlocks(10, .5);
+    // 11 blocks, the last holding 3 rows
+    assertTrue(sample.rowCount() == 60 || sample.rowCount() == 53, "" + sample.rowCount());
+    IntColumn ids = sample.intColumn("id");
+    for (int row = 0; row < sample.rowCount(); row++) {
+      int id = ids.getInt(row);
+      if (id % 10 != 0) {
+        assertEquals(id - 1, ids.getInt(row - 1));
+      }
+      if (row > 0) {
+        assertTrue(id > ids.getInt(row - 1));
+      }
+    }
+    assertEquals(103, t.sampleBlocks(10, 1).rowCount());
+    assertEquals(0, t.sampleBlocks(10, 0).rowCount());
+  }
+
+  @Test
+  void reservoirSample() {
+    Table t = Table.create("t", IntColumn.indexColumn("id", 10_000, 0));
+    t.addColumns(t.intColumn("id").asStringColumn().setName("name"));
+    List<Table> batches = new ArrayList<>();
+    for (int from = 0; from < t.rowCount(); from += 700) {
+      batches.add(t.inRange(from, Math.min(t.rowCount(), from + 700)));
+    }
+
+    Table sample = Table.reservoirSample(batches.iterator(), 1000, new Random(42));
+    assertEquals(t.columnNames(), sample.columnNames());
+    assertEquals(1000, sample.rowCount());
+    IntColumn ids = sample.intColumn("id");
+    assertEquals(1000, ids.countUnique());
+    for (int row = 0; row < sample.rowCount(); row++) {
+      assertEquals(String.valueOf(ids.getInt(row)), sample.stringColumn("name").get(row));
+    }
+    // a uniform sample of 0..9999 has a mean of about 5000, with a standard error of about 90
+    assertEquals(5000, ids.mean(), 400);
+    assertTrue(ids.max() > 9000);
+
+    Table all = Table.reservoirSample(batches.iterator(), 20_000);
+    assertEquals(10_000, all.rowCount());
+    assertEquals(0, Table.reservoirSample(new ArrayList<Table>().iterator(), 5).rowCount());
+    assertEquals(0, Table.reservoirSample(new ArrayList<Table>().iterator(), 5).columnCount());
+
+    // a sample size far beyond the rows read allocates only what the rows need
+    Table few = Table.reservoirSample(batches.subList(0, 1).iterator(), Integer.MAX_VALUE - 8);
+    assertEquals(700, few.rowCount());
+  }
+
   @Test
   void testDoWithEachRow() {
     Table t = bushMinimized.first(10);
@@ -471,6 +623,27 @@ public class TableTest {
     assertTrue(bushMinimized.stream().anyMatch(doable));
   }
 
+  @Test
+  void parallelStream() {
+    IntColumn values = IntColumn.indexColumn("values", 100_000, 0);
+    Table t = Table.create("t", values);
+    long sum = t.stream().parallel().mapToLong(row -> row.getInt("values")).sum();
+    assertEquals((long) values.sum(), sum);
+    assertEquals(100_000, t.stream().parallel().mapToInt(Row::getRowNumber).distinct().count());
+  }
+
+  @Test
+  void batchStream() {
+    Table t = Table.create("t", IntColumn.indexColumn("values", 10, 0));
+    List<TableSlice> batches = t.batchStream(4).collect(Collectors.toList());
+    assertEquals(3, batches.size());
+    assertEquals(4, batches.get(0).rowCount());
+    assertEquals(2, batches.get(2).rowCount());
+    assertEquals(8, batches.get(2).intColumn("values").getInt(0));
+    assertEquals(45, t.batchStream(3).parallel().mapToDouble(b -> b.nCol(0).sum()).sum());
+    assertEquals(0, Table.create("empty").batchStream(3).count());
+  }
+
   @Test
   void testRowToString() {
     Row row = new Row(bush);
@@ -566,6 +739,34 @@ public class TableTest {
         melted.toString());
   }
 
+  @Test
+  void meltView() {
+    String df =
+        "subject, time, age, weight, height"
+            + LINE_END
+            + "John Smith,    1,  33,     90,   1.87"
+            + LINE_END
+            + "Mary Smith,    1,  NA,     NA,   1.54";
+    Table t = Table.read().csv(new StringReader(df));
+    List<String> ids = ImmutableList.of("subject", "time");
+    List<NumericColumn<?>> measures = t.numericColumns("age", "weight", "height");
+
+    MeltedView view = t.meltView(ids, measures, false);
+    assertEquals(6, view.rowCount());
+    assertEquals("weight", view.variable(4));
+    assertEquals(1, view.sourceRowNumber(4));
+    assertEquals("Mary Smith", view.idValue(4, "subject"));
+    assertTrue(Double.isNaN(view.value(4)));
+    assertEquals(1.54, view.value(5));
+    assertEquals(t.melt(ids, measures, false).toString(), view.asTable().toString());
+
+    MeltedView dropped = t.meltView(ids, measures, true);
+    assertEquals(4, dropped.rowCount());
+    assertEquals("height", dropped.variable(3));
+    assertEquals(1.54, dropped.value(3));
+    assertEquals(t.melt(ids, measures, true).toString(), dropped.asTable().toString());
+  }
+
   @Test
   void cast() {
     Table molten = Table.read().csv("../data/molten_smiths.csv");
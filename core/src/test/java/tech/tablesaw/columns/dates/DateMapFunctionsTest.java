@@ -14,10 +14,14 @@
 
 package tech.tablesaw.columns.dates;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.DateColumn;
@@ -64,4 +68,38 @@ public class DateMapFunctionsTest {
     assertNotNull(dateTimes);
     assertTrue(dateTimes.get(0).toLocalTime().equals(LocalTime.NOON));
   }
+
+  @Test
+  public void testEpochDays() {
+    column1.append(LocalDate.of(1970, 1, 2));
+    column1.appendMissing();
+    column1.append(LocalDate.of(1969, 12, 31));
+    column1.append(LocalDate.of(2024, 2, 29));
+
+    int[] epochDays = column1.asEpochDays();
+    assertArrayEquals(
+        new int[] {
+          1,
+          DateColumnType.missingValueIndicator(),
+          -1,
+          (int) LocalDate.of(2024, 2, 29).toEpochDay()
+        },
+        epochDays);
+    assertEquals(column1.asList(), DateColumn.createFromEpochDays("copy", epochDays).asList());
+  }
+
+  @Test
+  public void testTruncatedTo() {
+    column1.append(LocalDate.of(2021, 3, 18));
+    column1.appendMissing();
+
+    DateColumn weeks = column1.truncatedTo(ChronoUnit.WEEKS);
+    assertEquals(LocalDate.of(2021, 3, 15), weeks.get(0));
+    assertTrue(weeks.isMissing(1));
+    assertEquals(LocalDate.of(2021, 3, 1), column1.truncatedTo(ChronoUnit.MONTHS).get(0));
+
+    DateTimeColumn starts = column1.atStartOfDay();
+    assertEquals(LocalDate.of(2021, 3, 18).atStartOfDay(), starts.get(0));
+    assertTrue(starts.isMissing(1));
+  }
 }
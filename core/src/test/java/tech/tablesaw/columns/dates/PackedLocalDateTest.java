@@ -68,6 +68,7 @@ import static tech.tablesaw.columns.dates.PackedLocalDate.withYear;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.temporal.ChronoUnit;
 import org.junit.jupiter.api.Test;
 
 public class PackedLocalDateTest {
@@ -338,4 +339,29 @@ public class PackedLocalDateTest {
     int dateTime = pack(date);
     assertEquals(date.getDayOfWeek(), getDayOfWeek(dateTime));
   }
+
+  @Test
+  public void testEpochDayRoundTrip() {
+    for (long epochDay = -800_000; epochDay < 800_000; epochDay += 17) {
+      LocalDate date = LocalDate.ofEpochDay(epochDay);
+      assertEquals(pack(date), PackedLocalDate.ofEpochDay(epochDay));
+      assertEquals(epochDay, PackedLocalDate.toEpochDay(pack(date)));
+    }
+  }
+
+  @Test
+  public void testTruncatedTo() {
+    int date = pack(LocalDate.of(2021, 3, 18)); // a Thursday
+    assertEquals(date, PackedLocalDate.truncatedTo(ChronoUnit.DAYS, date));
+    assertEquals(
+        pack(LocalDate.of(2021, 3, 15)), PackedLocalDate.truncatedTo(ChronoUnit.WEEKS, date));
+    assertEquals(
+        pack(LocalDate.of(2021, 3, 1)), PackedLocalDate.truncatedTo(ChronoUnit.MONTHS, date));
+    assertEquals(
+        pack(LocalDate.of(2021, 1, 1)), PackedLocalDate.truncatedTo(ChronoUnit.YEARS, date));
+    int monday = pack(LocalDate.of(1969, 12, 29));
+    assertEquals(monday, PackedLocalDate.truncatedTo(ChronoUnit.WEEKS, monday));
+    assertEquals(
+        monday, PackedLocalDate.truncatedTo(ChronoUnit.WEEKS, pack(LocalDate.of(1970, 1, 4))));
+  }
 }
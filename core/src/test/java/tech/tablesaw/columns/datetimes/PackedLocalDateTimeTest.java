@@ -31,10 +31,14 @@ import static tech.tablesaw.columns.datetimes.PackedLocalDateTime.getYear;
 import static tech.tablesaw.columns.datetimes.PackedLocalDateTime.pack;
 import static tech.tablesaw.columns.datetimes.PackedLocalDateTime.time;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.columns.dates.PackedLocalDate;
 import tech.tablesaw.columns.times.PackedLocalTime;
@@ -125,4 +129,65 @@ public class PackedLocalDateTimeTest {
     LocalDateTime now = LocalDateTime.now();
     assertEquals(now.get(ChronoField.DAY_OF_WEEK), getDayOfWeek(pack(now)).getValue());
   }
+
+  @Test
+  public void testEpochMilliRoundTrip() {
+    Random random = new Random(3);
+    for (int i = 0; i < 10_000; i++) {
+      long epochMilli = random.nextLong() % 900_000_000_000_000L;
+      LocalDateTime dateTime =
+          LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+      assertEquals(pack(dateTime), PackedLocalDateTime.ofEpochMilli(epochMilli));
+      assertEquals(epochMilli, PackedLocalDateTime.toEpochMilli(pack(dateTime)));
+    }
+  }
+
+  @Test
+  public void testPlusAndUntil() {
+    LocalDateTime start = LocalDateTime.of(2020, 1, 31, 23, 59, 58, 250_000_000);
+    long packed = pack(start);
+    for (ChronoUnit unit :
+        new ChronoUnit[] {
+          ChronoUnit.MILLIS,
+          ChronoUnit.SECONDS,
+          ChronoUnit.MINUTES,
+          ChronoUnit.HOURS,
+          ChronoUnit.DAYS,
+          ChronoUnit.WEEKS,
+          ChronoUnit.MONTHS,
+          ChronoUnit.YEARS
+        }) {
+      for (long amount : new long[] {-1000, -13, -1, 0, 1, 2, 13, 1000}) {
+        LocalDateTime end = start.plus(amount, unit);
+        long packedEnd = PackedLocalDateTime.plus(packed, amount, unit);
+        assertEquals(end, asLocalDateTime(packedEnd), unit + " " + amount);
+        assertEquals(
+            ChronoUnit.MINUTES.between(start, end),
+            PackedLocalDateTime.minutesUntil(packedEnd, packed));
+        assertEquals(
+            ChronoUnit.HOURS.between(start, end),
+            PackedLocalDateTime.hoursUntil(packedEnd, packed));
+      }
+    }
+  }
+
+  @Test
+  public void testTruncatedTo() {
+    LocalDateTime dateTime = LocalDateTime.of(2021, 3, 18, 13, 45, 30, 123_000_000);
+    long packed = pack(dateTime);
+    for (ChronoUnit unit :
+        new ChronoUnit[] {
+          ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS
+        }) {
+      assertEquals(
+          dateTime.truncatedTo(unit),
+          asLocalDateTime(PackedLocalDateTime.truncatedTo(unit, packed)));
+    }
+    assertEquals(
+        LocalDateTime.of(2021, 3, 15, 0, 0),
+        asLocalDateTime(PackedLocalDateTime.truncatedTo(ChronoUnit.WEEKS, packed)));
+    assertEquals(
+        LocalDateTime.of(2021, 3, 1, 0, 0),
+        asLocalDateTime(PackedLocalDateTime.truncatedTo(ChronoUnit.MONTHS, packed)));
+  }
 }
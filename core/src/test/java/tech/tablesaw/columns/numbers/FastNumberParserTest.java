@@ -0,0 +1,151 @@
+package tech.tablesaw.columns.numbers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.tablesaw.columns.numbers.FastNumberParser.INVALID;
+import static tech.tablesaw.columns.numbers.FastNumberParser.UNKNOWN;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.ColumnType;
+
+class FastNumberParserTest {
+
+  private static final Random random = new Random(11);
+  private static final String CHARS = "0123456789,.-+eE%x d";
+
+  /** Returns a random string of mostly digits, often in a valid form and often not */
+  private static String candidate() {
+    StringBuilder value = new StringBuilder();
+    int length = 1 + random.nextInt(25);
+    for (int i = 0; i < length; i++) {
+      value.append(
+          random.nextInt(4) > 0
+              ? (char) ('0' + random.nextInt(10))
+              : CHARS.charAt(random.nextInt(CHARS.length())));
+    }
+    return value.toString();
+  }
+
+  private static Long jdkLong(String s) {
+    try {
+      return Long.parseLong(s.replace(",", ""));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static Double jdkDouble(String s) {
+    try {
+      return Double.parseDouble(s.replace(",", ""));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static Float jdkFloat(String s) {
+    try {
+      return Float.parseFloat(s.replace(",", ""));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  @Test
+  void longsMatchTheJdk() {
+    for (int i = 0; i < 200_000; i++) {
+      String s = candidate();
+      Long expected = jdkLong(s);
+      long value = FastNumberParser.parseLong(s, Long.MIN_VALUE, Long.MAX_VALUE, ',', false);
+      if (value == UNKNOWN) {
+        continue;
+      }
+      assertEquals(expected, value == INVALID ? null : value, s);
+    }
+  }
+
+  @Test
+  void doublesAndFloatsMatchTheJdk() {
+    for (int i = 0; i < 200_000; i++) {
+      String s = candidate().replace("%", "");
+      Double expected = jdkDouble(s);
+      double value = FastNumberParser.parseDouble(s, ',', false);
+      if (Double.isNaN(value)) {
+        if (FastNumberParser.scanDouble(s, ',', false) == INVALID) {
+          assertEquals(null, expected, s);
+        }
+      } else {
+        assertEquals(expected, value, s);
+      }
+
+      Float expectedFloat = jdkFloat(s);
+      float floatValue = FastNumberParser.parseFloat(s, ',');
+      if (!Float.isNaN(floatValue)) {
+        assertEquals(expectedFloat, floatValue, s);
+      }
+    }
+  }
+
+  @Test
+  void longs() {
+    assertEquals(
+        Long.MIN_VALUE + 2,
+        FastNumberParser.parseLong(
+            "-9223372036854775806", Long.MIN_VALUE, Long.MAX_VALUE, ',', false));
+    assertEquals(
+        UNKNOWN,
+        FastNumberParser.parseLong(
+            "-9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE, ',', false));
+    assertEquals(
+        INVALID,
+        FastNumberParser.parseLong(
+            "9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE, ',', false));
+    assertEquals(1_234_567, FastNumberParser.parseLong("1,234,567.00", 0, 10_000_000, ',', true));
+    assertEquals(INVALID, FastNumberParser.parseLong("1,234,567.00", 0, 10_000_000, ',', false));
+    assertEquals(INVALID, FastNumberParser.parseLong("1.05", 0, 10, ',', true));
+    assertEquals(
+        INVALID, FastNumberParser.parseLong("40000", Short.MIN_VALUE, Short.MAX_VALUE, ',', false));
+    assertEquals(
+        INVALID, FastNumberParser.parseLong("-", Short.MIN_VALUE, Short.MAX_VALUE, ',', false));
+    assertEquals(UNKNOWN, FastNumberParser.parseLong("١٢", 0, 100, ',', false));
+  }
+
+  @Test
+  void doubles() {
+    assertEquals(0.125, FastNumberParser.parseDouble("12.5%", ',', true));
+    assertEquals(10.0, FastNumberParser.parseDouble("1,000%", ',', true));
+    assertEquals(INVALID, FastNumberParser.scanDouble("12.5%", ',', false));
+    assertEquals(-0.0, FastNumberParser.parseDouble("-0", ',', false));
+    assertEquals(1.5e-7, FastNumberParser.parseDouble("1.5E-7", ',', false));
+    assertTrue(Double.isNaN(FastNumberParser.parseDouble("1.5d", ',', false)));
+    assertEquals(UNKNOWN, FastNumberParser.scanDouble("1.5d", ',', false));
+    assertEquals(UNKNOWN, FastNumberParser.scanDouble(" 1.5", ',', false));
+    assertEquals(UNKNOWN, FastNumberParser.scanDouble("-Infinity", ',', false));
+    assertEquals(UNKNOWN, FastNumberParser.scanDouble("0x1p3", ',', false));
+    assertEquals(INVALID, FastNumberParser.scanDouble("abc", ',', false));
+    assertEquals(INVALID, FastNumberParser.scanDouble("NaN%", ',', true));
+    assertEquals(INVALID, FastNumberParser.scanDouble("", ',', false));
+  }
+
+  @Test
+  void columnParsers() {
+    IntParser ints = new IntParser(ColumnType.INTEGER);
+    assertTrue(ints.canParse("1,024"));
+    assertFalse(ints.canParse("3000000000"));
+    assertFalse(ints.canParse("one"));
+    assertEquals(1024, ints.parseInt("1,024"));
+
+    DoubleParser doubles = new DoubleParser(ColumnType.DOUBLE);
+    assertTrue(doubles.canParse("12.5%"));
+    assertTrue(doubles.canParse("1.5d"));
+    assertFalse(doubles.canParse("one"));
+    assertEquals(0.125, doubles.parseDouble("12.5%"));
+    assertEquals(12345.678901234567, doubles.parseDouble("12,345.678901234567"));
+
+    FloatParser floats = new FloatParser(ColumnType.FLOAT);
+    assertTrue(floats.canParse("2.5"));
+    assertFalse(floats.canParse("2.5%"));
+    assertEquals(2.5f, floats.parseFloat("2.5"));
+  }
+}
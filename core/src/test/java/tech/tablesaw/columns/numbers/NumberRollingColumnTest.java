@@ -3,8 +3,13 @@ package tech.tablesaw.columns.numbers;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.aggregate.AggregateFunctions;
+import tech.tablesaw.aggregate.NumericAggregateFunction;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.NumericColumn;
 
 public class NumberRollingColumnTest {
 
@@ -17,4 +22,92 @@ public class NumberRollingColumnTest {
     assertArrayEquals(sma5, result.asDoubleArray(), 0.000001);
     assertEquals("data 5-period Mean", result.name());
   }
+
+  @Test
+  public void testRollingMinMaxMedian() {
+    double missing = DoubleColumnType.missingValueIndicator();
+    DoubleColumn data = DoubleColumn.create("data", new double[] {5, 1, 4, missing, 2, 8, 3});
+    assertArrayEquals(
+        new double[] {missing, missing, 1, 1, 2, 2, 2}, data.rolling(3).min().asDoubleArray());
+    assertArrayEquals(
+        new double[] {missing, missing, 5, 4, 4, 8, 8}, data.rolling(3).max().asDoubleArray());
+    assertArrayEquals(
+        new double[] {missing, missing, 4, 2.5, 3, 5, 3}, data.rolling(3).median().asDoubleArray());
+  }
+
+  @Test
+  public void testRollingWindowLargerThanColumn() {
+    DoubleColumn result = DoubleColumn.create("data", new double[] {1, 2}).rolling(4).sum();
+    assertEquals(3, result.size());
+    assertEquals(3, result.countMissing());
+  }
+
+  @Test
+  public void testIncrementalMatchesPerWindowCalculation() {
+    Random random = new Random(42);
+    DoubleColumn doubles = DoubleColumn.create("doubles");
+    IntColumn ints = IntColumn.create("ints");
+    for (int i = 0; i < 500; i++) {
+      if (random.nextInt(10) == 0) {
+        doubles.appendMissing();
+        ints.appendMissing();
+      } else {
+        doubles.append(random.nextGaussian() * 1000);
+        ints.append(random.nextInt(50));
+      }
+    }
+    NumericAggregateFunction[] functions = {
+      AggregateFunctions.sum,
+      AggregateFunctions.mean,
+      AggregateFunctions.variance,
+      AggregateFunctions.stdDev,
+      AggregateFunctions.min,
+      AggregateFunctions.max,
+      AggregateFunctions.median,
+      AggregateFunctions.first,
+      AggregateFunctions.last,
+      AggregateFunctions.change,
+      AggregateFunctions.pctChange
+    };
+    for (NumericColumn<?> column : new NumericColumn<?>[] {doubles, ints}) {
+      for (int window : new int[] {1, 2, 7, 64}) {
+        for (NumericAggregateFunction function : functions) {
+          double[] expected = perWindow(column, window, function);
+          double[] actual = ((DoubleColumn) column.rolling(window).calc(function)).asDoubleArray();
+          assertArrayEquals(expected, actual, 1e-6, function.functionName() + " " + window);
+        }
+        assertArrayEquals(
+            perWindowCount(column, window, true),
+            column.rolling(window).countMissing().asDoubleArray());
+        assertArrayEquals(
+            perWindowCount(column, window, false),
+            column.rolling(window).countNonMissing().asDoubleArray());
+      }
+    }
+  }
+
+  private static double[] perWindow(
+      NumericColumn<?> column, int window, NumericAggregateFunction function) {
+    double[] result = new double[column.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] =
+          i < window - 1
+              ? DoubleColumnType.missingValueIndicator()
+              : function.summarize((NumericColumn<?>) column.inRange(i - window + 1, i + 1));
+    }
+    return result;
+  }
+
+  private static double[] perWindowCount(NumericColumn<?> column, int window, boolean missing) {
+    double[] result = new double[column.size()];
+    for (int i = 0; i < result.length; i++) {
+      if (i < window - 1) {
+        result[i] = DoubleColumnType.missingValueIndicator();
+      } else {
+        int count = column.inRange(i - window + 1, i + 1).countMissing();
+        result[i] = missing ? count : window - count;
+      }
+    }
+    return result;
+  }
 }
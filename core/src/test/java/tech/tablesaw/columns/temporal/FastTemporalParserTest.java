@@ -0,0 +1,211 @@
+package tech.tablesaw.columns.temporal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.tablesaw.columns.temporal.FastTemporalParser.NOT_PARSED;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.columns.dates.DateParser;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.DateTimeParser;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.instant.InstantParser;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.times.PackedLocalTime;
+import tech.tablesaw.columns.times.TimeParser;
+
+class FastTemporalParserTest {
+
+  private static final Random random = new Random(7);
+
+  /** Returns strings in roughly the shape of the numeric layouts, many of them invalid */
+  private static List<String> candidates(String... patterns) {
+    List<String> values = new ArrayList<>();
+    for (String pattern : patterns) {
+      for (int i = 0; i < 2000; i++) {
+        StringBuilder value = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+          if (c == '9') {
+            value.append((char) ('0' + random.nextInt(10)));
+          } else if (c == '1') {
+            value.append((char) ('0' + random.nextInt(2)));
+          } else if (c == '3') {
+            value.append((char) ('0' + random.nextInt(4)));
+          } else if (c == '2') {
+            value.append((char) ('0' + random.nextInt(3)));
+          } else if (c == '5') {
+            value.append((char) ('0' + random.nextInt(6)));
+          } else {
+            value.append(c);
+          }
+        }
+        values.add(value.toString());
+      }
+    }
+    return values;
+  }
+
+  @Test
+  void datesMatchTheDefaultFormatter() {
+    FastTemporalParser fast = new FastTemporalParser(FastTemporalParser.Kind.DATE);
+    List<String> values =
+        candidates(
+            "29991939",
+            "2999-19-39",
+            "2999/19/39",
+            "19-39-2999",
+            "19.39.2999",
+            "9/9/2999",
+            "19/39/2999",
+            "9/39/99",
+            "19/9/99",
+            "999/9/2999",
+            "9-9-2999",
+            "2999-9-39",
+            "99999",
+            "9/9/299",
+            "0000-19-39",
+            "29999-19-39",
+            "9/9/29999",
+            "299991939");
+    for (String value : values) {
+      LocalDate expected;
+      try {
+        expected = LocalDate.parse(value, DateParser.DEFAULT_FORMATTER);
+      } catch (DateTimeParseException e) {
+        expected = null;
+      }
+      long packed = fast.parse(value);
+      assertEquals(
+          expected, packed == NOT_PARSED ? null : PackedLocalDate.asLocalDate((int) packed), value);
+      assertFalse(FastTemporalParser.mayNeedFormatter(value), value);
+    }
+  }
+
+  @Test
+  void dateTimesMatchTheDefaultFormatter() {
+    FastTemporalParser fast = new FastTemporalParser(FastTemporalParser.Kind.DATE_TIME);
+    List<String> values =
+        candidates(
+            "2999-19-39 29:59:59",
+            "2999-19-39 29:59:59.9",
+            "2999-19-39 29:59:59.99",
+            "2999-19-39 29:59",
+            "2999-19-39T29:59",
+            "2999-19-39T29:59:59",
+            "2999-19-39T29:59:59.999",
+            "2999-19-39t29:59:59.999999999",
+            "2999-19-39T29:59:59.9999999999",
+            "2999-19-39T29:59:59.",
+            "9/39/99 9:59",
+            "19/39/99 29:59",
+            "9/9/99 999:59",
+            "9/9/2999 9:59",
+            "9999/19/99 9:59",
+            "2000-01-31T24:00");
+    for (String value : values) {
+      LocalDateTime expected;
+      try {
+        expected = LocalDateTime.parse(value, DateTimeParser.DEFAULT_FORMATTER);
+      } catch (DateTimeParseException e) {
+        expected = null;
+      }
+      long packed = fast.parse(value);
+      assertEquals(
+          expected == null ? null : expected.withNano(expected.getNano() / 1_000_000 * 1_000_000),
+          packed == NOT_PARSED ? null : PackedLocalDateTime.asLocalDateTime(packed),
+          value);
+    }
+  }
+
+  @Test
+  void times() {
+    FastTemporalParser fast = new FastTemporalParser(FastTemporalParser.Kind.TIME);
+    assertEquals(PackedLocalTime.of(13, 5), fast.parse("13:05"));
+    assertEquals(PackedLocalTime.of(13, 5, 7), fast.parse("13:05:07"));
+    assertEquals(PackedLocalTime.of(13, 5, 7, 120), fast.parse("13:05:07.12"));
+    assertEquals(PackedLocalTime.of(13, 5, 7, 123), fast.parse("13:05:07.123"));
+    assertEquals(PackedLocalTime.of(0, 0), fast.parse("24:00"));
+    assertEquals(NOT_PARSED, fast.parse("13:05:07.1234"));
+    assertEquals(NOT_PARSED, fast.parse("24:01"));
+    assertEquals(NOT_PARSED, fast.parse("13:60"));
+    assertEquals(NOT_PARSED, fast.parse("3:05"));
+    assertEquals(NOT_PARSED, fast.parse("1305"));
+    assertEquals(
+        PackedLocalTime.of(13, 5),
+        new FastTemporalParser(FastTemporalParser.Kind.TIME_OR_HHMM).parse("1305"));
+  }
+
+  @Test
+  void instants() {
+    FastTemporalParser fast = new FastTemporalParser(FastTemporalParser.Kind.INSTANT);
+    for (String value :
+        new String[] {
+          "2019-05-31T03:45:04Z", "2019-05-31T03:45:04.021Z", "2020-02-29t23:59:59.123456789z"
+        }) {
+      assertEquals(PackedInstant.pack(Instant.parse(value)), fast.parse(value), value);
+    }
+    assertEquals(NOT_PARSED, fast.parse("2019-02-30T03:45:04Z"));
+    assertEquals(NOT_PARSED, fast.parse("2019-05-31T03:45Z"));
+    assertEquals(NOT_PARSED, fast.parse("2019-05-31T03:45:04+01:00"));
+  }
+
+  @Test
+  void mayNeedFormatter() {
+    assertTrue(FastTemporalParser.mayNeedFormatter("Jan 3, 2014"));
+    assertTrue(FastTemporalParser.mayNeedFormatter("2019-05-31T03:45:04Z"));
+    assertFalse(FastTemporalParser.mayNeedFormatter("foobar"));
+    assertFalse(FastTemporalParser.mayNeedFormatter("12345"));
+    assertFalse(FastTemporalParser.mayNeedFormatter("1.5"));
+    assertFalse(FastTemporalParser.mayNeedFormatter("10000-01-01"));
+    assertTrue(FastTemporalParser.mayNeedFormatter("+10000-01-01"));
+  }
+
+  @Test
+  void columnParsers() {
+    DateParser dates = new DateParser(ColumnType.LOCAL_DATE);
+    assertTrue(dates.canParse("2014-02-30"));
+    assertEquals(LocalDate.of(2014, 2, 28), dates.parse("2014-02-30"));
+    assertTrue(dates.canParse("Jan 3, 2014"));
+    assertEquals(PackedLocalDate.pack(LocalDate.of(2014, 1, 3)), dates.parsePacked("Jan 3, 2014"));
+    assertFalse(dates.canParse("12345"));
+    assertFalse(dates.canParse("1.5"));
+    // years of more than four digits are only read with a sign, as by the default formatter
+    assertFalse(dates.canParse("10000-01-01"));
+    assertFalse(dates.canParse("1/5/20200"));
+    assertTrue(dates.canParse("+10000-01-01"));
+    assertEquals(LocalDate.of(10000, 1, 1), dates.parse("+10000-01-01"));
+
+    TimeParser times = new TimeParser(ColumnType.LOCAL_TIME);
+    assertTrue(times.canParse("10:15:30"));
+    assertTrue(times.canParse("10:15 PM"));
+    assertFalse(times.canParse("1015"));
+    assertEquals(PackedLocalTime.of(10, 15), times.parsePacked("1015"));
+    assertEquals(PackedLocalTime.of(9, 30), times.parsePacked("930"));
+
+    DateTimeParser dateTimes = new DateTimeParser(ColumnType.LOCAL_DATE_TIME);
+    assertEquals(
+        PackedLocalDateTime.pack(LocalDateTime.of(2014, 7, 10, 0, 0)),
+        dateTimes.parsePacked("2014-07-09T24:00"));
+    assertEquals(
+        LocalDateTime.of(2014, 7, 9, 21, 4, 55),
+        PackedLocalDateTime.asLocalDateTime(dateTimes.parsePacked("7/9/2014 9:04:55 PM")));
+    assertFalse(dateTimes.canParse("2014-07-09"));
+
+    InstantParser instants = new InstantParser(ColumnType.INSTANT);
+    assertTrue(instants.canParse("2019-05-31T03:45:04+01:00"));
+    assertFalse(instants.canParse("2019-05-31"));
+    assertEquals(
+        PackedInstant.pack(Instant.parse("2019-05-31T02:45:04Z")),
+        instants.parsePacked("2019-05-31T03:45:04+01:00"));
+  }
+}
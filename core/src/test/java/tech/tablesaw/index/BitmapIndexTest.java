@@ -0,0 +1,134 @@
+package tech.tablesaw.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+public class BitmapIndexTest {
+
+  private final StringColumn region =
+      StringColumn.create("region", "east", "west", "east", "", "north", "west", "east");
+  private final StringColumn channel =
+      StringColumn.create("channel", "web", "web", "store", "phone", "web", "phone", "phone");
+
+  @Test
+  public void conjunctions() {
+    BitmapIndex<String> regions = new BitmapIndex<>(region);
+    BitmapIndex<String> channels = new BitmapIndex<>(channel);
+    List<String> webOrPhone = Arrays.asList("web", "phone", "fax");
+    assertEquals(
+        region.isEqualTo("east").and(channel.isIn(webOrPhone)),
+        regions.get("east").and(channels.isIn(webOrPhone)));
+    assertEquals(Selection.with(0, 1, 3, 4, 5, 6), channels.isIn(webOrPhone));
+    assertEquals(Selection.with(2), channels.isNotIn(webOrPhone));
+    assertEquals(Selection.with(1, 4, 5), regions.isNotIn(Arrays.asList("east")));
+    assertEquals(Selection.with(3), regions.isMissing());
+    assertTrue(regions.get("south").isEmpty());
+  }
+
+  @Test
+  public void counts() {
+    BitmapIndex<String> regions = new BitmapIndex<>(region);
+    assertEquals(3, regions.count("east"));
+    assertEquals(0, regions.count("south"));
+    assertEquals(2, regions.count("east", Selection.with(0, 1, 2, 3)));
+
+    Table counts = regions.countByCategory();
+    assertEquals(Arrays.asList("east", "west", "north", ""), counts.stringColumn(0).asList());
+    assertEquals(Arrays.asList(3, 2, 1, 1), counts.intColumn("Count").asList());
+
+    Table webCounts = regions.countByCategory(new BitmapIndex<>(channel).get("web"));
+    assertEquals(Arrays.asList("east", "west", "north"), webCounts.stringColumn(0).asList());
+    assertEquals(Arrays.asList(1, 1, 1), webCounts.intColumn("Count").asList());
+  }
+
+  @Test
+  public void countsLikeCountBy() {
+    BitmapIndex<String> regions = new BitmapIndex<>(region);
+    Table counts = regions.countBy(null);
+    assertEquals(
+        Arrays.asList("east", "west", "", "north"), counts.stringColumn("region").asList());
+    assertEquals(Arrays.asList(3, 2, 0, 1), counts.intColumn("Count").asList());
+
+    Table webCounts = regions.countBy(new BitmapIndex<>(channel).get("web"));
+    assertEquals(Arrays.asList(1, 1, 0, 1), webCounts.intColumn("Count").asList());
+    assertEquals(
+        Arrays.asList(3, 2, 1, 1),
+        regions.countBy(Selection.withRange(0, 7)).intColumn(1).asList());
+  }
+
+  @Test
+  public void selectionBitmapsAreNotCopied() {
+    Selection selection = new BitmapBackedSelection(new int[] {1, 5, 9});
+    assertSame(BitmapIndex.bitmap(selection), BitmapIndex.bitmap(selection));
+    assertEquals(3, BitmapIndex.bitmap(selection).getCardinality());
+  }
+
+  @Test
+  public void booleansAndInts() {
+    BooleanColumn flags = BooleanColumn.create("flags", new boolean[] {true, false, true});
+    flags.appendMissing();
+    BitmapIndex<Boolean> flagIndex = new BitmapIndex<>(flags);
+    assertEquals(Selection.with(0, 2), flagIndex.get(true));
+    assertEquals(Selection.with(3), flagIndex.isMissing());
+
+    IntColumn codes = IntColumn.create("codes", 3, 1, 3, 2);
+    codes.appendMissing();
+    BitmapIndex<Integer> codeIndex = new BitmapIndex<>(codes);
+    assertEquals(Selection.with(0, 2, 3), codeIndex.isIn(Arrays.asList(2, 3)));
+    assertEquals(Selection.with(1), codeIndex.isNotIn(Arrays.asList(2, 3)));
+  }
+
+  @Test
+  public void bitSlicedRangesMatchScans() {
+    Random random = new Random(9);
+    IntColumn values = IntColumn.create("values");
+    for (int i = 0; i < 3000; i++) {
+      if (i % 11 == 0) {
+        values.appendMissing();
+      } else {
+        values.append(random.nextInt(1000) - 300);
+      }
+    }
+    BitSlicedIndex index = new BitSlicedIndex(values);
+    for (int b = -310; b <= 710; b += 7) {
+      assertEquals(values.isEqualTo(b), index.get(b));
+      assertEquals(values.isGreaterThanOrEqualTo(b), index.atLeast(b));
+      assertEquals(values.isGreaterThan(b), index.greaterThan(b));
+      assertEquals(values.isLessThanOrEqualTo(b), index.atMost(b));
+      assertEquals(values.isLessThan(b), index.lessThan(b));
+      assertEquals(values.isBetweenInclusive(b, b + 50), index.between(b, b + 50));
+    }
+    assertEquals(values.isNotMissing(), index.atLeast(Long.MIN_VALUE));
+    assertEquals(values.isNotMissing(), index.atMost(Long.MAX_VALUE));
+    assertTrue(index.greaterThan(Long.MAX_VALUE).isEmpty());
+
+    Selection selection = values.isLessThan(100);
+    assertEquals((long) values.where(selection).sum(), index.sum(selection));
+    assertEquals(selection.size(), index.count(selection));
+    Selection all = Selection.withRange(0, values.size());
+    assertEquals((long) values.sum(), index.sum(all));
+  }
+
+  @Test
+  public void bitSlicedShorts() {
+    ShortColumn values = ShortColumn.create("values", new short[] {-5, 7, 7, Short.MAX_VALUE});
+    BitSlicedIndex index = new BitSlicedIndex(values);
+    assertEquals(Selection.with(1, 2), index.get(7));
+    assertEquals(Selection.with(0), index.lessThan(7));
+    assertEquals(Selection.with(3), index.atLeast(8));
+    assertEquals(Short.MAX_VALUE + 9, index.sum(Selection.with(0, 1, 2, 3)));
+  }
+}
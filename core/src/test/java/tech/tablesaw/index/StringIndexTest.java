@@ -0,0 +1,64 @@
+package tech.tablesaw.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.selection.Selection;
+
+public class StringIndexTest {
+
+  private static final String[] VALUES = {"pear", "apple", "fig", "apple", "kiwi", "fig", "apple"};
+
+  @Test
+  public void testGet() {
+    StringIndex index = new StringIndex(StringColumn.create("fruit", VALUES));
+    assertEquals(Selection.with(1, 3, 6), index.get("apple"));
+    assertEquals(Selection.with(0), index.get("pear"));
+    assertTrue(index.get("plum").isEmpty());
+  }
+
+  @Test
+  public void testRanges() {
+    StringIndex index = new StringIndex(StringColumn.create("fruit", VALUES));
+    assertEquals(Selection.with(0, 2, 4, 5), index.atLeast("fig"));
+    assertEquals(Selection.with(0, 4), index.greaterThan("fig"));
+    assertEquals(Selection.with(1, 2, 3, 5, 6), index.atMost("fig"));
+    assertEquals(Selection.with(1, 3, 6), index.lessThan("fig"));
+    assertEquals(Selection.with(2, 4, 5), index.atLeast("b").and(index.lessThan("l")));
+    assertTrue(index.greaterThan("pear").isEmpty());
+  }
+
+  @Test
+  public void testRangesMatchScans() {
+    Random random = new Random(5);
+    int[] values = new int[2000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextInt(200) - 100;
+    }
+    values[7] = Integer.MAX_VALUE;
+    IntColumn column = IntColumn.create("values", values);
+    IntIndex index = new IntIndex(column);
+    for (int bound = -102; bound <= 102; bound++) {
+      int b = bound;
+      assertEquals(column.eval(v -> v == b), index.get(b));
+      assertEquals(column.eval(v -> v >= b), index.atLeast(b));
+      assertEquals(column.eval(v -> v > b), index.greaterThan(b));
+      assertEquals(column.eval(v -> v <= b), index.atMost(b));
+      assertEquals(column.eval(v -> v < b), index.lessThan(b));
+    }
+    assertTrue(index.greaterThan(Integer.MAX_VALUE).isEmpty());
+    assertEquals(Selection.with(7), index.atLeast(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void testDoubleBoundsAreExact() {
+    DoubleIndex index = new DoubleIndex(DoubleColumn.create("values", 1.0, 1.0000001, 2.0));
+    assertEquals(Selection.with(1, 2), index.greaterThan(1.0));
+    assertEquals(Selection.with(0), index.atMost(1.0));
+  }
+}
@@ -0,0 +1,212 @@
+package tech.tablesaw.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.tablesaw.api.QuerySupport.dateColumn;
+import static tech.tablesaw.api.QuerySupport.numberColumn;
+import static tech.tablesaw.api.QuerySupport.stringColumn;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.Selection;
+
+public class TableIndexesTest {
+
+  private static final Supplier<Selection> NO_SCAN =
+      () -> {
+        throw new AssertionError("The index should have been used");
+      };
+
+  private Table table;
+
+  @BeforeEach
+  public void setUp() {
+    Random random = new Random(3);
+    IntColumn ints = IntColumn.create("ints");
+    LongColumn longs = LongColumn.create("longs");
+    DoubleColumn doubles = DoubleColumn.create("doubles");
+    DateColumn dates = DateColumn.create("dates");
+    StringColumn strings = StringColumn.create("strings");
+    for (int i = 0; i < 1000; i++) {
+      if (i % 17 == 0) {
+        ints.appendMissing();
+        longs.appendMissing();
+        doubles.appendMissing();
+        dates.appendMissing();
+        strings.appendMissing();
+      } else {
+        ints.append(random.nextInt(100) - 50);
+        longs.append(random.nextInt(100) - 50L);
+        doubles.append(random.nextInt(40) / 4.0);
+        dates.append(LocalDate.of(2020, 1, 1).plusDays(random.nextInt(60)));
+        strings.append("s" + random.nextInt(20));
+      }
+    }
+    table = Table.create("t", ints, longs, doubles, dates, strings);
+  }
+
+  @Test
+  public void numberFiltersMatchScans() {
+    for (String name : new String[] {"ints", "longs", "doubles"}) {
+      Table scanned = table.copy();
+      table.createIndex(name);
+      for (double bound = -52; bound <= 52; bound += 0.75) {
+        double b = bound;
+        assertFilter(scanned, numberColumn(name).isEqualTo(b));
+        assertFilter(scanned, numberColumn(name).isGreaterThan(b));
+        assertFilter(scanned, numberColumn(name).isGreaterThanOrEqualTo(b));
+        assertFilter(scanned, numberColumn(name).isLessThan(b));
+        assertFilter(scanned, numberColumn(name).isLessThanOrEqualTo(b));
+        assertFilter(scanned, numberColumn(name).isBetweenInclusive(b, b + 3));
+        assertFilter(scanned, numberColumn(name).isBetweenExclusive(b, b + 3));
+      }
+      assertFilter(scanned, numberColumn(name).isLessThan(Double.NaN));
+      assertFilter(scanned, numberColumn(name).isBetweenInclusive(5, -5));
+    }
+  }
+
+  @Test
+  public void dateAndStringFiltersMatchScans() {
+    Table scanned = table.copy();
+    table.createIndex("dates").createIndex("strings");
+    for (int day = -2; day < 62; day++) {
+      LocalDate date = LocalDate.of(2020, 1, 1).plusDays(day);
+      assertFilter(scanned, dateColumn("dates").isEqualTo(date));
+      assertFilter(scanned, dateColumn("dates").isBefore(date));
+      assertFilter(scanned, dateColumn("dates").isOnOrBefore(date));
+      assertFilter(scanned, dateColumn("dates").isAfter(date));
+      assertFilter(scanned, dateColumn("dates").isOnOrAfter(date));
+      assertFilter(scanned, dateColumn("dates").isBetweenIncluding(date, date.plusDays(5)));
+      assertFilter(scanned, dateColumn("dates").isBetweenExcluding(date, date.plusDays(5)));
+    }
+    for (int i = 0; i < 22; i++) {
+      assertFilter(scanned, stringColumn("strings").isEqualTo("s" + i));
+    }
+    assertFilter(scanned, stringColumn("strings").isEqualTo(""));
+  }
+
+  @Test
+  public void selectiveFiltersUseTheIndex() {
+    table.createIndex("ints");
+    TableIndexes indexes = table.indexes();
+    IntColumn ints = table.intColumn("ints");
+    assertEquals(ints.isEqualTo(7), indexes.range(ints, 7, true, 7, true, NO_SCAN));
+    assertEquals(ints.isBetweenInclusive(0, 9), indexes.range(ints, 0, true, 9, true, NO_SCAN));
+    assertEquals(
+        ints.isGreaterThan(-60),
+        indexes.range(ints, -60, false, Double.POSITIVE_INFINITY, true, ints::isNotMissing));
+  }
+
+  @Test
+  public void changesInvalidateTheIndex() {
+    table.createIndex("ints").createIndex("strings");
+    assertTrue(table.hasIndex("ints"));
+    IntColumn ints = table.intColumn("ints");
+    ints.set(1, 1000);
+    assertEquals(Selection.with(1), numberColumn("ints").isEqualTo(1000).apply(table));
+    ints.append(1000);
+    assertEquals(Selection.with(1, 1000), numberColumn("ints").isEqualTo(1000).apply(table));
+    ints.sortDescending();
+    assertEquals(
+        Selection.with(0, 1), table.indexes().range(ints, 1000, true, 1000, true, NO_SCAN));
+
+    table.stringColumn("strings").set(0, "new");
+    assertEquals(Selection.with(0), stringColumn("strings").isEqualTo("new").apply(table));
+  }
+
+  @Test
+  public void removedColumnsLoseTheirIndexes() {
+    table.createIndex("ints").createIndex("dates");
+    IntColumn ints = table.intColumn("ints");
+    DateColumn dates = table.dateColumn("dates");
+    table.removeColumns("ints");
+    assertFalse(table.indexes().contains(ints));
+    table.createIndex("longs");
+    LongColumn longs = table.longColumn("longs");
+    table.replaceColumn("longs", longs.copy());
+    assertFalse(table.indexes().contains(longs));
+    assertFalse(table.hasIndex("longs"));
+    table.retainColumns("doubles");
+    assertFalse(table.indexes().contains(dates));
+    table.dropIndex("doubles");
+    assertFalse(table.hasIndex("doubles"));
+  }
+
+  @Test
+  public void staleIndexesAreRebuiltSafelyByConcurrentFilters() throws Exception {
+    Table scanned = table.copy();
+    table.createIndex("ints");
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      for (int round = 0; round < 20; round++) {
+        table.intColumn("ints").set(round, round);
+        scanned.intColumn("ints").set(round, round);
+        Selection expected = numberColumn("ints").isBetweenInclusive(0, 9).apply(scanned);
+        List<Future<Selection>> results = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+          results.add(
+              executor.submit(() -> numberColumn("ints").isBetweenInclusive(0, 9).apply(table)));
+        }
+        for (Future<Selection> result : results) {
+          assertEquals(expected, result.get());
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void bitmapIndexesMatchScans() {
+    table.intColumn("ints").setMissing(5);
+    table.stringColumn("strings").setMissing(6);
+    table.addColumns(BooleanColumn.create("flags", table.rowCount()));
+    for (int row = 0; row < table.rowCount(); row++) {
+      table.booleanColumn("flags").set(row, row % 3 == 0);
+    }
+    Table scanned = table.copy();
+    table.createBitmapIndex("strings").createBitmapIndex("flags").createBitmapIndex("ints");
+    assertTrue(table.indexes().get(table.column("strings")) instanceof BitmapIndex);
+    for (String name : new String[] {"ints", "strings", "flags"}) {
+      assertEquals(scanned.countBy(name).printAll(), table.countBy(name).printAll());
+    }
+    for (int i = 0; i < 22; i++) {
+      assertFilter(scanned, stringColumn("strings").isEqualTo("s" + i));
+    }
+    StringColumn strings = table.stringColumn("strings");
+    assertEquals(strings.isEqualTo("s3"), table.indexes().equalTo(strings, "s3", NO_SCAN));
+
+    strings.set(0, "new");
+    scanned.stringColumn("strings").set(0, "new");
+    assertTrue(table.indexes().get(strings) instanceof BitmapIndex);
+    assertEquals(scanned.countBy("strings").printAll(), table.countBy("strings").printAll());
+  }
+
+  @Test
+  public void unsupportedColumnTypes() {
+    table.addColumns(BooleanColumn.create("flags", table.rowCount()));
+    assertThrows(IllegalArgumentException.class, () -> table.createIndex("flags"));
+  }
+
+  private void assertFilter(Table scanned, Function<Table, Selection> filter) {
+    assertEquals(filter.apply(scanned), filter.apply(table));
+  }
+}
@@ -22,6 +22,8 @@ import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.Table;
@@ -123,6 +125,52 @@ public class SqlResultSetReaderTest {
     }
   }
 
+  @Test
+  public void readWithFetchSize() throws Exception {
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:FetchSizeDB")) {
+      TestDb.dropTables(conn);
+      TestDb.buildNullValuesTable(conn);
+      try (Statement stmt = conn.createStatement();
+          ResultSet rs = stmt.executeQuery("SELECT * FROM NullValues")) {
+        Table nullValues = SqlResultSetReader.read(rs, 2);
+        assertEquals(3, nullValues.rowCount());
+        assertEquals(1, nullValues.column("DoubleValue").removeMissing().size());
+        assertEquals(2, nullValues.column("IntegerValue").removeMissing().size());
+        assertEquals(1, nullValues.column("BooleanValue").removeMissing().size());
+      }
+    }
+  }
+
+  @Test
+  public void streamBatches() throws Exception {
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:StreamDB")) {
+      TestDb.dropTables(conn);
+      TestDb.buildCoffeeTable(conn);
+      TestDb.buildCustomerTable(conn);
+      TestDb.buildUnpaidOrderTable(conn);
+      try (Statement stmt = conn.createStatement()) {
+        Table expected;
+        try (ResultSet rs = stmt.executeQuery("SELECT * FROM coffee")) {
+          expected = SqlResultSetReader.read(rs);
+        }
+        try (ResultSet rs = stmt.executeQuery("SELECT * FROM coffee")) {
+          List<Table> batches = SqlResultSetReader.stream(rs, 5).collect(Collectors.toList());
+          assertEquals(4, batches.size());
+          assertEquals(5, batches.get(0).rowCount());
+          assertEquals(3, batches.get(3).rowCount());
+          Table combined = batches.get(0).copy();
+          for (Table batch : batches.subList(1, batches.size())) {
+            combined.append(batch);
+          }
+          assertEquals(expected.toString(), combined.toString());
+        }
+        try (ResultSet rs = stmt.executeQuery("SELECT * FROM UnpaidOrder")) {
+          assertEquals(0, SqlResultSetReader.stream(rs, 5).count());
+        }
+      }
+    }
+  }
+
   @Test
   public void invalidPrecision() {
     assertEquals(ColumnType.DOUBLE, SqlResultSetReader.getColumnType(Types.NUMERIC, 0, 0));
@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+
+public class SqlWriterTest {
+
+  private static Table sample() {
+    return Table.create(
+        "sample",
+        IntColumn.create("id", 1, 2, 3),
+        ShortColumn.create("small", (short) 1, (short) 2, (short) 3),
+        LongColumn.create("big", 10L, 20L, 30L),
+        FloatColumn.create("ratio", 0.5f, 1.5f, 2.5f),
+        DoubleColumn.create("amount", 1.25, Double.NaN, 3.75),
+        BooleanColumn.create("flag", true, false, true),
+        StringColumn.create("name", "a", "b", "c"),
+        DateColumn.create("start_day", LocalDate.of(2020, 1, 1), null, LocalDate.of(2020, 1, 3)),
+        TimeColumn.create("start_time", LocalTime.of(1, 2, 3), LocalTime.NOON, null));
+  }
+
+  private static Table query(Connection conn, String sql) throws SQLException {
+    try (Statement stmt = conn.createStatement();
+        ResultSet rs = stmt.executeQuery(sql)) {
+      return SqlResultSetReader.read(rs);
+    }
+  }
+
+  @Test
+  public void writeAndReadBack() throws Exception {
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:WriterDB")) {
+      Table table = sample();
+      ((BooleanColumn) table.column("flag")).setMissing(1);
+      table
+          .write()
+          .db(SqlWriteOptions.builder(conn, "sample").createTable(true).batchSize(2).build());
+
+      Table result = query(conn, "SELECT * FROM \"sample\" ORDER BY \"id\"");
+      assertEquals(3, result.rowCount());
+      assertEquals(table.columnCount(), result.columnCount());
+      assertEquals(table.intColumn("id").asList(), result.intColumn("id").asList());
+      assertEquals(table.shortColumn("small").asList(), result.shortColumn("small").asList());
+      assertEquals(table.longColumn("big").asList(), result.longColumn("big").asList());
+      assertEquals(table.floatColumn("ratio").asList(), result.floatColumn("ratio").asList());
+      assertEquals(1.25, result.doubleColumn("amount").getDouble(0));
+      assertTrue(result.doubleColumn("amount").isMissing(1));
+      assertEquals(true, result.booleanColumn("flag").get(0));
+      assertTrue(result.booleanColumn("flag").isMissing(1));
+      assertEquals(table.stringColumn("name").asList(), result.stringColumn("name").asList());
+      assertEquals(table.dateColumn("start_day").asList(), result.dateColumn("start_day").asList());
+      assertEquals(
+          table.timeColumn("start_time").asList(), result.timeColumn("start_time").asList());
+    }
+  }
+
+  @Test
+  public void writeInParallelWithChunkedTransactions() throws Exception {
+    String url = "jdbc:h2:mem:ParallelWriterDB;DB_CLOSE_DELAY=-1";
+    try (Connection conn = DriverManager.getConnection(url)) {
+      int rows = 10_000;
+      IntColumn ids = IntColumn.indexColumn("id", rows, 0);
+      Table table = Table.create("numbers", ids, ids.multiply(2).setName("twice"));
+      table
+          .write()
+          .db(
+              SqlWriteOptions.builder(() -> DriverManager.getConnection(url), "numbers")
+                  .createTable(true)
+                  .batchSize(100)
+                  .commitSize(1000)
+                  .parallelism(4)
+                  .build());
+
+      Table result = query(conn, "SELECT COUNT(*) AS n, SUM(\"id\") AS s FROM \"numbers\"");
+      assertEquals(rows, result.longColumn("N").getLong(0));
+      assertEquals((long) rows * (rows - 1) / 2, ((Number) result.get(0, 1)).longValue());
+      assertTrue(conn.getAutoCommit());
+      try (Statement stmt = conn.createStatement()) {
+        stmt.execute("DROP TABLE \"numbers\"");
+      }
+    }
+  }
+
+  @Test
+  public void failedChunkIsRolledBack() throws Exception {
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:RollbackDB")) {
+      try (Statement stmt = conn.createStatement()) {
+        stmt.execute("CREATE TABLE \"keys\" (\"id\" INTEGER PRIMARY KEY)");
+      }
+      Table table = Table.create("keys", IntColumn.create("id", 1, 2, 3, 4, 4, 5));
+      SqlWriteOptions options =
+          SqlWriteOptions.builder(conn, "keys").batchSize(2).commitSize(2).build();
+      assertThrows(IllegalStateException.class, () -> table.write().db(options));
+
+      Table result = query(conn, "SELECT \"id\" FROM \"keys\" ORDER BY \"id\"");
+      assertEquals(4, result.rowCount());
+      assertTrue(conn.getAutoCommit());
+    }
+  }
+
+  @Test
+  public void parallelismRequiresConnectionFactory() throws Exception {
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:OptionsDB")) {
+      assertThrows(
+          IllegalArgumentException.class, () -> SqlWriteOptions.builder(conn, "t").parallelism(2));
+    }
+  }
+
+  @Test
+  public void statements() {
+    Table table =
+        Table.create("t", IntColumn.create("a"), StringColumn.create("b"), DateColumn.create("c"));
+    assertEquals(
+        "INSERT INTO \"t\" (\"a\", \"b\", \"c\") VALUES (?, ?, ?)",
+        SqlWriter.insertStatement(table, "t", "\""));
+    assertEquals(
+        "CREATE TABLE \"t\" (\"a\" INTEGER, \"b\" VARCHAR, \"c\" DATE)",
+        SqlWriter.createStatement(table, "t", "\""));
+    assertEquals(
+        "INSERT INTO t (a, b, c) VALUES (?, ?, ?)", SqlWriter.insertStatement(table, "t", " "));
+    assertEquals("\"say \"\"hi\"\"\"", SqlWriter.quoteIdentifier("say \"hi\"", "\""));
+  }
+
+  @Test
+  public void namesThatNeedQuoting() throws Exception {
+    try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:QuotingDB")) {
+      Table table =
+          Table.create(
+              "orders",
+              StringColumn.create("order date", "2020-01-01", "2020-01-02"),
+              IntColumn.create("value", 1, 2),
+              IntColumn.create("group", 3, 4),
+              StringColumn.create("x\"); DROP TABLE t; --", "a", "b"));
+      table.write().db(SqlWriteOptions.builder(conn, "order items").createTable(true).build());
+
+      Table result = query(conn, "SELECT * FROM \"order items\" ORDER BY \"value\"");
+      assertEquals(table.columnNames(), result.columnNames());
+      assertEquals(table.stringColumn("order date").asList(), result.stringColumn(0).asList());
+      assertEquals(table.intColumn("group").asList(), result.intColumn("group").asList());
+      assertEquals("b", result.stringColumn(3).get(1));
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package tech.tablesaw.selection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveSelectionTest {
+
+  @Test
+  void factoryPicksFormByDensity() {
+    assertTrue(Selection.with(5, 3, 4, 6) instanceof RangeSelection);
+    assertTrue(Selection.with(3, 100, 7) instanceof SortedArraySelection);
+    assertTrue(Selection.withRange(0, 10) instanceof RangeSelection);
+
+    int[] many = new int[SortedArraySelection.MAX_SIZE + 1];
+    for (int i = 0; i < many.length; i++) {
+      many[i] = i * 2;
+    }
+    assertTrue(Selection.with(many) instanceof BitmapBackedSelection);
+  }
+
+  @Test
+  void rangesStayRanges() {
+    RangeSelection range = new RangeSelection(10, 20);
+    range.and(Selection.withRange(15, 30));
+    range.or(Selection.withRange(20, 25));
+    range.add(25, 14);
+    range.removeRange(24, 40);
+    assertTrue(range.isCompact());
+    assertEquals(Selection.withRange(14, 24), range);
+    assertEquals(14, range.get(0));
+    assertEquals(10, range.size());
+
+    range.add(100);
+    assertFalse(range.isCompact());
+    assertTrue(range.contains(100));
+    assertEquals(11, range.size());
+  }
+
+  @Test
+  void arraysSwitchToBitmapsWhenFull() {
+    SortedArraySelection rows = new SortedArraySelection();
+    for (int i = 0; i < SortedArraySelection.MAX_SIZE; i++) {
+      rows.add(i * 3);
+    }
+    assertTrue(rows.isCompact());
+    rows.add(1);
+    assertFalse(rows.isCompact());
+    assertEquals(SortedArraySelection.MAX_SIZE + 1, rows.size());
+    assertEquals(1, rows.get(1));
+  }
+
+  @Test
+  void openIteratorsAreNotChangedByLaterUpdates() {
+    SortedArraySelection rows = new SortedArraySelection(2, 4, 6, 8, 10);
+    IntIterator iterator = rows.iterator();
+    assertEquals(2, iterator.nextInt());
+    rows.removeRange(3, 7);
+    rows.and(Selection.with(2, 8));
+    assertEquals(Selection.with(2, 8), rows);
+    int[] rest = new int[4];
+    for (int i = 0; i < rest.length; i++) {
+      rest[i] = iterator.nextInt();
+    }
+    assertArrayEquals(new int[] {4, 6, 8, 10}, rest);
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void equalAcrossForms() {
+    Selection range = Selection.withRange(3, 6);
+    Selection array = new SortedArraySelection(5, 3, 4);
+    Selection bitmap = new BitmapBackedSelection(new int[] {3, 4, 5});
+    assertEquals(range, array);
+    assertEquals(array, bitmap);
+    assertEquals(bitmap, range);
+    assertEquals(range.hashCode(), array.hashCode());
+    assertEquals(range.hashCode(), bitmap.hashCode());
+    assertEquals(Selection.with(), new BitmapBackedSelection());
+  }
+
+  @Test
+  void matchesBitmapsUnderRandomOperations() {
+    Random random = new Random(42);
+    for (int round = 0; round < 200; round++) {
+      Selection adaptive = randomSelection(random);
+      Selection expected = new BitmapBackedSelection(adaptive.toArray());
+      for (int step = 0; step < 20; step++) {
+        Selection other = randomSelection(random);
+        int start = random.nextInt(200);
+        int end = start + random.nextInt(50);
+        switch (random.nextInt(8)) {
+          case 0:
+            adaptive.and(other);
+            expected.and(other);
+            break;
+          case 1:
+            adaptive.or(other);
+            expected.or(other);
+            break;
+          case 2:
+            adaptive.andNot(other);
+            expected.andNot(other);
+            break;
+          case 3:
+            adaptive.add(start, end);
+            expected.add(start, end);
+            break;
+          case 4:
+            adaptive.addRange(start, end);
+            expected.addRange(start, end);
+            break;
+          case 5:
+            adaptive.removeRange(start, end);
+            expected.removeRange(start, end);
+            break;
+          case 6:
+            adaptive.flip(start, end);
+            expected.flip(start, end);
+            break;
+          default:
+            adaptive.clear();
+            expected.clear();
+        }
+        assertArrayEquals(expected.toArray(), adaptive.toArray());
+        assertEquals(expected, adaptive);
+        assertEquals(expected.size(), adaptive.size());
+        if (!expected.isEmpty()) {
+          int i = random.nextInt(expected.size());
+          assertEquals(expected.get(i), adaptive.get(i));
+          assertTrue(adaptive.contains(expected.get(i)));
+        }
+      }
+    }
+  }
+
+  private static Selection randomSelection(Random random) {
+    int start = random.nextInt(200);
+    switch (random.nextInt(3)) {
+      case 0:
+        return Selection.withRange(start, start + random.nextInt(60));
+      case 1:
+        int[] rows = new int[random.nextInt(10)];
+        for (int i = 0; i < rows.length; i++) {
+          rows[i] = random.nextInt(250);
+        }
+        return Selection.with(rows);
+      default:
+        return new BitmapBackedSelection(new int[] {start, start + 2, start + 4});
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package tech.tablesaw.sorting;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.sorting.Sort.Order;
+
+class TopNTest {
+
+  private static Table orders() {
+    Random random = new Random(7);
+    int[] amounts = new int[500];
+    String[] regions = new String[500];
+    for (int i = 0; i < amounts.length; i++) {
+      amounts[i] = random.nextInt(100);
+      regions[i] = "r" + random.nextInt(4);
+    }
+    return Table.create(
+        "orders", IntColumn.create("amount", amounts), StringColumn.create("region", regions));
+  }
+
+  @Test
+  void matchesFullSort() {
+    Table table = orders();
+    Sort key = Sort.on("amount", Order.DESCEND).next("region", Order.ASCEND);
+    Table sorted = table.sortOn(key);
+    assertEquals(
+        sorted.first(20).intColumn("amount").asList(),
+        table.topN(20, key).intColumn("amount").asList());
+    Table last = sorted.last(20);
+    assertEquals(
+        last.intColumn("amount").asList(),
+        table.bottomN(20, key).sortOn(key).intColumn("amount").asList());
+    Table bottom = table.bottomN(20, key);
+    for (int row = 1; row < bottom.rowCount(); row++) {
+      assertTrue(bottom.intColumn("amount").get(row - 1) <= bottom.intColumn("amount").get(row));
+    }
+    assertEquals(
+        table.sortDescendingOn("amount").first(5).intColumn("amount").asList(),
+        table.topN(5, "amount").intColumn("amount").asList());
+    assertEquals(
+        table.sortAscendingOn("amount").first(5).intColumn("amount").asList(),
+        table.bottomN(5, "amount").intColumn("amount").asList());
+  }
+
+  @Test
+  void tiesKeepTableOrder() {
+    Table table =
+        Table.create(
+            "t",
+            IntColumn.create("n", 2, 1, 2, 2, 1),
+            StringColumn.create("s", "a", "b", "c", "d", "e"));
+    Sort key = Sort.on("n", Order.DESCEND);
+    assertEquals("[a, c]", table.topN(2, key).stringColumn("s").asList().toString());
+    assertEquals("[b, e, a]", table.bottomN(3, key).stringColumn("s").asList().toString());
+    assertEquals(5, table.topN(10, key).rowCount());
+    assertEquals(0, table.topN(0, key).rowCount());
+  }
+
+  @Test
+  void bottomNOverloadsAgree() {
+    Table table = orders();
+    Sort descending = Sort.on("amount", Order.DESCEND).next("region", Order.DESCEND);
+    Sort ascending = Sort.on("amount", Order.ASCEND).next("region", Order.ASCEND);
+    assertEquals(
+        table.topN(15, ascending).printAll(), table.bottomN(15, "amount", "region").printAll());
+    assertEquals(
+        table.bottomN(15, descending).printAll(), table.bottomN(15, "amount", "region").printAll());
+    assertEquals(table.topN(15, descending).printAll(), table.bottomN(15, ascending).printAll());
+    assertEquals(
+        table.splitOn("region").topN(4, ascending).printAll(),
+        table.splitOn("region").bottomN(4, descending).printAll());
+  }
+
+  @Test
+  void perGroup() {
+    Table table = orders();
+    Sort key = Sort.on("amount", Order.DESCEND);
+    Table top = table.splitOn("region").topN(3, key);
+    assertEquals(12, top.rowCount());
+    for (int group = 0; group < 4; group++) {
+      Table rows = top.inRange(group * 3, group * 3 + 3);
+      String region = rows.stringColumn("region").get(0);
+      Table expected = table.where(table.stringColumn("region").isEqualTo(region)).topN(3, key);
+      assertEquals(expected.intColumn("amount").asList(), rows.intColumn("amount").asList());
+      assertEquals(1, rows.stringColumn("region").countUnique());
+    }
+    Table bottom = table.splitOn("region").bottomN(2, key);
+    assertEquals(8, bottom.rowCount());
+  }
+}
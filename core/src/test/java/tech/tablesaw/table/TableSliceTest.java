@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.tablesaw.aggregate.AggregateFunctions.sum;
@@ -317,4 +318,73 @@ public class TableSliceTest {
       assertNotNull(slice.structure());
     }
   }
+
+  @Test
+  void viewsComposeWithoutCopying() {
+    Table table =
+        Table.create(
+            "t",
+            IntColumn.create("n", 5, 3, 8, 1, 9, 2),
+            StringColumn.create("s", "e", "c", "h", "a", "i", "b"));
+
+    TableSlice view = table.view().where(t -> t.intColumn("n").isGreaterThan(1));
+    assertEquals(5, view.rowCount());
+    assertSame(table, view.getTable());
+
+    view.sortOn(Sort.on("n", Order.DESCEND));
+    TableSlice top = view.inRange(0, 3);
+    assertEquals(9, top.get(0, 0));
+    assertEquals("[i, h, e]", top.materialize().stringColumn("s").asList().toString());
+
+    TableSlice filtered = top.where(t -> t.stringColumn("s").isNotEqualTo("h"));
+    assertEquals("[9, 5]", filtered.materialize().intColumn("n").asList().toString());
+    assertEquals(
+        "[5]", filtered.where(Selection.with(1)).first(5).intColumn("n").asList().toString());
+  }
+
+  @Test
+  void unsortedViewsKeepTableOrder() {
+    Table table = Table.create("t", IntColumn.create("n", 5, 3, 8, 1, 9, 2));
+    TableSlice view = table.view().inRange(1, 5).where(Selection.with(0, 2, 3));
+    assertEquals("[3, 1, 9]", view.materialize().intColumn("n").asList().toString());
+    assertEquals("[3, 1]", view.first(2).intColumn("n").asList().toString());
+    assertEquals("t", view.materialize().name());
+  }
+
+  @Test
+  void viewsCopyTheirSelection() {
+    Table table = Table.create("t", IntColumn.create("n", 5, 3, 8, 1, 9, 2));
+    Selection rows = Selection.with(0, 2);
+    TableSlice view = table.view().where(rows);
+    rows.add(4);
+    rows.removeRange(0, 1);
+    assertEquals("[5, 8]", view.materialize().intColumn("n").asList().toString());
+
+    assertThrows(IllegalArgumentException.class, () -> table.view().where(Selection.with(6)));
+    TableSlice sorted = table.view();
+    sorted.sortOn(Sort.on("n", Order.ASCEND));
+    assertThrows(IllegalArgumentException.class, () -> sorted.where(Selection.with(1, 6)));
+    assertThrows(IllegalArgumentException.class, () -> view.where(Selection.with(2)).materialize());
+    assertThrows(IllegalArgumentException.class, () -> table.view().where(Selection.with(-1)));
+  }
+
+  @Test
+  void filteredViewsCopyTheFilterSelection() {
+    Table table = Table.create("t", IntColumn.create("n", 5, 3, 8, 1, 9, 2));
+    Selection shared = Selection.with(0, 1, 2, 4);
+    TableSlice all = table.view().where(t -> shared);
+    TableSlice narrowed = table.view().inRange(1, 5).where(t -> shared);
+    assertEquals(Selection.with(0, 1, 2, 4), shared);
+
+    shared.add(5);
+    shared.removeRange(0, 2);
+    assertEquals("[5, 3, 8, 9]", all.materialize().intColumn("n").asList().toString());
+    assertEquals("[3, 8, 9]", narrowed.materialize().intColumn("n").asList().toString());
+
+    assertThrows(IllegalArgumentException.class, () -> table.view().where(t -> Selection.with(6)));
+    assertThrows(IllegalArgumentException.class, () -> narrowed.where(t -> Selection.with(-1)));
+    TableSlice sorted = table.view();
+    sorted.sortOn(Sort.on("n", Order.ASCEND));
+    assertThrows(IllegalArgumentException.class, () -> sorted.where(t -> Selection.with(1, 6)));
+  }
 }
@@ -1,6 +1,8 @@
 package tech.tablesaw.table;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static tech.tablesaw.TableAssertions.assertTableEquals;
 
@@ -42,6 +44,22 @@ public class TableTransposeTest {
         result);
   }
 
+  @Test
+  void transposeManyRows() {
+    IntColumn ids = IntColumn.indexColumn("value1", 150, 0);
+    IntColumn squares = IntColumn.create("value2", ids.asIntArray()).map(i -> i * i);
+    squares.setMissing(100);
+    Table testTable = Table.create(TABLE_NAME, ids, squares);
+    Table result = testTable.transpose();
+
+    assertEquals(150, result.columnCount());
+    assertEquals(121, result.intColumn("11").getInt(1));
+    assertTrue(result.intColumn("100").isMissing(1));
+    Table reversed = result.transpose();
+    assertArrayEquals(ids.asIntArray(), reversed.intColumn(0).asIntArray());
+    assertArrayEquals(squares.asIntArray(), reversed.intColumn(1).asIntArray());
+  }
+
   @Test
   void transposeWithMissingData() {
     Table testTable =
@@ -0,0 +1,115 @@
+package tech.tablesaw.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tech.tablesaw.util.Gather.gather;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.selection.Selection;
+
+class GatherTest {
+
+  @Test
+  void gathersRunsAndSingleRows() {
+    int[] values = {10, 11, 12, 13, 14, 15, 16};
+    assertArrayEquals(
+        new int[] {11, 12, 13, 16, 10}, gather(values, values.length, new int[] {1, 2, 3, 6, 0}));
+    assertArrayEquals(new int[] {15, 14, 15}, gather(values, values.length, new int[] {5, 4, 5}));
+    assertArrayEquals(new int[0], gather(values, values.length, new int[0]));
+  }
+
+  @Test
+  void rowsBeyondTheValuesInUseAreRejected() {
+    int[] values = {10, 11, 12, 13, 14, 15, 16};
+    assertArrayEquals(new int[] {12, 13, 14}, gather(values, 5, new int[] {2, 3, 4}));
+    assertThrows(IndexOutOfBoundsException.class, () -> gather(values, 5, new int[] {5}));
+    assertThrows(IndexOutOfBoundsException.class, () -> gather(values, 5, new int[] {3, 4, 5}));
+    assertThrows(IndexOutOfBoundsException.class, () -> gather(values, 5, new int[] {0, -1}));
+  }
+
+  @Test
+  void tableWhereRejectsRowsPastTheEnd() {
+    IntColumn ints = IntColumn.create("i");
+    LongColumn longs = LongColumn.create("l");
+    ShortColumn shorts = ShortColumn.create("sh");
+    FloatColumn floats = FloatColumn.create("f");
+    DoubleColumn doubles = DoubleColumn.create("d");
+    DateColumn dates = DateColumn.create("date");
+    DateTimeColumn dateTimes = DateTimeColumn.create("dateTime");
+    InstantColumn instants = InstantColumn.create("instant");
+    TimeColumn times = TimeColumn.create("time");
+    StringColumn strings = StringColumn.create("s");
+    for (int i = 0; i < 5; i++) {
+      ints.append(i);
+      longs.append(i);
+      shorts.append((short) i);
+      floats.append(i);
+      doubles.append(i);
+      dates.append(LocalDate.of(2020, 1, 1 + i));
+      dateTimes.append(LocalDateTime.of(2020, 1, 1 + i, 0, 0));
+      instants.append(Instant.ofEpochSecond(i));
+      times.append(LocalTime.of(i, 0));
+      strings.append("s" + i);
+    }
+    Table table =
+        Table.create(
+            "t", ints, longs, shorts, floats, doubles, dates, dateTimes, instants, times, strings);
+    for (Column<?> column : table.columns()) {
+      assertThrows(
+          IndexOutOfBoundsException.class, () -> column.subset(new int[] {5}), column.name());
+      assertThrows(
+          IndexOutOfBoundsException.class, () -> column.subset(new int[] {3, 4, 5}), column.name());
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> table.where(Selection.with(table.rowCount())));
+    assertEquals(2, table.where(Selection.with(0, 4)).rowCount());
+  }
+
+  @Test
+  void stringSubsetKeepsOnlyTheValuesItUses() {
+    StringColumn column = StringColumn.create("s", "a", "b", null, "c", "a");
+    StringColumn subset = column.subset(new int[] {4, 2, 0});
+    assertEquals("a", subset.get(0));
+    assertTrue(subset.isMissing(1));
+    assertEquals(2, subset.countOccurrences("a"));
+    assertEquals(0, subset.countOccurrences("b"));
+    assertEquals(2, subset.countUnique());
+
+    subset.append("b");
+    subset.set(1, "c");
+    assertEquals("[a, c, a, b]", subset.asList().toString());
+  }
+
+  @Test
+  void tableWhereGathersEveryColumn() {
+    Table table =
+        Table.create(
+            "t",
+            DoubleColumn.create("d", 1, 2, 3, 4, 5),
+            StringColumn.create("s", "a", "b", "c", "d", "e"),
+            DateColumn.create("date", new LocalDate[5]));
+    Table result = table.where(Selection.with(0, 1, 2, 4));
+    assertEquals(4, result.rowCount());
+    assertEquals("t", result.name());
+    assertEquals(5.0, result.doubleColumn("d").get(3));
+    assertEquals("e", result.stringColumn("s").get(3));
+    assertTrue(result.dateColumn("date").isMissing(3));
+    assertEquals(table.inRange(1, 3).stringColumn("s").asList(), List.of("b", "c"));
+  }
+}